@@ -10,4 +10,5 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class FcmRegisterRequestDto {
     private String fcmToken;    // FCM 토큰
+    private String deviceId;    // 디바이스 식별자 (예: "iphone-15-a1b2"), 미지정 시 "default"
 }
@@ -7,6 +7,7 @@ import jakarta.transaction.Transactional;
 import kr.ssok.ssom.backend.domain.alert.dto.*;
 import kr.ssok.ssom.backend.domain.alert.dto.kafka.AlertCreatedEvent;
 import kr.ssok.ssom.backend.domain.alert.dto.kafka.UserAlertEvent;
+import kr.ssok.ssom.backend.domain.alert.service.fcm.FcmDigestService;
 import kr.ssok.ssom.backend.domain.alert.service.kafka.AlertKafkaProducer;
 import kr.ssok.ssom.backend.domain.alert.entity.Alert;
 import kr.ssok.ssom.backend.domain.alert.entity.AlertStatus;
@@ -16,16 +17,15 @@ import kr.ssok.ssom.backend.domain.alert.repository.AlertStatusRepository;
 import kr.ssok.ssom.backend.domain.user.entity.Department;
 import kr.ssok.ssom.backend.domain.user.entity.User;
 import kr.ssok.ssom.backend.domain.user.repository.UserRepository;
-import kr.ssok.ssom.backend.global.client.FirebaseClient;
 import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
 import kr.ssok.ssom.backend.global.exception.BaseException;
 import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.sse.SseStreamHub;
+import kr.ssok.ssom.backend.global.sse.StreamChannel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -47,8 +47,7 @@ public class AlertServiceImpl implements AlertService {
 
     private final ObjectMapper objectMapper;
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private final FirebaseClient firebaseClient;
+    private final FcmDigestService fcmDigestService;
 
     private final AlertRepository alertRepository;
     private final AlertStatusRepository alertStatusRepository;
@@ -57,6 +56,9 @@ public class AlertServiceImpl implements AlertService {
     // Kafka Producer 추가
     private final AlertKafkaProducer alertKafkaProducer;
 
+    // 통합 SSE 스트림 (alerts 채널)
+    private final SseStreamHub sseStreamHub;
+
     /**
      * 알림 SSE 구독
      *
@@ -667,6 +669,9 @@ public class AlertServiceImpl implements AlertService {
      */
     public void sendAlertToUser(String employeeId, AlertResponseDto responseDto) {
         try {
+            // 통합 SSE 스트림으로 alerts 채널 구독 중이면 전송
+            sseStreamHub.send(employeeId, StreamChannel.ALERTS, "SSE_ALERT", responseDto);
+
 //            if (isUserConnectedViaSse(employeeId)) {
 //                sendSseAlertToUser(employeeId, responseDto);
 //            } else {
@@ -776,13 +781,6 @@ public class AlertServiceImpl implements AlertService {
      */
     public void sendFcmNotification(String employeeId, AlertResponseDto responseDto) {
         try {
-            String token = redisTemplate.opsForValue().get("userfcm:" + employeeId);
-
-            if (token == null) {
-                log.warn("FCM 토큰이 존재하지 않습니다 : employeeId = {}", employeeId);
-                return;
-            }
-
             Map<String, String> data = new HashMap<>();
             data.put("alertId", String.valueOf(responseDto.getAlertId()));
             data.put("id", responseDto.getId());
@@ -793,21 +791,20 @@ public class AlertServiceImpl implements AlertService {
             data.put("timestamp", responseDto.getTimestamp().toString());
             data.put("createdAt", responseDto.getCreatedAt().toString());
 
-            // FCM 메시지 요청 생성
+            // FCM 메시지 요청 생성 (토큰 조회 및 무효 토큰 정리는 FcmService에서 처리)
             FcmMessageRequestDto request = FcmMessageRequestDto.builder()
                     .title(responseDto.getTitle())
                     .body(responseDto.getMessage())
-                    .token(token)
                     .data(data)
                     .build();
 
-            // FCM 클라이언트로 메시지 전송
-            firebaseClient.sendNotification(request);
-            log.info("[FCM 전송 성공] employeeId = {}, token = {}", employeeId, token);
+            // FCM 전송 - 알림 폭주 시 사용자별 윈도우 단위 요약 알림으로 묶어서 전송
+            fcmDigestService.send(employeeId, request);
+            log.info("[FCM 전송 요청] employeeId = {}", employeeId);
 
-        } catch (DataAccessException e) {
-            log.error("[FCM 전송 실패] Redis 접근 실패 : employeeId={}, error = {}", employeeId, e.getMessage(), e);
-            throw new BaseException(BaseResponseStatus.REDIS_ACCESS_FAILED);
+        } catch (BaseException e) {
+            log.error("[FCM 전송 실패] employeeId = {}, error = {}", employeeId, e.getMessage());
+            throw e;
 
         } catch (Exception e) {
             log.error("[FCM 전송 실패] 알 수 없는 오류 : employeeId = {}, error = {}", employeeId, e.getMessage(), e);
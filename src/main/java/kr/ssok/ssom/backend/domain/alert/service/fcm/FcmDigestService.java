@@ -0,0 +1,221 @@
+package kr.ssok.ssom.backend.domain.alert.service.fcm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * FCM 알림 요약(digest) 서비스
+ *      - 사용자별 윈도우(기본 10초)의 첫 알림은 즉시 전송
+ *      - 같은 윈도우 안에서 이어지는 알림은 모아 두었다가 윈도우 종료 시 요약 알림 1건으로 전송
+ *        (예: "새 알림 12건 (CRITICAL 3건)")
+ *      - 모아 둔 알림이 1건뿐이면 원래 알림을 그대로 전송
+ */
+@Slf4j
+@Service
+public class FcmDigestService {
+
+    // 요약 알림에서 강조할 레벨 (심각도 높은 순)
+    private static final List<String> SEVERITY_ORDER = List.of("CRITICAL", "FATAL", "ERROR", "WARN");
+
+    // 알림 제목의 레벨 접두어 (예: "[ERROR] ssok-bank")
+    private static final Pattern LEVEL_PATTERN = Pattern.compile("^\\s*\\[([A-Za-z]+)]");
+
+    private final FcmService fcmService;
+    private final Map<String, UserDigest> digests = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final long windowMillis;
+
+    private final Counter receivedCounter;
+    private final Counter immediateCounter;
+    private final Counter summaryCounter;
+    private final Counter avoidedCounter;
+
+    public FcmDigestService(FcmService fcmService,
+                            MeterRegistry meterRegistry,
+                            @Value("${fcm.digest.enabled:true}") boolean enabled,
+                            @Value("${fcm.digest.window-seconds:10}") long windowSeconds) {
+        this.fcmService = fcmService;
+        this.enabled = enabled;
+        this.windowMillis = Math.max(1, windowSeconds) * 1000L;
+
+        this.receivedCounter = Counter.builder("fcm.digest.received")
+                .description("요약 단계로 들어온 푸시 알림 수")
+                .register(meterRegistry);
+        this.immediateCounter = Counter.builder("fcm.digest.sent")
+                .description("실제로 전송한 푸시 알림 수")
+                .tag("type", "immediate")
+                .register(meterRegistry);
+        this.summaryCounter = Counter.builder("fcm.digest.sent")
+                .description("실제로 전송한 푸시 알림 수")
+                .tag("type", "summary")
+                .register(meterRegistry);
+        this.avoidedCounter = Counter.builder("fcm.digest.avoided")
+                .description("요약으로 대체되어 전송하지 않은 푸시 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 푸시 알림 전송 요청
+     *      윈도우가 열려 있지 않으면 즉시 전송하고 윈도우를 연다.
+     *      윈도우가 열려 있으면 버퍼에 모은다.
+     *
+     * @param employeeId 사용자 ID
+     * @param request 토큰을 제외한 FCM 알림 요청 (title, body, data)
+     */
+    public void send(String employeeId, FcmMessageRequestDto request) {
+        receivedCounter.increment();
+
+        if (!enabled) {
+            immediateCounter.increment();
+            fcmService.sendNotification(employeeId, request);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean[] sendNow = {false};
+
+        digests.compute(employeeId, (id, digest) -> {
+            if (digest == null || digest.isExpired(now) && digest.isEmpty()) {
+                sendNow[0] = true;
+                return new UserDigest(now + windowMillis);
+            }
+            digest.add(levelOf(request.getTitle()), request);
+            return digest;
+        });
+
+        if (sendNow[0]) {
+            immediateCounter.increment();
+            fcmService.sendNotification(employeeId, request);
+        } else {
+            log.debug("[FCM 요약] 알림 보류 - employeeId = {}", employeeId);
+        }
+    }
+
+    /**
+     * 윈도우가 끝난 사용자의 보류 알림 전송
+     *      보류 알림이 있으면 요약 전송 후 새 윈도우를 열고, 없으면 상태를 정리
+     */
+    @Scheduled(fixedDelayString = "${fcm.digest.flush-interval-ms:1000}")
+    public void flushExpired() {
+        flushExpired(System.currentTimeMillis());
+    }
+
+    void flushExpired(long now) {
+        if (digests.isEmpty()) {
+            return;
+        }
+
+        Map<String, UserDigest> ready = new HashMap<>();
+
+        for (String employeeId : new ArrayList<>(digests.keySet())) {
+            digests.computeIfPresent(employeeId, (id, digest) -> {
+                if (!digest.isExpired(now)) {
+                    return digest;
+                }
+                if (digest.isEmpty()) {
+                    return null;
+                }
+                ready.put(id, digest);
+                return new UserDigest(now + windowMillis);
+            });
+        }
+
+        ready.forEach(this::sendDigest);
+    }
+
+    private void sendDigest(String employeeId, UserDigest digest) {
+        FcmMessageRequestDto request = digest.count == 1 ? digest.latest : buildSummary(digest);
+
+        try {
+            fcmService.sendNotification(employeeId, request);
+            if (digest.count == 1) {
+                immediateCounter.increment();
+            } else {
+                summaryCounter.increment();
+                avoidedCounter.increment(digest.count - 1);
+                log.info("[FCM 요약] 요약 알림 전송 - employeeId = {}, count = {}", employeeId, digest.count);
+            }
+        } catch (Exception e) {
+            log.error("[FCM 요약] 요약 알림 전송 실패 - employeeId = {}, count = {}, error = {}",
+                    employeeId, digest.count, e.getMessage());
+        }
+    }
+
+    private FcmMessageRequestDto buildSummary(UserDigest digest) {
+        String title = "새 알림 " + digest.count + "건";
+        for (String severity : SEVERITY_ORDER) {
+            Integer severityCount = digest.levelCounts.get(severity);
+            if (severityCount != null) {
+                title += " (" + severity + " " + severityCount + "건)";
+                break;
+            }
+        }
+
+        Map<String, String> data = new HashMap<>();
+        data.put("kind", "DIGEST");
+        data.put("count", String.valueOf(digest.count));
+
+        return FcmMessageRequestDto.builder()
+                .title(title)
+                .body("최근 알림: " + digest.latest.getTitle())
+                .data(data)
+                .build();
+    }
+
+    private static String levelOf(String title) {
+        if (title == null) {
+            return null;
+        }
+        Matcher matcher = LEVEL_PATTERN.matcher(title);
+        if (!matcher.find()) {
+            return null;
+        }
+        String level = matcher.group(1).toUpperCase();
+        return "WARNING".equals(level) ? "WARN" : level;
+    }
+
+    /**
+     * 사용자별 보류 알림 상태 (ConcurrentHashMap compute 안에서만 변경)
+     */
+    private static class UserDigest {
+        private final long windowEndsAt;
+        private final Map<String, Integer> levelCounts = new LinkedHashMap<>();
+        private int count;
+        private FcmMessageRequestDto latest;
+
+        private UserDigest(long windowEndsAt) {
+            this.windowEndsAt = windowEndsAt;
+        }
+
+        private void add(String level, FcmMessageRequestDto request) {
+            count++;
+            latest = request;
+            if (level != null) {
+                levelCounts.merge(level, 1, Integer::sum);
+            }
+        }
+
+        private boolean isExpired(long now) {
+            return now >= windowEndsAt;
+        }
+
+        private boolean isEmpty() {
+            return count == 0;
+        }
+    }
+}
@@ -1,8 +1,37 @@
 package kr.ssok.ssom.backend.domain.alert.service.fcm;
 
+import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
+
+import java.util.concurrent.CompletableFuture;
+
 /**
  * FCM 토큰 관리 인터페이스
  */
 public interface FcmService {
-    void registerFcmToken(String employeeId, String token);
+    /**
+     * 디바이스별 FCM 토큰 등록
+     *
+     * @param employeeId 사용자 ID
+     * @param deviceId 디바이스 식별자 (null 또는 공백이면 "default")
+     * @param token FCM 토큰
+     */
+    void registerFcmToken(String employeeId, String deviceId, String token);
+
+    /**
+     * 사용자의 모든 디바이스에 FCM 알림 비동기 전송 (multicast 1회)
+     *      만료/무효 토큰(UNREGISTERED, INVALID_ARGUMENT) 응답 시 Redis에서 토큰 자동 삭제
+     *
+     * @param employeeId 사용자 ID
+     * @param request 토큰을 제외한 FCM 알림 요청 (title, body, data)
+     * @return 전송 완료 future (토큰이 없으면 즉시 완료)
+     */
+    CompletableFuture<Void> sendNotification(String employeeId, FcmMessageRequestDto request);
+
+    /**
+     * 무효 토큰 삭제 - 해당 토큰이 등록된 디바이스 항목만 삭제
+     *
+     * @param employeeId 사용자 ID
+     * @param token 삭제할 FCM 토큰
+     */
+    void removeFcmToken(String employeeId, String token);
 }
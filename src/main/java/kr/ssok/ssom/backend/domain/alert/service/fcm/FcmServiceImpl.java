@@ -1,5 +1,10 @@
 package kr.ssok.ssom.backend.domain.alert.service.fcm;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.ssok.ssom.backend.global.client.FirebaseClient;
+import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
+import kr.ssok.ssom.backend.global.dto.FcmSendResultDto;
 import kr.ssok.ssom.backend.global.exception.BaseException;
 import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
@@ -7,9 +12,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * FCM 토큰 관리 구현체
@@ -20,38 +35,90 @@ import java.time.Duration;
 public class FcmServiceImpl implements FcmService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final FirebaseClient firebaseClient;
+    private final MeterRegistry meterRegistry;
+
+    private static final String DEFAULT_DEVICE_ID = "default";
+
+    /*
+     * userfcm:{employeeId} 해시 구조
+     *      field : deviceId
+     *      value : "{만료 epochSecond}:{FCM 토큰}" (FCM 토큰에 ':'가 포함될 수 있으므로 첫 번째 ':' 기준으로 분리)
+     * 디바이스별 만료는 value의 만료 시각으로 관리하고, 키 자체의 TTL은 등록 시마다 갱신
+     */
+
+    // 디바이스 토큰 등록 - 단일 문자열 형식(구버전) 키 정리, 같은 토큰을 가진 다른 디바이스 항목 제거, 키 TTL 갱신
+    private static final String REGISTER_SCRIPT =
+        "if redis.call('TYPE', KEYS[1]).ok == 'string' then\n" +
+        "  redis.call('DEL', KEYS[1])\n" +
+        "end\n" +
+        "local entries = redis.call('HGETALL', KEYS[1])\n" +
+        "for i = 1, #entries, 2 do\n" +
+        "  local value = entries[i + 1]\n" +
+        "  local sep = string.find(value, ':', 1, true)\n" +
+        "  if entries[i] ~= ARGV[1] and sep and string.sub(value, sep + 1) == ARGV[3] then\n" +
+        "    redis.call('HDEL', KEYS[1], entries[i])\n" +
+        "  end\n" +
+        "end\n" +
+        "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])\n" +
+        "redis.call('EXPIRE', KEYS[1], ARGV[4])\n" +
+        "return 1";
+
+    // 토큰이 일치하는 디바이스 항목만 삭제 (같은 디바이스에 재등록된 새 토큰 보호, ARGV 로 여러 토큰을 한 번에 삭제)
+    private static final String REMOVE_TOKEN_SCRIPT =
+        "local targets = {}\n" +
+        "for i = 1, #ARGV do\n" +
+        "  targets[ARGV[i]] = true\n" +
+        "end\n" +
+        "local entries = redis.call('HGETALL', KEYS[1])\n" +
+        "local removed = 0\n" +
+        "for i = 1, #entries, 2 do\n" +
+        "  local value = entries[i + 1]\n" +
+        "  local sep = string.find(value, ':', 1, true)\n" +
+        "  if sep and targets[string.sub(value, sep + 1)] then\n" +
+        "    removed = removed + redis.call('HDEL', KEYS[1], entries[i])\n" +
+        "  end\n" +
+        "end\n" +
+        "return removed";
+
+    // 만료 항목 정리 - 읽은 시점의 값과 같을 때만 삭제 (그 사이 갱신된 항목 보호)
+    private static final String REMOVE_IF_MATCH_SCRIPT =
+        "if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then\n" +
+        "  return redis.call('HDEL', KEYS[1], ARGV[1])\n" +
+        "end\n" +
+        "return 0";
+
+    // 무효 토큰 삭제 (Redis Lua 호출) 전용 스레드 - FCM 응답 콜백 스레드를 막지 않도록 분리
+    private final ExecutorService tokenCleanupExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "fcm-token-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Value("${fcm.token-ttl-seconds}")
     private long ttlSeconds;
 
     /**
-     * FCM 토큰을 Redis에 등록
+     * 디바이스별 FCM 토큰을 Redis 해시에 등록
      *
      * @param employeeId 사용자 ID
+     * @param deviceId 디바이스 식별자
      * @param token  FCM 토큰
      */
     @Override
-    public void registerFcmToken(String employeeId, String token) {
-        log.info("[FCM 토큰 등록 API] 서비스 진입 - employeeId = {}, token = {}", employeeId, token);
+    public void registerFcmToken(String employeeId, String deviceId, String token) {
+        String device = (deviceId == null || deviceId.isBlank()) ? DEFAULT_DEVICE_ID : deviceId.trim();
+        log.info("[FCM 토큰 등록 API] 서비스 진입 - employeeId = {}, deviceId = {}, token = {}", employeeId, device, token);
 
         validateToken(token);
 
         try {
-            String key = userKey(employeeId);
-            String existingToken = redisTemplate.opsForValue().get(key);
-
-            if (existingToken != null) {
-                if (existingToken.equals(token)) {
-                    log.debug("동일한 FCM 토큰이 이미 등록되어 있습니다. 갱신하지 않습니다. employeeId: {}", employeeId);
-                    return;
-                }
-                log.info("기존 토큰({})이 존재하여 삭제 후 재등록합니다. employeeId: {}", existingToken, employeeId);
-                redisTemplate.delete(key);
-            }
+            long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
+            DefaultRedisScript<Long> script = new DefaultRedisScript<>(REGISTER_SCRIPT, Long.class);
+            redisTemplate.execute(script, List.of(userKey(employeeId)),
+                    device, expiresAt + ":" + token, token, String.valueOf(ttlSeconds));
 
-            // 새로운 토큰 등록 또는 갱신
-            redisTemplate.opsForValue().set(key, token, Duration.ofSeconds(ttlSeconds));
-            log.info("FCM 토큰 등록 완료. employeeId: {}, token: {}", employeeId, token);
+            log.info("FCM 토큰 등록 완료. employeeId: {}, deviceId: {}, token: {}", employeeId, device, token);
 
         } catch (DataAccessException e) {
             log.error("Redis 접근 중 오류 발생: {}", e.getMessage());
@@ -62,6 +129,151 @@ public class FcmServiceImpl implements FcmService {
         }
     }
 
+    /**
+     * 사용자의 모든 디바이스에 FCM 알림 비동기 전송
+     *      HGETALL 1회로 토큰을 읽고 multicast 1회로 전송
+     *      무효 토큰은 FCM 콜백 스레드가 아닌 별도 스레드에서 한 번의 Lua 호출로 삭제
+     *
+     * @param employeeId 사용자 ID
+     * @param request 토큰을 제외한 FCM 알림 요청
+     * @return 전송 완료 future
+     */
+    @Override
+    public CompletableFuture<Void> sendNotification(String employeeId, FcmMessageRequestDto request) {
+        List<String> tokens = findActiveTokens(employeeId);
+
+        if (tokens.isEmpty()) {
+            log.warn("FCM 토큰이 존재하지 않습니다 : employeeId = {}", employeeId);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        FcmMessageRequestDto message = FcmMessageRequestDto.builder()
+                .title(request.getTitle())
+                .body(request.getBody())
+                .tokens(tokens)
+                .data(request.getData())
+                .build();
+
+        return firebaseClient.sendMulticastAsync(message)
+                .thenCompose(results -> {
+                    long successCount = results.stream().filter(FcmSendResultDto::isSuccess).count();
+                    log.info("[FCM 전송] employeeId = {}, devices = {}, success = {}", employeeId, tokens.size(), successCount);
+
+                    List<String> invalidTokens = new ArrayList<>();
+                    for (FcmSendResultDto result : results) {
+                        if (result.isInvalidToken()) {
+                            log.info("[FCM 전송] 무효 토큰 응답({}), 토큰 삭제 : employeeId = {}", result.getErrorCode(), employeeId);
+                            invalidTokens.add(result.getToken());
+                        } else if (!result.isSuccess()) {
+                            log.warn("[FCM 전송 실패] employeeId = {}, result = {}, errorCode = {}",
+                                    employeeId, result.getResult(), result.getErrorCode());
+                        }
+                    }
+
+                    if (invalidTokens.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return removeFcmTokensAsync(employeeId, invalidTokens);
+                });
+    }
+
+    /**
+     * 무효 토큰 삭제
+     *
+     * @param employeeId 사용자 ID
+     * @param token 삭제할 FCM 토큰
+     */
+    @Override
+    public void removeFcmToken(String employeeId, String token) {
+        removeFcmTokens(employeeId, List.of(token));
+    }
+
+    /**
+     * 무효 토큰 삭제를 전용 스레드에서 수행 (삭제 실패는 로그만 남기므로 future는 정상 완료)
+     */
+    private CompletableFuture<Void> removeFcmTokensAsync(String employeeId, List<String> tokens) {
+        try {
+            return CompletableFuture.runAsync(() -> removeFcmTokens(employeeId, tokens), tokenCleanupExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("무효 FCM 토큰 삭제 생략 (종료 중) : employeeId = {}, tokens = {}", employeeId, tokens.size());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void removeFcmTokens(String employeeId, List<String> tokens) {
+        try {
+            DefaultRedisScript<Long> script = new DefaultRedisScript<>(REMOVE_TOKEN_SCRIPT, Long.class);
+            Long removed = redisTemplate.execute(script, List.of(userKey(employeeId)), tokens.toArray());
+
+            if (removed != null && removed > 0) {
+                meterRegistry.counter("fcm.token.pruned").increment(removed);
+                log.info("무효 FCM 토큰 삭제 완료. employeeId: {}, devices: {}", employeeId, removed);
+            }
+        } catch (Exception e) {
+            log.error("무효 FCM 토큰 삭제 실패 : employeeId = {}, error = {}", employeeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 만료되지 않은 디바이스 토큰 조회 (만료 항목은 함께 정리)
+     *
+     * @param employeeId 사용자 ID
+     * @return 중복 제거된 FCM 토큰 목록
+     */
+    private List<String> findActiveTokens(String employeeId) {
+        String key = userKey(employeeId);
+        Map<String, String> entries;
+        try {
+            entries = redisTemplate.<String, String>opsForHash().entries(key);
+        } catch (DataAccessException e) {
+            // 구버전 단일 문자열 키(WRONGTYPE)는 재등록 전까지 그대로 사용
+            String legacyToken = findLegacyToken(key, e);
+            return legacyToken != null ? List.of(legacyToken) : List.of();
+        }
+
+        long now = Instant.now().getEpochSecond();
+        Set<String> tokens = new LinkedHashSet<>();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            String value = entry.getValue();
+            int sep = value.indexOf(':');
+            long expiresAt = sep > 0 ? parseEpochSecond(value.substring(0, sep)) : 0L;
+
+            if (expiresAt <= now) {
+                removeExpiredDevice(key, entry.getKey(), value);
+                continue;
+            }
+            tokens.add(value.substring(sep + 1));
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private String findLegacyToken(String key, DataAccessException cause) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            log.error("[FCM 전송 실패] Redis 접근 실패 : key = {}, error = {}", key, cause.getMessage());
+            throw new BaseException(BaseResponseStatus.REDIS_ACCESS_FAILED);
+        }
+    }
+
+    private void removeExpiredDevice(String key, String deviceId, String value) {
+        try {
+            DefaultRedisScript<Long> script = new DefaultRedisScript<>(REMOVE_IF_MATCH_SCRIPT, Long.class);
+            redisTemplate.execute(script, List.of(key), deviceId, value);
+            log.debug("만료된 디바이스 FCM 토큰 삭제 : key = {}, deviceId = {}", key, deviceId);
+        } catch (Exception e) {
+            log.warn("만료된 디바이스 FCM 토큰 삭제 실패 : key = {}, deviceId = {}, error = {}", key, deviceId, e.getMessage());
+        }
+    }
+
+    private static long parseEpochSecond(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
     /**
      * 토큰 유효성 검사
      *
@@ -83,4 +295,9 @@ public class FcmServiceImpl implements FcmService {
     private String userKey(String employeeId) {
         return "userfcm:" + employeeId;
     }
+
+    @PreDestroy
+    public void shutdown() {
+        tokenCleanupExecutor.shutdown();
+    }
 }
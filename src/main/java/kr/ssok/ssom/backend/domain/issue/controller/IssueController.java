@@ -11,10 +11,12 @@ import kr.ssok.ssom.backend.domain.issue.dto.IssueCreateRequestDto;
 import kr.ssok.ssom.backend.domain.issue.dto.IssueResponseDto;
 import kr.ssok.ssom.backend.domain.issue.service.IssueService;
 import kr.ssok.ssom.backend.domain.user.security.principal.UserPrincipal;
+import kr.ssok.ssom.backend.global.dto.AsyncJobDto;
 import kr.ssok.ssom.backend.global.dto.LlmIssueResponseDto;
 import kr.ssok.ssom.backend.global.exception.BaseException;
 import kr.ssok.ssom.backend.global.exception.BaseResponse;
 import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.job.AsyncJobManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -37,6 +39,7 @@ import java.util.List;
 public class IssueController {
     
     private final IssueService issueService;
+    private final AsyncJobManager asyncJobManager;
     
     /**
      * LLM을 통한 Issue 초안 작성
@@ -67,14 +70,36 @@ public class IssueController {
     }
     
     /**
-     * GitHub Issue 생성
+     * LLM을 통한 Issue 초안 작성 (비동기)
      */
-    @Operation(summary = "GitHub Issue 생성", description = "LLM이 작성한 초안을 바탕으로 실제 GitHub Repository에 Issue를 생성합니다.")
+    @Operation(summary = "LLM Issue 초안 작성 (비동기)", description = "Issue 초안 작성을 작업으로 등록하고 작업 ID를 즉시 반환합니다. 결과는 /api/jobs/{jobId} 조회 또는 로그 SSE의 LLM_JOB 이벤트로 받습니다.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "201", description = "GitHub Issue 생성 성공"),
+        @ApiResponse(responseCode = "202", description = "작업 등록 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "503", description = "대기 중인 작업이 많아 등록 거절")
+    })
+    @PostMapping("/draft/jobs")
+    public ResponseEntity<BaseResponse<AsyncJobDto>> submitIssueDraftJob(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody IssueCreateRequestDto request) {
+
+        String employeeId = userPrincipal.getEmployeeId();
+        log.info("Issue 초안 작성 비동기 요청 - 사원번호: {}, 로그 개수: {}", employeeId, request.getLogIds().size());
+
+        AsyncJobDto response = asyncJobManager.submit(employeeId, "ISSUE_DRAFT",
+                () -> issueService.createIssueDraft(request, employeeId));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new BaseResponse<>(BaseResponseStatus.SUCCESS, response));
+    }
+
+    /**
+     * GitHub Issue 생성 (Issue 저장 후 GitHub 연동은 비동기)
+     */
+    @Operation(summary = "GitHub Issue 생성", description = "LLM이 작성한 초안으로 Issue를 저장하고 GitHub Issue 생성 작업을 등록합니다. GitHub 연동 결과(Issue 번호)는 /api/jobs/{githubJobId} 조회 또는 SSE 작업 결과 이벤트로 받습니다. GitHub 연동에 최종 실패하면 저장된 Issue는 삭제됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Issue 저장 및 GitHub 연동 작업 등록 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 (필수 필드 누락 등)"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패")
+        @ApiResponse(responseCode = "500", description = "GitHub 연동 작업 등록 실패")
     })
     @PostMapping("/github")
     public ResponseEntity<BaseResponse<IssueResponseDto>> createGitHubIssue(
@@ -86,8 +111,8 @@ public class IssueController {
         
         try {
             IssueResponseDto response = issueService.createGitHubIssue(request, userPrincipal.getEmployeeId());
-            return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new BaseResponse<>(BaseResponseStatus.CREATED, response));
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new BaseResponse<>(BaseResponseStatus.ACCEPTED, response));
         } catch (Exception e) {
             log.error("GitHub Issue 생성 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -2,6 +2,7 @@ package kr.ssok.ssom.backend.domain.issue.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import kr.ssok.ssom.backend.domain.issue.entity.Issue;
+import kr.ssok.ssom.backend.domain.issue.entity.constant.GithubSyncStatus;
 import kr.ssok.ssom.backend.domain.issue.entity.constant.IssueStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -48,6 +49,12 @@ public class IssueResponseDto {
     @Schema(description = "GitHub 연동 여부", example = "true")
     private Boolean isGithubSynced;
     
+    @Schema(description = "GitHub 연동 상태 (PENDING: GitHub Issue 생성 중, SYNCED: 연동 완료, null: 연동 상태 기록 전 Issue)", example = "PENDING")
+    private GithubSyncStatus githubSyncStatus;
+    
+    @Schema(description = "GitHub 연동 작업 ID (생성 응답에만 포함, 결과는 /api/jobs/{jobId} 또는 SSE 작업 결과 이벤트로 전달)", example = "3f1c2a9e-8b7d-4c55-9a61-2f0e4d6b7c10")
+    private String githubJobId;
+    
     @Schema(description = "생성 일시", example = "2025-05-30T10:00:00")
     private LocalDateTime createdAt;
     
@@ -70,6 +77,7 @@ public class IssueResponseDto {
                 .assigneeGithubIds(issue.getAssigneeGithubIds())
                 .logIds(issue.getLogIds())
                 .isGithubSynced(issue.isGithubSynced())
+                .githubSyncStatus(issue.getGithubSyncStatus())
                 .createdAt(issue.getCreatedAt())
                 .updatedAt(issue.getUpdatedAt())
                 .build();
@@ -1,6 +1,7 @@
 package kr.ssok.ssom.backend.domain.issue.entity;
 
 import jakarta.persistence.*;
+import kr.ssok.ssom.backend.domain.issue.entity.constant.GithubSyncStatus;
 import kr.ssok.ssom.backend.domain.issue.entity.constant.IssueStatus;
 import kr.ssok.ssom.backend.global.entity.TimeStamp;
 import lombok.*;
@@ -23,7 +24,11 @@ public class Issue extends TimeStamp {
     private Long issueId;
     
     @Column(name = "github_issue_number")
-    private Long githubIssueNumber;      // GitHub Issue 번호 (null이면 GitHub 연동 실패)
+    private Long githubIssueNumber;      // GitHub Issue 번호 (null이면 GitHub 연동 실패 또는 연동 대기)
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "github_sync_status", length = 20)
+    private GithubSyncStatus githubSyncStatus;  // PENDING, SYNCED (null이면 연동 상태 기록 전 Issue)
     
     @Column(name = "title", nullable = false, length = 255)
     private String title;
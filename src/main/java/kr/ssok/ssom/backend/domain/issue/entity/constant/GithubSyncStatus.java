@@ -0,0 +1,10 @@
+package kr.ssok.ssom.backend.domain.issue.entity.constant;
+
+/**
+ * GitHub Issue 연동 상태를 나타내는 Enum
+ * (null 은 연동 상태를 기록하기 전의 Issue - githubIssueNumber 로 연동 여부 판단)
+ */
+public enum GithubSyncStatus {
+    PENDING,    // GitHub Issue 생성 작업 진행 중 (createGitHubIssue 에서만 설정)
+    SYNCED      // GitHub Issue 번호 반영 완료
+}
@@ -0,0 +1,332 @@
+package kr.ssok.ssom.backend.domain.issue.github;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ssok.ssom.backend.domain.issue.dto.IssueResponseDto;
+import kr.ssok.ssom.backend.domain.issue.entity.Issue;
+import kr.ssok.ssom.backend.domain.issue.entity.constant.GithubSyncStatus;
+import kr.ssok.ssom.backend.domain.issue.repository.IssueRepository;
+import kr.ssok.ssom.backend.global.client.GitHubApiClient;
+import kr.ssok.ssom.backend.global.config.GitHubConfig;
+import kr.ssok.ssom.backend.global.dto.GitHubIssueRequestDto;
+import kr.ssok.ssom.backend.global.dto.GitHubIssueResponseDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * GitHub Issue 생성 2단계 - 연동 대기(PENDING)로 저장된 Issue를 GitHub에 생성
+ *      - 비동기 작업 워커에서 DB 커넥션 없이 GitHub API 호출
+ *      - Issue 생성 요청은 멱등하지 않으므로 본문에 Issue ID 표식(<!-- ssom-issue-id:N -->)을 넣고 오류 종류에 따라 재시도
+ *          요청이 전달되지 않은 오류(연결 거부, 연결 타임아웃)와 429 : 지수 백오프 후 재시도
+ *          결과를 알 수 없는 오류(응답 타임아웃, 5xx) : 표식으로 이미 생성된 Issue를 찾아 있으면 사용, 없을 때만 재시도
+ *      - 성공 시 GitHub Issue 번호와 연동 완료(SYNCED)만 짧은 트랜잭션으로 반영
+ *      - 최종 실패 시 대기 중인 Issue 삭제 (기존처럼 GitHub 연동에 실패한 Issue는 남기지 않음)
+ *      - 작업 취소, 서버 종료, 장애로 PENDING 에 남은 Issue는 주기적으로 정리 (GitHub에 생성되었으면 번호 반영, 아니면 삭제)
+ *        연동 상태 기록 전의 미연동 Issue(githubSyncStatus 없음)는 정리 대상이 아님
+ */
+@Slf4j
+@Component
+public class GitHubIssuePublisher {
+
+    static final String MARKER_PREFIX = "ssom-issue-id:";
+    private static final int LOOKUP_PAGE_SIZE = 100;
+    private static final long LOOKUP_MARGIN_MINUTES = 5;      // 서버와 GitHub 시각 차이 허용
+
+    /**
+     * 생성 요청 실패 종류
+     */
+    enum Failure {
+        NOT_SENT,           // GitHub에 전달되지 않음 -> 바로 재시도
+        UNKNOWN_OUTCOME,    // 생성되었을 수 있음 -> 확인 후 재시도
+        FATAL               // 재시도해도 실패 (4xx 등)
+    }
+
+    private final GitHubApiClient gitHubApiClient;
+    private final GitHubConfig gitHubConfig;
+    private final IssueRepository issueRepository;
+    private final Counter retryCounter;
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long pendingTimeoutMinutes;
+
+    public GitHubIssuePublisher(GitHubApiClient gitHubApiClient,
+                                GitHubConfig gitHubConfig,
+                                IssueRepository issueRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${github.issue.max-attempts:3}") int maxAttempts,
+                                @Value("${github.issue.initial-backoff-ms:1000}") long initialBackoffMillis,
+                                @Value("${github.issue.max-backoff-ms:8000}") long maxBackoffMillis,
+                                @Value("${github.issue.pending-timeout-minutes:30}") long pendingTimeoutMinutes) {
+        this.gitHubApiClient = gitHubApiClient;
+        this.gitHubConfig = gitHubConfig;
+        this.issueRepository = issueRepository;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.pendingTimeoutMinutes = Math.max(1, pendingTimeoutMinutes);
+        this.retryCounter = Counter.builder("github.issue.retry")
+                .description("일시적 오류로 인한 GitHub Issue 생성 재시도 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 Issue를 GitHub에 생성하고 Issue 번호 반영
+     *
+     * @param pending 1단계에서 저장된 Issue
+     * @param request GitHub API 요청 (1단계에서 구성)
+     * @return GitHub 연동이 반영된 Issue (비동기 작업 결과로 사용자에게 전송)
+     */
+    public IssueResponseDto publish(IssueResponseDto pending, GitHubIssueRequestDto request) {
+        Long issueId = pending.getIssueId();
+
+        // 실행 전에 정리된 Issue는 GitHub에 만들지 않음
+        if (!issueRepository.existsById(issueId)) {
+            log.warn("[GitHub Issue 연동] 대기 중인 Issue 없음 (정리됨), 생성 생략 : issueId = {}", issueId);
+            throw new BaseException(BaseResponseStatus.GITHUB_API_ERROR);
+        }
+
+        GitHubIssueResponseDto githubResponse;
+        try {
+            githubResponse = createWithRetry(issueId, withMarker(request, issueId), pending.getCreatedAt());
+        } catch (OutcomeUnknownException e) {
+            // GitHub에 생성되었을 수 있으므로 삭제하지 않고 정리 작업에서 확인
+            throw e;
+        } catch (BaseException e) {
+            discard(issueId);
+            throw e;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = issueRepository.updateGithubIssueNumber(issueId, githubResponse.getNumber(), now);
+        if (updated == 0) {
+            log.warn("[GitHub Issue 연동] 반영할 Issue 없음 (삭제됨) : issueId = {}, GitHub Issue 번호 = {}",
+                    issueId, githubResponse.getNumber());
+        }
+        log.info("[GitHub Issue 연동] 완료 : issueId = {}, GitHub Issue 번호 = {}, URL = {}",
+                issueId, githubResponse.getNumber(), githubResponse.getHtmlUrl());
+
+        return IssueResponseDto.builder()
+                .issueId(issueId)
+                .githubIssueNumber(githubResponse.getNumber())
+                .title(pending.getTitle())
+                .description(pending.getDescription())
+                .status(pending.getStatus())
+                .createdByEmployeeId(pending.getCreatedByEmployeeId())
+                .assigneeGithubIds(pending.getAssigneeGithubIds())
+                .logIds(pending.getLogIds())
+                .isGithubSynced(true)
+                .githubSyncStatus(GithubSyncStatus.SYNCED)
+                .createdAt(pending.getCreatedAt())
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 오래된 대기 Issue 정리 - 작업 취소, 서버 종료로 버려진 대기열, 장애 등으로 GitHub 번호가 반영되지 않은 Issue
+     *      GitHub에 이미 생성되었으면(본문 표식) 번호를 반영하고, 없으면 삭제
+     *      GitHub 조회에 실패하면 남겨두고 다음 주기에 다시 확인
+     */
+    @Scheduled(fixedDelayString = "${github.issue.sweep-interval-ms:300000}")
+    public void sweepPendingIssues() {
+        List<Issue> stale;
+        try {
+            stale = issueRepository.findPendingGithubIssuesCreatedBefore(LocalDateTime.now().minusMinutes(pendingTimeoutMinutes));
+        } catch (Exception e) {
+            log.error("[GitHub Issue 연동] 대기 Issue 조회 실패 : error = {}", e.getMessage());
+            return;
+        }
+
+        for (Issue issue : stale) {
+            Long issueId = issue.getIssueId();
+            try {
+                Optional<GitHubIssueResponseDto> published = findPublished(issueId, issue.getCreatedAt());
+                if (published.isPresent()) {
+                    issueRepository.updateGithubIssueNumber(issueId, published.get().getNumber(), LocalDateTime.now());
+                    log.info("[GitHub Issue 연동] 대기 Issue 복구 : issueId = {}, GitHub Issue 번호 = {}",
+                            issueId, published.get().getNumber());
+                } else {
+                    discard(issueId);
+                }
+            } catch (Exception e) {
+                log.warn("[GitHub Issue 연동] 대기 Issue 확인 실패, 다음 주기에 재시도 : issueId = {}, error = {}",
+                        issueId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 Issue 삭제 (GitHub 연동 실패 또는 작업이 실행 전에 취소된 경우)
+     */
+    public void discard(Long issueId) {
+        try {
+            issueRepository.deleteById(issueId);
+            log.info("[GitHub Issue 연동] 대기 중인 Issue 삭제 : issueId = {}", issueId);
+        } catch (Exception e) {
+            log.error("[GitHub Issue 연동] 대기 중인 Issue 삭제 실패 : issueId = {}, error = {}", issueId, e.getMessage());
+        }
+    }
+
+    private GitHubIssueResponseDto createWithRetry(Long issueId, GitHubIssueRequestDto request, LocalDateTime createdAt) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return gitHubApiClient.createIssue(
+                        gitHubConfig.getApi().getOwner(),
+                        gitHubConfig.getApi().getRepository(),
+                        gitHubConfig.getAuthorizationHeader(),
+                        request
+                );
+            } catch (Exception e) {
+                Failure failure = classify(e);
+                boolean lastAttempt = attempt >= maxAttempts;
+                if (failure == Failure.FATAL || (failure == Failure.NOT_SENT && lastAttempt)) {
+                    log.error("[GitHub Issue 연동] 실패 : issueId = {}, attempts = {}, error = {}", issueId, attempt, e.getMessage());
+                    throw new BaseException(BaseResponseStatus.GITHUB_API_ERROR);
+                }
+
+                long backoff = backoffMillis(attempt);
+                log.warn("[GitHub Issue 연동] 일시적 실패 ({}/{}, {}), {}ms 후 {} : issueId = {}, error = {}",
+                        attempt, maxAttempts, failure, backoff,
+                        failure == Failure.UNKNOWN_OUTCOME ? "생성 여부 확인" : "재시도", issueId, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    // 작업 종료 (서버 종료)
+                    Thread.currentThread().interrupt();
+                    if (failure == Failure.UNKNOWN_OUTCOME) {
+                        throw new OutcomeUnknownException();
+                    }
+                    throw new BaseException(BaseResponseStatus.GITHUB_API_ERROR);
+                }
+
+                // 결과를 알 수 없으면 이미 생성되었는지 확인 후에만 재시도
+                if (failure == Failure.UNKNOWN_OUTCOME) {
+                    Optional<GitHubIssueResponseDto> existing = lookup(issueId, createdAt);
+                    if (existing.isPresent()) {
+                        log.info("[GitHub Issue 연동] 이미 생성된 Issue 확인 : issueId = {}, GitHub Issue 번호 = {}",
+                                issueId, existing.get().getNumber());
+                        return existing.get();
+                    }
+                    if (lastAttempt) {
+                        log.error("[GitHub Issue 연동] 실패 : issueId = {}, attempts = {}, error = {}", issueId, attempt, e.getMessage());
+                        throw new BaseException(BaseResponseStatus.GITHUB_API_ERROR);
+                    }
+                }
+                retryCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 재시도 중 생성 여부 확인 - 확인할 수 없으면 중복 생성을 피하기 위해 재시도하지 않고 정리 작업에 맡김
+     */
+    private Optional<GitHubIssueResponseDto> lookup(Long issueId, LocalDateTime createdAt) {
+        try {
+            return findPublished(issueId, createdAt);
+        } catch (Exception e) {
+            log.error("[GitHub Issue 연동] 생성 여부 확인 실패, 정리 작업에서 재확인 : issueId = {}, error = {}", issueId, e.getMessage());
+            throw new OutcomeUnknownException();
+        }
+    }
+
+    /**
+     * 본문 표식으로 이미 생성된 GitHub Issue 조회 (Issue 생성 시각 이후 수정된 Issue 대상)
+     */
+    private Optional<GitHubIssueResponseDto> findPublished(Long issueId, LocalDateTime createdAt) {
+        LocalDateTime from = (createdAt != null ? createdAt : LocalDateTime.now()).minusMinutes(LOOKUP_MARGIN_MINUTES);
+        String marker = marker(issueId);
+
+        List<GitHubIssueResponseDto> issues = gitHubApiClient.listIssues(
+                gitHubConfig.getApi().getOwner(),
+                gitHubConfig.getApi().getRepository(),
+                gitHubConfig.getAuthorizationHeader(),
+                "all",
+                from.atZone(ZoneId.systemDefault()).toInstant().toString(),
+                LOOKUP_PAGE_SIZE
+        );
+        if (issues == null) {
+            return Optional.empty();
+        }
+        return issues.stream()
+                .filter(issue -> issue.getBody() != null && issue.getBody().contains(marker))
+                .findFirst();
+    }
+
+    /**
+     * 실패 종류 분류
+     *      - 429 : 처리되지 않음
+     *      - 5xx : 생성 후 응답만 실패했을 수 있음
+     *      - 응답 없는 I/O 오류 : 연결 거부/연결 타임아웃이면 전달되지 않음, 그 외(응답 타임아웃 등)는 알 수 없음
+     */
+    static Failure classify(Throwable e) {
+        // Retry-After 가 있는 429/503 은 RetryableException 으로 오므로 상태 코드를 먼저 확인
+        if (e instanceof FeignException fe && fe.status() > 0) {
+            if (fe.status() == 429) {
+                return Failure.NOT_SENT;
+            }
+            return fe.status() >= 500 ? Failure.UNKNOWN_OUTCOME : Failure.FATAL;
+        }
+        if (e instanceof RetryableException) {
+            return isConnectFailure(e) ? Failure.NOT_SENT : Failure.UNKNOWN_OUTCOME;
+        }
+        return Failure.FATAL;
+    }
+
+    private static boolean isConnectFailure(Throwable e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause.getClass().getSimpleName().contains("ConnectTimeout")) {
+                return true;
+            }
+            // HttpURLConnection 의 연결 타임아웃은 "connect timed out" 메시지의 SocketTimeoutException
+            if (cause instanceof SocketTimeoutException && cause.getMessage() != null
+                    && cause.getMessage().toLowerCase(Locale.ROOT).contains("connect")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String marker(Long issueId) {
+        return "<!-- " + MARKER_PREFIX + issueId + " -->";
+    }
+
+    private static GitHubIssueRequestDto withMarker(GitHubIssueRequestDto request, Long issueId) {
+        return GitHubIssueRequestDto.builder()
+                .title(request.getTitle())
+                .body((request.getBody() != null ? request.getBody() + "\n\n" : "") + marker(issueId))
+                .assignees(request.getAssignees())
+                .labels(request.getLabels())
+                .build();
+    }
+
+    private long backoffMillis(int attemptNo) {
+        long exponential = initialBackoffMillis * (1L << Math.min(attemptNo - 1, 16));
+        long capped = Math.min(exponential, maxBackoffMillis);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    /**
+     * 생성 여부를 확인하지 못한 채 중단 - 대기 Issue를 남겨 정리 작업에서 확인
+     */
+    static class OutcomeUnknownException extends BaseException {
+        OutcomeUnknownException() {
+            super(BaseResponseStatus.GITHUB_API_ERROR);
+        }
+    }
+}
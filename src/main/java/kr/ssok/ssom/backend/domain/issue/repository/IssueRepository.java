@@ -3,10 +3,13 @@ package kr.ssok.ssom.backend.domain.issue.repository;
 import kr.ssok.ssom.backend.domain.issue.entity.Issue;
 import kr.ssok.ssom.backend.domain.issue.entity.constant.IssueStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +30,16 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      */
     List<Issue> findByStatusOrderByCreatedAtDesc(IssueStatus status);
     
+    /**
+     * 특정 상태의 Issue 목록 조회 (GitHub 연동 대기 중인 Issue 제외)
+     * @param status Issue 상태
+     * @return Issue 목록
+     */
+    @Query("SELECT i FROM Issue i WHERE i.status = :status " +
+            "AND (i.githubSyncStatus IS NULL OR i.githubSyncStatus <> kr.ssok.ssom.backend.domain.issue.entity.constant.GithubSyncStatus.PENDING) " +
+            "ORDER BY i.createdAt DESC")
+    List<Issue> findListedByStatus(@Param("status") IssueStatus status);
+    
     /**
      * GitHub Issue 번호로 Issue 조회
      * @param githubIssueNumber GitHub Issue 번호
@@ -48,6 +61,16 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     @Query("SELECT i FROM Issue i WHERE i.githubIssueNumber IS NULL ORDER BY i.createdAt DESC")
     List<Issue> findGithubUnsyncedIssues();
     
+    /**
+     * 일정 시각 이전에 생성되었으나 아직 GitHub 연동 대기 중인 Issue 목록 조회 (대기 Issue 정리용)
+     * 연동 상태가 PENDING인 Issue만 대상 (연동 상태 기록 전의 미연동 Issue는 제외)
+     * @param before 기준 시각
+     * @return 오래된 대기 Issue 목록 (오래된 순)
+     */
+    @Query("SELECT i FROM Issue i WHERE i.githubSyncStatus = kr.ssok.ssom.backend.domain.issue.entity.constant.GithubSyncStatus.PENDING " +
+            "AND i.createdAt < :before ORDER BY i.createdAt")
+    List<Issue> findPendingGithubIssuesCreatedBefore(@Param("before") LocalDateTime before);
+    
     /**
      * 특정 사용자가 생성한 특정 상태의 Issue 목록 조회
      * @param createdByEmployeeId 생성자 사원번호
@@ -60,11 +83,13 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     );
     
     /**
-     * 특정 담당자가 할당된 Issue 목록 조회
+     * 특정 담당자가 할당된 Issue 목록 조회 (GitHub 연동 대기 중인 Issue 제외)
      * @param githubId 담당자 GitHub ID
      * @return Issue 목록
      */
-    @Query("SELECT i FROM Issue i JOIN i.assigneeGithubIds a WHERE a = :githubId ORDER BY i.createdAt DESC")
+    @Query("SELECT i FROM Issue i JOIN i.assigneeGithubIds a WHERE a = :githubId " +
+            "AND (i.githubSyncStatus IS NULL OR i.githubSyncStatus <> kr.ssok.ssom.backend.domain.issue.entity.constant.GithubSyncStatus.PENDING) " +
+            "ORDER BY i.createdAt DESC")
     List<Issue> findByAssigneeGithubId(@Param("githubId") String githubId);
     
     /**
@@ -80,4 +105,20 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @return 전체 Issue 목록
      */
     List<Issue> findAllByOrderByCreatedAtDesc();
+
+    /**
+     * GitHub Issue 번호 반영 및 연동 완료 표시 (GitHub 연동 완료 시 짧은 트랜잭션으로 갱신)
+     * @param issueId Issue ID
+     * @param githubIssueNumber GitHub Issue 번호
+     * @param updatedAt 수정 일시
+     * @return 갱신된 행 수 (0이면 Issue가 삭제됨)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Issue i SET i.githubIssueNumber = :githubIssueNumber, " +
+            "i.githubSyncStatus = kr.ssok.ssom.backend.domain.issue.entity.constant.GithubSyncStatus.SYNCED, i.updatedAt = :updatedAt " +
+            "WHERE i.issueId = :issueId")
+    int updateGithubIssueNumber(@Param("issueId") Long issueId,
+                                @Param("githubIssueNumber") Long githubIssueNumber,
+                                @Param("updatedAt") LocalDateTime updatedAt);
 }
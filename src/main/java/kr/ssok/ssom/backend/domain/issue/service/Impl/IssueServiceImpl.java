@@ -3,26 +3,28 @@ package kr.ssok.ssom.backend.domain.issue.service.Impl;
 import kr.ssok.ssom.backend.domain.alert.dto.AlertIssueRequestDto;
 import kr.ssok.ssom.backend.domain.issue.dto.*;
 import kr.ssok.ssom.backend.domain.issue.entity.Issue;
+import kr.ssok.ssom.backend.domain.issue.github.GitHubIssuePublisher;
+import kr.ssok.ssom.backend.domain.issue.entity.constant.GithubSyncStatus;
 import kr.ssok.ssom.backend.domain.issue.entity.constant.IssueStatus;
 import kr.ssok.ssom.backend.domain.issue.repository.IssueRepository;
 import kr.ssok.ssom.backend.domain.issue.service.IssueService;
 import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
 import kr.ssok.ssom.backend.domain.logging.service.LoggingService;
+import kr.ssok.ssom.backend.domain.user.cache.UserNameIndex;
 import kr.ssok.ssom.backend.domain.user.entity.User;
 import kr.ssok.ssom.backend.domain.user.repository.UserRepository;
-import kr.ssok.ssom.backend.global.client.GitHubApiClient;
 import kr.ssok.ssom.backend.global.client.LlmServiceClient;
-import kr.ssok.ssom.backend.global.config.GitHubConfig;
 import kr.ssok.ssom.backend.global.dto.*;
 import kr.ssok.ssom.backend.global.exception.BaseException;
 import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.job.AsyncJobManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -36,9 +38,10 @@ public class IssueServiceImpl implements IssueService {
     private final IssueRepository issueRepository;
     private final LoggingService loggingService;
     private final LlmServiceClient llmServiceClient;
-    private final GitHubApiClient gitHubApiClient;
-    private final GitHubConfig gitHubConfig;
+    private final GitHubIssuePublisher gitHubIssuePublisher;
+    private final AsyncJobManager asyncJobManager;
     private final UserRepository userRepository;
+    private final UserNameIndex userNameIndex;
     
     /**
      * LLM을 통한 Issue 초안 작성
@@ -89,10 +92,12 @@ public class IssueServiceImpl implements IssueService {
     }
     
     /**
-     * GitHub Issue 생성
+     * GitHub Issue 생성 (2단계)
+     *      1. 연동 대기(PENDING) 상태로 Issue를 저장하고 즉시 응답 (대기 중에는 목록 조회에서 제외)
+     *      2. 비동기 작업에서 GitHub API 호출(재시도 포함) 후 Issue 번호 반영, 결과는 작업 종료 이벤트로 전송
+     *      GitHub 응답을 기다리는 동안 DB 커넥션/트랜잭션을 점유하지 않음
      */
     @Override
-    @Transactional
     public IssueResponseDto createGitHubIssue(GitHubIssueCreateRequestDto request, String employeeId) {
         log.info("GitHub Issue 생성 요청 - 사원번호: {}, 제목: {}", employeeId, request.getTitle());
         
@@ -118,24 +123,7 @@ public class IssueServiceImpl implements IssueService {
             
             log.info("GitHub Issue 생성 요청 - 담당자: {}, 라벨: {}", assigneeGithubIds, labels);
             
-            // 5. GitHub API 호출 (실패 시 전체 트랜잭션 롤백)
-            GitHubIssueResponseDto githubResponse;
-            try {
-                githubResponse = gitHubApiClient.createIssue(
-                        gitHubConfig.getApi().getOwner(),
-                        gitHubConfig.getApi().getRepository(),
-                        gitHubConfig.getAuthorizationHeader(),
-                        githubRequest
-                );
-                log.info("GitHub Issue 생성 성공 - GitHub Issue 번호: {}, URL: {}", 
-                        githubResponse.getNumber(), githubResponse.getHtmlUrl());
-                
-            } catch (Exception e) {
-                log.error("GitHub Issue 생성 실패 - 오류: {}", e.getMessage());
-                throw new BaseException(BaseResponseStatus.GITHUB_API_ERROR);
-            }
-            
-            // 6. GitHub 연동 성공 후 DB에 저장
+            // 5. 대기 중인 Issue 저장 (save 자체 트랜잭션으로 바로 커밋)
             Issue issue = Issue.builder()
                     .title(request.getTitle())
                     .description(request.getDescription())
@@ -143,14 +131,30 @@ public class IssueServiceImpl implements IssueService {
                     .createdByEmployeeId(employeeId)
                     .assigneeGithubIds(assigneeGithubIds)
                     .logIds(request.getLogIds())
-                    .githubIssueNumber(githubResponse.getNumber()) // GitHub 연동 완료
+                    .githubSyncStatus(GithubSyncStatus.PENDING)
                     .build();
             
             Issue savedIssue = issueRepository.save(issue);
-            log.info("Issue DB 저장 완료 - Issue ID: {}, GitHub Issue 번호: {}", 
-                    savedIssue.getIssueId(), githubResponse.getNumber());
+            IssueResponseDto pending = IssueResponseDto.from(savedIssue);
+            log.info("Issue DB 저장 완료 (GitHub 연동 대기) - Issue ID: {}", savedIssue.getIssueId());
+            
+            // 6. GitHub 연동 작업 등록 (등록 실패 또는 실행 전 취소 시 대기 중인 Issue 삭제)
+            //    실행 중에는 GitHub에 생성되었을 수 있으므로 취소 불가
+            AsyncJobDto job;
+            try {
+                job = asyncJobManager.submitNonInterruptible(employeeId, "GITHUB_ISSUE",
+                        () -> gitHubIssuePublisher.publish(pending, githubRequest),
+                        () -> gitHubIssuePublisher.discard(savedIssue.getIssueId()));
+            } catch (BaseException e) {
+                issueRepository.deleteById(savedIssue.getIssueId());
+                throw e;
+            }
+            
+            log.info("GitHub Issue 연동 작업 등록 - Issue ID: {}, jobId: {}", savedIssue.getIssueId(), job.getJobId());
             
-            return IssueResponseDto.from(savedIssue);
+            IssueResponseDto response = IssueResponseDto.from(savedIssue);
+            response.setGithubJobId(job.getJobId());
+            return response;
             
         } catch (BaseException e) {
             log.error("GitHub Issue 생성 실패 - BaseException: {}", e.getMessage());
@@ -162,7 +166,7 @@ public class IssueServiceImpl implements IssueService {
     }
     
     /**
-     * 내가 담당자로 지정된 Issue 목록 조회
+     * 내가 담당자로 지정된 Issue 목록 조회 (GitHub 연동 대기 중인 Issue 제외)
      */
     @Override
     public List<IssueResponseDto> getMyIssues(String employeeId) {
@@ -188,13 +192,13 @@ public class IssueServiceImpl implements IssueService {
     }
     
     /**
-     * 전체 Issue 목록 조회 (팀 공유) - OPEN 상태만
+     * 전체 Issue 목록 조회 (팀 공유) - OPEN 상태만 (GitHub 연동 대기 중인 Issue 제외)
      */
     @Override
     public List<IssueResponseDto> getAllIssues(String employeeId) {
         log.info("전체 Issue 목록 조회 (OPEN 상태만) - 요청자: {}", employeeId);
         
-        List<Issue> issues = issueRepository.findByStatusOrderByCreatedAtDesc(IssueStatus.OPEN);
+        List<Issue> issues = issueRepository.findListedByStatus(IssueStatus.OPEN);
         
         return issues.stream()
                 .map(IssueResponseDto::from)
@@ -216,27 +220,19 @@ public class IssueServiceImpl implements IssueService {
 
     /**
      * 담당자들의 GitHub ID 수집
+     *      사용자명 인덱스에서 담당자 목록 전체를 한 번에 해석 (정확히 일치하는 사용자 우선)
      */
     private List<String> collectAssigneeGithubIds(List<String> assigneeUsernames, User creator) {
         List<String> githubIds = new ArrayList<>();
         
         if (assigneeUsernames != null && !assigneeUsernames.isEmpty()) {
-            // 지정된 담당자들의 GitHub ID 수집
+            Map<String, String> resolved = userNameIndex.resolveGithubIds(assigneeUsernames);
             for (String username : assigneeUsernames) {
-                List<User> users = userRepository.findByUsernameContainingIgnoreCaseAndGithubIdIsNotNull(username);
-                
-                if (!users.isEmpty()) {
-                    // 정확히 일치하는 사용자를 우선으로 찾기
-                    User exactMatch = users.stream()
-                            .filter(user -> user.getUsername().equalsIgnoreCase(username))
-                            .findFirst()
-                            .orElse(users.get(0)); // 정확한 매치가 없으면 첫 번째 결과 사용
-                    
-                    if (!githubIds.contains(exactMatch.getGithubId())) {
-                        githubIds.add(exactMatch.getGithubId());
-                    }
-                } else {
+                String githubId = resolved.get(username);
+                if (githubId == null) {
                     log.warn("GitHub ID가 있는 사용자를 찾을 수 없음: {}", username);
+                } else if (!githubIds.contains(githubId)) {
+                    githubIds.add(githubId);
                 }
             }
         }
@@ -20,10 +20,10 @@ public interface IssueService {
     LlmIssueResponseDto createIssueDraft(IssueCreateRequestDto request, String employeeId);
     
     /**
-     * GitHub Issue 생성
+     * GitHub Issue 생성 (Issue를 GitHub 연동 대기 상태로 저장하고 GitHub 연동 작업 등록)
      * @param request GitHub Issue 생성 요청 DTO
      * @param employeeId 요청자 사원번호
-     * @return 생성된 Issue 정보
+     * @return 저장된 Issue 정보 (githubJobId 로 GitHub 연동 결과 확인)
      */
     IssueResponseDto createGitHubIssue(GitHubIssueCreateRequestDto request, String employeeId);
     
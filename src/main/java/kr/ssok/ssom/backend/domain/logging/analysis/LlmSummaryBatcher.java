@@ -0,0 +1,232 @@
+package kr.ssok.ssom.backend.domain.logging.analysis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.ssok.ssom.backend.global.client.LlmServiceClient;
+import kr.ssok.ssom.backend.global.dto.LlmApiRequestDto;
+import kr.ssok.ssom.backend.global.dto.LlmApiResponseDto;
+import kr.ssok.ssom.backend.global.dto.LogRequestDto;
+import kr.ssok.ssom.backend.global.dto.LogSummaryMessageDto;
+import kr.ssok.ssom.backend.global.dto.LogSummaryResponseDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LLM 로그 요약 마이크로 배칭
+ *      - 요약 요청을 짧은 윈도우(기본 50ms) 동안 모아 summarizeLog 1회로 전송
+ *      - 윈도우가 끝나기 전에 최대 개수(기본 8건)가 차면 즉시 전송
+ *      - 응답 result 는 요청 log 순서와 같다고 보고 각 호출자에게 나눠 돌려줌
+ *      - 전송 실패 또는 응답 개수 불일치 시 배치 안의 모든 요청이 LLM_SUMMARY_FAILED 로 실패
+ *      - summarize 대기는 인터럽트로 중단되며(비동기 작업 취소), 아직 전송 전인 요청은 배치에서 제외
+ */
+@Slf4j
+@Component
+public class LlmSummaryBatcher {
+
+    private final LlmServiceClient llmServiceClient;
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService windowScheduler;
+    private final ExecutorService senders;
+
+    private final Object lock = new Object();
+    private List<PendingSummary> pending = new ArrayList<>();
+    private ScheduledFuture<?> windowTimer;
+
+    private final Counter requestCounter;
+    private final Counter callCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public LlmSummaryBatcher(LlmServiceClient llmServiceClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${llm.batch.enabled:true}") boolean enabled,
+                             @Value("${llm.batch.window-ms:50}") long windowMillis,
+                             @Value("${llm.batch.max-size:8}") int maxBatchSize,
+                             @Value("${llm.batch.senders:4}") int senderThreads) {
+        this.llmServiceClient = llmServiceClient;
+        this.enabled = enabled;
+        this.windowMillis = Math.max(1, windowMillis);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.windowScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "llm-batch-window");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), r -> {
+            Thread thread = new Thread(r, "llm-batch-sender-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.requestCounter = Counter.builder("llm.batch.requests")
+                .description("배칭 단계로 들어온 LLM 요약 요청 수")
+                .register(meterRegistry);
+        this.callCounter = Counter.builder("llm.batch.calls")
+                .description("실제로 전송한 summarizeLog 호출 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("llm.batch.size")
+                .description("summarizeLog 1회에 담긴 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그 1건 요약 (배치 전송 결과를 기다림)
+     *      기다리는 중 인터럽트되면 요청을 취소하고 LLM_SUMMARY_FAILED (인터럽트 상태 유지)
+     *
+     * @param logRequest 요약할 로그
+     * @return 요약 결과
+     */
+    public LogSummaryMessageDto summarize(LogRequestDto logRequest) {
+        CompletableFuture<LogSummaryMessageDto> future = submit(logRequest);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            log.info("[LLM 배치 요약] 대기 중 취소됨");
+            throw new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BaseException baseException) {
+                throw baseException;
+            }
+            throw new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
+        }
+    }
+
+    /**
+     * 로그 1건 요약 요청 등록
+     *
+     * @param logRequest 요약할 로그
+     * @return 배치 전송 후 완료되는 요약 결과
+     */
+    public CompletableFuture<LogSummaryMessageDto> submit(LogRequestDto logRequest) {
+        requestCounter.increment();
+        PendingSummary request = new PendingSummary(logRequest);
+
+        if (!enabled) {
+            send(List.of(request));
+            return request.future;
+        }
+
+        List<PendingSummary> fullBatch = null;
+        synchronized (lock) {
+            pending.add(request);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = takePending();
+            } else if (windowTimer == null) {
+                // 윈도우의 첫 요청이 타이머 시작
+                windowTimer = windowScheduler.schedule(this::flushWindow, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return request.future;
+    }
+
+    private void flushWindow() {
+        List<PendingSummary> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    // lock 안에서 호출
+    private List<PendingSummary> takePending() {
+        List<PendingSummary> batch = pending;
+        pending = new ArrayList<>();
+        if (windowTimer != null) {
+            windowTimer.cancel(false);
+            windowTimer = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<PendingSummary> batch) {
+        try {
+            senders.execute(() -> send(batch));
+        } catch (Exception e) {
+            log.error("[LLM 배치 요약] 전송 작업 등록 실패 : size = {}, error = {}", batch.size(), e.getMessage());
+            batch.forEach(request -> request.future.completeExceptionally(
+                    new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED)));
+        }
+    }
+
+    private void send(List<PendingSummary> requests) {
+        // 전송 전에 취소된 요청 제외
+        List<PendingSummary> batch = requests.stream().filter(request -> !request.future.isDone()).toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        callCounter.increment();
+        batchSizeSummary.record(batch.size());
+
+        try {
+            LlmApiRequestDto requestDto = LlmApiRequestDto.builder()
+                    .log(batch.stream().map(request -> request.logRequest).toList())
+                    .build();
+            LlmApiResponseDto<LogSummaryResponseDto> response = llmServiceClient.summarizeLog(requestDto);
+
+            List<LogSummaryResponseDto> results = response == null ? null : response.getResult();
+            if (results == null || results.size() != batch.size()) {
+                log.error("[LLM 배치 요약] 응답 개수 불일치 : requested = {}, received = {}",
+                        batch.size(), results == null ? 0 : results.size());
+                throw new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(results.get(i).getMessage());
+            }
+
+            log.debug("[LLM 배치 요약] 전송 완료 : size = {}", batch.size());
+
+        } catch (Exception e) {
+            log.error("[LLM 배치 요약] 전송 실패 : size = {}, error = {}", batch.size(), e.getMessage());
+            BaseException failure = e instanceof BaseException baseException
+                    ? baseException
+                    : new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
+            batch.forEach(request -> request.future.completeExceptionally(failure));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        windowScheduler.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private static class PendingSummary {
+        private final LogRequestDto logRequest;
+        private final CompletableFuture<LogSummaryMessageDto> future = new CompletableFuture<>();
+
+        private PendingSummary(LogRequestDto logRequest) {
+            this.logRequest = logRequest;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package kr.ssok.ssom.backend.domain.logging.analysis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import kr.ssok.ssom.backend.domain.logging.entity.LogSummary;
+import kr.ssok.ssom.backend.domain.logging.repository.LogSummaryRepository;
+import kr.ssok.ssom.backend.global.dto.*;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.util.LogMessageFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LLM 로그 분석 single-flight + 캐시
+ *      - 메시지 지문이 같은 로그는 같은 분석 결과를 공유
+ *      - 조회 순서: 메모리 캐시(LRU) -> LogSummary(DB) -> LLM 호출 (LlmSummaryBatcher 로 묶어서 전송)
+ *      - 같은 지문으로 동시에 들어온 요청은 먼저 들어온 요청의 LLM 호출 1건을 함께 기다림
+ *      - 호출 권한을 선점한 뒤에도 메모리 캐시와 DB 를 다시 확인하여, 직전에 끝난 분석을 중복 호출하지 않음
+ *      - 실패한 호출은 캐시하지 않으며, 기다리던 요청도 같은 예외를 받음
+ *      - 대기는 인터럽트로 중단 가능 (비동기 작업 취소 시 워커 반환), 먼저 들어온 요청이 취소되면 기다리던 요청이 다시 시도
+ */
+@Slf4j
+@Component
+public class LogSummaryAnalyzer {
+
+    private final LlmSummaryBatcher llmSummaryBatcher;
+    private final LogSummaryRepository logSummaryRepository;
+
+    private final Map<String, CompletableFuture<LogSummaryMessageDto>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, LogSummaryMessageDto> cache;
+
+    private final Counter llmCallCounter;
+    private final Counter coalescedCounter;
+    private final Counter memoryHitCounter;
+    private final Counter dbHitCounter;
+
+    public LogSummaryAnalyzer(LlmSummaryBatcher llmSummaryBatcher,
+                              LogSummaryRepository logSummaryRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${logging.analysis.cache-size:1000}") int cacheSize) {
+        this.llmSummaryBatcher = llmSummaryBatcher;
+        this.logSummaryRepository = logSummaryRepository;
+
+        int maxEntries = Math.max(1, cacheSize);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LogSummaryMessageDto> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        this.llmCallCounter = Counter.builder("llm.analysis.calls")
+                .description("실제로 호출한 LLM 로그 분석 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("llm.analysis.coalesced")
+                .description("진행 중인 LLM 호출에 합류한 분석 요청 수")
+                .register(meterRegistry);
+        this.memoryHitCounter = Counter.builder("llm.analysis.avoided")
+                .description("저장된 분석 결과로 응답하여 생략한 LLM 호출 수")
+                .tag("source", "memory")
+                .register(meterRegistry);
+        this.dbHitCounter = Counter.builder("llm.analysis.avoided")
+                .description("저장된 분석 결과로 응답하여 생략한 LLM 호출 수")
+                .tag("source", "db")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장된 분석 결과 조회 (LLM 호출 없음)
+     *
+     * @param message 로그 메시지
+     * @return 같은 지문의 분석 결과, 없으면 empty
+     */
+    public Optional<LogSummaryMessageDto> find(String message) {
+        return findByFingerprint(LogMessageFingerprint.of(message));
+    }
+
+    /**
+     * 로그 분석 - 저장된 결과가 없을 때만 LLM 호출
+     *
+     * @param request 분석할 로그
+     * @return 분석 결과
+     */
+    public LogSummaryMessageDto analyze(LogDto request) {
+        String fingerprint = LogMessageFingerprint.of(request.getMessage());
+
+        Optional<LogSummaryMessageDto> stored = findByFingerprint(fingerprint);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        CompletableFuture<LogSummaryMessageDto> future = new CompletableFuture<>();
+        CompletableFuture<LogSummaryMessageDto> existing = inFlight.putIfAbsent(fingerprint, future);
+
+        if (existing != null) {
+            coalescedCounter.increment();
+            log.info("[LLM 로그 분석] 진행 중인 분석에 합류 : logId = {}, fingerprint = {}", request.getLogId(), fingerprint);
+            try {
+                return await(existing);
+            } catch (CancellationException e) {
+                // 앞선 요청이 취소됨 -> 다시 시도 (합류한 요청 중 하나가 호출 권한을 선점)
+                inFlight.remove(fingerprint, existing);
+                return analyze(request);
+            }
+        }
+
+        try {
+            // 조회와 선점 사이에 앞선 요청이 끝나고 inFlight 에서 빠졌을 수 있으므로 저장된 결과 재확인
+            Optional<LogSummaryMessageDto> storedAfterClaim = findByFingerprint(fingerprint);
+            LogSummaryMessageDto summary = storedAfterClaim.isPresent()
+                    ? storedAfterClaim.get()
+                    : summarizeAndSave(request, fingerprint);
+            cache.put(fingerprint, summary);
+            future.complete(summary);
+            return summary;
+        } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                // 작업 취소로 중단됨 -> 합류한 요청은 실패시키지 않고 다시 시도하게 함
+                future.cancel(false);
+            } else {
+                future.completeExceptionally(e);
+            }
+            throw e;
+        } finally {
+            inFlight.remove(fingerprint, future);
+        }
+    }
+
+    private Optional<LogSummaryMessageDto> findByFingerprint(String fingerprint) {
+        LogSummaryMessageDto cached = cache.get(fingerprint);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<LogSummaryMessageDto> stored = logSummaryRepository.findFirstByMessageFingerprint(fingerprint)
+                .map(LogSummaryAnalyzer::toDto);
+        stored.ifPresent(summary -> {
+            dbHitCounter.increment();
+            cache.put(fingerprint, summary);
+        });
+        return stored;
+    }
+
+    private LogSummaryMessageDto summarizeAndSave(LogDto request, String fingerprint) {
+        // LLM 쪽으로 요약 요청 (다른 로그의 요청과 묶어서 전송)
+        LogRequestDto requestDto = LogRequestDto.builder()
+                .level(request.getLevel())
+                .logger(request.getLogger())
+                .thread(request.getThread())
+                .message(request.getMessage())
+                .app(request.getApp())
+                .build();
+
+        LogSummaryMessageDto summaryDto;
+        try {
+            llmCallCounter.increment();
+            summaryDto = llmSummaryBatcher.summarize(requestDto);
+        } catch (Exception e) {
+            log.error("[LLM 로그 분석] LLM 호출 실패 : logId = {}, error = {}", request.getLogId(), e.getMessage());
+            throw new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
+        }
+
+        // DB에 저장
+        try {
+            LogSummary summaryEntity = LogSummary.builder()
+                    .logId(request.getLogId())
+                    .logMessage(request.getMessage())
+                    .messageFingerprint(fingerprint)
+                    .summary(summaryDto.getSummary())
+                    .fileLocation(summaryDto.getLocation().getFile())
+                    .functionLocation(summaryDto.getLocation().getFunction())
+                    .solution(summaryDto.getSolution())
+                    .solutionDetail(summaryDto.getSolutionDetail())
+                    .build();
+            logSummaryRepository.save(summaryEntity);
+        } catch (Exception e) {
+            throw new BaseException(BaseResponseStatus.LLM_SUMMARY_SAVE_FAILED);
+        }
+
+        return summaryDto;
+    }
+
+    /**
+     * 진행 중인 분석 대기 - 인터럽트(작업 취소)로 중단 가능
+     */
+    private static LogSummaryMessageDto await(CompletableFuture<LogSummaryMessageDto> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BaseException baseException) {
+                throw baseException;
+            }
+            throw new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
+        }
+    }
+
+    private static LogSummaryMessageDto toDto(LogSummary summaryEntity) {
+        LogLocationDto locationDto = LogLocationDto.builder()
+                .file(summaryEntity.getFileLocation())
+                .function(summaryEntity.getFunctionLocation())
+                .build();
+        return LogSummaryMessageDto.builder()
+                .summary(summaryEntity.getSummary())
+                .location(locationDto)
+                .solution(summaryEntity.getSolution())
+                .solutionDetail(summaryEntity.getSolutionDetail())
+                .build();
+    }
+}
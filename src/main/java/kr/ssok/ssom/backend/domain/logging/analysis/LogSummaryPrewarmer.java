@@ -0,0 +1,258 @@
+package kr.ssok.ssom.backend.domain.logging.analysis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import kr.ssok.ssom.backend.global.util.LogMessageFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * LLM 로그 분석 사전 생성 (pre-warming)
+ *      - 실시간 로그(/api/logging/opensearch) 중 대상 레벨(기본 ERROR)의 새 메시지 지문을 대기열에 등록
+ *      - 백그라운드 스레드가 분당 요청 수와 일일 예산 안에서 LogSummaryAnalyzer 로 분석을 미리 생성
+ *      - 한 회차에 허용된 만큼 동시에 요청하여 LlmSummaryBatcher 가 한 배치로 묶도록 함
+ *      - 이미 분석이 있는 지문은 LLM 호출 없이 건너뜀
+ *      사용자가 로그를 열었을 때 LLM 응답을 기다리지 않고 저장된 분석을 바로 받도록 함
+ */
+@Slf4j
+@Component
+public class LogSummaryPrewarmer {
+
+    private static final int SEEN_FINGERPRINTS = 10_000;
+
+    private final LogSummaryAnalyzer logSummaryAnalyzer;
+
+    private final boolean enabled;
+    private final Set<String> levels;
+    private final double permitsPerMilli;
+    private final double maxPermits;
+    private final int dailyBudget;
+
+    private final BlockingQueue<LogDto> queue;
+    // 대기열에 넣은 적 있는 지문 (같은 지문 반복 등록 방지, LRU)
+    private final Set<String> seen = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > SEEN_FINGERPRINTS;
+                }
+            }));
+    private final ScheduledExecutorService worker;
+    // 한 회차의 분석 요청을 동시에 보내는 스레드 (최대 허용량만큼)
+    private final ExecutorService analysisPool;
+
+    // worker 스레드에서만 접근
+    private double permits;
+    private long lastRefill = System.currentTimeMillis();
+    private LocalDate budgetDate = LocalDate.now();
+    private int usedBudget;
+
+    private final Counter queuedCounter;
+    private final Counter droppedCounter;
+    private final Counter generatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public LogSummaryPrewarmer(LogSummaryAnalyzer logSummaryAnalyzer,
+                               MeterRegistry meterRegistry,
+                               @Value("${llm.prewarm.enabled:true}") boolean enabled,
+                               @Value("${llm.prewarm.levels:ERROR}") String[] levels,
+                               @Value("${llm.prewarm.rate-per-minute:20}") int ratePerMinute,
+                               @Value("${llm.prewarm.daily-budget:500}") int dailyBudget,
+                               @Value("${llm.prewarm.queue-capacity:200}") int queueCapacity) {
+        this.logSummaryAnalyzer = logSummaryAnalyzer;
+        this.enabled = enabled;
+        this.levels = Arrays.stream(levels).map(String::trim).map(String::toUpperCase).collect(Collectors.toSet());
+        this.permitsPerMilli = Math.max(1, ratePerMinute) / 60_000.0;
+        this.maxPermits = Math.max(1, ratePerMinute / 6.0);     // 최대 10초 분량까지 몰아서 처리
+        this.dailyBudget = Math.max(0, dailyBudget);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        this.worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "llm-prewarm");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger analysisThreads = new AtomicInteger();
+        this.analysisPool = Executors.newFixedThreadPool((int) Math.ceil(maxPermits), r -> {
+            Thread thread = new Thread(r, "llm-prewarm-analyze-" + analysisThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.queuedCounter = Counter.builder("llm.prewarm.queued")
+                .description("사전 분석 대기열에 등록한 지문 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("llm.prewarm.dropped")
+                .description("대기열 초과 또는 일일 예산 소진으로 사전 분석하지 않은 지문 수")
+                .register(meterRegistry);
+        this.generatedCounter = Counter.builder("llm.prewarm.generated")
+                .description("사전 분석으로 LLM 을 호출한 지문 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("llm.prewarm.skipped")
+                .description("이미 분석이 있어 건너뛴 지문 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("llm.prewarm.failed")
+                .description("사전 분석 실패 수")
+                .register(meterRegistry);
+        Gauge.builder("llm.prewarm.pending", queue, BlockingQueue::size)
+                .description("사전 분석 대기 중인 지문 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            worker.scheduleWithFixedDelay(this::drain, 1, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 실시간 로그 1건 확인 - 대상 레벨의 처음 보는 지문이면 대기열에 등록 (호출 스레드는 막지 않음)
+     */
+    public void offer(LogDto logDto) {
+        if (!enabled || logDto.getLevel() == null || !levels.contains(logDto.getLevel().toUpperCase())) {
+            return;
+        }
+
+        String fingerprint = LogMessageFingerprint.of(logDto.getMessage());
+        if (!seen.add(fingerprint)) {
+            return;
+        }
+
+        // 실시간 전송 중인 원본 객체와 분리하여 등록
+        LogDto copy = logDto.toBuilder().build();
+
+        if (queue.offer(copy)) {
+            queuedCounter.increment();
+        } else {
+            // 대기열이 가득 차면 버리고, 같은 지문이 다시 들어오면 재시도
+            seen.remove(fingerprint);
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * 대기열 처리 - 분당 요청 수(토큰 버킷)와 일일 예산 안에서 분석 생성
+     *      허용량만큼 꺼내 동시에 요청하고, 모두 끝난 뒤 다음 회차로 넘어감
+     */
+    void drain() {
+        try {
+            refillPermits();
+
+            List<CompletableFuture<Void>> requests = new ArrayList<>();
+            while (permits >= 1 && !queue.isEmpty()) {
+                LogDto logDto = queue.poll();
+                if (logDto == null) {
+                    break;
+                }
+                if (reserve(logDto)) {
+                    requests.add(CompletableFuture.runAsync(() -> prewarm(logDto), analysisPool));
+                }
+            }
+
+            if (!requests.isEmpty()) {
+                CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("[LLM 사전 분석] 대기열 처리 중 오류 발생 : error = {}", e.getCause().getMessage(), e.getCause());
+        } catch (Exception e) {
+            log.error("[LLM 사전 분석] 대기열 처리 중 오류 발생 : error = {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 요청 전 확인 (worker 스레드) - 이미 분석이 있거나 예산이 없으면 false, 아니면 허용량과 예산을 차감
+     */
+    private boolean reserve(LogDto logDto) {
+        String fingerprint = LogMessageFingerprint.of(logDto.getMessage());
+
+        // 이미 분석이 있으면 예산을 쓰지 않음
+        if (logSummaryAnalyzer.find(logDto.getMessage()).isPresent()) {
+            skippedCounter.increment();
+            return false;
+        }
+
+        if (!consumeBudget()) {
+            seen.remove(fingerprint);
+            droppedCounter.increment();
+            return false;
+        }
+
+        permits -= 1;
+
+        // 실시간 로그에 ID 가 없으면 지문 기반 ID 로 저장 (조회는 지문 기준이므로 무관)
+        if (!StringUtils.hasText(logDto.getLogId())) {
+            logDto.setLogId("prewarm-" + fingerprint);
+        }
+        return true;
+    }
+
+    private void prewarm(LogDto logDto) {
+        String fingerprint = LogMessageFingerprint.of(logDto.getMessage());
+
+        try {
+            logSummaryAnalyzer.analyze(logDto);
+            generatedCounter.increment();
+            log.info("[LLM 사전 분석] 생성 완료 : app = {}, fingerprint = {}", logDto.getApp(), fingerprint);
+        } catch (Exception e) {
+            // 실패한 지문은 다음 발생 시 다시 시도
+            seen.remove(fingerprint);
+            failedCounter.increment();
+            log.warn("[LLM 사전 분석] 생성 실패 : app = {}, fingerprint = {}, error = {}",
+                    logDto.getApp(), fingerprint, e.getMessage());
+        }
+    }
+
+    private void refillPermits() {
+        long now = System.currentTimeMillis();
+        permits = Math.min(maxPermits, permits + (now - lastRefill) * permitsPerMilli);
+        lastRefill = now;
+    }
+
+    private boolean consumeBudget() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(budgetDate)) {
+            budgetDate = today;
+            usedBudget = 0;
+        }
+        if (usedBudget >= dailyBudget) {
+            return false;
+        }
+        usedBudget++;
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+        analysisPool.shutdownNow();
+    }
+}
@@ -0,0 +1,252 @@
+package kr.ssok.ssom.backend.domain.logging.anomaly;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ssok.ssom.backend.domain.alert.dto.AlertRequestDto;
+import kr.ssok.ssom.backend.domain.alert.entity.constant.AlertKind;
+import kr.ssok.ssom.backend.domain.alert.service.AlertService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서비스(app)별 실시간 에러율 급증 감지
+ *      - 오픈서치 실시간 로그 웹훅으로 받은 로그를 bucket-seconds 단위 구간에 집계 (전체 건수, ERROR 건수)
+ *      - 로그 1건 기록은 구간 카운터(LongAdder) 증가만 수행 (객체 생성, 락 없음)
+ *      - 주기마다 최근 window-buckets 개의 닫힌 구간 에러율을 EWMA 기준선(평균, 분산)과 비교
+ *          임계값 : max(min-rate, 기준선 평균 + threshold-sigma * 표준편차)
+ *      - 임계값을 넘으면 급증 구간 1회당 알림 1건을 createAlert 로 생성 (cooldown 동안 재알림 없음)
+ *      - 급증 구간의 에러율은 기준선에 반영하지 않음
+ */
+@Slf4j
+@Component
+public class ErrorRateSpikeDetector {
+
+    private static final int MAX_APPS = 100;
+
+    private final AlertService alertService;
+
+    private final boolean enabled;
+    private final long bucketMillis;
+    private final int windowBuckets;
+    private final double alpha;
+    private final double thresholdSigma;
+    private final long minErrors;
+    private final double minRate;
+    private final int warmupWindows;
+    private final long cooldownMillis;
+
+    private final Map<String, AppWindow> windows = new ConcurrentHashMap<>();
+
+    private final Counter alertCounter;
+
+    public ErrorRateSpikeDetector(AlertService alertService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${logging.error-spike.enabled:true}") boolean enabled,
+                                  @Value("${logging.error-spike.bucket-seconds:10}") int bucketSeconds,
+                                  @Value("${logging.error-spike.window-buckets:6}") int windowBuckets,
+                                  @Value("${logging.error-spike.ewma-alpha:0.1}") double alpha,
+                                  @Value("${logging.error-spike.threshold-sigma:3.0}") double thresholdSigma,
+                                  @Value("${logging.error-spike.min-errors:20}") long minErrors,
+                                  @Value("${logging.error-spike.min-rate:0.05}") double minRate,
+                                  @Value("${logging.error-spike.warmup-windows:30}") int warmupWindows,
+                                  @Value("${logging.error-spike.cooldown-seconds:600}") long cooldownSeconds) {
+        this.alertService = alertService;
+        this.enabled = enabled;
+        this.bucketMillis = Math.max(1, bucketSeconds) * 1000L;
+        this.windowBuckets = Math.max(1, windowBuckets);
+        this.alpha = alpha;
+        this.thresholdSigma = thresholdSigma;
+        this.minErrors = minErrors;
+        this.minRate = minRate;
+        this.warmupWindows = warmupWindows;
+        this.cooldownMillis = cooldownSeconds * 1000L;
+
+        this.alertCounter = Counter.builder("logging.error-spike.alerts")
+                .description("에러율 급증 감지 알림 생성 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실시간 로그 1건 기록
+     */
+    public void record(String app, String level) {
+        record(app, level, System.currentTimeMillis());
+    }
+
+    void record(String app, String level, long nowMillis) {
+        if (!enabled || app == null) {
+            return;
+        }
+
+        AppWindow window = windows.get(app);
+        if (window == null) {
+            if (windows.size() >= MAX_APPS) {
+                return;
+            }
+            window = windows.computeIfAbsent(app, k -> new AppWindow(windowBuckets + 2));
+        }
+        window.record(nowMillis / bucketMillis, "ERROR".equalsIgnoreCase(level));
+    }
+
+    /**
+     * 닫힌 구간 기준 서비스별 에러율 평가 (구간 크기마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${logging.error-spike.evaluate-interval-ms:10000}")
+    public void evaluate() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            evaluate(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("[에러율 급증 감지] 평가 중 오류 발생 : error = {}", e.getMessage(), e);
+        }
+    }
+
+    synchronized void evaluate(long nowMillis) {
+        long currentEpoch = nowMillis / bucketMillis;
+
+        for (Map.Entry<String, AppWindow> entry : windows.entrySet()) {
+            String app = entry.getKey();
+            AppWindow window = entry.getValue();
+
+            // 같은 구간에서 두 번 평가하지 않음 (기준선은 구간마다 1회 갱신)
+            if (window.lastEvaluatedEpoch >= currentEpoch) {
+                continue;
+            }
+            window.lastEvaluatedEpoch = currentEpoch;
+
+            // 1. 최근 닫힌 구간 합계
+            long total = 0;
+            long errors = 0;
+            for (long epoch = currentEpoch - windowBuckets; epoch < currentEpoch; epoch++) {
+                total += window.total(epoch);
+                errors += window.errors(epoch);
+            }
+            if (total == 0) {
+                continue;
+            }
+
+            // 2. 기준선과 비교
+            double rate = (double) errors / total;
+            double threshold = Math.max(minRate, window.mean + thresholdSigma * Math.sqrt(window.variance));
+            boolean spike = window.samples >= warmupWindows && errors >= minErrors && rate > threshold;
+
+            if (!spike) {
+                window.spiking = false;
+                window.updateBaseline(rate, alpha);
+                continue;
+            }
+
+            // 3. 급증 구간 시작 시 1회 알림 (cooldown 이내 재발은 생략)
+            if (!window.spiking && nowMillis - window.lastAlertAt >= cooldownMillis) {
+                window.lastAlertAt = nowMillis;
+                raiseAlert(app, nowMillis, rate, window.mean, threshold, errors, total);
+            }
+            window.spiking = true;
+        }
+    }
+
+    private void raiseAlert(String app, long nowMillis, double rate, double baseline, double threshold, long errors, long total) {
+        log.warn("[에러율 급증 감지] app = {}, 에러율 = {}, 기준선 = {}, 임계값 = {}, ERROR = {}, 전체 = {}",
+                app, rate, baseline, threshold, errors, total);
+
+        AlertRequestDto request = AlertRequestDto.builder()
+                .id("ERROR_SPIKE_" + app + "_" + nowMillis)
+                .level("ERROR")
+                .app(app)
+                .timestamp(Instant.ofEpochMilli(nowMillis).toString())
+                .message(String.format("에러율 급증 감지 : 최근 %d초 에러율 %.1f%% (평소 %.1f%%, 임계값 %.1f%%), ERROR %d건 / 전체 %d건",
+                        windowBuckets * bucketMillis / 1000, rate * 100, baseline * 100, threshold * 100, errors, total))
+                .build();
+
+        try {
+            alertService.createAlert(request, AlertKind.OPENSEARCH);
+            alertCounter.increment();
+        } catch (Exception e) {
+            log.error("[에러율 급증 감지] 알림 생성 실패 : app = {}, error = {}", app, e.getMessage());
+        }
+    }
+
+    /**
+     * 서비스 1개의 구간 카운터 링
+     *      epochs[i] 가 현재 구간이 아니면 CAS 로 새 구간을 선점한 스레드가 카운터를 초기화
+     *      (구간 전환 순간 일부 건이 초기화에 섞여 빠질 수 있으나 비율 추정에는 영향 없음)
+     *      기준선 필드는 평가 스레드(evaluate, synchronized)에서만 사용
+     */
+    private static class AppWindow {
+        private final AtomicLongArray epochs;
+        private final LongAdder[] totals;
+        private final LongAdder[] errorCounts;
+
+        private long lastEvaluatedEpoch = Long.MIN_VALUE;
+        private double mean;
+        private double variance;
+        private long samples;
+        private boolean spiking;
+        private long lastAlertAt = Long.MIN_VALUE / 2;
+
+        private AppWindow(int size) {
+            this.epochs = new AtomicLongArray(size);
+            this.totals = new LongAdder[size];
+            this.errorCounts = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                epochs.set(i, -1);
+                totals[i] = new LongAdder();
+                errorCounts[i] = new LongAdder();
+            }
+        }
+
+        private void record(long epoch, boolean error) {
+            int index = (int) (epoch % epochs.length());
+            long seen = epochs.get(index);
+            if (seen != epoch) {
+                if (seen > epoch) {
+                    return; // 이미 지난 구간 (시계 역행)
+                }
+                if (epochs.compareAndSet(index, seen, epoch)) {
+                    totals[index].reset();
+                    errorCounts[index].reset();
+                }
+            }
+            totals[index].increment();
+            if (error) {
+                errorCounts[index].increment();
+            }
+        }
+
+        private long total(long epoch) {
+            int index = (int) (epoch % epochs.length());
+            return epochs.get(index) == epoch ? totals[index].sum() : 0;
+        }
+
+        private long errors(long epoch) {
+            int index = (int) (epoch % epochs.length());
+            return epochs.get(index) == epoch ? errorCounts[index].sum() : 0;
+        }
+
+        /**
+         * EWMA 평균/분산 갱신
+         */
+        private void updateBaseline(double rate, double alpha) {
+            if (samples == 0) {
+                mean = rate;
+                variance = 0;
+            } else {
+                double diff = rate - mean;
+                double increment = alpha * diff;
+                mean += increment;
+                variance = (1 - alpha) * (variance + diff * increment);
+            }
+            samples++;
+        }
+    }
+}
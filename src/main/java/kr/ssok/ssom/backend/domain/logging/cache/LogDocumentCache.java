@@ -0,0 +1,87 @@
+package kr.ssok.ssom.backend.domain.logging.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그 문서 캐시 (로그 ID -> LogDto, LRU)
+ *      ssok-app 인덱스의 로그 문서는 기록 후 변경되지 않으므로 만료 없이 개수로만 제한
+ *      - 상세 조회(get), 다건 조회(mget) 결과와 실시간 로그 웹훅으로 채움
+ *      - 저장 시 복사본을 보관하고 조회 시에도 복사본을 반환 (호출자가 변경해도 캐시된 문서는 유지)
+ */
+@Component
+public class LogDocumentCache {
+
+    private final Map<String, LogDto> documents;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public LogDocumentCache(MeterRegistry meterRegistry,
+                            @Value("${logging.document-cache.max-entries:10000}") int maxEntries) {
+        int capacity = Math.max(1, maxEntries);
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LogDto> eldest) {
+                return size() > capacity;
+            }
+        };
+
+        this.hitCounter = Counter.builder("logging.document-cache.requests")
+                .description("로그 문서 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("logging.document-cache.requests")
+                .description("로그 문서 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("logging.document-cache.size", this, LogDocumentCache::size)
+                .description("캐시된 로그 문서 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그 문서 조회
+     *
+     * @return 캐시된 문서의 복사본, 없으면 null
+     */
+    public LogDto get(String logId) {
+        LogDto cached;
+        synchronized (documents) {
+            cached = documents.get(logId);
+        }
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return cached.toBuilder().build();
+    }
+
+    /**
+     * 로그 문서 저장 (ID 가 없는 문서는 무시)
+     */
+    public void put(LogDto logDto) {
+        if (logDto == null || !StringUtils.hasText(logDto.getLogId())) {
+            return;
+        }
+        LogDto copy = logDto.toBuilder().build();
+        synchronized (documents) {
+            documents.put(copy.getLogId(), copy);
+        }
+    }
+
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+}
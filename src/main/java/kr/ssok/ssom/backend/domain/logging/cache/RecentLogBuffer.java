@@ -0,0 +1,206 @@
+package kr.ssok.ssom.backend.domain.logging.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스(app)별 최근 ERROR/WARN 로그 링 버퍼
+ *      - 오픈서치 실시간 로그 웹훅으로 채우며, 서비스별 최근 capacity-per-app 건만 보관
+ *      - 로그 목록 첫 페이지를 OpenSearch 대신 메모리에서 응답하기 위해 사용
+ *      - 기동 이후 웹훅으로 받은 로그만 보관하므로, 요청한 페이지가 보관 범위 안에 있다고 확인될 때만 응답
+ *          보관 범위 : 기동 시각과 버퍼에서 밀려난 로그 중 가장 늦은 시각 이후
+ */
+@Slf4j
+@Component
+public class RecentLogBuffer {
+
+    private static final Set<String> BUFFERED_LEVELS = Set.of("ERROR", "WARN");
+    private static final int MAX_APPS = 100;
+
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator.comparingLong(Entry::timestampMillis)
+            .thenComparing(entry -> entry.log().getLogId())
+            .reversed();
+
+    private final boolean enabled;
+    private final int capacityPerApp;
+    private final long startedAt = System.currentTimeMillis();
+
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RecentLogBuffer(MeterRegistry meterRegistry,
+                           @Value("${logging.recent-buffer.enabled:true}") boolean enabled,
+                           @Value("${logging.recent-buffer.capacity-per-app:1000}") int capacityPerApp) {
+        this.enabled = enabled;
+        this.capacityPerApp = Math.max(1, capacityPerApp);
+
+        this.hitCounter = Counter.builder("logging.recent-buffer.reads")
+                .description("최근 로그 버퍼 첫 페이지 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("logging.recent-buffer.reads")
+                .description("최근 로그 버퍼 첫 페이지 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실시간 로그 추가 (ERROR/WARN 이면서 로그 ID 와 시각이 있는 로그만)
+     */
+    public void add(LogDto logDto) {
+        if (!enabled || logDto == null || !StringUtils.hasText(logDto.getLogId()) || !StringUtils.hasText(logDto.getApp())
+                || logDto.getLevel() == null || !BUFFERED_LEVELS.contains(logDto.getLevel().toUpperCase(Locale.ROOT))) {
+            return;
+        }
+
+        Long timestamp = parseTimestamp(logDto.getTimestamp());
+        if (timestamp == null) {
+            return;
+        }
+
+        Ring ring = rings.get(logDto.getApp());
+        if (ring == null) {
+            if (rings.size() >= MAX_APPS) {
+                log.debug("[최근 로그 버퍼] 서비스 수 한도 초과로 생략 : app = {}", logDto.getApp());
+                return;
+            }
+            ring = rings.computeIfAbsent(logDto.getApp(), k -> new Ring(capacityPerApp));
+        }
+        ring.add(new Entry(logDto.toBuilder().build(), timestamp));
+    }
+
+    /**
+     * 최신순 로그 조회 (목록 첫 페이지용)
+     *
+     * @param app 필터링 조건 (서비스, 없으면 전체)
+     * @param levels 필터링 조건 (로그 레벨 목록)
+     * @param fromMillis 조회 기간 시작 시각
+     * @param pageSize 페이지 크기
+     * @return 최신순 최대 pageSize + 1 건 (다음 페이지 확인용 1건 포함),
+     *         버퍼 보관 범위만으로 정확한 페이지를 만들 수 없으면 empty
+     */
+    public Optional<List<LogDto>> newest(String app, Collection<String> levels, long fromMillis, int pageSize) {
+        if (!enabled || !BUFFERED_LEVELS.containsAll(upper(levels))) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        Collection<Ring> targets;
+        if (StringUtils.hasText(app)) {
+            Ring ring = rings.get(app);
+            if (ring == null) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            targets = List.of(ring);
+        } else {
+            targets = rings.values();
+        }
+
+        // 1. 대상 버퍼에서 조건에 맞는 로그 수집
+        Set<String> levelSet = Set.copyOf(upper(levels));
+        long coveredAfter = startedAt;
+        List<Entry> matched = new ArrayList<>();
+        for (Ring ring : targets) {
+            coveredAfter = Math.max(coveredAfter, ring.collect(levelSet, fromMillis, matched));
+        }
+        matched.sort(NEWEST_FIRST);
+
+        // 2. 보관 범위 확인
+        //      pageSize + 1 건 이상 : pageSize 번째 로그가 보관 범위 안이면 정확한 첫 페이지
+        //      그 이하 : 조회 기간 전체가 보관 범위 안이면 전체 결과
+        boolean complete = matched.size() > pageSize
+                ? matched.get(pageSize - 1).timestampMillis() > coveredAfter
+                : coveredAfter < fromMillis;
+        if (!complete) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        return Optional.of(matched.stream()
+                .limit(pageSize + 1L)
+                .map(entry -> entry.log().toBuilder().build())
+                .toList());
+    }
+
+    /**
+     * 로그 시각 -> epoch millis (파싱 실패 시 null)
+     */
+    public static Long parseTimestamp(String timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(timestamp).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static List<String> upper(Collection<String> levels) {
+        return levels.stream().map(level -> level.toUpperCase(Locale.ROOT)).toList();
+    }
+
+    private record Entry(LogDto log, long timestampMillis) {
+    }
+
+    /**
+     * 서비스 1개의 고정 크기 링 버퍼
+     */
+    private static class Ring {
+        private final Entry[] entries;
+        private int next;
+        private int size;
+        private long evictedMaxTimestamp = Long.MIN_VALUE;
+
+        private Ring(int capacity) {
+            this.entries = new Entry[capacity];
+        }
+
+        private synchronized void add(Entry entry) {
+            Entry evicted = entries[next];
+            if (evicted != null) {
+                evictedMaxTimestamp = Math.max(evictedMaxTimestamp, evicted.timestampMillis());
+            }
+            entries[next] = entry;
+            next = (next + 1) % entries.length;
+            size = Math.min(size + 1, entries.length);
+        }
+
+        /**
+         * 조건에 맞는 로그를 result 에 추가
+         *
+         * @return 밀려난 로그 중 가장 늦은 시각 (이 시각 이후만 빠짐없이 보관)
+         */
+        private synchronized long collect(Set<String> levels, long fromMillis, List<Entry> result) {
+            for (int i = 0; i < size; i++) {
+                Entry entry = entries[i];
+                if (entry.timestampMillis() >= fromMillis
+                        && levels.contains(entry.log().getLevel().toUpperCase(Locale.ROOT))) {
+                    result.add(entry);
+                }
+            }
+            return evictedMaxTimestamp;
+        }
+    }
+}
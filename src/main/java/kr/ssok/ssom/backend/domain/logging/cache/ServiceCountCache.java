@@ -0,0 +1,182 @@
+package kr.ssok.ssom.backend.domain.logging.cache;
+
+import kr.ssok.ssom.backend.domain.logging.dto.ServiceDto;
+import kr.ssok.ssom.backend.domain.logging.dto.ServicesResponseDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서비스 목록(app별 로그 건수) 캐시
+ *      - 조회는 메모리에서 바로 응답 (OpenSearch terms 집계를 매 요청마다 수행하지 않음)
+ *      - 만료 전에 백그라운드에서 미리 갱신 (refresh-ahead)
+ *      - 만료 후에도 maxStale 이내면 기존 값을 응답하고 백그라운드 갱신 (stale-while-revalidate)
+ *      - 오픈서치 실시간 로그 웹훅 수신 시 app별 건수를 증분 반영
+ */
+@Slf4j
+@Component
+public class ServiceCountCache {
+
+    private final OpenSearchClient openSearchClient;
+    private final TaskExecutor taskExecutor;
+
+    private final long ttlMillis;
+    private final long maxStaleMillis;
+
+    // app -> 로그 건수 (갱신 시 맵 전체 교체)
+    private volatile Map<String, AtomicLong> counts;
+    private volatile long loadedAt;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final Object loadLock = new Object();
+
+    public ServiceCountCache(OpenSearchClient openSearchClient,
+                             @Qualifier("asyncTaskExecutor") TaskExecutor taskExecutor,
+                             @Value("${logging.services-cache.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${logging.services-cache.max-stale-seconds:3600}") long maxStaleSeconds) {
+        this.openSearchClient = openSearchClient;
+        this.taskExecutor = taskExecutor;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxStaleMillis = maxStaleSeconds * 1000L;
+    }
+
+    /**
+     * 서비스 목록 조회
+     *      최초 조회 또는 maxStale 초과 시에만 OpenSearch 를 동기 조회
+     */
+    public ServicesResponseDto get() {
+        long age = System.currentTimeMillis() - loadedAt;
+
+        if (counts == null || age > maxStaleMillis) {
+            synchronized (loadLock) {
+                // 대기 중 다른 스레드가 이미 적재했으면 그대로 사용
+                if (counts == null) {
+                    reload();
+                } else if (System.currentTimeMillis() - loadedAt > maxStaleMillis) {
+                    try {
+                        reload();
+                    } catch (BaseException e) {
+                        log.warn("[서비스 목록 캐시] 갱신 실패, 기존 값 응답 : error = {}", e.getMessage());
+                    }
+                }
+            }
+        } else if (age > ttlMillis) {
+            log.debug("[서비스 목록 캐시] 만료된 값 응답 후 백그라운드 갱신 : age = {}ms", age);
+            refreshAsync();
+        }
+
+        return toResponse(counts);
+    }
+
+    /**
+     * 실시간 로그 수신 시 app 로그 건수 증분 반영
+     *
+     * @param app 서비스명 (예: "ssok-bank")
+     */
+    public void increment(String app) {
+        Map<String, AtomicLong> current = counts;
+        if (current == null || app == null || app.isBlank()) {
+            return;
+        }
+        current.computeIfAbsent(app, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * 만료 전 백그라운드 갱신 (TTL의 80% 주기)
+     */
+    @Scheduled(initialDelayString = "${logging.services-cache.refresh-ahead-ms:240000}",
+               fixedDelayString = "${logging.services-cache.refresh-ahead-ms:240000}")
+    public void refreshAhead() {
+        if (counts != null) {
+            refreshAsync();
+        }
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    synchronized (loadLock) {
+                        reload();
+                    }
+                } catch (Exception e) {
+                    log.warn("[서비스 목록 캐시] 백그라운드 갱신 실패, 기존 값 유지 : error = {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (Exception e) {
+            refreshing.set(false);
+            log.warn("[서비스 목록 캐시] 백그라운드 갱신 요청 실패 : error = {}", e.getMessage());
+        }
+    }
+
+    private void reload() {
+        long start = System.currentTimeMillis();
+        counts = load();
+        loadedAt = System.currentTimeMillis();
+        log.info("[서비스 목록 캐시] 갱신 완료 : services = {}, took = {}ms", counts.size(), loadedAt - start);
+    }
+
+    /**
+     * OpenSearch terms 집계로 app별 로그 건수 조회
+     */
+    private Map<String, AtomicLong> load() {
+        try {
+            SearchRequest request = new SearchRequest.Builder()
+                    .index("ssok-app")
+                    .size(0)  // hits는 필요 없으므로 0으로
+                    .aggregations("apps", agg -> agg
+                            .terms(t -> t
+                                    .field("app.keyword")
+                                    .size(100)
+                            )
+                    )
+                    .build();
+
+            SearchResponse<Void> response = openSearchClient.search(request, Void.class);
+
+            Map<String, AtomicLong> result = new ConcurrentHashMap<>();
+
+            // "apps" aggregation 추출
+            var appsAgg = response.aggregations().get("apps").sterms();
+
+            for (StringTermsBucket bucket : appsAgg.buckets().array()) {
+                result.put(bucket.key(), new AtomicLong(bucket.docCount()));
+            }
+
+            return result;
+
+        } catch (IOException e) {
+            throw new BaseException(BaseResponseStatus.SERVICES_READ_FAILED);
+        }
+    }
+
+    private static ServicesResponseDto toResponse(Map<String, AtomicLong> current) {
+        List<ServiceDto> services = current.entrySet().stream()
+                .map(entry -> new ServiceDto(entry.getKey(), entry.getValue().get()))
+                .sorted(Comparator.comparingLong(ServiceDto::getCount).reversed())
+                .toList();
+        return new ServicesResponseDto(services);
+    }
+}
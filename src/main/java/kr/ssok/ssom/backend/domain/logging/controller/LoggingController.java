@@ -5,10 +5,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import kr.ssok.ssom.backend.domain.logging.dto.*;
 import kr.ssok.ssom.backend.domain.logging.service.LoggingService;
 import kr.ssok.ssom.backend.domain.user.security.principal.UserPrincipal;
+import kr.ssok.ssom.backend.global.dto.AsyncJobDto;
 import kr.ssok.ssom.backend.global.dto.LogSummaryMessageDto;
 import kr.ssok.ssom.backend.global.exception.BaseException;
 import kr.ssok.ssom.backend.global.exception.BaseResponse;
 import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.job.AsyncJobManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -18,6 +20,8 @@ import org.springframework.security.web.bind.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/logging")
@@ -25,6 +29,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class LoggingController {
 
     private final LoggingService loggingService;
+    private final AsyncJobManager asyncJobManager;
 
     // 서비스 목록 조회
     @GetMapping("/services")
@@ -37,30 +42,85 @@ public class LoggingController {
 
     }
 
-    // 로그 목록 조회
+    // 로그 목록 조회 (OpenSearch 응답을 기다리는 동안 요청 스레드 반환)
     @GetMapping
-    public ResponseEntity<BaseResponse<LogsResponseDto>> getLogs(@RequestParam(required = false) String app,
-                                                                 @RequestParam(required = false) String level) throws Exception {
-
-        log.info("로그 목록 조회 요청: app={}, level={}", app, level);
-        LogsResponseDto response = loggingService.getLogs(app, level);
+    public CompletableFuture<ResponseEntity<BaseResponse<LogsResponseDto>>> getLogs(
+            @RequestParam(required = false) String app,
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean compact) {
 
-        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response));
+        log.info("로그 목록 조회 요청: app={}, level={}, size={}, compact={}, hasCursor={}", app, level, size, compact, cursor != null);
 
+        return loggingService.getLogs(app, level, cursor, size, compact)
+                .thenApply(response -> ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response)));
     }
 
     // 로그 목록 조회 (무한 스크롤 방식)
     @GetMapping("/infinitescroll")
-    public ResponseEntity<BaseResponse<LogsScrollResponseDto>> getLogsInfiniteScroll(
+    public CompletableFuture<ResponseEntity<BaseResponse<LogsScrollResponseDto>>> getLogsInfiniteScroll(
             @RequestParam(required = false) String app,
             @RequestParam(required = false) String level,
             @RequestParam(required = false) String searchAfterTimestamp,
-            @RequestParam(required = false) String searchAfterId) throws Exception {
+            @RequestParam(required = false) String searchAfterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        log.info("로그 목록 조회 요청: app={}, level={}, searchAfterTimestamp={}, searchAfterId={}, hasCursor={}",
+                app, level, searchAfterTimestamp, searchAfterId, cursor != null);
+
+        return loggingService.getLogsInfiniteScroll(app, level, searchAfterTimestamp, searchAfterId, cursor, size)
+                .thenApply(response -> ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response)));
+    }
 
-        log.info("로그 목록 조회 요청: app={}, level={}, searchAfterTimestamp={}, searchAfterId={}",
-                app, level, searchAfterTimestamp, searchAfterId);
+    // 로그 그룹 조회 (메시지 지문 기준)
+    @GetMapping("/groups")
+    public CompletableFuture<ResponseEntity<BaseResponse<LogGroupsResponseDto>>> getLogGroups(
+            @RequestParam(required = false) String app,
+            @RequestParam(required = false) String level,
+            @RequestParam(defaultValue = "24") int hours,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        log.info("로그 그룹 조회 요청: app={}, level={}, hours={}, limit={}", app, level, hours, limit);
+        return loggingService.getLogGroups(app, level, hours, limit)
+                .thenApply(response -> ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response)));
+    }
 
-        LogsScrollResponseDto response = loggingService.getLogsInfiniteScroll(app, level, searchAfterTimestamp, searchAfterId);
+    // 시간 구간별 로그 건수 조회 (대시보드 그래프용)
+    @GetMapping("/histogram")
+    public CompletableFuture<ResponseEntity<BaseResponse<LogHistogramResponseDto>>> getLogHistogram(
+            @RequestParam(required = false) String app,
+            @RequestParam(required = false) String level,
+            @RequestParam(defaultValue = "5m") String interval,
+            @RequestParam(defaultValue = "24") int hours) {
+
+        log.info("로그 히스토그램 조회 요청: app={}, level={}, interval={}, hours={}", app, level, interval, hours);
+        return loggingService.getLogHistogram(app, level, interval, hours)
+                .thenApply(response -> ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response)));
+    }
+
+    // 로그 내보내기 (NDJSON 스트리밍, gzip=true 이면 gzip 압축)
+    @GetMapping("/export")
+    public void exportLogs(
+            @RequestParam(required = false) String app,
+            @RequestParam(required = false) String level,
+            @RequestParam(defaultValue = "24") int hours,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+
+        log.info("로그 내보내기 요청: app={}, level={}, hours={}, gzip={}", app, level, hours, gzip);
+        loggingService.exportLogs(app, level, hours, gzip, response);
+    }
+
+    // 실시간 로그 템플릿 조회
+    @GetMapping("/templates")
+    public ResponseEntity<BaseResponse<LogTemplatesResponseDto>> getLogTemplates(
+            @RequestParam(required = false) String app,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        log.info("로그 템플릿 조회 요청: app={}, limit={}", app, limit);
+        LogTemplatesResponseDto response = loggingService.getLogTemplates(app, limit);
 
         return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response));
     }
@@ -81,6 +141,7 @@ public class LoggingController {
     public SseEmitter subscribe(@Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
                                 @RequestParam(value = "app", required = false) String appFilter,
                                 @RequestParam(value = "level", required = false) String levelFilter,
+                                @RequestParam(value = "mode", defaultValue = "raw") String mode,
                                 HttpServletResponse response) {
         
         // 인증되지 않은 사용자 처리
@@ -89,17 +150,16 @@ public class LoggingController {
             throw new BaseException(BaseResponseStatus.UNAUTHORIZED);
         }
         
-        return loggingService.subscribe(userPrincipal.getEmployeeId(), appFilter, levelFilter, response);
+        return loggingService.subscribe(userPrincipal.getEmployeeId(), appFilter, levelFilter, mode, response);
     }
 
-    // 로그 상세 조회 - 이전에 생성한 LLM 요약 반환
+    // 로그 상세 조회 - 이전에 생성한 LLM 요약 반환 (OpenSearch 응답을 기다리는 동안 요청 스레드 반환)
     @GetMapping("/analysis/{logId}")
-    public ResponseEntity<BaseResponse<LogSummaryMessageDto>> getLogAnalysisInfo(@PathVariable String logId) {
+    public CompletableFuture<ResponseEntity<BaseResponse<LogSummaryMessageDto>>> getLogAnalysisInfo(@PathVariable String logId) {
 
         log.info("로그 상세 조회 요청 - 이전에 생성한 LLM 요약 반환(logId: {})", logId);
-        LogSummaryMessageDto response = loggingService.getLogAnalysisInfo(logId);
-
-        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response));
+        return loggingService.getLogAnalysisInfo(logId)
+                .thenApply(response -> ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response)));
     }
 
     // 로그 상세 조회 - 새롭게 생성한 로그 LLM 요약 반환
@@ -113,14 +173,27 @@ public class LoggingController {
 
     }
 
+    // 로그 LLM 요약 비동기 요청 - 작업 ID 즉시 반환, 결과는 /api/jobs/{jobId} 조회 또는 SSE(LLM_JOB) 수신
+    @PostMapping("/analysis/jobs")
+    public ResponseEntity<BaseResponse<AsyncJobDto>> submitLogAnalysisJob(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody LogDto request) {
+
+        log.info("LLM 요약 비동기 요청(logId: {})", request.getLogId());
+        AsyncJobDto response = asyncJobManager.submit(userPrincipal.getEmployeeId(), "LOG_ANALYSIS",
+                () -> loggingService.analyzeLog(request));
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new BaseResponse<>(BaseResponseStatus.SUCCESS, response));
+    }
+
     // 로그 상세 조회
     @GetMapping("/{logId}")
-    public ResponseEntity<BaseResponse<LogDto>> getLogInfo(@PathVariable String logId) {
+    public CompletableFuture<ResponseEntity<BaseResponse<LogDto>>> getLogInfo(@PathVariable String logId) {
 
         log.info("로그 상세 조회 요청 (logId: {})", logId);
-        LogDto response = loggingService.getLogById(logId);
 
-        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response));
+        return loggingService.getLogById(logId)
+                .thenApply(response -> ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response)));
     }
 
 }
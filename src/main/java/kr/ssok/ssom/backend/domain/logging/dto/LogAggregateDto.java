@@ -0,0 +1,22 @@
+package kr.ssok.ssom.backend.domain.logging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그 SSE 샘플링 모드에서 원문 전송을 생략한 로그 건수
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogAggregateDto {
+    private String app;             // 서비스명 (예: "ssok-bank")
+    private String level;           // 로그 레벨 (예: "ERROR")
+    private long count;             // 집계 주기 동안 생략한 로그 건수 (예: 842)
+    private long periodMillis;      // 집계 주기 (예: 1000)
+    private String sampleMessage;   // 생략한 로그 중 마지막 원문 메시지
+    private String summary;         // 표시용 요약 (예: "최근 1000ms 동안 유사 로그 +842건")
+}
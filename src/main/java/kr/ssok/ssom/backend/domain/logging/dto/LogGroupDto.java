@@ -0,0 +1,25 @@
+package kr.ssok.ssom.backend.domain.logging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지 지문 기준으로 묶은 로그 그룹
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogGroupDto {
+    private String fingerprint;     // 메시지 지문 (예: "9f86d081884c7d65")
+    private String template;        // 가변 값을 마스킹한 메시지 (예: "Transfer failed: account <NUM>")
+    private long count;             // 그룹에 속한 로그 수
+    private String firstSeen;       // 최초 발생 시각 (예: "2025-05-30T07:24:06.396Z")
+    private String lastSeen;        // 최근 발생 시각
+    private String level;           // 최근 로그의 레벨
+    private String app;             // 최근 로그의 서비스명
+    private String sampleLogId;     // 최근 로그 ID (상세 조회용)
+    private String sampleMessage;   // 최근 로그 원문 메시지
+}
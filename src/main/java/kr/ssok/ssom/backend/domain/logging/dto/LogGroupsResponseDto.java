@@ -0,0 +1,19 @@
+package kr.ssok.ssom.backend.domain.logging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogGroupsResponseDto {
+    private List<LogGroupDto> groups;
+    private long totalCount;        // 그룹에 포함된 전체 로그 수
+    private boolean truncated;      // 메시지 종류가 집계 버킷 수를 넘어 일부 로그가 그룹에서 빠졌는지 여부
+    private long otherCount;        // 그룹에서 빠진 로그 수 (truncated 가 false 면 0)
+}
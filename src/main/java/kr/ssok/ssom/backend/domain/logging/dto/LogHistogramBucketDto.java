@@ -0,0 +1,21 @@
+package kr.ssok.ssom.backend.domain.logging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 로그 건수 히스토그램의 시간 구간 1개
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogHistogramBucketDto {
+    private String timestamp;               // 구간 시작 시각 (예: "2025-05-30T07:25:00Z")
+    private long count;                     // 구간 내 전체 로그 수
+    private List<LogVolumeDto> volumes;     // 서비스, 레벨별 로그 수
+}
@@ -0,0 +1,18 @@
+package kr.ssok.ssom.backend.domain.logging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogHistogramResponseDto {
+    private String interval;                        // 구간 크기 (예: "5m")
+    private List<LogHistogramBucketDto> buckets;    // 시간순 구간 목록 (로그가 없는 구간은 제외)
+    private long totalCount;                        // 조회 기간 전체 로그 수
+}
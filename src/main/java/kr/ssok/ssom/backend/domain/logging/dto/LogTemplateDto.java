@@ -0,0 +1,25 @@
+package kr.ssok.ssom.backend.domain.logging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실시간 로그에서 학습한 메시지 템플릿
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogTemplateDto {
+    private String templateId;      // 템플릿 ID (예: "ssok-bank#12")
+    private String app;             // 서비스명 (예: "ssok-bank")
+    private String template;        // 템플릿 (예: "Transfer failed: account <*> insufficient balance")
+    private long count;             // 누적 발생 건수
+    private long delta;             // 직전 SSE 전송 이후 발생 건수 (SSE 갱신 이벤트에서만 사용)
+    private double ratePerMinute;   // 최근 1분 발생 건수
+    private String level;           // 최근 로그의 레벨
+    private String lastSeen;        // 최근 발생 시각 (예: "2025-05-30T07:24:06.396Z")
+    private String sampleMessage;   // 최근 로그 원문 메시지
+}
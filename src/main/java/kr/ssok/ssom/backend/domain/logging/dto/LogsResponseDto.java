@@ -13,4 +13,6 @@ import java.util.List;
 @AllArgsConstructor
 public class LogsResponseDto {
     private List<LogDto> logs;
+    private String nextCursor;  // 다음 페이지 연속 토큰 (마지막 페이지면 null)
+    private boolean hasNext;    // 다음 페이지 존재 여부
 }
@@ -15,4 +15,6 @@ public class LogsScrollResponseDto {
     private List<LogDto> logs;
     private String lastTimestamp;
     private String lastLogId;
+    private String nextCursor;  // 다음 페이지 연속 토큰 (마지막 페이지면 null)
+    private boolean hasNext;    // 다음 페이지 존재 여부
 }
@@ -3,13 +3,18 @@ package kr.ssok.ssom.backend.domain.logging.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_log_summary_fingerprint", columnList = "message_fingerprint")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -20,10 +25,18 @@ public class LogSummary {
     @Lob
     private String logMessage;
 
+    // 가변 값을 마스킹한 메시지 지문 (LogMessageFingerprint.of), 값만 다른 로그끼리 요약 공유
+    @Column(name = "message_fingerprint", length = 16)
+    private String messageFingerprint;
+
     private String summary;
     private String fileLocation;
     private String functionLocation;
     private String solution;
     @Lob
     private String solutionDetail;
+
+    public void assignFingerprint(String messageFingerprint) {
+        this.messageFingerprint = messageFingerprint;
+    }
 }
@@ -0,0 +1,56 @@
+package kr.ssok.ssom.backend.domain.logging.migration;
+
+import kr.ssok.ssom.backend.domain.logging.entity.LogSummary;
+import kr.ssok.ssom.backend.domain.logging.repository.LogSummaryRepository;
+import kr.ssok.ssom.backend.global.util.LogMessageFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * LogSummary 메시지 지문 백필
+ *      message_fingerprint 컬럼 추가 이전에 저장된 행에 지문을 채움
+ *      애플리케이션 시작 시 500건씩 처리하며, 채울 행이 없으면 조회 1회로 끝남
+ */
+@Slf4j
+@Component
+public class LogSummaryFingerprintBackfill implements ApplicationRunner {
+
+    private final LogSummaryRepository logSummaryRepository;
+    private final boolean enabled;
+
+    public LogSummaryFingerprintBackfill(LogSummaryRepository logSummaryRepository,
+                                         @Value("${logging.summary.fingerprint-backfill.enabled:true}") boolean enabled) {
+        this.logSummaryRepository = logSummaryRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        int total = 0;
+        try {
+            List<LogSummary> batch;
+            while (!(batch = logSummaryRepository.findTop500ByMessageFingerprintIsNull()).isEmpty()) {
+                batch.forEach(summary -> summary.assignFingerprint(LogMessageFingerprint.of(summary.getLogMessage())));
+                logSummaryRepository.saveAll(batch);
+                total += batch.size();
+            }
+        } catch (Exception e) {
+            // 백필 실패 시 해당 행은 지문 조회에 걸리지 않을 뿐이므로 기동은 계속 진행
+            log.error("[LogSummary 지문 백필] 처리 중 오류 발생 : 처리 건수 = {}, error = {}", total, e.getMessage(), e);
+            return;
+        }
+
+        if (total > 0) {
+            log.info("[LogSummary 지문 백필] 완료 : 처리 건수 = {}", total);
+        }
+    }
+}
@@ -3,11 +3,15 @@ package kr.ssok.ssom.backend.domain.logging.repository;
 import kr.ssok.ssom.backend.domain.logging.entity.LogSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LogSummaryRepository extends JpaRepository<LogSummary, String> {
 
     Optional<LogSummary> findByLogId(String logId);
 
-    Optional<LogSummary> findByLogMessage(String logMessage);
+    Optional<LogSummary> findFirstByMessageFingerprint(String messageFingerprint);
+
+    // 지문 컬럼 추가 이전에 저장된 행 (백필 대상)
+    List<LogSummary> findTop500ByMessageFingerprintIsNull();
 }
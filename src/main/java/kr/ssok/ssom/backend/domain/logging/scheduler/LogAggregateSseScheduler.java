@@ -0,0 +1,28 @@
+package kr.ssok.ssom.backend.domain.logging.scheduler;
+
+import kr.ssok.ssom.backend.domain.logging.service.LoggingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 SSE 샘플링 모드 구독자에게 생략한 로그 건수를 주기적으로 전송하는 스케줄러
+ * 주기마다 구독자별 전송량을 다시 확인하여 원문 전송 모드 복귀 여부도 결정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogAggregateSseScheduler {
+
+    private final LoggingService loggingService;
+
+    @Scheduled(fixedRateString = "${logging.sse.rate.aggregate-interval-ms:1000}")
+    public void sendLogAggregates() {
+        try {
+            loggingService.sendLogAggregates();
+        } catch (Exception e) {
+            log.error("[로그 SSE 생략 건수] 전송 작업 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
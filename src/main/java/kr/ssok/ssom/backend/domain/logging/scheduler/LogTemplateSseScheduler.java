@@ -0,0 +1,28 @@
+package kr.ssok.ssom.backend.domain.logging.scheduler;
+
+import kr.ssok.ssom.backend.domain.logging.service.LoggingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 템플릿 모드 SSE 구독자에게 변경된 로그 템플릿을 주기적으로 전송하는 스케줄러
+ * 로그 1건마다 전송하지 않고 주기마다 템플릿별 증가 건수만 묶어서 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogTemplateSseScheduler {
+
+    private final LoggingService loggingService;
+
+    @Scheduled(fixedDelayString = "${logging.template.sse-interval-ms:5000}")
+    public void sendTemplateUpdates() {
+        try {
+            loggingService.sendTemplateUpdates();
+        } catch (Exception e) {
+            log.error("[로그 템플릿 SSE] 전송 작업 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
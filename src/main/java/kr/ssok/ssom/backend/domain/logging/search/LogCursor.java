@@ -0,0 +1,55 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 로그 목록 조회 연속 토큰 (continuation token)
+ *      - pitId : OpenSearch point-in-time ID (PIT 없이 조회한 경우 null)
+ *      - sortValues : 마지막 로그의 정렬 값 (@timestamp, _id) -> search_after 에 그대로 사용
+ *      클라이언트에는 base64url 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class LogCursor {
+
+    private static final String DELIMITER = "\n";
+
+    private final String pitId;
+    private final List<String> sortValues;
+
+    /**
+     * 기존 무한 스크롤 파라미터(searchAfterTimestamp, searchAfterId)로 커서 생성 (PIT 없음)
+     */
+    public static LogCursor ofSearchAfter(String timestamp, String logId) {
+        return new LogCursor(null, List.of(timestamp, logId));
+    }
+
+    public boolean hasPit() {
+        return pitId != null && !pitId.isEmpty();
+    }
+
+    public String encode() {
+        String raw = (pitId == null ? "" : pitId) + DELIMITER + String.join(DELIMITER, sortValues);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LogCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, -1);
+            if (parts.length != 3) {
+                throw new BaseException(BaseResponseStatus.INVALID_LOG_CURSOR);
+            }
+            return new LogCursor(parts[0].isEmpty() ? null : parts[0], List.of(parts[1], parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_LOG_CURSOR);
+        }
+    }
+}
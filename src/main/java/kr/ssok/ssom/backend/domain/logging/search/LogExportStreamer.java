@@ -0,0 +1,244 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDataDto;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.SortOptions;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.pit.CreatePitRequest;
+import org.opensearch.client.opensearch.core.pit.DeletePitRequest;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 로그 NDJSON 내보내기 (point-in-time + search_after)
+ *      - 페이지를 하나 조회해 출력 스트림에 쓴 뒤 다음 페이지를 조회하므로 내보내는 줄 수와 관계없이 메모리 사용량이 일정
+ *      - 출력 스트림 쓰기가 끝나야 다음 페이지를 조회하여, 느린 클라이언트에 맞춰 OpenSearch 조회 속도가 조절됨
+ *      - 클라이언트 연결이 끊기면(쓰기 IOException) 즉시 중단하고 PIT 정리
+ *      - 응답 상태(200)를 이미 보냈으므로 불완전한 내보내기는 마지막 줄로 알림
+ *          페이지 조회 실패 : {"error":"LOGS_READ_FAILED","lines":N} 을 쓰고 gzip 트레일러 없이 중단 (압축 해제 시 오류)
+ *          최대 줄 수 초과 : {"truncated":true,"lines":N} 을 쓰고 정상 종료
+ *      - 목록 조회와 달리 연속 중복 메시지를 제거하지 않고 오래된 로그부터 모두 내보냄
+ */
+@Slf4j
+@Component
+public class LogExportStreamer {
+
+    private static final String[] FIELDS = {"@timestamp", "level", "logger", "thread", "message", "app"};
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OpenSearchClient openSearchClient;
+    private final ObjectMapper objectMapper;
+    private final LogQueryCompiler queryCompiler;
+
+    private final int pageSize;
+    private final long maxLines;
+    private final String pitKeepAlive;
+    private final Semaphore permits;
+
+    public LogExportStreamer(OpenSearchClient openSearchClient,
+                             ObjectMapper objectMapper,
+                             LogQueryCompiler queryCompiler,
+                             @Value("${logging.export.page-size:1000}") int pageSize,
+                             @Value("${logging.export.max-lines:5000000}") long maxLines,
+                             @Value("${logging.export.pit-keep-alive:2m}") String pitKeepAlive,
+                             @Value("${logging.export.max-concurrent:2}") int maxConcurrent) {
+        this.openSearchClient = openSearchClient;
+        this.objectMapper = objectMapper;
+        this.queryCompiler = queryCompiler;
+        this.pageSize = pageSize;
+        this.maxLines = maxLines;
+        this.pitKeepAlive = pitKeepAlive;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 동시 내보내기 수 제한 확인 - 응답 헤더를 쓰기 전에 호출
+     *
+     * @throws BaseException 동시 내보내기 수 초과 시 LOG_EXPORT_BUSY
+     */
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            throw new BaseException(BaseResponseStatus.LOG_EXPORT_BUSY);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 내보내기 조회 조건 - 시작 시각을 고정하여 모든 페이지에 같은 시간 범위 적용
+     *
+     * @param app 필터링 조건 (서비스, 없으면 전체)
+     * @param level 필터링 조건 (로그 레벨, 없으면 전체)
+     * @param hours 조회 기간 (최근 N시간, 최대 logging.query.max-window-hours)
+     */
+    public LogQueryCompiler.LogQuery query(String app, String level, int hours) {
+        return queryCompiler.compile(app, LogQueryCompiler.levels(level, List.of()), hours);
+    }
+
+    /**
+     * 내보내기용 PIT 생성 (조회 기간에 해당하는 인덱스 대상) - 실패하면 아직 응답을 쓰지 않았으므로 일반 오류 응답으로 처리
+     *
+     * @return PIT ID
+     */
+    public String openPit(LogQueryCompiler.LogQuery query) {
+        try {
+            return openSearchClient.createPit(new CreatePitRequest.Builder()
+                    .targetIndexes(query.indices())
+                    .keepAlive(Time.of(t -> t.time(pitKeepAlive)))
+                    .build()).pitId();
+        } catch (Exception e) {
+            log.error("[로그 내보내기] PIT 생성 실패 : error = {}", e.getMessage());
+            throw new BaseException(BaseResponseStatus.LOGS_READ_FAILED);
+        }
+    }
+
+    /**
+     * 조건에 맞는 로그를 NDJSON 으로 출력 스트림에 기록 (종료 시 PIT 정리)
+     *
+     * @param pitId openPit 으로 생성한 PIT ID
+     * @param query query 로 만든 조회 조건
+     * @param gzip gzip 압축 여부
+     * @param out 출력 스트림 (호출자가 닫음)
+     * @return 기록한 줄 수 (최대 줄 수 초과 표시 줄 제외)
+     * @throws IOException 클라이언트 연결 종료 등 쓰기 실패, 또는 페이지 조회 실패로 중단
+     */
+    public long export(String pitId, LogQueryCompiler.LogQuery query, boolean gzip, OutputStream out) throws IOException {
+        long lines = 0;
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(out, BUFFER_SIZE, true) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip ? gzipStream : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            List<String> searchAfter = null;
+            boolean truncated = false;
+            pages:
+            while (true) {
+                // 1. 한 페이지 조회
+                SearchResponse<LogDataDto> response;
+                try {
+                    response = openSearchClient.search(buildRequest(query, pitId, searchAfter), LogDataDto.class);
+                } catch (Exception e) {
+                    // 이미 일부를 전송하여 오류 응답으로 바꿀 수 없음 -> 오류 줄을 남기고 gzip 을 마무리하지 않은 채 중단
+                    log.error("[로그 내보내기] 페이지 조회 실패, 내보내기 중단 : lines = {}, error = {}", lines, e.getMessage());
+                    writeMarker(writer, "error", BaseResponseStatus.LOGS_READ_FAILED.name(), lines);
+                    throw new IOException("로그 페이지 조회 실패 : " + e.getMessage(), e);
+                }
+                if (response.pitId() != null) {
+                    pitId = response.pitId();
+                }
+
+                List<Hit<LogDataDto>> hits = response.hits().hits();
+                if (hits.isEmpty()) {
+                    break;
+                }
+
+                // 2. 페이지 기록 후 flush (클라이언트가 받을 때까지 블로킹)
+                for (Hit<LogDataDto> hit : hits) {
+                    if (hit.source() == null) {
+                        continue;
+                    }
+                    if (lines >= maxLines) {
+                        truncated = true;
+                        break pages;
+                    }
+                    writer.write(objectMapper.writeValueAsString(toDto(hit)));
+                    writer.write('\n');
+                    lines++;
+                }
+                writer.flush();
+
+                if (hits.size() < pageSize) {
+                    break;
+                }
+                searchAfter = hits.get(hits.size() - 1).sort();
+            }
+
+            if (truncated) {
+                log.warn("[로그 내보내기] 최대 줄 수 초과로 일부만 내보냄 : lines = {}", lines);
+                writeMarker(writer, "truncated", true, lines);
+            }
+
+            writer.flush();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+            return lines;
+        } catch (IOException e) {
+            log.info("[로그 내보내기] 전송 중단 : lines = {}, error = {}", lines, e.getMessage());
+            throw e;
+        } finally {
+            closePit(pitId);
+        }
+    }
+
+    /**
+     * 내보내기 상태 표시 줄 기록 (예: {"truncated":true,"lines":5000000})
+     */
+    private void writeMarker(Writer writer, String key, Object value, long lines) throws IOException {
+        Map<String, Object> marker = new LinkedHashMap<>();
+        marker.put(key, value);
+        marker.put("lines", lines);
+        writer.write(objectMapper.writeValueAsString(marker));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    private SearchRequest buildRequest(LogQueryCompiler.LogQuery query, String pitId, List<String> searchAfter) {
+        SearchRequest.Builder builder = query.applyTo(new SearchRequest.Builder(), false)
+                .sort(List.of(
+                        new SortOptions.Builder().field(f -> f.field("@timestamp").order(SortOrder.Asc)).build(),
+                        new SortOptions.Builder().field(f -> f.field("_id").order(SortOrder.Asc)).build()))
+                .source(s -> s.filter(f -> f.includes(List.of(FIELDS))))
+                .trackTotalHits(t -> t.enabled(false))
+                .pit(p -> p.id(pitId).keepAlive(pitKeepAlive))
+                .size(pageSize);
+
+        if (searchAfter != null) {
+            builder.searchAfter(searchAfter);
+        }
+
+        return builder.build();
+    }
+
+    private void closePit(String pitId) {
+        try {
+            openSearchClient.deletePit(new DeletePitRequest.Builder().pitId(List.of(pitId)).build());
+        } catch (Exception e) {
+            log.debug("[로그 내보내기] PIT 정리 실패 : error = {}", e.getMessage());
+        }
+    }
+
+    private static LogDto toDto(Hit<LogDataDto> hit) {
+        LogDataDto source = hit.source();
+        return LogDto.builder()
+                .logId(hit.id())
+                .app(source.getApp())
+                .timestamp(source.getTimestamp())
+                .level(source.getLevel())
+                .logger(source.getLogger())
+                .thread(source.getThread())
+                .message(source.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import kr.ssok.ssom.backend.domain.logging.dto.LogDataDto;
+import kr.ssok.ssom.backend.domain.logging.dto.LogGroupDto;
+import kr.ssok.ssom.backend.domain.logging.dto.LogGroupsResponseDto;
+import kr.ssok.ssom.backend.global.client.OpenSearchCallTimer;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.util.LogMessageFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch._types.aggregations.Aggregate;
+import org.opensearch.client.opensearch._types.aggregations.StringTermsAggregate;
+import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 로그 메시지 그룹 조회
+ *      1. OpenSearch terms 집계로 메시지 원문별 건수, 최초/최근 발생 시각, 최근 로그 1건을 조회
+ *      2. 원문을 지문(숫자, UUID, ID 마스킹)으로 정규화하여 같은 지문끼리 합침
+ *      수천 건의 반복 로그를 그룹당 한 줄로 반환하여 장애 상황에서 응답 크기를 줄임
+ *
+ * 집계 필드(logging.grouping.field)는 keyword 타입이어야 하며,
+ * keyword 의 ignore_above 를 넘는 긴 메시지는 집계에서 제외됨
+ *
+ * 원문 메시지 종류가 버킷 수(logging.grouping.bucket-size)를 넘으면 나머지 로그는 그룹에 포함되지 않으며,
+ * 응답의 truncated / otherCount 로 알림. 수집 단계에서 지문 필드(예: message_fingerprint)를 색인했다면
+ * logging.grouping.field 로 지정하여 지문 단위로 집계할 수 있음 (템플릿은 각 버킷의 최근 로그 메시지로 계산)
+ */
+@Slf4j
+@Component
+public class LogGroupSearcher {
+
+    private static final int MAX_GROUPS = 500;
+    private static final List<String> DEFAULT_LEVELS = List.of("ERROR", "WARN");
+
+    private final OpenSearchAsyncClient openSearchAsyncClient;
+    private final OpenSearchCallTimer callTimer;
+    private final LogQueryCompiler queryCompiler;
+
+    private final String groupingField;
+    private final int bucketSize;
+
+    public LogGroupSearcher(OpenSearchAsyncClient openSearchAsyncClient,
+                            OpenSearchCallTimer callTimer,
+                            LogQueryCompiler queryCompiler,
+                            @Value("${logging.grouping.field:message.keyword}") String groupingField,
+                            @Value("${logging.grouping.bucket-size:2000}") int bucketSize) {
+        this.openSearchAsyncClient = openSearchAsyncClient;
+        this.callTimer = callTimer;
+        this.queryCompiler = queryCompiler;
+        this.groupingField = groupingField;
+        this.bucketSize = bucketSize;
+    }
+
+    /**
+     * 지문 기준 로그 그룹 조회
+     *
+     * @param app 필터링 조건 (서비스)
+     * @param level 필터링 조건 (로그 레벨, 없으면 ERROR + WARN)
+     * @param hours 조회 기간 (최근 N시간, 최대 logging.query.max-window-hours)
+     * @param limit 반환할 최대 그룹 수 (건수 많은 순)
+     * @return 로그 그룹 목록 (실패 시 LOGS_READ_FAILED)
+     */
+    public CompletableFuture<LogGroupsResponseDto> search(String app, String level, int hours, int limit) {
+        return callTimer.execute("search_groups", () -> openSearchAsyncClient.search(buildRequest(app, level, hours), Void.class))
+                .thenApply(response -> toGroups(response, app, level, limit))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("[로그 그룹 조회] OpenSearch 조회 실패 : app = {}, level = {}, error = {}", app, level, cause.getMessage());
+                    throw new BaseException(BaseResponseStatus.LOGS_READ_FAILED);
+                });
+    }
+
+    private LogGroupsResponseDto toGroups(SearchResponse<Void> response, String app, String level, int limit) {
+        // 원문 메시지(또는 지문) 버킷을 지문 기준으로 합침
+        StringTermsAggregate messages = response.aggregations().get("messages").sterms();
+        Map<String, GroupAccumulator> groups = new LinkedHashMap<>();
+        for (StringTermsBucket bucket : messages.buckets().array()) {
+            LogDataDto sample = sampleOf(bucket);
+            String message = sample != null && sample.getMessage() != null ? sample.getMessage() : bucket.key();
+            String template = LogMessageFingerprint.template(message);
+            groups.computeIfAbsent(template, GroupAccumulator::new).add(bucket, sample);
+        }
+
+        // 버킷 수 한도 밖의 로그 수
+        long otherCount = messages.sumOtherDocCount();
+
+        List<LogGroupDto> result = groups.values().stream()
+                .sorted(Comparator.comparingLong((GroupAccumulator g) -> g.count).reversed())
+                .limit(Math.max(1, Math.min(limit, MAX_GROUPS)))
+                .map(GroupAccumulator::toDto)
+                .toList();
+
+        long totalCount = groups.values().stream().mapToLong(g -> g.count).sum();
+
+        log.info("[로그 그룹 조회] app = {}, level = {}, buckets = {}, groups = {}, otherCount = {}",
+                app, level, groups.values().stream().mapToInt(g -> g.bucketCount).sum(), groups.size(), otherCount);
+
+        return new LogGroupsResponseDto(result, totalCount, otherCount > 0, otherCount);
+    }
+
+    /**
+     * 버킷의 최근 로그 1건
+     */
+    private static LogDataDto sampleOf(StringTermsBucket bucket) {
+        List<Hit<JsonData>> hits = bucket.aggregations().get("latest").topHits().hits().hits();
+        if (hits.isEmpty() || hits.get(0).source() == null) {
+            return null;
+        }
+        return hits.get(0).source().to(LogDataDto.class);
+    }
+
+    private SearchRequest buildRequest(String app, String level, int hours) {
+        // level이 없으면 기본적으로 ERROR + WARN
+        LogQueryCompiler.LogQuery query = queryCompiler.compile(app, LogQueryCompiler.levels(level, DEFAULT_LEVELS), hours);
+
+        return query.applyTo(new SearchRequest.Builder(), true)
+                .size(0)  // hits는 필요 없으므로 0으로
+                .aggregations("messages", agg -> agg
+                        .terms(t -> t.field(groupingField).size(bucketSize))
+                        .aggregations("first_seen", sub -> sub.min(m -> m.field("@timestamp")))
+                        .aggregations("last_seen", sub -> sub.max(m -> m.field("@timestamp")))
+                        .aggregations("latest", sub -> sub.topHits(th -> th
+                                .size(1)
+                                .sort(s -> s.field(f -> f.field("@timestamp").order(SortOrder.Desc)))
+                                .source(src -> src.filter(sf -> sf.includes("@timestamp", "level", "message", "app")))
+                        ))
+                )
+                .build();
+    }
+
+    /**
+     * 같은 지문을 가진 버킷 합산
+     */
+    private static class GroupAccumulator {
+        private final String template;
+        private long count;
+        private int bucketCount;
+        private double firstSeen = Double.MAX_VALUE;
+        private double lastSeen = Double.NEGATIVE_INFINITY;
+        private String sampleLogId;
+        private LogDataDto sample;
+
+        private GroupAccumulator(String template) {
+            this.template = template;
+        }
+
+        private void add(StringTermsBucket bucket, LogDataDto bucketSample) {
+            count += bucket.docCount();
+            bucketCount++;
+
+            Map<String, Aggregate> aggs = bucket.aggregations();
+            firstSeen = Math.min(firstSeen, aggs.get("first_seen").min().value());
+
+            double bucketLastSeen = aggs.get("last_seen").max().value();
+            if (bucketLastSeen > lastSeen) {
+                lastSeen = bucketLastSeen;
+
+                if (bucketSample != null) {
+                    sampleLogId = aggs.get("latest").topHits().hits().hits().get(0).id();
+                    sample = bucketSample;
+                }
+            }
+        }
+
+        private LogGroupDto toDto() {
+            return LogGroupDto.builder()
+                    .fingerprint(LogMessageFingerprint.hash(template))
+                    .template(template)
+                    .count(count)
+                    .firstSeen(Instant.ofEpochMilli((long) firstSeen).toString())
+                    .lastSeen(Instant.ofEpochMilli((long) lastSeen).toString())
+                    .level(sample != null ? sample.getLevel() : null)
+                    .app(sample != null ? sample.getApp() : null)
+                    .sampleLogId(sampleLogId)
+                    .sampleMessage(sample != null ? sample.getMessage() : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import kr.ssok.ssom.backend.domain.logging.dto.LogHistogramBucketDto;
+import kr.ssok.ssom.backend.domain.logging.dto.LogHistogramResponseDto;
+import kr.ssok.ssom.backend.domain.logging.dto.LogVolumeDto;
+import kr.ssok.ssom.backend.global.client.OpenSearchCallTimer;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch._types.aggregations.DateHistogramBucket;
+import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 로그 건수 히스토그램 조회 (date_histogram + app/level terms 집계)
+ *      - 닫힌 구간(구간 종료 후 close-delay 가 지난 구간)은 조건별로 메모리에 보관하고 다시 조회하지 않음
+ *      - 새로고침 시에는 마지막으로 닫힌 구간 이후(열린 구간 포함)만 size 0 집계로 조회
+ *      - close-delay 는 수집 지연으로 늦게 색인되는 로그를 닫힌 구간에 반영하기 위한 여유 시간
+ */
+@Slf4j
+@Component
+public class LogHistogramSearcher {
+
+    private static final int MAX_SERIES = 200;
+    private static final int TERMS_SIZE = 50;
+
+    // 지원하는 구간 크기 (OpenSearch fixed_interval 표기 -> 밀리초)
+    private static final Map<String, Long> INTERVALS = Map.of(
+            "1m", 60_000L,
+            "5m", 300_000L,
+            "15m", 900_000L,
+            "1h", 3_600_000L,
+            "1d", 86_400_000L
+    );
+
+    private final OpenSearchAsyncClient openSearchAsyncClient;
+    private final OpenSearchCallTimer callTimer;
+    private final LogQueryCompiler queryCompiler;
+
+    private final long closeDelayMillis;
+    private final int maxHours;
+
+    // 조회 조건(interval, app, level)별 닫힌 구간 캐시 (LRU)
+    private final Map<String, Series> seriesCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Series> eldest) {
+            return size() > MAX_SERIES;
+        }
+    };
+
+    public LogHistogramSearcher(OpenSearchAsyncClient openSearchAsyncClient,
+                                OpenSearchCallTimer callTimer,
+                                LogQueryCompiler queryCompiler,
+                                @Value("${logging.histogram.close-delay-seconds:60}") long closeDelaySeconds,
+                                @Value("${logging.histogram.max-hours:168}") int maxHours) {
+        this.openSearchAsyncClient = openSearchAsyncClient;
+        this.callTimer = callTimer;
+        this.queryCompiler = queryCompiler;
+        this.closeDelayMillis = closeDelaySeconds * 1000L;
+        this.maxHours = maxHours;
+    }
+
+    /**
+     * 로그 건수 히스토그램 조회
+     *
+     * @param app 필터링 조건 (서비스, 없으면 전체)
+     * @param level 필터링 조건 (로그 레벨, 없으면 전체)
+     * @param interval 구간 크기 (1m, 5m, 15m, 1h, 1d)
+     * @param hours 조회 기간 (최근 N시간, 최대 logging.histogram.max-hours)
+     * @return 시간순 구간 목록 (실패 시 LOGS_READ_FAILED)
+     */
+    public CompletableFuture<LogHistogramResponseDto> search(String app, String level, String interval, int hours) {
+        Long intervalMillis = interval != null ? INTERVALS.get(interval) : null;
+        if (intervalMillis == null) {
+            throw new BaseException(BaseResponseStatus.INVALID_PARAMETER);
+        }
+
+        long now = System.currentTimeMillis();
+        int rangeHours = Math.max(1, Math.min(hours, maxHours));
+        long windowStart = align(now - rangeHours * 3_600_000L, intervalMillis);
+        long sealedBefore = align(now - closeDelayMillis, intervalMillis);
+
+        // 1. 캐시된 닫힌 구간과 새로 조회할 시작 시각 결정
+        Series series = series(interval + "|" + nullToEmpty(app) + "|" + nullToEmpty(level));
+        Plan plan = series.plan(windowStart);
+
+        // 2. 닫힌 구간 이후만 조회
+        return callTimer.execute("histogram", () -> openSearchAsyncClient.search(
+                        buildRequest(app, level, interval, plan.fetchFrom(), now), Void.class))
+                .thenApply(response -> {
+                    TreeMap<Long, LogHistogramBucketDto> fetched = toBuckets(response);
+                    series.merge(plan.fetchFrom(), sealedBefore, fetched, align(now - maxHours * 3_600_000L, intervalMillis));
+
+                    List<LogHistogramBucketDto> buckets = new ArrayList<>(plan.cached());
+                    buckets.addAll(fetched.values());
+                    long totalCount = buckets.stream().mapToLong(LogHistogramBucketDto::getCount).sum();
+
+                    log.debug("[로그 히스토그램] app = {}, level = {}, interval = {}, 캐시 구간 = {}, 조회 구간 = {}",
+                            app, level, interval, plan.cached().size(), fetched.size());
+
+                    return new LogHistogramResponseDto(interval, buckets, totalCount);
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("[로그 히스토그램] OpenSearch 조회 실패 : app = {}, level = {}, error = {}", app, level, cause.getMessage());
+                    throw new BaseException(BaseResponseStatus.LOGS_READ_FAILED);
+                });
+    }
+
+    private Series series(String key) {
+        synchronized (seriesCache) {
+            return seriesCache.computeIfAbsent(key, k -> new Series());
+        }
+    }
+
+    private SearchRequest buildRequest(String app, String level, String interval, long fetchFrom, long now) {
+        LogQueryCompiler.LogQuery query = queryCompiler.compile(app, LogQueryCompiler.levels(level, List.of()), fetchFrom, now);
+
+        return query.applyTo(new SearchRequest.Builder(), true)
+                .size(0)  // hits는 필요 없으므로 0으로
+                .aggregations("volume", agg -> agg
+                        .dateHistogram(h -> h
+                                .field("@timestamp")
+                                .fixedInterval(t -> t.time(interval))
+                                .format("epoch_millis"))
+                        .aggregations("apps", sub -> sub
+                                .terms(t -> t.field("app.keyword").size(TERMS_SIZE))
+                                .aggregations("levels", levelAgg -> levelAgg
+                                        .terms(t -> t.field("level.keyword").size(TERMS_SIZE))))
+                )
+                .build();
+    }
+
+    private TreeMap<Long, LogHistogramBucketDto> toBuckets(SearchResponse<Void> response) {
+        TreeMap<Long, LogHistogramBucketDto> result = new TreeMap<>();
+        for (DateHistogramBucket bucket : response.aggregations().get("volume").dateHistogram().buckets().array()) {
+            if (bucket.docCount() == 0) {
+                continue;
+            }
+
+            List<LogVolumeDto> volumes = new ArrayList<>();
+            for (StringTermsBucket appBucket : bucket.aggregations().get("apps").sterms().buckets().array()) {
+                for (StringTermsBucket levelBucket : appBucket.aggregations().get("levels").sterms().buckets().array()) {
+                    volumes.add(new LogVolumeDto(appBucket.key(), levelBucket.key(), levelBucket.docCount()));
+                }
+            }
+
+            long start = Long.parseLong(bucket.keyAsString());
+            result.put(start, new LogHistogramBucketDto(Instant.ofEpochMilli(start).toString(), bucket.docCount(), volumes));
+        }
+        return result;
+    }
+
+    private static long align(long epochMillis, long intervalMillis) {
+        return Math.floorDiv(epochMillis, intervalMillis) * intervalMillis;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * 조회 계획 - 캐시에서 가져온 닫힌 구간과 OpenSearch 조회 시작 시각
+     */
+    record Plan(List<LogHistogramBucketDto> cached, long fetchFrom) {
+    }
+
+    /**
+     * 조회 조건 1개의 닫힌 구간 캐시
+     *      [coveredFrom, sealedUntil) 범위의 구간이 빠짐없이 보관됨 (로그가 없는 구간은 항목 없음)
+     */
+    static class Series {
+        private final TreeMap<Long, LogHistogramBucketDto> sealed = new TreeMap<>();
+        private long coveredFrom = Long.MAX_VALUE;
+        private long sealedUntil = Long.MIN_VALUE;
+
+        synchronized Plan plan(long windowStart) {
+            if (coveredFrom <= windowStart && windowStart <= sealedUntil) {
+                return new Plan(new ArrayList<>(sealed.subMap(windowStart, sealedUntil).values()), sealedUntil);
+            }
+            return new Plan(List.of(), windowStart);
+        }
+
+        /**
+         * 조회 결과 중 닫힌 구간 보관
+         *
+         * @param fetchFrom 조회 시작 시각
+         * @param sealedBefore 이 시각 이전에 시작한 구간은 닫힌 구간
+         * @param fetched 조회된 구간 (시작 시각 -> 구간)
+         * @param retainFrom 이 시각 이전 구간은 제거
+         */
+        synchronized void merge(long fetchFrom, long sealedBefore, Map<Long, LogHistogramBucketDto> fetched, long retainFrom) {
+            // 기존 캐시 범위와 이어지지 않으면 새로 시작
+            if (!(coveredFrom <= fetchFrom && fetchFrom <= sealedUntil)) {
+                sealed.clear();
+                coveredFrom = fetchFrom;
+                sealedUntil = fetchFrom;
+            }
+
+            for (Map.Entry<Long, LogHistogramBucketDto> entry : fetched.entrySet()) {
+                if (entry.getKey() < sealedBefore) {
+                    sealed.put(entry.getKey(), entry.getValue());
+                }
+            }
+            sealedUntil = Math.max(sealedUntil, sealedBefore);
+
+            if (coveredFrom < retainFrom) {
+                sealed.headMap(retainFrom).clear();
+                coveredFrom = retainFrom;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 로그 목록 조회 결과 한 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class LogPage {
+    private final List<LogDto> logs;        // 연속 중복 메시지 제거된 로그 목록
+    private final String nextCursor;        // 다음 페이지 연속 토큰 (마지막 페이지면 null)
+    private final boolean hasNext;          // 다음 페이지 존재 여부
+    private final String lastTimestamp;     // 마지막 로그 정렬 값 (@timestamp)
+    private final String lastLogId;         // 마지막 로그 ID
+}
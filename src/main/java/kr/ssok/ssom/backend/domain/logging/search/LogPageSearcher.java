@@ -0,0 +1,317 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import kr.ssok.ssom.backend.domain.logging.cache.RecentLogBuffer;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDataDto;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import kr.ssok.ssom.backend.global.client.OpenSearchCallTimer;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch._types.SortOptions;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.pit.CreatePitRequest;
+import org.opensearch.client.opensearch.core.pit.CreatePitResponse;
+import org.opensearch.client.opensearch.core.pit.DeletePitRequest;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 로그 목록 페이지 조회 엔진 (point-in-time + search_after)
+ *      - 첫 페이지에서 PIT 를 열고, 이후 페이지는 커서의 PIT 와 정렬 값으로 이어서 조회
+ *      - 페이지 크기는 기본 100, 최대 500 으로 제한
+ *      - compact 옵션 시 목록 화면에 필요한 필드(@timestamp, level, message, app)만 조회
+ *      - 조회 기간은 LogQueryCompiler 기본 기간(최근 logging.query.default-window-hours)으로 제한
+ *      - 커서 없는 첫 페이지는 RecentLogBuffer(웹훅으로 채운 최근 로그)에서 정확히 만들 수 있으면 메모리에서 응답
+ *      - PIT 생성에 실패하면 PIT 없이 인덱스 대상 search_after 로 조회
+ *      - 커서의 PIT 가 만료(keep-alive 경과)되었으면 같은 정렬 값으로 PIT 없이 인덱스 대상 1회 재조회
+ *      - OpenSearchAsyncClient 로 호출하여 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+ */
+@Slf4j
+@Component
+public class LogPageSearcher {
+
+    private static final String[] FULL_FIELDS = {"@timestamp", "level", "logger", "thread", "message", "app"};
+    private static final String[] COMPACT_FIELDS = {"@timestamp", "level", "message", "app"};
+    private static final List<String> DEFAULT_LEVELS = List.of("ERROR", "WARN");
+    private static final String SEARCH_CONTEXT_MISSING = "search_context_missing_exception";
+
+    private final OpenSearchAsyncClient openSearchAsyncClient;
+    private final OpenSearchCallTimer callTimer;
+    private final LogQueryCompiler queryCompiler;
+    private final RecentLogBuffer recentLogBuffer;
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final String pitKeepAlive;
+
+    public LogPageSearcher(OpenSearchAsyncClient openSearchAsyncClient,
+                           OpenSearchCallTimer callTimer,
+                           LogQueryCompiler queryCompiler,
+                           RecentLogBuffer recentLogBuffer,
+                           @Value("${logging.search.default-page-size:100}") int defaultPageSize,
+                           @Value("${logging.search.max-page-size:500}") int maxPageSize,
+                           @Value("${logging.search.pit-keep-alive:2m}") String pitKeepAlive) {
+        this.openSearchAsyncClient = openSearchAsyncClient;
+        this.callTimer = callTimer;
+        this.queryCompiler = queryCompiler;
+        this.recentLogBuffer = recentLogBuffer;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.pitKeepAlive = pitKeepAlive;
+    }
+
+    /**
+     * 로그 목록 한 페이지 조회 (비동기)
+     *
+     * @param app 필터링 조건 (서비스)
+     * @param level 필터링 조건 (로그 레벨, 없으면 ERROR + WARN)
+     * @param cursor 이전 페이지의 연속 토큰 (첫 페이지면 null)
+     * @param size 페이지 크기 (null 이면 기본값)
+     * @param compact 목록 화면용 필드만 조회할지 여부
+     * @return 로그 페이지 (실패 시 LOGS_READ_FAILED)
+     */
+    public CompletableFuture<LogPage> search(String app, String level, LogCursor cursor, Integer size, boolean compact) {
+        int pageSize = resolvePageSize(size);
+        List<String> searchAfter = cursor != null ? cursor.getSortValues() : null;
+        List<String> levels = LogQueryCompiler.levels(level, DEFAULT_LEVELS);
+        LogQueryCompiler.LogQuery query = queryCompiler.compile(app, levels, null);
+
+        // 0. 첫 페이지는 최근 로그 버퍼에서 응답 가능하면 OpenSearch 조회 생략
+        if (cursor == null) {
+            Optional<List<LogDto>> recent = recentLogBuffer.newest(app, levels, query.fromMillis(), pageSize);
+            if (recent.isPresent()) {
+                return CompletableFuture.completedFuture(toPage(recent.get(), pageSize, compact));
+            }
+        }
+
+        // 1. PIT 준비 (첫 페이지면 조회 기간에 해당하는 인덱스로 새로 생성)
+        CompletableFuture<String> pitFuture = cursor != null
+                ? CompletableFuture.completedFuture(cursor.getPitId())
+                : openPit(query.indices());
+
+        // 2. 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        return pitFuture
+                .thenCompose(pitId -> searchPage(query, pitId, searchAfter, pageSize, compact)
+                        .exceptionallyCompose(e -> {
+                            if (pitId == null || !isPitMissing(e)) {
+                                return CompletableFuture.failedFuture(e);
+                            }
+                            // PIT 만료 -> 이후 페이지는 PIT 없는 커서로 이어서 조회
+                            log.warn("[로그 목록 조회] PIT 만료, PIT 없이 재조회 : app = {}, level = {}", app, level);
+                            return searchPage(query, null, searchAfter, pageSize, compact);
+                        }))
+                .exceptionally(e -> {
+                    throw translate(e, app, level);
+                });
+    }
+
+    private CompletableFuture<LogPage> searchPage(LogQueryCompiler.LogQuery query, String pitId, List<String> searchAfter,
+                                                  int pageSize, boolean compact) {
+        return callTimer.execute("search", () -> openSearchAsyncClient.search(
+                        buildRequest(query, pitId, searchAfter, pageSize + 1, compact), LogDataDto.class))
+                .thenApply(response -> toPage(response, pitId, pageSize));
+    }
+
+    /**
+     * PIT 만료 여부 - OpenSearch 는 만료되었거나 없는 PIT 조회에 404 (search_context_missing_exception) 로 응답
+     */
+    static boolean isPitMissing(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (!(cause instanceof OpenSearchException openSearchException)) {
+            return false;
+        }
+        if (openSearchException.status() == 404) {
+            return true;
+        }
+        ErrorCause error = openSearchException.error();
+        return error != null && (SEARCH_CONTEXT_MISSING.equals(error.type())
+                || error.rootCause().stream().anyMatch(rootCause -> SEARCH_CONTEXT_MISSING.equals(rootCause.type())));
+    }
+
+    private LogPage toPage(SearchResponse<LogDataDto> response, String pitId, int pageSize) {
+        List<Hit<LogDataDto>> hits = response.hits().hits();
+        boolean hasNext = hits.size() > pageSize;
+        List<Hit<LogDataDto>> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+
+        // 3. PIT 는 조회 시마다 갱신된 ID 를 사용
+        String nextPitId = response.pitId() != null ? response.pitId() : pitId;
+
+        String lastTimestamp = null;
+        String lastLogId = null;
+        String nextCursor = null;
+        if (!pageHits.isEmpty()) {
+            Hit<LogDataDto> lastHit = pageHits.get(pageHits.size() - 1);
+            lastTimestamp = lastHit.sort().get(0);
+            lastLogId = lastHit.id();
+            if (hasNext) {
+                nextCursor = new LogCursor(nextPitId, List.of(lastTimestamp, lastLogId)).encode();
+            }
+        }
+
+        // 4. 마지막 페이지면 PIT 정리
+        if (!hasNext) {
+            closePit(nextPitId);
+        }
+
+        return new LogPage(deduplicate(pageHits), nextCursor, hasNext, lastTimestamp, lastLogId);
+    }
+
+    /**
+     * 최근 로그 버퍼 조회 결과 -> 페이지 (다음 페이지는 PIT 없이 search_after 로 OpenSearch 조회)
+     */
+    private static LogPage toPage(List<LogDto> newest, int pageSize, boolean compact) {
+        boolean hasNext = newest.size() > pageSize;
+        List<LogDto> pageLogs = hasNext ? newest.subList(0, pageSize) : newest;
+
+        String lastTimestamp = null;
+        String lastLogId = null;
+        String nextCursor = null;
+        if (!pageLogs.isEmpty()) {
+            LogDto last = pageLogs.get(pageLogs.size() - 1);
+            // OpenSearch 의 @timestamp 정렬 값과 같은 epoch millis 문자열
+            lastTimestamp = String.valueOf(RecentLogBuffer.parseTimestamp(last.getTimestamp()));
+            lastLogId = last.getLogId();
+            if (hasNext) {
+                nextCursor = LogCursor.ofSearchAfter(lastTimestamp, lastLogId).encode();
+            }
+        }
+
+        List<LogDto> deduplicated = new ArrayList<>();
+        String prevMessage = null;
+        for (LogDto logDto : pageLogs) {
+            if (prevMessage == null || !prevMessage.equals(logDto.getMessage())) {
+                if (compact) {
+                    logDto.setLogger(null);
+                    logDto.setThread(null);
+                }
+                deduplicated.add(logDto);
+            }
+            prevMessage = logDto.getMessage();
+        }
+
+        return new LogPage(deduplicated, nextCursor, hasNext, lastTimestamp, lastLogId);
+    }
+
+    private BaseException translate(Throwable e, String app, String level) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof BaseException baseException) {
+            return baseException;
+        }
+        log.error("[로그 목록 조회] OpenSearch 조회 실패 : app = {}, level = {}, error = {}", app, level, cause.getMessage());
+        return new BaseException(BaseResponseStatus.LOGS_READ_FAILED);
+    }
+
+    private SearchRequest buildRequest(LogQueryCompiler.LogQuery query, String pitId, List<String> searchAfter,
+                                       int size, boolean compact) {
+        // 정렬 기준
+        List<SortOptions> sortOptions = List.of(
+                new SortOptions.Builder()
+                        .field(f -> f.field("@timestamp").order(SortOrder.Desc))
+                        .build(),
+                new SortOptions.Builder()
+                        .field(f -> f.field("_id").order(SortOrder.Desc))
+                        .build()
+        );
+
+        String[] fields = compact ? COMPACT_FIELDS : FULL_FIELDS;
+
+        SearchRequest.Builder builder = new SearchRequest.Builder()
+                .sort(sortOptions)
+                .source(s -> s.filter(f -> f.includes(List.of(fields))))
+                .trackTotalHits(t -> t.enabled(false))
+                .size(size);
+
+        // 시간 범위, app, level 은 filter 컨텍스트 (PIT 조회 시에는 인덱스를 지정하지 않음)
+        query.applyTo(builder, pitId == null);
+        if (pitId != null) {
+            builder.pit(p -> p.id(pitId).keepAlive(pitKeepAlive));
+        }
+
+        if (searchAfter != null) {
+            builder.searchAfter(searchAfter);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * PIT 생성 - 실패 시 null 반환 (PIT 없이 조회)
+     */
+    private CompletableFuture<String> openPit(List<String> indices) {
+        CreatePitRequest request = new CreatePitRequest.Builder()
+                .targetIndexes(indices)
+                .keepAlive(Time.of(t -> t.time(pitKeepAlive)))
+                .build();
+
+        return callTimer.execute("create_pit", () -> openSearchAsyncClient.createPit(request))
+                .thenApply(CreatePitResponse::pitId)
+                .exceptionally(e -> {
+                    log.warn("[로그 목록 조회] PIT 생성 실패, PIT 없이 조회 : error = {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * PIT 정리 (응답을 기다리지 않음) - 실패해도 keep-alive 경과 후 자동 만료
+     */
+    private void closePit(String pitId) {
+        if (pitId == null) {
+            return;
+        }
+        callTimer.execute("delete_pit", () -> openSearchAsyncClient.deletePit(
+                        new DeletePitRequest.Builder().pitId(List.of(pitId)).build()))
+                .exceptionally(e -> {
+                    log.debug("[로그 목록 조회] PIT 정리 실패 : error = {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * 로그 DTO 변환 및 중복 제거: 연속된 같은 message만 하나만 남기기
+     */
+    private static List<LogDto> deduplicate(List<Hit<LogDataDto>> hits) {
+        List<LogDto> deduplicated = new ArrayList<>();
+        String prevMessage = null;
+
+        for (Hit<LogDataDto> hit : hits) {
+            LogDataDto source = hit.source();
+            if (source == null) {
+                continue;
+            }
+            if (prevMessage == null || !prevMessage.equals(source.getMessage())) {
+                LogDto dto = new LogDto();
+                dto.setLogId(hit.id());
+                dto.setApp(source.getApp());
+                dto.setTimestamp(source.getTimestamp());
+                dto.setLevel(source.getLevel());
+                dto.setLogger(source.getLogger());
+                dto.setThread(source.getThread());
+                dto.setMessage(source.getMessage());
+                deduplicated.add(dto);
+            }
+            prevMessage = source.getMessage();
+        }
+
+        return deduplicated;
+    }
+}
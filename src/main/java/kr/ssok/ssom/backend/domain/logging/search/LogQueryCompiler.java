@@ -0,0 +1,154 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그 조회 쿼리 컴파일러
+ *      - 모든 조회에 @timestamp 시간 범위를 필수로 적용 (기본 최근 default-window-hours, 최대 max-window-hours)
+ *      - 조회 대상 인덱스 결정
+ *          alias : 단일 인덱스/별칭 (롤오버 포함) - pre_filter_shard_size=1 로 시간 범위 밖 샤드는 can_match 단계에서 제외
+ *          daily : 시간 범위에 걸친 일별 인덱스만 지정 (없는 인덱스는 무시)
+ *      - app, level, 시간 범위는 모두 filter 컨텍스트 (점수 계산 없음, 노드 쿼리 캐시 대상)
+ *      - 시간 범위 시작은 분 단위로 내림하여 같은 분 안의 반복 조회가 같은 filter 로 캐시되도록 함
+ *
+ * 로그 ID 로 조회하는 get/mget 은 시간 범위를 알 수 없으므로 logging.query.index 를 그대로 사용
+ */
+@Component
+public class LogQueryCompiler {
+
+    private static final long HOUR_MILLIS = 3_600_000L;
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private final String index;
+    private final boolean dailyIndices;
+    private final String dailyIndexPrefix;
+    private final DateTimeFormatter dailyIndexFormat;
+    private final int defaultWindowHours;
+    private final int maxWindowHours;
+
+    public LogQueryCompiler(@Value("${logging.query.index:ssok-app}") String index,
+                            @Value("${logging.query.index-mode:alias}") String indexMode,
+                            @Value("${logging.query.daily-index-prefix:ssok-app-}") String dailyIndexPrefix,
+                            @Value("${logging.query.daily-index-date-format:yyyy.MM.dd}") String dailyIndexDateFormat,
+                            @Value("${logging.query.default-window-hours:24}") int defaultWindowHours,
+                            @Value("${logging.query.max-window-hours:168}") int maxWindowHours) {
+        this.index = index;
+        this.dailyIndices = "daily".equalsIgnoreCase(indexMode);
+        this.dailyIndexPrefix = dailyIndexPrefix;
+        this.dailyIndexFormat = DateTimeFormatter.ofPattern(dailyIndexDateFormat, Locale.ROOT);
+        this.maxWindowHours = Math.max(1, maxWindowHours);
+        this.defaultWindowHours = Math.max(1, Math.min(defaultWindowHours, this.maxWindowHours));
+    }
+
+    /**
+     * 최근 N시간 조회 쿼리
+     *
+     * @param app 필터링 조건 (서비스, 없으면 전체)
+     * @param levels 필터링 조건 (로그 레벨 목록, 비어 있으면 전체)
+     * @param hours 조회 기간 (null 또는 0 이하면 기본값, 최대 max-window-hours)
+     */
+    public LogQuery compile(String app, Collection<String> levels, Integer hours) {
+        long now = System.currentTimeMillis();
+        int windowHours = hours == null || hours <= 0 ? defaultWindowHours : Math.min(hours, maxWindowHours);
+        long from = Math.floorDiv(now - windowHours * HOUR_MILLIS, MINUTE_MILLIS) * MINUTE_MILLIS;
+        return compile(app, levels, from, now);
+    }
+
+    /**
+     * 지정한 시각 이후 조회 쿼리 (시작 시각은 호출자가 조회 기간 한도 안에서 정함)
+     *
+     * @param app 필터링 조건 (서비스, 없으면 전체)
+     * @param levels 필터링 조건 (로그 레벨 목록, 비어 있으면 전체)
+     * @param fromMillis 조회 시작 시각 (포함, epoch millis)
+     * @param nowMillis 현재 시각 (대상 인덱스 결정용)
+     */
+    public LogQuery compile(String app, Collection<String> levels, long fromMillis, long nowMillis) {
+        BoolQuery.Builder boolQuery = new BoolQuery.Builder();
+        boolQuery.filter(f -> f.range(r -> r.field("@timestamp").gte(JsonData.of(fromMillis)).format("epoch_millis")));
+
+        if (StringUtils.hasText(app)) {
+            boolQuery.filter(f -> f.term(t -> t.field("app.keyword").value(FieldValue.of(app))));
+        }
+
+        if (levels != null && !levels.isEmpty()) {
+            // level 은 대문자로 색인되므로 keyword 로 정확히 일치 (match 는 분석 비용이 들고 캐시되지 않음)
+            List<FieldValue> values = levels.stream()
+                    .map(level -> FieldValue.of(level.toUpperCase(Locale.ROOT)))
+                    .toList();
+            boolQuery.filter(f -> f.terms(t -> t.field("level.keyword").terms(ts -> ts.value(values))));
+        }
+
+        Query query = Query.of(q -> q.bool(boolQuery.build()));
+        return new LogQuery(indices(fromMillis, nowMillis), query, fromMillis);
+    }
+
+    /**
+     * 단건 필터 조건을 레벨 목록으로 변환 (없으면 기본 레벨 목록)
+     */
+    public static List<String> levels(String level, List<String> defaultLevels) {
+        return StringUtils.hasText(level) ? List.of(level) : defaultLevels;
+    }
+
+    /**
+     * 인덱스 지정 ID 조회(get/mget)용 인덱스
+     */
+    public String index() {
+        return index;
+    }
+
+    List<String> indices(long fromMillis, long toMillis) {
+        if (!dailyIndices) {
+            return List.of(index);
+        }
+
+        List<String> result = new ArrayList<>();
+        LocalDate day = Instant.ofEpochMilli(fromMillis).atZone(ZoneOffset.UTC).toLocalDate();
+        LocalDate last = Instant.ofEpochMilli(toMillis).atZone(ZoneOffset.UTC).toLocalDate();
+        while (!day.isAfter(last)) {
+            result.add(dailyIndexPrefix + dailyIndexFormat.format(day));
+            day = day.plusDays(1);
+        }
+        return result;
+    }
+
+    /**
+     * 컴파일된 로그 조회 쿼리
+     *
+     * @param indices 조회 대상 인덱스
+     * @param query filter 컨텍스트 bool 쿼리 (시간 범위, app, level)
+     * @param fromMillis 실제 적용된 조회 시작 시각
+     */
+    public record LogQuery(List<String> indices, Query query, long fromMillis) {
+
+        /**
+         * 검색 요청에 대상 인덱스와 쿼리 적용
+         *      PIT 조회 시에는 인덱스를 지정하지 않으므로 query 만 적용
+         */
+        public SearchRequest.Builder applyTo(SearchRequest.Builder builder, boolean withIndices) {
+            builder.query(query);
+            if (withIndices) {
+                builder.index(indices)
+                        .ignoreUnavailable(true)
+                        .allowNoIndices(true)
+                        .preFilterShardSize(1L);
+            }
+            return builder;
+        }
+    }
+}
@@ -4,31 +4,45 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletResponse;
 
+import kr.ssok.ssom.backend.domain.logging.analysis.LogSummaryAnalyzer;
+import kr.ssok.ssom.backend.domain.logging.analysis.LogSummaryPrewarmer;
+import kr.ssok.ssom.backend.domain.logging.anomaly.ErrorRateSpikeDetector;
+import kr.ssok.ssom.backend.domain.logging.cache.LogDocumentCache;
+import kr.ssok.ssom.backend.domain.logging.cache.RecentLogBuffer;
+import kr.ssok.ssom.backend.domain.logging.cache.ServiceCountCache;
 import kr.ssok.ssom.backend.domain.logging.dto.*;
-import kr.ssok.ssom.backend.domain.logging.entity.LogSummary;
-import kr.ssok.ssom.backend.domain.logging.repository.LogSummaryRepository;
+import kr.ssok.ssom.backend.domain.logging.search.LogCursor;
+import kr.ssok.ssom.backend.domain.logging.search.LogExportStreamer;
+import kr.ssok.ssom.backend.domain.logging.search.LogGroupSearcher;
+import kr.ssok.ssom.backend.domain.logging.search.LogHistogramSearcher;
+import kr.ssok.ssom.backend.domain.logging.search.LogPageSearcher;
+import kr.ssok.ssom.backend.domain.logging.search.LogQueryCompiler;
 import kr.ssok.ssom.backend.domain.logging.service.LoggingService;
 import kr.ssok.ssom.backend.domain.logging.sse.EmitterWithFilter;
-import kr.ssok.ssom.backend.global.client.LlmServiceClient;
+import kr.ssok.ssom.backend.domain.logging.sse.SseRateGovernor;
+import kr.ssok.ssom.backend.domain.logging.template.DrainLogTemplateMiner;
+import kr.ssok.ssom.backend.global.client.OpenSearchCallTimer;
 import kr.ssok.ssom.backend.global.dto.*;
 import kr.ssok.ssom.backend.global.exception.BaseException;
 import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.job.AsyncJobCompletedEvent;
+import kr.ssok.ssom.backend.global.sse.SseStreamHub;
+import kr.ssok.ssom.backend.global.sse.StreamChannel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
-import org.opensearch.client.opensearch._types.FieldValue;
-import org.opensearch.client.opensearch._types.SortOptions;
-import org.opensearch.client.opensearch._types.SortOrder;
-import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
-import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
 import org.opensearch.client.opensearch.core.*;
-import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -37,13 +51,30 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LoggingServiceImpl implements LoggingService {
 
-    private final LogSummaryRepository logSummaryRepository;
-    private final LlmServiceClient llmServiceClient;
+    private final LogSummaryAnalyzer logSummaryAnalyzer;
+    private final LogSummaryPrewarmer logSummaryPrewarmer;
     private final OpenSearchClient openSearchClient;
+    private final OpenSearchAsyncClient openSearchAsyncClient;
+    private final OpenSearchCallTimer openSearchCallTimer;
+    private final ServiceCountCache serviceCountCache;
+    private final LogDocumentCache logDocumentCache;
+    private final RecentLogBuffer recentLogBuffer;
+    private final ErrorRateSpikeDetector errorRateSpikeDetector;
+    private final LogPageSearcher logPageSearcher;
+    private final LogGroupSearcher logGroupSearcher;
+    private final LogHistogramSearcher logHistogramSearcher;
+    private final LogExportStreamer logExportStreamer;
+    private final LogQueryCompiler logQueryCompiler;
+    private final DrainLogTemplateMiner templateMiner;
+    private final SseRateGovernor sseRateGovernor;
+    private final SseStreamHub sseStreamHub;
 
     private final ObjectMapper objectMapper;
 
     Map<String, EmitterWithFilter> emitters = new ConcurrentHashMap<>();
+
+    // 통합 SSE 스트림 logs 채널 구독자별 전송량 조절 (사원번호 -> Gate)
+    private final Map<String, SseRateGovernor.Gate> streamRateGates = new ConcurrentHashMap<>();
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 1시간
 
     /**
@@ -51,213 +82,103 @@ public class LoggingServiceImpl implements LoggingService {
      */
     @Override
     public ServicesResponseDto getServices() {
-
-        try {
-            SearchRequest request = new SearchRequest.Builder()
-                    .index("ssok-app")
-                    .size(0)  // hits는 필요 없으므로 0으로
-                    .aggregations("apps", agg -> agg
-                            .terms(t -> t
-                                    .field("app.keyword")
-                                    .size(100)
-                            )
-                    )
-                    .build();
-
-            SearchResponse<Void> response = openSearchClient.search(request, Void.class);
-
-            List<ServiceDto> result = new ArrayList<>();
-
-            // "apps" aggregation 추출
-            var appsAgg = response.aggregations().get("apps").sterms();
-
-            for (StringTermsBucket bucket : appsAgg.buckets().array()) {
-                result.add(new ServiceDto(bucket.key(), bucket.docCount()));
-            }
-
-            return new ServicesResponseDto(result);
-
-        } catch (IOException e) {
-            throw new BaseException(BaseResponseStatus.SERVICES_READ_FAILED);
-        }
-
+        // 메모리 캐시에서 응답 (갱신은 캐시가 백그라운드에서 처리)
+        return serviceCountCache.get();
     }
 
     /**
      * 로그 목록 조회
      */
     @Override
-    public LogsResponseDto getLogs(String app, String level) {
-
-        try {
-            // 동적 bool 쿼리 빌더
-            BoolQuery.Builder boolQuery = new BoolQuery.Builder();
-
-            if (StringUtils.hasText(app)) {
-                boolQuery.must(m -> m.match(match -> match.field("app.keyword").query(FieldValue.of(app))));
-            }
-
-            if (StringUtils.hasText(level)) {
-                boolQuery.must(m -> m.match(match -> match.field("level").query(FieldValue.of(level))));
-            } else {
-                // level이 없으면 기본적으로 ERROR + WARN
-                boolQuery.must(m -> m.terms(t -> t.field("level.keyword").terms(
-                        ts -> ts.value(List.of(FieldValue.of("ERROR"), FieldValue.of("WARN")))
-                )));
-            }
+    public CompletableFuture<LogsResponseDto> getLogs(String app, String level, String cursor, Integer size, boolean compact) {
 
-            // 요청
-            SearchRequest request = new SearchRequest.Builder()
-                    .index("ssok-app")
-                    .query(q -> q.bool(boolQuery.build()))
-                    .sort(s -> s
-                            .field(f -> f
-                                    .field("@timestamp")
-                                    .order(SortOrder.Desc)
-                            )
-                    )
-                    .source(s -> s
-                            .filter(f -> f
-                                    .includes("@timestamp", "level", "logger", "thread", "message", "app")
-                            )
-                    )
-                    .size(3000) // 3000개 제한
-                    .build();
-
-            SearchResponse<LogDataDto> response = openSearchClient.search(request, LogDataDto.class);
-
-            List<LogDto> result = response.hits().hits().stream()
-                    .map(hit -> {
-                        LogDataDto source = hit.source();
-                        LogDto dto = new LogDto();
-                        dto.setLogId(hit.id());
-                        dto.setApp(source.getApp());
-                        dto.setTimestamp(source.getTimestamp());
-                        dto.setLevel(source.getLevel());
-                        dto.setLogger(source.getLogger());
-                        dto.setThread(source.getThread());
-                        dto.setMessage(source.getMessage());
-                        return dto;
-                    })
-                    .collect(Collectors.toList());
-
-            // 중복 제거: 연속된 같은 message만 하나만 남기기
-            List<LogDto> deduplicated = new ArrayList<>();
-            LogDto prev = null;
-            for (LogDto current : result) {
-                if (prev == null || !current.getMessage().equals(prev.getMessage())) {
-                    deduplicated.add(current);
-                }
-                prev = current;
-            }
-
-            return new LogsResponseDto(deduplicated);
-        } catch (Exception e) {
-            throw new BaseException(BaseResponseStatus.LOGS_READ_FAILED);
-        }
+        LogCursor logCursor = StringUtils.hasText(cursor) ? LogCursor.decode(cursor) : null;
 
+        return logPageSearcher.search(app, level, logCursor, size, compact)
+                .thenApply(page -> new LogsResponseDto(page.getLogs(), page.getNextCursor(), page.isHasNext()));
     }
 
     /**
      * 로그 목록 조회 (무한 스크롤)
+     *      getLogs와 같은 페이지 조회 엔진 사용, 기존 searchAfter 파라미터도 계속 지원
      */
     @Override
-    public LogsScrollResponseDto getLogsInfiniteScroll(String app, String level, String searchAfterTimestamp, String searchAfterId) {
-
-        try {
-            // 동적 bool 쿼리 빌더
-            BoolQuery.Builder boolQuery = new BoolQuery.Builder();
-
-            if (StringUtils.hasText(app)) {
-                boolQuery.must(m -> m.match(match -> match.field("app.keyword").query(FieldValue.of(app))));
-            }
-
-            if (StringUtils.hasText(level)) {
-                boolQuery.must(m -> m.match(match -> match.field("level").query(FieldValue.of(level))));
-            } else {
-                // level이 없으면 기본적으로 ERROR + WARN
-                boolQuery.must(m -> m.terms(t -> t.field("level.keyword").terms(
-                        ts -> ts.value(List.of(FieldValue.of("ERROR"), FieldValue.of("WARN")))
-                )));
-            }
-
-            // 정렬 기준
-            List<SortOptions> sortOptions = List.of(
-                    new SortOptions.Builder()
-                            .field(f -> f.field("@timestamp").order(SortOrder.Desc))
-                            .build(),
-                    new SortOptions.Builder()
-                            .field(f -> f.field("_id").order(SortOrder.Desc))
-                            .build()
-            );
-
-            // search_after 설정
-            List<String> searchAfterValues = null;
-            if (searchAfterTimestamp != null && searchAfterId != null) {
-                searchAfterValues = List.of(searchAfterTimestamp, searchAfterId);
-            }
-
-            // 검색 요청
-            SearchRequest.Builder requestBuilder = new SearchRequest.Builder()
-                    .index("ssok-app")
-                    .query(q -> q.bool(boolQuery.build()))
-                    .sort(sortOptions)
-                    .source(s -> s.filter(f -> f.includes("@timestamp", "level", "logger", "thread", "message", "app")))
-                    .size(100); // 페이지 크기
+    public CompletableFuture<LogsScrollResponseDto> getLogsInfiniteScroll(String app, String level, String searchAfterTimestamp,
+                                                                          String searchAfterId, String cursor, Integer size) {
+
+        LogCursor logCursor = null;
+        if (StringUtils.hasText(cursor)) {
+            logCursor = LogCursor.decode(cursor);
+        } else if (searchAfterTimestamp != null && searchAfterId != null) {
+            logCursor = LogCursor.ofSearchAfter(searchAfterTimestamp, searchAfterId);
+        }
 
-            if (searchAfterValues != null) {
-                requestBuilder.searchAfter(searchAfterValues);
-            }
+        // 마지막 정렬 기준 정보 포함 (클라이언트가 다음 페이지 요청 시 사용)
+        return logPageSearcher.search(app, level, logCursor, size, false)
+                .thenApply(page -> new LogsScrollResponseDto(page.getLogs(), page.getLastTimestamp(), page.getLastLogId(),
+                        page.getNextCursor(), page.isHasNext()));
+    }
 
-            SearchResponse<LogDataDto> response = openSearchClient.search(requestBuilder.build(), LogDataDto.class);
+    /**
+     * 로그 그룹 조회 (메시지 지문 기준)
+     */
+    @Override
+    public CompletableFuture<LogGroupsResponseDto> getLogGroups(String app, String level, int hours, int limit) {
+        return logGroupSearcher.search(app, level, hours, limit);
+    }
 
-            List<LogDto> result = response.hits().hits().stream()
-                    .map(hit -> {
-                        LogDataDto source = hit.source();
-                        LogDto dto = new LogDto();
-                        dto.setLogId(hit.id());
-                        dto.setApp(source.getApp());
-                        dto.setTimestamp(source.getTimestamp());
-                        dto.setLevel(source.getLevel());
-                        dto.setLogger(source.getLogger());
-                        dto.setThread(source.getThread());
-                        dto.setMessage(source.getMessage());
-                        return dto;
-                    })
-                    .collect(Collectors.toList());
-
-            // 중복 제거: 연속된 같은 message만 하나만 남기기
-            List<LogDto> deduplicated = new ArrayList<>();
-            LogDto prev = null;
-            for (LogDto current : result) {
-                if (prev == null || !current.getMessage().equals(prev.getMessage())) {
-                    deduplicated.add(current);
-                }
-                prev = current;
-            }
+    /**
+     * 시간 구간별 로그 건수 조회
+     */
+    @Override
+    public CompletableFuture<LogHistogramResponseDto> getLogHistogram(String app, String level, String interval, int hours) {
+        return logHistogramSearcher.search(app, level, interval, hours);
+    }
 
-            // 마지막 정렬 기준 정보 포함 (클라이언트가 다음 페이지 요청 시 사용)
-            String lastTimestamp = null;
-            String lastId = null;
-            if (!response.hits().hits().isEmpty()) {
-                Hit<LogDataDto> lastHit = response.hits().hits().get(response.hits().hits().size() - 1);
-                lastTimestamp = lastHit.sort().get(0);
-                lastId = lastHit.id();
-            }
+    /**
+     * 로그 NDJSON 내보내기
+     */
+    @Override
+    public void exportLogs(String app, String level, int hours, boolean gzip, HttpServletResponse response) {
+        log.info("[로그 내보내기] 서비스 진입 : app = {}, level = {}, hours = {}, gzip = {}", app, level, hours, gzip);
 
-            return new LogsScrollResponseDto(deduplicated, lastTimestamp, lastId);
-        } catch (Exception e) {
-            throw new BaseException(BaseResponseStatus.LOGS_READ_FAILED);
+        // 1. 동시 내보내기 수 확인 및 PIT 생성 (실패 시 일반 오류 응답)
+        logExportStreamer.acquire();
+        try {
+            LogQueryCompiler.LogQuery query = logExportStreamer.query(app, level, hours);
+            String pitId = logExportStreamer.openPit(query);
+
+            // 2. 응답 헤더 설정 후 본문 전송
+            String fileName = "logs-" + Instant.now().getEpochSecond() + (gzip ? ".ndjson.gz" : ".ndjson");
+            response.setContentType(gzip ? "application/gzip" : "application/x-ndjson");
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+            response.setHeader("X-Accel-Buffering", "no");
+
+            long lines = logExportStreamer.export(pitId, query, gzip, response.getOutputStream());
+            log.info("[로그 내보내기] 완료 : lines = {}", lines);
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 또는 페이지 조회 실패 - 응답 본문에 이미 중단 사실을 남겼으므로 더 이상 응답할 수 없음
+            log.info("[로그 내보내기] 중단 : error = {}", e.getMessage());
+        } finally {
+            logExportStreamer.release();
         }
+    }
 
+    /**
+     * 실시간 로그 템플릿 조회
+     */
+    @Override
+    public LogTemplatesResponseDto getLogTemplates(String app, int limit) {
+        return new LogTemplatesResponseDto(templateMiner.getTemplates(app, Math.max(1, limit)));
     }
 
     /**
      * 로그 SSE 구독
      */
     @Override
-    public SseEmitter subscribe(String employeeId, String app, String level, HttpServletResponse response){
-        log.info("[로그 SSE 구독] 서비스 진입 : employeeId = {}, app = {}, level = {}", employeeId, app, level);
+    public SseEmitter subscribe(String employeeId, String app, String level, String mode, HttpServletResponse response){
+        log.info("[로그 SSE 구독] 서비스 진입 : employeeId = {}, app = {}, level = {}, mode = {}", employeeId, app, level, mode);
 
         // 1. 유효성 검사
         if (employeeId == null || employeeId.trim().isEmpty()) {
@@ -273,7 +194,8 @@ public class LoggingServiceImpl implements LoggingService {
 
         // 4. emitter 생성 및 등록
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        EmitterWithFilter filteredEmitter = new EmitterWithFilter(emitter, app, level);
+        EmitterWithFilter filteredEmitter = new EmitterWithFilter(emitter, app, level, "template".equalsIgnoreCase(mode),
+                sseRateGovernor.newGate());
         emitters.put(emitterId, filteredEmitter);
 
         response.setHeader("X-Accel-Buffering", "no");
@@ -376,12 +298,19 @@ public class LoggingServiceImpl implements LoggingService {
             String employeeId = entry.getKey();
             EmitterWithFilter emitterWrapper = entry.getValue();
 
-            // 로그 목록 조회 필터링 조건 체크
-            boolean appMatches = emitterWrapper.getAppFilter() == null || emitterWrapper.getAppFilter().equalsIgnoreCase(logDto.getApp());
-            boolean levelMatches = emitterWrapper.getLevelFilter() == null || emitterWrapper.getLevelFilter().equalsIgnoreCase(logDto.getLevel());
+            // 템플릿 모드 구독자는 sendTemplateUpdates에서 별도 전송
+            if (emitterWrapper.isTemplateMode()) {
+                continue;
+            }
 
             // 필터링 조건 모두 만족하는 emitter에게만 전송
-            if (appMatches && levelMatches) {
+            if (emitterWrapper.matches(logDto.getApp(), logDto.getLevel())) {
+                // 구독자별 전송량 초과 시 원문 대신 생략 건수로 집계 (sendLogAggregates에서 전송)
+                SseRateGovernor.Gate rateGate = emitterWrapper.getRateGate();
+                if (rateGate != null && !rateGate.admit(logDto.getApp(), logDto.getLevel(), logDto.getMessage())) {
+                    continue;
+                }
+
                 try {
                     // Thread-safe SSE 전송
                     SseEmitter emitter = emitterWrapper.getEmitter();
@@ -413,10 +342,145 @@ public class LoggingServiceImpl implements LoggingService {
         if (!deadEmitters.isEmpty()) {
             log.info("[로그 SSE 정리] 비활성 emitter {}개 제거", deadEmitters.size());
         }
+
+        // 통합 SSE 스트림 logs 채널 구독자 (전송량 조절은 개별 구독과 동일)
+        for (String employeeId : sseStreamHub.logSubscribers(logDto.getApp(), logDto.getLevel())) {
+            SseRateGovernor.Gate rateGate = streamRateGates.computeIfAbsent(employeeId, k -> sseRateGovernor.newGate());
+            if (rateGate.admit(logDto.getApp(), logDto.getLevel(), logDto.getMessage())) {
+                sseStreamHub.send(employeeId, StreamChannel.LOGS, "LOGGING", logDto);
+            }
+        }
         
         log.debug("[로그 SSE 전송] 처리 완료 - 활성 emitter: {}개", emitters.size());
     }
 
+    /**
+     * 비동기 작업 결과 SSE 전송 - 요청자가 로그 SSE를 구독 중일 때만 전송 (아니면 조회 API로 확인)
+     */
+    @Override
+    @EventListener
+    public void sendJobResult(AsyncJobCompletedEvent event) {
+        String employeeId = event.getOwnerId();
+        EmitterWithFilter emitterWrapper = emitters.get(employeeId);
+        if (emitterWrapper == null) {
+            return;
+        }
+
+        try {
+            SseEmitter emitter = emitterWrapper.getEmitter();
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event()
+                        .name("LLM_JOB")
+                        .id(createTimeIncludeId(employeeId))
+                        .data(event.getJob())
+                        .reconnectTime(3000L));
+            }
+        } catch (Exception e) {
+            log.error("[비동기 작업 SSE 전송 실패] employeeId = {}, jobId = {}, error = {}",
+                    employeeId, event.getJob().getJobId(), e.getMessage());
+            emitters.remove(employeeId);
+        }
+    }
+
+    /**
+     * 템플릿 모드 SSE 전송 - 직전 전송 이후 발생 건수가 있는 템플릿만 묶어서 전송
+     */
+    @Override
+    public void sendTemplateUpdates() {
+        // 구독자가 없어도 변경분은 비워서 다음 전송 시 누적되지 않도록 함
+        List<LogTemplateDto> updates = templateMiner.drainUpdates();
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        List<String> deadEmitters = new ArrayList<>();
+
+        for (Map.Entry<String, EmitterWithFilter> entry : emitters.entrySet()) {
+            String employeeId = entry.getKey();
+            EmitterWithFilter emitterWrapper = entry.getValue();
+
+            if (!emitterWrapper.isTemplateMode()) {
+                continue;
+            }
+
+            List<LogTemplateDto> matched = updates.stream()
+                    .filter(template -> emitterWrapper.matches(template.getApp(), template.getLevel()))
+                    .toList();
+            if (matched.isEmpty()) {
+                continue;
+            }
+
+            try {
+                SseEmitter emitter = emitterWrapper.getEmitter();
+                synchronized (emitter) {
+                    emitter.send(SseEmitter.event()
+                            .name("LOGGING_TEMPLATE")
+                            .id(createTimeIncludeId(employeeId))
+                            .data(matched)
+                            .reconnectTime(3000L));
+                }
+            } catch (Exception e) {
+                log.error("[로그 템플릿 SSE 전송 실패] employeeId = {}, error = {}", employeeId, e.getMessage());
+                deadEmitters.add(employeeId);
+            }
+        }
+
+        deadEmitters.forEach(emitters::remove);
+    }
+
+    /**
+     * 로그 SSE 생략 건수 전송 - 집계 주기마다 샘플링 모드에서 생략한 로그를 서비스/레벨별 건수로 묶어서 전송
+     */
+    @Override
+    public void sendLogAggregates() {
+        List<String> deadEmitters = new ArrayList<>();
+
+        for (Map.Entry<String, EmitterWithFilter> entry : emitters.entrySet()) {
+            String employeeId = entry.getKey();
+            EmitterWithFilter emitterWrapper = entry.getValue();
+
+            SseRateGovernor.Gate rateGate = emitterWrapper.getRateGate();
+            if (emitterWrapper.isTemplateMode() || rateGate == null) {
+                continue;
+            }
+
+            // 생략이 없어도 주기마다 비워서 전송 모드를 다시 결정
+            List<LogAggregateDto> aggregates = rateGate.drain();
+            if (aggregates.isEmpty()) {
+                continue;
+            }
+
+            try {
+                SseEmitter emitter = emitterWrapper.getEmitter();
+                synchronized (emitter) {
+                    emitter.send(SseEmitter.event()
+                            .name("LOGGING_AGGREGATE")
+                            .id(createTimeIncludeId(employeeId))
+                            .data(aggregates)
+                            .reconnectTime(3000L));
+                }
+            } catch (Exception e) {
+                log.error("[로그 SSE 생략 건수 전송 실패] employeeId = {}, error = {}", employeeId, e.getMessage());
+                deadEmitters.add(employeeId);
+            }
+        }
+
+        deadEmitters.forEach(emitters::remove);
+
+        // 통합 SSE 스트림 logs 채널 - 연결 종료/구독 해제된 사용자의 Gate 는 정리
+        streamRateGates.entrySet().removeIf(entry -> {
+            String employeeId = entry.getKey();
+            if (!sseStreamHub.isSubscribed(employeeId, StreamChannel.LOGS)) {
+                return true;
+            }
+            List<LogAggregateDto> aggregates = entry.getValue().drain();
+            if (!aggregates.isEmpty()) {
+                sseStreamHub.send(employeeId, StreamChannel.LOGS, "LOGGING_AGGREGATE", aggregates);
+            }
+            return false;
+        });
+    }
+
     /**
      * SSE 연결 상태 확인 및 정리
      */
@@ -466,6 +530,24 @@ public class LoggingServiceImpl implements LoggingService {
             }
 
             for (LogDto loggingRequest : loggingList) {
+                // 서비스 목록 캐시 건수 증분 반영
+                serviceCountCache.increment(loggingRequest.getApp());
+
+                // 로그 템플릿 학습
+                templateMiner.learn(loggingRequest.getApp(), loggingRequest.getLevel(), loggingRequest.getMessage());
+
+                // 새 ERROR 지문이면 LLM 분석 사전 생성 대기열에 등록
+                logSummaryPrewarmer.offer(loggingRequest);
+
+                // 이후 상세 조회/이슈 생성 시 OpenSearch 조회를 생략하도록 캐시
+                logDocumentCache.put(loggingRequest);
+
+                // 로그 목록 첫 페이지를 메모리에서 응답하도록 최근 ERROR/WARN 로그 보관
+                recentLogBuffer.add(loggingRequest);
+
+                // 서비스별 에러율 집계 (급증 시 주기 평가에서 알림 생성)
+                errorRateSpikeDetector.record(loggingRequest.getApp(), loggingRequest.getLevel());
+
                 try {
                     sendLogToUsers(loggingRequest);
                 } catch (BaseException be) {
@@ -517,38 +599,15 @@ public class LoggingServiceImpl implements LoggingService {
     }
 
     /**
-     * 로그 상세 조회 - 이전에 생성한 LLM 요약 반환
+     * 로그 상세 조회 - 이전에 생성한 LLM 요약 반환 (OpenSearch 응답을 기다리는 동안 요청 스레드를 막지 않음)
      */
     @Override
-    public LogSummaryMessageDto getLogAnalysisInfo(String logId) {
-
-        // 로그 아이디로 OpenSearch에 로그 조회
-        LogDto logDto = getLogById(logId);
+    public CompletableFuture<LogSummaryMessageDto> getLogAnalysisInfo(String logId) {
 
-        // 로그 메시지로 DB 조회
-        String logMessage = logDto.getMessage();
-        Optional<LogSummary> summaryOpt = logSummaryRepository.findByLogMessage(logMessage);
-
-        // 없을 시 아무것도 반환하지 않음
-        if (summaryOpt.isEmpty()) {
-            throw new BaseException(BaseResponseStatus.LOG_SUMMARY_NOT_FOUND);
-        }
-
-        // 있을 시 DB에서 조회된 기존 요약 내용 반환
-        LogSummary summaryEntity = summaryOpt.get();
-
-        LogLocationDto locationDto = LogLocationDto.builder()
-                .file(summaryEntity.getFileLocation())
-                .function(summaryEntity.getFunctionLocation())
-                .build();
-        LogSummaryMessageDto summaryDto = LogSummaryMessageDto.builder()
-                .summary(summaryEntity.getSummary())
-                .location(locationDto)
-                .solution(summaryEntity.getSolution())
-                .solutionDetail(summaryEntity.getSolutionDetail())
-                .build();
-
-        return summaryDto;
+        // 로그 아이디로 OpenSearch에 로그 조회 후, 메시지 지문으로 기존 분석 조회 (값만 다른 로그는 같은 요약 공유)
+        return getLogById(logId)
+                .thenApply(logDto -> logSummaryAnalyzer.find(logDto.getMessage())
+                        .orElseThrow(() -> new BaseException(BaseResponseStatus.LOG_SUMMARY_NOT_FOUND)));
     }
 
     /**
@@ -557,82 +616,56 @@ public class LoggingServiceImpl implements LoggingService {
     @Override
     public LogSummaryMessageDto analyzeLog(LogDto request) {
 
-        // LLM 쪽으로 api 요청
-        LogRequestDto requestDto = LogRequestDto.builder()
-                .level(request.getLevel())
-                .logger(request.getLogger())
-                .thread(request.getThread())
-                .message(request.getMessage())
-                .app(request.getApp())
-                .build();
-        LlmApiRequestDto llmRequestDto = LlmApiRequestDto.builder()
-                .log(List.of(requestDto))
-                .build();
-
-        LlmApiResponseDto<LogSummaryResponseDto> llmResponseDto;
-        try {
-            llmResponseDto = llmServiceClient.summarizeLog(llmRequestDto);
-        } catch (Exception e) {
-            throw new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
-        }
-
-        // 응답에서 요약 메시지 추출
-        LogSummaryMessageDto summaryDto = llmResponseDto.getResult().get(0).getMessage();
-
-        // DB에 저장
-        try {
-            LogSummary summaryEntity = LogSummary.builder()
-                    .logId(request.getLogId())
-                    .logMessage(request.getMessage())
-                    .summary(summaryDto.getSummary())
-                    .fileLocation(summaryDto.getLocation().getFile())
-                    .functionLocation(summaryDto.getLocation().getFunction())
-                    .solution(summaryDto.getSolution())
-                    .solutionDetail(summaryDto.getSolutionDetail())
-                    .build();
-            logSummaryRepository.save(summaryEntity);
-        } catch (Exception e) {
-            throw new BaseException(BaseResponseStatus.LLM_SUMMARY_SAVE_FAILED);
-        }
-
-        // 분석 내용 반환
-        return summaryDto;
+        // 같은 지문의 저장된 분석이 있으면 재사용, 동시 요청은 LLM 호출 1건으로 합침
+        return logSummaryAnalyzer.analyze(request);
     }
 
     /**
      * 로그 ID로 로그 데이터 조회
      */
     @Override
-    public LogDto getLogById(String logId) {
+    public CompletableFuture<LogDto> getLogById(String logId) {
         log.info("로그 ID로 단일 로그 조회: {}", logId);
 
-        try {
-            GetRequest request = new GetRequest.Builder()
-                    .index("ssok-app")
-                    .id(logId)
-                    .build();
-
-            GetResponse<LogDataDto> response = openSearchClient.get(request, LogDataDto.class);
+        // 로그 문서는 변경되지 않으므로 캐시에 있으면 그대로 응답
+        LogDto cached = logDocumentCache.get(logId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
 
-            if (!response.found()) {
-                throw new BaseException(BaseResponseStatus.LOG_NOT_FOUND);
-            }
+        GetRequest request = new GetRequest.Builder()
+                .index(logQueryCompiler.index())
+                .id(logId)
+                .build();
 
-            LogDataDto source = response.source();
-            return LogDto.builder()
-                    .logId(response.id())
-                    .app(source.getApp())
-                    .timestamp(source.getTimestamp())
-                    .level(source.getLevel())
-                    .logger(source.getLogger())
-                    .thread(source.getThread())
-                    .message(source.getMessage())
-                    .build();
+        return openSearchCallTimer.execute("get", () -> openSearchAsyncClient.get(request, LogDataDto.class))
+                .thenApply(response -> {
+                    if (!response.found()) {
+                        throw new BaseException(BaseResponseStatus.LOG_NOT_FOUND);
+                    }
 
-        } catch (Exception e) {
-            log.error("로그 조회 중 예외 발생: {}", e.getMessage(), e);
-            throw new BaseException(BaseResponseStatus.LOG_NOT_FOUND);
-        }
+                    LogDataDto source = response.source();
+                    LogDto logDto = LogDto.builder()
+                            .logId(response.id())
+                            .app(source.getApp())
+                            .timestamp(source.getTimestamp())
+                            .level(source.getLevel())
+                            .logger(source.getLogger())
+                            .thread(source.getThread())
+                            .message(source.getMessage())
+                            .build();
+                    logDocumentCache.put(logDto);
+                    return logDto;
+                })
+                .exceptionally(e -> {
+                    // 없는 로그(LOG_NOT_FOUND)는 그대로, OpenSearch 조회 실패는 조회 실패로 구분
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof BaseException baseException) {
+                        throw baseException;
+                    }
+                    log.error("로그 조회 중 예외 발생: {}", cause.getMessage(), cause);
+                    throw new BaseException(BaseResponseStatus.LOGS_READ_FAILED);
+                });
     }
 
     /**
@@ -642,34 +675,60 @@ public class LoggingServiceImpl implements LoggingService {
     public List<LogDto> getLogsByIds(List<String> logIds) {
         log.info("로그 ID 목록으로 로그 조회: {}", logIds);
 
-        try {
-            MgetRequest request = new MgetRequest.Builder()
-                    .index("ssok-app")
-                    .ids(logIds)
-                    .build();
-
-            MgetResponse<LogDataDto> response = openSearchClient.mget(request, LogDataDto.class);
-
-            List<LogDto> result = new ArrayList<>();
-            for (var item : response.docs()) {
-                if (item.result().found()) {
-                    var source = item.result().source();
-                    var dto = new LogDto();
-                    dto.setLogId(item.result().id());
-                    dto.setApp(source.getApp());
-                    dto.setTimestamp(source.getTimestamp());
-                    dto.setLevel(source.getLevel());
-                    dto.setLogger(source.getLogger());
-                    dto.setThread(source.getThread());
-                    dto.setMessage(source.getMessage());
-                    result.add(dto);
+        // 1. 캐시에서 먼저 조회
+        Map<String, LogDto> found = new HashMap<>();
+        List<String> missingIds = new ArrayList<>();
+        for (String logId : logIds) {
+            LogDto cached = logDocumentCache.get(logId);
+            if (cached != null) {
+                found.put(logId, cached);
+            } else if (!missingIds.contains(logId)) {
+                missingIds.add(logId);
+            }
+        }
+
+        // 2. 캐시에 없는 ID 만 mget
+        if (!missingIds.isEmpty()) {
+            try {
+                MgetRequest request = new MgetRequest.Builder()
+                        .index(logQueryCompiler.index())
+                        .ids(missingIds)
+                        .build();
+
+                MgetResponse<LogDataDto> response = openSearchClient.mget(request, LogDataDto.class);
+
+                for (var item : response.docs()) {
+                    if (item.result().found()) {
+                        var source = item.result().source();
+                        var dto = new LogDto();
+                        dto.setLogId(item.result().id());
+                        dto.setApp(source.getApp());
+                        dto.setTimestamp(source.getTimestamp());
+                        dto.setLevel(source.getLevel());
+                        dto.setLogger(source.getLogger());
+                        dto.setThread(source.getThread());
+                        dto.setMessage(source.getMessage());
+                        logDocumentCache.put(dto);
+                        found.put(dto.getLogId(), dto);
+                    }
                 }
+            } catch (Exception e) {
+                throw new BaseException(BaseResponseStatus.LOG_NOT_FOUND);
             }
+        }
 
-            return result;
-        } catch (Exception e) {
-            throw new BaseException(BaseResponseStatus.LOG_NOT_FOUND);
+        log.debug("로그 ID 목록 조회 : 요청 {}건, 캐시 적중 {}건, mget {}건",
+                logIds.size(), logIds.size() - missingIds.size(), missingIds.size());
+
+        // 3. 요청한 ID 순서대로 반환 (찾지 못한 ID 는 제외)
+        List<LogDto> result = new ArrayList<>();
+        for (String logId : logIds) {
+            LogDto dto = found.get(logId);
+            if (dto != null) {
+                result.add(dto);
+            }
         }
+        return result;
 
     }
 
@@ -4,9 +4,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import kr.ssok.ssom.backend.domain.logging.dto.*;
 import kr.ssok.ssom.backend.global.dto.LogRequestDto;
 import kr.ssok.ssom.backend.global.dto.LogSummaryMessageDto;
+import kr.ssok.ssom.backend.global.job.AsyncJobCompletedEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface LoggingService {
 
@@ -17,12 +19,15 @@ public interface LoggingService {
     ServicesResponseDto getServices();
 
     /**
-     * OpenSearch로부터 로그 목록 조회
+     * OpenSearch로부터 로그 목록 조회 (point-in-time + search_after 페이지 조회)
      * @param app 필터링 조건 (서비스)
      * @param level 필터링 조건 (로그 레벨)
+     * @param cursor 이전 페이지의 연속 토큰 (첫 페이지면 null)
+     * @param size 페이지 크기 (기본 100, 최대 500)
+     * @param compact 목록 화면용 필드만 조회할지 여부
      * @return 로그 목록
      */
-    LogsResponseDto getLogs(String app, String level);
+    CompletableFuture<LogsResponseDto> getLogs(String app, String level, String cursor, Integer size, boolean compact);
 
     /**
      * OpenSearch로부터 로그 목록 조회 (무한 스크롤 방식)
@@ -30,20 +35,77 @@ public interface LoggingService {
      * @param level 필터링 조건 (로그 레벨)
      * @param searchAfterTimestamp 이전 요청의 마지막 로그 타임스탬프
      * @param searchAfterId 이전 요청의 마지막 로그 ID
+     * @param cursor 이전 페이지의 연속 토큰 (있으면 searchAfter 값보다 우선)
+     * @param size 페이지 크기 (기본 100, 최대 500)
      * @return 로그 목록
      */
-    LogsScrollResponseDto getLogsInfiniteScroll(String app, String level, String searchAfterTimestamp, String searchAfterId);
+    CompletableFuture<LogsScrollResponseDto> getLogsInfiniteScroll(String app, String level, String searchAfterTimestamp, String searchAfterId,
+                                                                   String cursor, Integer size);
 
+    /**
+     * OpenSearch로부터 메시지 지문 기준 로그 그룹 조회
+     * @param app 필터링 조건 (서비스)
+     * @param level 필터링 조건 (로그 레벨)
+     * @param hours 조회 기간 (최근 N시간)
+     * @param limit 반환할 최대 그룹 수
+     * @return 로그 그룹 목록 (그룹별 건수, 최초/최근 발생 시각)
+     */
+    CompletableFuture<LogGroupsResponseDto> getLogGroups(String app, String level, int hours, int limit);
+
+    /**
+     * OpenSearch로부터 시간 구간별 로그 건수 조회 (서비스, 레벨별)
+     * @param app 필터링 조건 (서비스)
+     * @param level 필터링 조건 (로그 레벨)
+     * @param interval 구간 크기 (1m, 5m, 15m, 1h, 1d)
+     * @param hours 조회 기간 (최근 N시간)
+     * @return 시간순 구간 목록
+     */
+    CompletableFuture<LogHistogramResponseDto> getLogHistogram(String app, String level, String interval, int hours);
+
+    /**
+     * 조건에 맞는 로그를 NDJSON(또는 gzip NDJSON)으로 응답 스트림에 직접 전송
+     * @param app 필터링 조건 (서비스)
+     * @param level 필터링 조건 (로그 레벨)
+     * @param hours 조회 기간 (최근 N시간)
+     * @param gzip gzip 압축 여부
+     * @param response 응답 (본문을 직접 기록)
+     */
+    void exportLogs(String app, String level, int hours, boolean gzip, HttpServletResponse response);
+
+    /**
+     * 실시간 로그에서 학습한 메시지 템플릿 조회
+     * @param app 필터링 조건 (서비스)
+     * @param limit 최대 개수
+     * @return 템플릿 목록 (템플릿별 누적 건수, 최근 1분 건수)
+     */
+    LogTemplatesResponseDto getLogTemplates(String app, int limit);
 
     /**
      * SSE 구독
      * @param employeeId
      * @param app
      * @param level
+     * @param mode 전송 방식 ("raw": 로그 원문, "template": 템플릿 단위 갱신)
      * @param response
      * @return SSE Emitter
      */
-    SseEmitter subscribe(String employeeId, String app, String level, HttpServletResponse response);
+    SseEmitter subscribe(String employeeId, String app, String level, String mode, HttpServletResponse response);
+
+    /**
+     * 비동기 작업(LLM 분석, 이슈 초안) 종료 시 요청자에게 SSE로 결과 전송
+     * @param event 작업 종료 이벤트
+     */
+    void sendJobResult(AsyncJobCompletedEvent event);
+
+    /**
+     * 템플릿 모드 SSE 구독자에게 직전 전송 이후 변경된 템플릿 전송
+     */
+    void sendTemplateUpdates();
+
+    /**
+     * 샘플링 모드 SSE 구독자에게 집계 주기 동안 원문 전송을 생략한 로그 건수 전송
+     */
+    void sendLogAggregates();
 
     /**
      * OpenSearch가 실시간 로그 알림을 줄 때 사용되는 기능
@@ -55,9 +117,9 @@ public interface LoggingService {
     /**
      * 특정 로그에 대한 기존 LLM 요약 데이터 조회
      * @param logId 로그 아이디
-     * @return DB로부터 조회한 LLM 요약 데이터
+     * @return DB로부터 조회한 LLM 요약 데이터 (없으면 LOG_NOT_FOUND / LOG_SUMMARY_NOT_FOUND)
      */
-    LogSummaryMessageDto getLogAnalysisInfo(String logId);
+    CompletableFuture<LogSummaryMessageDto> getLogAnalysisInfo(String logId);
 
     /**
      * 특정 로그에 대한 새 LLM 요약 데이터 생성
@@ -70,9 +132,9 @@ public interface LoggingService {
     /**
      * 로그 ID로 로그 데이터 조회
      * @param logId 로그 ID
-     * @return 로그 데이터
+     * @return 로그 데이터 (없으면 LOG_NOT_FOUND)
      */
-    LogDto getLogById(String logId);
+    CompletableFuture<LogDto> getLogById(String logId);
 
     /**
      * 로그 ID 목록으로 로그 데이터 조회 (Issue 생성용)
@@ -6,11 +6,24 @@ public class EmitterWithFilter {
     private final SseEmitter emitter;
     private final String appFilter;
     private final String levelFilter;
+    private final boolean templateMode;     // true면 로그 원문 대신 템플릿 단위 갱신(LOGGING_TEMPLATE)만 전송
+    private final SseRateGovernor.Gate rateGate;    // 원문 전송량 조절 (null이면 제한 없음)
 
     public EmitterWithFilter(SseEmitter emitter, String appFilter, String levelFilter) {
+        this(emitter, appFilter, levelFilter, false);
+    }
+
+    public EmitterWithFilter(SseEmitter emitter, String appFilter, String levelFilter, boolean templateMode) {
+        this(emitter, appFilter, levelFilter, templateMode, null);
+    }
+
+    public EmitterWithFilter(SseEmitter emitter, String appFilter, String levelFilter, boolean templateMode,
+                             SseRateGovernor.Gate rateGate) {
         this.emitter = emitter;
         this.appFilter = appFilter;
         this.levelFilter = levelFilter;
+        this.templateMode = templateMode;
+        this.rateGate = rateGate;
     }
 
     public SseEmitter getEmitter() {
@@ -24,4 +37,21 @@ public class EmitterWithFilter {
     public String getLevelFilter() {
         return levelFilter;
     }
+
+    public boolean isTemplateMode() {
+        return templateMode;
+    }
+
+    public SseRateGovernor.Gate getRateGate() {
+        return rateGate;
+    }
+
+    /**
+     * 로그(또는 템플릿)의 서비스/레벨이 구독 필터 조건과 일치하는지 확인
+     */
+    public boolean matches(String app, String level) {
+        boolean appMatches = appFilter == null || appFilter.equalsIgnoreCase(app);
+        boolean levelMatches = levelFilter == null || levelFilter.equalsIgnoreCase(level);
+        return appMatches && levelMatches;
+    }
 }
@@ -0,0 +1,136 @@
+package kr.ssok.ssom.backend.domain.logging.sse;
+
+import kr.ssok.ssom.backend.domain.logging.dto.LogAggregateDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그 SSE 구독자별 전송량 조절
+ *      - 구독자마다 Gate 를 하나씩 두고, 집계 주기(aggregate-interval-ms) 동안 받은 로그 수를 셈
+ *      - 주기 내 로그가 max-events-per-second 를 넘으면 샘플링 모드로 전환
+ *          샘플링 모드 : 주기마다 처음 sampled-per-second 건만 원문 전송, 나머지는 서비스/레벨별 생략 건수로 집계
+ *      - 집계 주기마다 생략 건수를 LOGGING_AGGREGATE 이벤트로 전송하고,
+ *        주기 내 로그 수가 max-events-per-second * resume-ratio 이하로 내려가면 원문 전송 모드로 복귀
+ */
+@Component
+public class SseRateGovernor {
+
+    private final long intervalMillis;
+    private final long maxPerInterval;
+    private final long sampledPerInterval;
+    private final long resumePerInterval;
+
+    public SseRateGovernor(@Value("${logging.sse.rate.aggregate-interval-ms:1000}") long intervalMillis,
+                           @Value("${logging.sse.rate.max-events-per-second:50}") int maxEventsPerSecond,
+                           @Value("${logging.sse.rate.sampled-per-second:5}") int sampledPerSecond,
+                           @Value("${logging.sse.rate.resume-ratio:0.5}") double resumeRatio) {
+        this.intervalMillis = Math.max(100, intervalMillis);
+        this.maxPerInterval = Math.max(1, Math.round(maxEventsPerSecond * this.intervalMillis / 1000.0));
+        this.sampledPerInterval = Math.max(0, Math.round(sampledPerSecond * this.intervalMillis / 1000.0));
+        this.resumePerInterval = Math.round(this.maxPerInterval * resumeRatio);
+    }
+
+    /**
+     * 구독자 1명의 전송량 조절기 생성
+     */
+    public Gate newGate() {
+        return new Gate(intervalMillis, maxPerInterval, sampledPerInterval, resumePerInterval);
+    }
+
+    /**
+     * 구독자 1명의 전송량 조절 상태 (로그 수신 스레드와 집계 스케줄러가 함께 사용하므로 동기화)
+     */
+    public static class Gate {
+        private final long intervalMillis;
+        private final long maxPerInterval;
+        private final long sampledPerInterval;
+        private final long resumePerInterval;
+
+        private boolean sampling;
+        private long received;
+        private long sent;
+
+        // "app|level" -> 생략 건수
+        private final Map<String, Suppressed> suppressed = new LinkedHashMap<>();
+
+        Gate(long intervalMillis, long maxPerInterval, long sampledPerInterval, long resumePerInterval) {
+            this.intervalMillis = intervalMillis;
+            this.maxPerInterval = maxPerInterval;
+            this.sampledPerInterval = sampledPerInterval;
+            this.resumePerInterval = resumePerInterval;
+        }
+
+        /**
+         * 로그 원문 전송 여부 결정
+         *
+         * @return true 면 원문 전송, false 면 생략 건수로 집계됨
+         */
+        public synchronized boolean admit(String app, String level, String message) {
+            received++;
+            if (!sampling && received > maxPerInterval) {
+                sampling = true;
+            }
+
+            if (!sampling || sent < sampledPerInterval) {
+                sent++;
+                return true;
+            }
+
+            suppressed.computeIfAbsent(app + "|" + level, k -> new Suppressed(app, level)).add(message);
+            return false;
+        }
+
+        /**
+         * 집계 주기 종료 - 생략 건수 반환 후 초기화, 전송 모드 재결정
+         *
+         * @return 서비스/레벨별 생략 건수 (생략이 없으면 빈 목록)
+         */
+        public synchronized List<LogAggregateDto> drain() {
+            List<LogAggregateDto> result = new ArrayList<>(suppressed.size());
+            for (Suppressed entry : suppressed.values()) {
+                result.add(LogAggregateDto.builder()
+                        .app(entry.app)
+                        .level(entry.level)
+                        .count(entry.count)
+                        .periodMillis(intervalMillis)
+                        .sampleMessage(entry.lastMessage)
+                        .summary("최근 " + intervalMillis + "ms 동안 유사 로그 +" + entry.count + "건")
+                        .build());
+            }
+            suppressed.clear();
+
+            if (sampling && received <= resumePerInterval) {
+                sampling = false;
+            }
+            received = 0;
+            sent = 0;
+            return result;
+        }
+
+        public synchronized boolean isSampling() {
+            return sampling;
+        }
+    }
+
+    private static class Suppressed {
+        private final String app;
+        private final String level;
+        private long count;
+        private String lastMessage;
+
+        private Suppressed(String app, String level) {
+            this.app = app;
+            this.level = level;
+        }
+
+        private void add(String message) {
+            count++;
+            lastMessage = message;
+        }
+    }
+}
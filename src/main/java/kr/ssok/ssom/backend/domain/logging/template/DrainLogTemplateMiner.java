@@ -0,0 +1,302 @@
+package kr.ssok.ssom.backend.domain.logging.template;
+
+import kr.ssok.ssom.backend.domain.logging.dto.LogTemplateDto;
+import kr.ssok.ssom.backend.global.util.LogMessageFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drain 방식의 실시간 로그 템플릿 학습기
+ *      - 서비스(app)별 고정 깊이 파싱 트리: 토큰 수 -> 앞쪽 토큰 -> 리프의 템플릿 목록
+ *      - 리프에서 위치별 토큰 일치율이 기준 이상인 템플릿에 합치고, 다른 위치는 <*> 로 일반화
+ *      - 트리 깊이와 노드 자식 수가 제한되어 로그 1건당 처리 비용이 일정
+ *      - 숫자, UUID, IP 등은 LogMessageFingerprint 로 먼저 마스킹하여 <*> 로 취급
+ */
+@Slf4j
+@Component
+public class DrainLogTemplateMiner {
+
+    static final String WILDCARD = "<*>";
+
+    private static final long RATE_BUCKET_MILLIS = 5_000L;
+    private static final int RATE_BUCKETS = 12;     // 5초 x 12 = 최근 1분
+
+    private final int depth;
+    private final double similarityThreshold;
+    private final int maxChildren;
+    private final int maxTemplatesPerApp;
+
+    private final Map<String, AppTree> trees = new ConcurrentHashMap<>();
+
+    public DrainLogTemplateMiner(@Value("${logging.template.depth:4}") int depth,
+                                 @Value("${logging.template.similarity-threshold:0.5}") double similarityThreshold,
+                                 @Value("${logging.template.max-children:100}") int maxChildren,
+                                 @Value("${logging.template.max-templates-per-app:1000}") int maxTemplatesPerApp) {
+        this.depth = Math.max(3, depth);
+        this.similarityThreshold = similarityThreshold;
+        this.maxChildren = maxChildren;
+        this.maxTemplatesPerApp = maxTemplatesPerApp;
+    }
+
+    /**
+     * 로그 1건 학습
+     *
+     * @param app 서비스명
+     * @param level 로그 레벨
+     * @param message 로그 메시지
+     * @return 매칭(또는 생성)된 템플릿 ID, 템플릿 수 한도 초과로 학습하지 못하면 null
+     */
+    public String learn(String app, String level, String message) {
+        String appKey = StringUtils.hasText(app) ? app : "unknown";
+        AppTree tree = trees.computeIfAbsent(appKey, AppTree::new);
+        return tree.learn(tokenize(message), level, message, System.currentTimeMillis());
+    }
+
+    /**
+     * 템플릿 목록 조회 (최근 1분 발생 건수 많은 순, 같으면 누적 건수 순)
+     *
+     * @param app 서비스명 (null 이면 전체)
+     * @param limit 최대 개수
+     */
+    public List<LogTemplateDto> getTemplates(String app, int limit) {
+        long now = System.currentTimeMillis();
+        List<LogTemplateDto> result = new ArrayList<>();
+
+        for (AppTree tree : trees.values()) {
+            if (app == null || tree.app.equalsIgnoreCase(app)) {
+                result.addAll(tree.snapshot(now, false));
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(LogTemplateDto::getRatePerMinute).reversed()
+                .thenComparing(Comparator.comparingLong(LogTemplateDto::getCount).reversed()));
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * 직전 호출 이후 발생 건수가 있는 템플릿 목록 (SSE 템플릿 갱신 이벤트용)
+     *      호출 시 누적된 변경분은 초기화
+     */
+    public List<LogTemplateDto> drainUpdates() {
+        long now = System.currentTimeMillis();
+        List<LogTemplateDto> result = new ArrayList<>();
+        for (AppTree tree : trees.values()) {
+            result.addAll(tree.snapshot(now, true));
+        }
+        return result;
+    }
+
+    /**
+     * 메시지 토큰화 - 가변 값 마스킹 후 공백 기준 분리
+     */
+    static String[] tokenize(String message) {
+        String template = LogMessageFingerprint.template(message);
+        if (template.isEmpty()) {
+            return new String[0];
+        }
+        String[] tokens = template.split(" ");
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i].indexOf('<') >= 0 && tokens[i].indexOf('>') > 0) {
+                tokens[i] = WILDCARD;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 서비스별 파싱 트리 (트리 변경과 조회는 트리 단위로 직렬화)
+     */
+    private class AppTree {
+        private final String app;
+        private final Node root = new Node();
+        private final Map<Integer, LogCluster> clusters = new HashMap<>();
+        private int idSeq;
+
+        private AppTree(String app) {
+            this.app = app;
+        }
+
+        private synchronized String learn(String[] tokens, String level, String message, long now) {
+            Node leaf = descend(tokens);
+
+            LogCluster matched = null;
+            double bestSimilarity = -1;
+            for (LogCluster cluster : leaf.clusters) {
+                double similarity = cluster.similarity(tokens);
+                if (similarity > bestSimilarity) {
+                    bestSimilarity = similarity;
+                    matched = cluster;
+                }
+            }
+
+            if (matched == null || bestSimilarity < similarityThreshold) {
+                if (clusters.size() >= maxTemplatesPerApp) {
+                    log.debug("[로그 템플릿] 템플릿 수 한도 초과로 학습 생략 : app = {}", app);
+                    return null;
+                }
+                matched = new LogCluster(app + "#" + (++idSeq), tokens);
+                leaf.clusters.add(matched);
+                clusters.put(idSeq, matched);
+            } else {
+                matched.merge(tokens);
+            }
+
+            matched.record(level, message, now);
+            return matched.id;
+        }
+
+        /**
+         * 토큰 수 -> 앞쪽 (depth - 2)개 토큰 순으로 리프까지 이동 (없으면 생성)
+         */
+        private Node descend(String[] tokens) {
+            Node node = root.child(String.valueOf(tokens.length), maxChildren);
+
+            int prefixDepth = Math.min(depth - 2, tokens.length);
+            for (int i = 0; i < prefixDepth; i++) {
+                // 숫자가 섞인 토큰은 가변 값으로 보고 <*> 로 분기
+                String token = containsDigit(tokens[i]) ? WILDCARD : tokens[i];
+                node = node.child(token, maxChildren);
+            }
+            return node;
+        }
+
+        private synchronized List<LogTemplateDto> snapshot(long now, boolean updatesOnly) {
+            List<LogTemplateDto> result = new ArrayList<>();
+            for (LogCluster cluster : clusters.values()) {
+                if (updatesOnly && cluster.pendingDelta == 0) {
+                    continue;
+                }
+                result.add(cluster.toDto(now));
+                if (updatesOnly) {
+                    cluster.pendingDelta = 0;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 파싱 트리 노드 - 내부 노드는 자식, 리프는 템플릿 목록을 가짐
+     */
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<LogCluster> clusters = new ArrayList<>();
+
+        private Node child(String key, int maxChildren) {
+            Node child = children.get(key);
+            if (child != null) {
+                return child;
+            }
+            // 자식 수 한도를 넘으면 <*> 노드로 모음
+            if (children.size() >= maxChildren) {
+                return children.computeIfAbsent(WILDCARD, k -> new Node());
+            }
+            return children.computeIfAbsent(key, k -> new Node());
+        }
+    }
+
+    /**
+     * 학습된 템플릿 (소속 AppTree 의 lock 안에서만 변경)
+     */
+    private static class LogCluster {
+        private final String id;
+        private final String[] tokens;
+        private long count;
+        private long pendingDelta;
+        private String lastLevel;
+        private String lastMessage;
+        private long lastSeen;
+
+        private final long[] rateCounts = new long[RATE_BUCKETS];
+        private final long[] rateEpochs = new long[RATE_BUCKETS];
+
+        private LogCluster(String id, String[] tokens) {
+            this.id = id;
+            this.tokens = tokens.clone();
+        }
+
+        /**
+         * 위치별 토큰 일치율 (템플릿의 <*> 위치는 일치로 세지 않음)
+         */
+        private double similarity(String[] other) {
+            if (tokens.length == 0) {
+                return other.length == 0 ? 1.0 : 0.0;
+            }
+            int same = 0;
+            for (int i = 0; i < tokens.length; i++) {
+                if (!WILDCARD.equals(tokens[i]) && tokens[i].equals(other[i])) {
+                    same++;
+                }
+            }
+            return (double) same / tokens.length;
+        }
+
+        private void merge(String[] other) {
+            for (int i = 0; i < tokens.length; i++) {
+                if (!tokens[i].equals(other[i])) {
+                    tokens[i] = WILDCARD;
+                }
+            }
+        }
+
+        private void record(String level, String message, long now) {
+            count++;
+            pendingDelta++;
+            lastLevel = level;
+            lastMessage = message;
+            lastSeen = now;
+
+            long epoch = now / RATE_BUCKET_MILLIS;
+            int index = (int) (epoch % RATE_BUCKETS);
+            if (rateEpochs[index] != epoch) {
+                rateEpochs[index] = epoch;
+                rateCounts[index] = 0;
+            }
+            rateCounts[index]++;
+        }
+
+        private long countLastMinute(long now) {
+            long currentEpoch = now / RATE_BUCKET_MILLIS;
+            long total = 0;
+            for (int i = 0; i < RATE_BUCKETS; i++) {
+                if (currentEpoch - rateEpochs[i] < RATE_BUCKETS) {
+                    total += rateCounts[i];
+                }
+            }
+            return total;
+        }
+
+        private LogTemplateDto toDto(long now) {
+            return LogTemplateDto.builder()
+                    .templateId(id)
+                    .app(id.substring(0, id.lastIndexOf('#')))
+                    .template(String.join(" ", tokens))
+                    .count(count)
+                    .delta(pendingDelta)
+                    .ratePerMinute(countLastMinute(now))
+                    .level(lastLevel)
+                    .lastSeen(Instant.ofEpochMilli(lastSeen).toString())
+                    .sampleMessage(lastMessage)
+                    .build();
+        }
+    }
+
+    private static boolean containsDigit(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (Character.isDigit(token.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,294 @@
+package kr.ssok.ssom.backend.domain.user.cache;
+
+import kr.ssok.ssom.backend.domain.user.dto.UserSearchResponseDto;
+import kr.ssok.ssom.backend.domain.user.entity.Department;
+import kr.ssok.ssom.backend.domain.user.entity.User;
+import kr.ssok.ssom.backend.domain.user.event.UserChangedEvent;
+import kr.ssok.ssom.backend.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * GitHub ID가 있는 사용자의 사용자명 인덱스 (이슈 담당자 지정 / 자동완성용)
+ *      - 사용자명(소문자)의 1-gram, 2-gram 역색인으로 부분 일치 후보를 찾음 (DB LIKE %x% 조회 대체)
+ *      - 담당자 목록 전체를 같은 스냅샷에서 한 번에 해석 (정확히 일치하는 사용자 우선)
+ *      - 사용자 변경 이벤트 시 해당 사용자만 반영, 주기적으로 DB 전체 재적재
+ *      - 조회는 불변 스냅샷을 읽고, 변경은 새 스냅샷으로 교체 (사용자 수가 적어 변경마다 재구성)
+ */
+@Slf4j
+@Component
+public class UserNameIndex {
+
+    private final UserRepository userRepository;
+
+    private volatile Snapshot snapshot;
+    private final Object writeLock = new Object();
+
+    public UserNameIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 사용자명 목록을 GitHub ID로 해석
+     *      정확히 일치(대소문자 무시)하는 사용자를 우선, 없으면 사용자명 순으로 첫 번째 부분 일치 사용자
+     *
+     * @return 요청 사용자명 -> GitHub ID (찾지 못한 사용자명은 포함하지 않음, 요청 순서 유지)
+     */
+    public Map<String, String> resolveGithubIds(Collection<String> usernames) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (usernames == null || usernames.isEmpty()) {
+            return result;
+        }
+
+        Snapshot current = current();
+        for (String username : usernames) {
+            String key = normalize(username);
+            if (key.isEmpty() || result.containsKey(username)) {
+                continue;
+            }
+
+            Entry match = current.exact.get(key);
+            if (match == null) {
+                match = current.firstContaining(key);
+            }
+            if (match != null) {
+                result.put(username, match.githubId());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자명 자동완성 (정확히 일치 > 접두어 일치 > 부분 일치, 같은 순위는 사용자명 순)
+     */
+    public List<UserSearchResponseDto> search(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Snapshot current = current();
+        List<Entry> exact = new ArrayList<>();
+        List<Entry> prefix = new ArrayList<>();
+        List<Entry> contains = new ArrayList<>();
+        for (int index : current.candidates(key)) {
+            Entry entry = current.entries[index];
+            if (entry.key().equals(key)) {
+                exact.add(entry);
+            } else if (entry.key().startsWith(key)) {
+                prefix.add(entry);
+            } else if (entry.key().contains(key)) {
+                contains.add(entry);
+            }
+        }
+
+        List<UserSearchResponseDto> result = new ArrayList<>(Math.min(limit, exact.size() + prefix.size() + contains.size()));
+        for (List<Entry> tier : List.of(exact, prefix, contains)) {
+            for (Entry entry : tier) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(entry.toDto());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 변경된 사용자만 인덱스에 반영 (커밋 후 처리, GitHub ID가 없어졌으면 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (snapshot == null) {
+            // 아직 적재 전이면 최초 조회 시 DB에서 함께 적재됨
+            return;
+        }
+
+        try {
+            User user = userRepository.findById(event.getEmployeeId()).orElse(null);
+            synchronized (writeLock) {
+                Map<String, Entry> byId = new HashMap<>(snapshot.byId);
+                Entry entry = user != null ? Entry.from(user) : null;
+                if (entry != null) {
+                    byId.put(entry.employeeId(), entry);
+                } else {
+                    byId.remove(event.getEmployeeId());
+                }
+                snapshot = Snapshot.build(byId);
+            }
+            log.debug("[사용자명 인덱스] 사용자 반영 : employeeId = {}", event.getEmployeeId());
+        } catch (Exception e) {
+            log.warn("[사용자명 인덱스] 사용자 반영 실패, 다음 재적재 시 반영 : employeeId = {}, error = {}",
+                    event.getEmployeeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * DB 전체 재적재 (이벤트 없이 변경된 사용자 반영)
+     */
+    @Scheduled(fixedDelayString = "${user.name-index.refresh-interval-ms:600000}",
+            initialDelayString = "${user.name-index.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("[사용자명 인덱스] 재적재 실패, 기존 인덱스 유지 : error = {}", e.getMessage());
+        }
+    }
+
+    public int size() {
+        return current().entries.length;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (writeLock) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private void reload() {
+        long start = System.currentTimeMillis();
+        synchronized (writeLock) {
+            Map<String, Entry> byId = new HashMap<>();
+            for (User user : userRepository.findAll()) {
+                Entry entry = Entry.from(user);
+                if (entry != null) {
+                    byId.put(entry.employeeId(), entry);
+                }
+            }
+            snapshot = Snapshot.build(byId);
+        }
+        log.info("[사용자명 인덱스] 적재 완료 : 사용자 = {}명, 소요 = {}ms", snapshot.entries.length, System.currentTimeMillis() - start);
+    }
+
+    private static String normalize(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 인덱스 항목 (GitHub ID가 있는 사용자만)
+     */
+    private record Entry(String employeeId, String username, Department department, String githubId, String key) {
+
+        private static Entry from(User user) {
+            if (!StringUtils.hasText(user.getGithubId()) || !StringUtils.hasText(user.getUsername())) {
+                return null;
+            }
+            return new Entry(user.getId(), user.getUsername(), user.getDepartment(), user.getGithubId(), normalize(user.getUsername()));
+        }
+
+        private UserSearchResponseDto toDto() {
+            return UserSearchResponseDto.builder()
+                    .employeeId(employeeId)
+                    .username(username)
+                    .department(department)
+                    .hasGithubId(true)
+                    .githubId(githubId)
+                    .build();
+        }
+    }
+
+    /**
+     * 불변 인덱스 스냅샷
+     *      entries 는 (사용자명, 사원번호) 순으로 정렬, gram 역색인은 entries 의 오름차순 위치 목록
+     */
+    private static final class Snapshot {
+        private static final int[] EMPTY = new int[0];
+
+        private final Map<String, Entry> byId;
+        private final Entry[] entries;
+        private final Map<String, Entry> exact;
+        private final Map<String, int[]> grams;
+
+        private Snapshot(Map<String, Entry> byId, Entry[] entries, Map<String, Entry> exact, Map<String, int[]> grams) {
+            this.byId = byId;
+            this.entries = entries;
+            this.exact = exact;
+            this.grams = grams;
+        }
+
+        private static Snapshot build(Map<String, Entry> byId) {
+            Entry[] entries = byId.values().stream()
+                    .sorted(Comparator.comparing(Entry::key).thenComparing(Entry::employeeId))
+                    .toArray(Entry[]::new);
+
+            Map<String, Entry> exact = new HashMap<>();
+            Map<String, List<Integer>> postings = new HashMap<>();
+            for (int i = 0; i < entries.length; i++) {
+                String key = entries[i].key();
+                exact.putIfAbsent(key, entries[i]);
+                for (String gram : grams(key)) {
+                    List<Integer> posting = postings.computeIfAbsent(gram, g -> new ArrayList<>());
+                    // 같은 사용자명 안에서 gram 이 반복되면 한 번만 기록 (i 는 증가 순)
+                    if (posting.isEmpty() || posting.get(posting.size() - 1) != i) {
+                        posting.add(i);
+                    }
+                }
+            }
+
+            Map<String, int[]> grams = new HashMap<>(postings.size() * 2);
+            postings.forEach((gram, posting) -> grams.put(gram, posting.stream().mapToInt(Integer::intValue).toArray()));
+            return new Snapshot(Map.copyOf(byId), entries, exact, grams);
+        }
+
+        /**
+         * 부분 일치 후보 위치 (1글자는 1-gram, 그 이상은 가장 희소한 2-gram 의 역색인)
+         */
+        private int[] candidates(String key) {
+            if (key.length() == 1) {
+                return grams.getOrDefault(key, EMPTY);
+            }
+
+            int[] best = null;
+            for (int i = 0; i + 2 <= key.length(); i++) {
+                int[] posting = grams.get(key.substring(i, i + 2));
+                if (posting == null) {
+                    return EMPTY;
+                }
+                if (best == null || posting.length < best.length) {
+                    best = posting;
+                }
+            }
+            return best;
+        }
+
+        private Entry firstContaining(String key) {
+            for (int index : candidates(key)) {
+                if (entries[index].key().contains(key)) {
+                    return entries[index];
+                }
+            }
+            return null;
+        }
+
+        private static List<String> grams(String key) {
+            List<String> result = new ArrayList<>(key.length() * 2);
+            for (int i = 0; i < key.length(); i++) {
+                result.add(key.substring(i, i + 1));
+                if (i + 2 <= key.length()) {
+                    result.add(key.substring(i, i + 2));
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -95,4 +95,15 @@ public class UserController {
 
         return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, userList));
     }
+
+    // 사용자명 자동완성 (이슈 담당자 지정용, GitHub ID가 있는 사용자만)
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<List<UserSearchResponseDto>>> searchUsers(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+
+        List<UserSearchResponseDto> users = userService.searchUsers(query, limit);
+
+        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, users));
+    }
 }
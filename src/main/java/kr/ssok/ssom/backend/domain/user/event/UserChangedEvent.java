@@ -0,0 +1,13 @@
+package kr.ssok.ssom.backend.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 정보 변경(가입, 이름/GitHub ID 변경) 이벤트 - 사용자명 인덱스 갱신용
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+    private final String employeeId;    // 변경된 사용자의 사원번호
+}
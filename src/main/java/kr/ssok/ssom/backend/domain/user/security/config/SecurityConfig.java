@@ -1,5 +1,6 @@
 package kr.ssok.ssom.backend.domain.user.security.config;
 
+import jakarta.servlet.DispatcherType;
 import kr.ssok.ssom.backend.domain.user.security.filter.JwtAuthenticationFilter;
 import kr.ssok.ssom.backend.domain.user.security.handler.JwtAuthenticationEntryPoint;
 import kr.ssok.ssom.backend.domain.user.security.jwt.JwtTokenProvider;
@@ -132,6 +133,9 @@ public class SecurityConfig {
                 
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                    // CompletableFuture 응답은 비동기 디스패치에서 작성됨 - 최초 요청에서 이미 인증을 마쳤고,
+                    // JWT 필터는 비동기/에러 디스패치를 다시 검사하지 않으므로 (STATELESS) 여기서 허용
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                     .requestMatchers(WHITELIST_PATHS.toArray(new String[0])).permitAll()
                     .anyRequest().authenticated()
                 )
@@ -6,8 +6,11 @@ import kr.ssok.ssom.backend.domain.user.dto.PasswordChangeRequestDto;
 import kr.ssok.ssom.backend.domain.user.dto.SignupRequestDto;
 import kr.ssok.ssom.backend.domain.user.dto.UserResponseDto;
 import kr.ssok.ssom.backend.domain.user.dto.UserListResponseDto;
+import kr.ssok.ssom.backend.domain.user.dto.UserSearchResponseDto;
+import kr.ssok.ssom.backend.domain.user.cache.UserNameIndex;
 import kr.ssok.ssom.backend.domain.user.entity.Department;
 import kr.ssok.ssom.backend.domain.user.entity.User;
+import kr.ssok.ssom.backend.domain.user.event.UserChangedEvent;
 import kr.ssok.ssom.backend.domain.user.repository.BiometricInfoRepository;
 import kr.ssok.ssom.backend.domain.user.security.jwt.JwtTokenProvider;
 import kr.ssok.ssom.backend.domain.user.repository.UserRepository;
@@ -17,6 +20,7 @@ import kr.ssok.ssom.backend.global.exception.BaseException;
 import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -42,6 +46,11 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final BiometricInfoRepository biometricInfoRepository;
     private final BiometricFailureService biometricFailureService;
+    private final UserNameIndex userNameIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 자동완성 최대 결과 수
+    private static final int MAX_SEARCH_LIMIT = 50;
 
     // 회원가입
     @Override
@@ -72,6 +81,7 @@ public class UserServiceImpl implements UserService {
                 .build();
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(employeeId));
         log.info("새 사용자 등록 완료 - 사원번호: {}, 부서: {}", employeeId, department);
     }
 
@@ -338,4 +348,13 @@ public class UserServiceImpl implements UserService {
 
         return userList;
     }
+
+    /**
+     * 사용자명 자동완성 (사용자명 인덱스 조회, DB 조회 없음)
+     */
+    @Override
+    public List<UserSearchResponseDto> searchUsers(String query, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        return userNameIndex.search(query, size);
+    }
 }
@@ -7,6 +7,7 @@ import kr.ssok.ssom.backend.domain.user.dto.PasswordChangeRequestDto;
 import kr.ssok.ssom.backend.domain.user.dto.SignupRequestDto;
 import kr.ssok.ssom.backend.domain.user.dto.UserResponseDto;
 import kr.ssok.ssom.backend.domain.user.dto.UserListResponseDto;
+import kr.ssok.ssom.backend.domain.user.dto.UserSearchResponseDto;
 import kr.ssok.ssom.backend.domain.user.entity.User;
 
 import java.util.List;
@@ -52,4 +53,9 @@ public interface UserService {
      * 모든 사용자 목록 조회
      */
     List<UserListResponseDto> getAllUsers();
+
+    /**
+     * 사용자명 자동완성 (GitHub ID가 있는 사용자 대상, 이슈 담당자 지정용)
+     */
+    List<UserSearchResponseDto> searchUsers(String query, int limit);
 }
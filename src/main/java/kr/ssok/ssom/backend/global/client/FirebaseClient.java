@@ -1,44 +1,393 @@
 package kr.ssok.ssom.backend.global.client;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
+import kr.ssok.ssom.backend.global.dto.FcmSendResultDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Firebase 클라이언트
+ *      - sendEachForMulticastAsync 기반 비동기 전송 (동시 전송 수 제한, 한도 초과 시 호출 스레드를 막지 않고 스케줄러에서 대기)
+ *      - 일시적 오류(UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED 등)는 실패한 토큰만 지수 백오프로 재시도
+ *      - 전송 결과 분류별 카운터(fcm.send.result) 노출
  */
 @Slf4j
 @Component
 public class FirebaseClient {
 
+    // FCM multicast 1회 요청 당 최대 토큰 수
+    private static final int MAX_MULTICAST_TOKENS = 500;
+    // 동시 전송 한도 초과 시 permit 재확인 간격
+    private static final long PERMIT_POLL_MILLIS = 20;
+
+    private final Semaphore permits;
+    private final ScheduledExecutorService retryScheduler;
+    private final Map<FcmSendResultDto.Result, Counter> resultCounters = new EnumMap<>(FcmSendResultDto.Result.class);
+    private final Counter retryCounter;
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long acquireTimeoutMillis;
+
+    public FirebaseClient(MeterRegistry meterRegistry,
+                          @Value("${fcm.send.max-concurrency:64}") int maxConcurrency,
+                          @Value("${fcm.send.max-attempts:3}") int maxAttempts,
+                          @Value("${fcm.send.initial-backoff-ms:200}") long initialBackoffMillis,
+                          @Value("${fcm.send.max-backoff-ms:3000}") long maxBackoffMillis,
+                          @Value("${fcm.send.acquire-timeout-ms:2000}") long acquireTimeoutMillis) {
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "fcm-retry-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (FcmSendResultDto.Result result : FcmSendResultDto.Result.values()) {
+            resultCounters.put(result, Counter.builder("fcm.send.result")
+                    .description("FCM 전송 결과 분류별 건수")
+                    .tag("result", result.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.retryCounter = Counter.builder("fcm.send.retry")
+                .description("일시적 오류로 인한 FCM 재전송 횟수")
+                .register(meterRegistry);
+    }
+
     /**
-     * FCM 알림 전송
+     * 여러 토큰(한 사용자의 여러 디바이스)에 FCM 알림을 한 번의 multicast 요청으로 비동기 전송
+     *      반환되는 future는 예외로 완료되지 않으며, 실패 사유는 토큰별 결과 DTO의 분류로 전달
      *
-     * @param request FCM 알림 요청 DTO
+     * @param request FCM 알림 요청 DTO (tokens 사용, 없으면 token 사용)
+     * @return 토큰별 전송 결과 (요청 토큰 순서와 동일)
+     */
+    public CompletableFuture<List<FcmSendResultDto>> sendMulticastAsync(FcmMessageRequestDto request) {
+        List<String> tokens = tokensOf(request);
+        if (tokens.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        // multicast 한도를 넘으면 나누어 전송
+        if (tokens.size() > MAX_MULTICAST_TOKENS) {
+            List<CompletableFuture<List<FcmSendResultDto>>> chunks = new ArrayList<>();
+            for (int from = 0; from < tokens.size(); from += MAX_MULTICAST_TOKENS) {
+                List<String> chunk = tokens.subList(from, Math.min(from + MAX_MULTICAST_TOKENS, tokens.size()));
+                chunks.add(sendChunk(request, List.copyOf(chunk)));
+            }
+            return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                    .thenApply(v -> chunks.stream().flatMap(f -> f.join().stream()).toList());
+        }
+
+        return sendChunk(request, tokens);
+    }
+
+    private CompletableFuture<List<FcmSendResultDto>> sendChunk(FcmMessageRequestDto request, List<String> tokens) {
+        CompletableFuture<List<FcmSendResultDto>> sent = new CompletableFuture<>();
+        sendWhenPermitted(request, tokens, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis), sent);
+        return sent;
+    }
+
+    /**
+     * 동시 전송 수 제한 - permit 이 없으면 호출 스레드를 막지 않고 재시도 스케줄러에서 다시 확인
+     *      대기 시간(acquireTimeoutMillis)이 지나도 permit 이 없으면 REJECTED
      */
-    public void sendNotification(FcmMessageRequestDto request) {
+    private void sendWhenPermitted(FcmMessageRequestDto request, List<String> tokens, long deadline,
+                                   CompletableFuture<List<FcmSendResultDto>> sent) {
+        if (permits.tryAcquire()) {
+            send(request, tokens).whenComplete((results, ex) -> {
+                if (ex != null) {
+                    sent.completeExceptionally(ex);
+                } else {
+                    sent.complete(results);
+                }
+            });
+            return;
+        }
+
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis > 0) {
+            try {
+                retryScheduler.schedule(() -> sendWhenPermitted(request, tokens, deadline, sent),
+                        Math.min(PERMIT_POLL_MILLIS, remainingMillis), TimeUnit.MILLISECONDS);
+                return;
+            } catch (Exception e) {
+                log.error("푸시 알림 전송 대기 예약 실패: {}", e.getMessage());
+            }
+        }
+
+        log.warn("푸시 알림 동시 전송 한도 초과로 전송하지 않음 : tokenCount = {}", tokens.size());
+        sent.complete(record(tokens.stream()
+                .map(token -> failure(token, FcmSendResultDto.Result.REJECTED, null, 0))
+                .toList()));
+    }
+
+    /**
+     * permit 을 얻은 뒤 전송 (재시도 포함), 완료 시 permit 반환
+     */
+    private CompletableFuture<List<FcmSendResultDto>> send(FcmMessageRequestDto request, List<String> tokens) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        done.whenComplete((v, ex) -> permits.release());
+
+        Map<String, FcmSendResultDto> results = new ConcurrentHashMap<>();
+        attempt(request, tokens, 1, results, done);
+
+        return done.thenApply(v -> record(tokens.stream()
+                .map(token -> results.getOrDefault(token, failure(token, FcmSendResultDto.Result.FAILURE, null, 0)))
+                .toList()));
+    }
+
+    /**
+     * 단일 multicast 전송 시도
+     */
+    private void attempt(FcmMessageRequestDto request, List<String> pending, int attemptNo,
+                         Map<String, FcmSendResultDto> results, CompletableFuture<Void> done) {
+        ApiFuture<BatchResponse> future;
         try {
-            Message.Builder messageBuilder = Message.builder()
-                    .setToken(request.getToken())
-                    .setNotification(Notification.builder()
-                            .setTitle(request.getTitle())
-                            .setBody(request.getBody())
-                            .build());
+            future = FirebaseMessaging.getInstance().sendEachForMulticastAsync(buildMessage(request, pending));
+        } catch (Exception e) {
+            handleRequestFailure(e, request, pending, attemptNo, results, done);
+            return;
+        }
 
-            // data 필드가 있으면 추가
-            if (request.getData() != null && !request.getData().isEmpty()) {
-                messageBuilder.putAllData(request.getData());
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(BatchResponse batch) {
+                handleBatchResponse(batch, request, pending, attemptNo, results, done);
             }
 
-            Message message = messageBuilder.build();
-            String response = FirebaseMessaging.getInstance().send(message);
-            log.info("푸시 알림 전송 성공: {}", response);
+            @Override
+            public void onFailure(Throwable t) {
+                handleRequestFailure(t, request, pending, attemptNo, results, done);
+            }
+        }, Runnable::run);
+    }
 
+    /**
+     * 토큰별 응답 처리 - 일시적 오류 토큰만 모아 재시도
+     */
+    private void handleBatchResponse(BatchResponse batch, FcmMessageRequestDto request, List<String> pending, int attemptNo,
+                                     Map<String, FcmSendResultDto> results, CompletableFuture<Void> done) {
+        List<SendResponse> responses = batch.getResponses();
+        List<String> retryTokens = new ArrayList<>();
+
+        for (int i = 0; i < pending.size(); i++) {
+            String token = pending.get(i);
+            SendResponse response = responses.get(i);
+
+            if (response.isSuccessful()) {
+                results.put(token, FcmSendResultDto.builder()
+                        .token(token)
+                        .result(FcmSendResultDto.Result.SUCCESS)
+                        .messageId(response.getMessageId())
+                        .attempts(attemptNo)
+                        .build());
+                continue;
+            }
+
+            FirebaseMessagingException exception = response.getException();
+            FcmSendResultDto.Result result = classify(exception);
+            if (result == FcmSendResultDto.Result.TRANSIENT_FAILURE && attemptNo < maxAttempts) {
+                retryTokens.add(token);
+            } else {
+                log.error("푸시 알림 전송 실패 : result = {}, errorCode = {}, attempts = {}, error = {}",
+                        result, errorCodeOf(exception), attemptNo, exception != null ? exception.getMessage() : null);
+                results.put(token, failure(token, result, errorCodeOf(exception), attemptNo));
+            }
+        }
+
+        log.info("푸시 알림 전송 : success = {}, failure = {}, retry = {}",
+                batch.getSuccessCount(), batch.getFailureCount() - retryTokens.size(), retryTokens.size());
+
+        if (retryTokens.isEmpty()) {
+            done.complete(null);
+            return;
+        }
+        scheduleRetry(request, retryTokens, attemptNo, results, done);
+    }
+
+    /**
+     * 요청 자체 실패 처리 - 일시적 오류면 전체 토큰 재시도
+     */
+    private void handleRequestFailure(Throwable t, FcmMessageRequestDto request, List<String> pending, int attemptNo,
+                                      Map<String, FcmSendResultDto> results, CompletableFuture<Void> done) {
+        Throwable cause = unwrap(t);
+        FcmSendResultDto.Result result = classify(cause);
+        String errorCode = errorCodeOf(cause);
+
+        if (result == FcmSendResultDto.Result.TRANSIENT_FAILURE && attemptNo < maxAttempts) {
+            log.warn("푸시 알림 요청 일시적 실패 ({}/{}) : errorCode = {}, error = {}",
+                    attemptNo, maxAttempts, errorCode, cause.getMessage());
+            scheduleRetry(request, pending, attemptNo, results, done);
+            return;
+        }
+
+        log.error("푸시 알림 전송 실패 : result = {}, errorCode = {}, attempts = {}, error = {}",
+                result, errorCode, attemptNo, cause.getMessage());
+        for (String token : pending) {
+            results.put(token, failure(token, result, errorCode, attemptNo));
+        }
+        done.complete(null);
+    }
+
+    private void scheduleRetry(FcmMessageRequestDto request, List<String> retryTokens, int attemptNo,
+                               Map<String, FcmSendResultDto> results, CompletableFuture<Void> done) {
+        long backoff = backoffMillis(attemptNo);
+        retryCounter.increment(retryTokens.size());
+        try {
+            retryScheduler.schedule(() -> attempt(request, retryTokens, attemptNo + 1, results, done),
+                    backoff, TimeUnit.MILLISECONDS);
         } catch (Exception e) {
-            log.error("푸시 알림 전송 실패: {}", e.getMessage());
+            log.error("푸시 알림 재시도 예약 실패: {}", e.getMessage());
+            for (String token : retryTokens) {
+                results.put(token, failure(token, FcmSendResultDto.Result.TRANSIENT_FAILURE, null, attemptNo));
+            }
+            done.complete(null);
+        }
+    }
+
+    /**
+     * 실패 원인 분류
+     *
+     * @param cause 실패 원인
+     * @return 전송 결과 분류
+     */
+    static FcmSendResultDto.Result classify(Throwable cause) {
+        if (cause instanceof FirebaseMessagingException fme) {
+            MessagingErrorCode messagingErrorCode = fme.getMessagingErrorCode();
+            if (messagingErrorCode == MessagingErrorCode.UNREGISTERED
+                    || messagingErrorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+                return FcmSendResultDto.Result.INVALID_TOKEN;
+            }
+            if (messagingErrorCode == MessagingErrorCode.UNAVAILABLE
+                    || messagingErrorCode == MessagingErrorCode.INTERNAL
+                    || messagingErrorCode == MessagingErrorCode.QUOTA_EXCEEDED) {
+                return FcmSendResultDto.Result.TRANSIENT_FAILURE;
+            }
+
+            ErrorCode errorCode = fme.getErrorCode();
+            if (errorCode == ErrorCode.UNAVAILABLE
+                    || errorCode == ErrorCode.INTERNAL
+                    || errorCode == ErrorCode.DEADLINE_EXCEEDED
+                    || errorCode == ErrorCode.RESOURCE_EXHAUSTED) {
+                return FcmSendResultDto.Result.TRANSIENT_FAILURE;
+            }
+            return FcmSendResultDto.Result.FAILURE;
+        }
+
+        if (cause instanceof IOException) {
+            return FcmSendResultDto.Result.TRANSIENT_FAILURE;
+        }
+        return FcmSendResultDto.Result.FAILURE;
+    }
+
+    private MulticastMessage buildMessage(FcmMessageRequestDto request, List<String> tokens) {
+        MulticastMessage.Builder messageBuilder = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(Notification.builder()
+                        .setTitle(request.getTitle())
+                        .setBody(request.getBody())
+                        .build());
+
+        // data 필드가 있으면 추가
+        if (request.getData() != null && !request.getData().isEmpty()) {
+            messageBuilder.putAllData(request.getData());
+        }
+
+        return messageBuilder.build();
+    }
+
+    private static List<String> tokensOf(FcmMessageRequestDto request) {
+        if (request.getTokens() != null && !request.getTokens().isEmpty()) {
+            return List.copyOf(request.getTokens());
+        }
+        return request.getToken() != null ? List.of(request.getToken()) : List.of();
+    }
+
+    /**
+     * 지수 백오프 + jitter
+     */
+    private long backoffMillis(int attemptNo) {
+        long exponential = initialBackoffMillis * (1L << Math.min(attemptNo - 1, 16));
+        long capped = Math.min(exponential, maxBackoffMillis);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private List<FcmSendResultDto> record(List<FcmSendResultDto> results) {
+        for (FcmSendResultDto result : results) {
+            resultCounters.get(result.getResult()).increment();
         }
+        return results;
+    }
+
+    private static FcmSendResultDto failure(String token, FcmSendResultDto.Result result, String errorCode, int attempts) {
+        return FcmSendResultDto.builder()
+                .token(token)
+                .result(result)
+                .errorCode(errorCode)
+                .attempts(attempts)
+                .build();
+    }
+
+    private static String errorCodeOf(Throwable cause) {
+        if (cause == null) {
+            return null;
+        }
+        if (cause instanceof FirebaseMessagingException fme) {
+            if (fme.getMessagingErrorCode() != null) {
+                return fme.getMessagingErrorCode().name();
+            }
+            return fme.getErrorCode() != null ? fme.getErrorCode().name() : null;
+        }
+        return cause.getClass().getSimpleName();
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        Throwable cause = t;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
     }
 }
@@ -5,10 +5,12 @@ import kr.ssok.ssom.backend.global.dto.GitHubIssueResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * GitHub API FeignClient
  */
-@FeignClient(name = "github-api", url = "https://api.github.com")
+@FeignClient(name = "github-api", url = "${github.api.base-url:https://api.github.com}")
 public interface GitHubApiClient {
     
     /**
@@ -43,6 +45,26 @@ public interface GitHubApiClient {
             @RequestHeader("Authorization") String authorization
     );
     
+    /**
+     * GitHub Issue 목록 조회 (생성 요청의 결과를 알 수 없을 때 이미 생성되었는지 확인)
+     * @param owner Repository 소유자
+     * @param repo Repository 이름
+     * @param authorization GitHub Personal Access Token
+     * @param state 상태 필터 ("open", "closed", "all")
+     * @param since 이 시각 이후 수정된 Issue만 조회 (ISO 8601)
+     * @param perPage 페이지 크기 (최대 100)
+     * @return Issue 목록 (최근 생성순)
+     */
+    @GetMapping("/repos/{owner}/{repo}/issues")
+    List<GitHubIssueResponseDto> listIssues(
+            @PathVariable("owner") String owner,
+            @PathVariable("repo") String repo,
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam("state") String state,
+            @RequestParam("since") String since,
+            @RequestParam("per_page") int perPage
+    );
+    
     /**
      * GitHub Issue 상태 변경 (닫기/열기)
      * @param owner Repository 소유자
@@ -0,0 +1,52 @@
+package kr.ssok.ssom.backend.global.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OpenSearch 비동기 호출 실행 + 지연 시간 측정
+ *      opensearch.requests{operation, outcome} 타이머로 요청 종류별 지연 분포 기록
+ */
+@Component
+public class OpenSearchCallTimer {
+
+    private final MeterRegistry meterRegistry;
+
+    public OpenSearchCallTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 비동기 호출 실행
+     *
+     * @param operation 요청 종류 (예: "search", "get", "create_pit")
+     * @param call OpenSearchAsyncClient 호출
+     * @return 호출 결과 (요청 생성 중 IOException 도 실패한 future 로 반환)
+     */
+    public <T> CompletableFuture<T> execute(String operation, AsyncCall<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        CompletableFuture<T> future;
+        try {
+            future = call.execute();
+        } catch (IOException | RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.whenComplete((result, error) -> sample.stop(Timer.builder("opensearch.requests")
+                .description("OpenSearch 요청 지연 시간")
+                .tag("operation", operation)
+                .tag("outcome", error == null ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)));
+    }
+
+    @FunctionalInterface
+    public interface AsyncCall<T> {
+        CompletableFuture<T> execute() throws IOException;
+    }
+}
@@ -1,8 +1,15 @@
 package kr.ssok.ssom.backend.global.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
@@ -28,25 +35,94 @@ public class OpenSearchConfig {
     @Value("${opensearch.response-timeout:30}")
     private int responseTimeoutSeconds;
 
+    // 커넥션 풀 설정 (기본값은 클라이언트 기본값 30/10 보다 크게)
+    @Value("${opensearch.pool.max-total:100}")
+    private int maxConnTotal;
+
+    @Value("${opensearch.pool.max-per-route:50}")
+    private int maxConnPerRoute;
+
+    // 풀에서 커넥션을 얻기까지 기다리는 최대 시간 (초과 시 요청 실패)
+    @Value("${opensearch.pool.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMillis;
+
+    // 유휴 커넥션 유지 시간 (OpenSearch/LB 의 idle timeout 보다 짧게)
+    @Value("${opensearch.pool.keep-alive-seconds:30}")
+    private long keepAliveSeconds;
+
+    @Value("${opensearch.pool.time-to-live-minutes:5}")
+    private long timeToLiveMinutes;
+
     /**
-     * OpenSearchClient Bean 설정
+     * OpenSearch 커넥션 풀
+     *      동기/비동기 클라이언트가 같은 풀을 공유하며, 풀 사용량은 opensearch.pool.* 게이지로 노출
+     */
+    @Bean
+    public PoolingAsyncClientConnectionManager openSearchConnectionManager(MeterRegistry meterRegistry) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnTotal)
+                .setMaxConnPerRoute(maxConnPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofSeconds(connectTimeoutSeconds))
+                        .setTimeToLive(TimeValue.ofMinutes(timeToLiveMinutes))
+                        .build())
+                .build();
+
+        Gauge.builder("opensearch.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .description("사용 중인 OpenSearch 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("opensearch.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                .description("유휴 OpenSearch 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("opensearch.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                .description("커넥션을 기다리는 OpenSearch 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("opensearch.pool.max", connectionManager, cm -> cm.getTotalStats().getMax())
+                .description("OpenSearch 커넥션 풀 최대 크기")
+                .register(meterRegistry);
+
+        return connectionManager;
+    }
+
+    /**
+     * OpenSearchTransport Bean 설정 (동기/비동기 클라이언트 공용)
      *
-     * @return OpenSearchClient
+     * @return OpenSearchTransport
      */
     @Bean
-    public OpenSearchClient openSearchClient() {
+    public OpenSearchTransport openSearchTransport(PoolingAsyncClientConnectionManager openSearchConnectionManager) {
         final HttpHost httpHost = new HttpHost(scheme, host, port);
 
         // OpenSearch와 통신하기 위한 OpenSearchTransport 객체를 생성
-        final OpenSearchTransport transport =
-                ApacheHttpClient5TransportBuilder.builder(httpHost)
-                        .setHttpClientConfigCallback(httpClientBuilder -> httpClientBuilder
-                                .setDefaultRequestConfig(RequestConfig.custom()
-                                        .setConnectTimeout(Timeout.ofSeconds(connectTimeoutSeconds))
-                                        .setResponseTimeout(Timeout.ofSeconds(responseTimeoutSeconds))
-                                        .build())
-                        ).build();
-
-        return new OpenSearchClient(transport);
+        return ApacheHttpClient5TransportBuilder.builder(httpHost)
+                .setHttpClientConfigCallback(httpClientBuilder -> httpClientBuilder
+                        .setConnectionManager(openSearchConnectionManager)
+                        .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                        .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                        .setDefaultRequestConfig(RequestConfig.custom()
+                                .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMillis))
+                                .setResponseTimeout(Timeout.ofSeconds(responseTimeoutSeconds))
+                                .build())
+                ).build();
+    }
+
+    /**
+     * OpenSearchClient Bean 설정 (백그라운드 작업, Issue 생성 등 동기 호출용)
+     *
+     * @return OpenSearchClient
+     */
+    @Bean
+    public OpenSearchClient openSearchClient(OpenSearchTransport openSearchTransport) {
+        return new OpenSearchClient(openSearchTransport);
+    }
+
+    /**
+     * OpenSearchAsyncClient Bean 설정 (로그 조회 API 용, 요청 스레드를 막지 않음)
+     *
+     * @return OpenSearchAsyncClient
+     */
+    @Bean
+    public OpenSearchAsyncClient openSearchAsyncClient(OpenSearchTransport openSearchTransport) {
+        return new OpenSearchAsyncClient(openSearchTransport);
     }
 }
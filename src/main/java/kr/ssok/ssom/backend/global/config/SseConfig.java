@@ -1,5 +1,8 @@
 package kr.ssok.ssom.backend.global.config;
 
+import kr.ssok.ssom.backend.global.filter.SseCompressionFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
@@ -32,6 +35,20 @@ public class SseConfig {
         return new DelegatingSecurityContextAsyncTaskExecutor(executor);
     }
 
+    /**
+     * 알림/로그/통합 SSE 구독 응답 압축 필터 (Accept-Encoding: gzip, deflate 협상, 이벤트마다 flush)
+     */
+    @Bean
+    public FilterRegistrationBean<SseCompressionFilter> sseCompressionFilter(
+            @Value("${sse.compression.enabled:true}") boolean enabled,
+            @Value("${sse.compression.level:6}") int level) {
+        FilterRegistrationBean<SseCompressionFilter> registration = new FilterRegistrationBean<>(new SseCompressionFilter(level));
+        registration.addUrlPatterns("/api/alert/subscribe", "/api/logging/subscribe", "/api/stream/subscribe");
+        registration.setAsyncSupported(true);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+
     /**
      * SSE Emitter 기본 설정을 위한 Bean
      */
@@ -0,0 +1,50 @@
+package kr.ssok.ssom.backend.global.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.ssok.ssom.backend.domain.user.security.principal.UserPrincipal;
+import kr.ssok.ssom.backend.global.dto.AsyncJobDto;
+import kr.ssok.ssom.backend.global.exception.BaseResponse;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.job.AsyncJobManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 비동기 작업(LLM 분석, 이슈 초안) 조회 및 취소 API
+ * 작업 등록은 각 도메인 API(/api/logging/analysis/jobs, /api/issues/draft/jobs)에서 수행
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Job", description = "비동기 작업 조회/취소 API")
+public class AsyncJobController {
+
+    private final AsyncJobManager asyncJobManager;
+
+    @Operation(summary = "비동기 작업 조회", description = "작업 상태와 완료된 경우 결과를 조회합니다.")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BaseResponse<AsyncJobDto>> getJob(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String jobId) {
+
+        AsyncJobDto response = asyncJobManager.getJob(jobId, userPrincipal.getEmployeeId());
+        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response));
+    }
+
+    @Operation(summary = "비동기 작업 취소", description = "대기 중이거나 실행 중인 작업을 취소합니다. GitHub Issue 생성(GITHUB_ISSUE)처럼 외부에 결과가 남는 작업은 실행 중이면 취소할 수 없습니다(JOB_NOT_CANCELLABLE).")
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<BaseResponse<AsyncJobDto>> cancelJob(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String jobId) {
+
+        log.info("비동기 작업 취소 요청 - 사원번호: {}, jobId: {}", userPrincipal.getEmployeeId(), jobId);
+        AsyncJobDto response = asyncJobManager.cancel(jobId, userPrincipal.getEmployeeId());
+        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response));
+    }
+}
@@ -0,0 +1,69 @@
+package kr.ssok.ssom.backend.global.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.ssok.ssom.backend.domain.user.security.principal.UserPrincipal;
+import kr.ssok.ssom.backend.global.dto.StreamSubscriptionDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponse;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.sse.SseStreamHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 통합 SSE 스트림 API
+ * 알림(/api/alert/subscribe)과 로그(/api/logging/subscribe) 구독을 연결 1개로 대체
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+@Tag(name = "Stream", description = "통합 SSE 스트림 API")
+public class StreamController {
+
+    private final SseStreamHub sseStreamHub;
+
+    @Operation(summary = "통합 SSE 구독", description = "알림(alerts), 실시간 로그(logs), 비동기 작업 결과(jobs) 채널을 연결 1개로 구독합니다. 채널을 지정하지 않으면 전체 채널을 구독합니다.")
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+                                @RequestParam(value = "channels", required = false) List<String> channels,
+                                @RequestParam(value = "app", required = false) String app,
+                                @RequestParam(value = "level", required = false) String level,
+                                HttpServletResponse response) {
+        if (userPrincipal == null) {
+            log.error("통합 SSE 구독 실패 - 인증되지 않은 사용자");
+            throw new BaseException(BaseResponseStatus.UNAUTHORIZED);
+        }
+        log.info("통합 SSE 구독 요청 - 사원번호: {}, channels: {}, app: {}, level: {}",
+                userPrincipal.getEmployeeId(), channels, app, level);
+
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        return sseStreamHub.connect(userPrincipal.getEmployeeId(), StreamSubscriptionDto.builder()
+                .channels(channels)
+                .app(app)
+                .level(level)
+                .build());
+    }
+
+    @Operation(summary = "통합 SSE 채널 변경", description = "연결을 유지한 채 구독 채널과 로그 필터(app, level)를 변경합니다.")
+    @PutMapping("/channels")
+    public ResponseEntity<BaseResponse<StreamSubscriptionDto>> updateChannels(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody StreamSubscriptionDto request) {
+
+        StreamSubscriptionDto response = sseStreamHub.updateChannels(userPrincipal.getEmployeeId(), request);
+        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.SUCCESS, response));
+    }
+}
@@ -0,0 +1,25 @@
+package kr.ssok.ssom.backend.global.dto;
+
+import kr.ssok.ssom.backend.global.job.AsyncJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 작업 조회 결과
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsyncJobDto {
+    private String jobId;
+    private String type;            // 작업 종류 (예: "LOG_ANALYSIS", "ISSUE_DRAFT")
+    private AsyncJobStatus status;
+    private Object result;          // SUCCEEDED 일 때 작업 결과 (LogSummaryMessageDto, LlmIssueResponseDto 등)
+    private Integer errorCode;      // FAILED 일 때 BaseResponseStatus 코드
+    private String errorMessage;
+    private String createdAt;       // 예: "2025-05-30T07:24:06.396Z"
+    private String completedAt;
+}
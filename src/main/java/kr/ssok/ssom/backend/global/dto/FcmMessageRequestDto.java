@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,6 +18,7 @@ import java.util.Map;
 public class FcmMessageRequestDto {
     private String title;   // 알림 제목 (예: "[ERROR] ssok-bank")
     private String body;    // 알림 내용 (예: "uthentication error: Authorization header is missing or invalid")
-    private String token;   // FCM 토큰
+    private String token;   // FCM 토큰 (단일 디바이스)
+    private List<String> tokens;    // FCM 토큰 목록 (여러 디바이스 multicast, 지정 시 token보다 우선)
     private Map<String, String> data;
 }
@@ -0,0 +1,38 @@
+package kr.ssok.ssom.backend.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * FCM 전송 결과 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FcmSendResultDto {
+    private String token;       // 전송 대상 FCM 토큰
+    private Result result;      // 전송 결과 분류
+    private String messageId;   // 성공 시 FCM 메시지 ID (예: "projects/ssom/messages/0:1717...")
+    private String errorCode;   // 실패 시 FCM 오류 코드 (예: "UNREGISTERED")
+    private int attempts;       // 재시도를 포함한 시도 횟수
+
+    /**
+     * 전송 결과 분류
+     */
+    public enum Result {
+        SUCCESS,            // 전송 성공
+        INVALID_TOKEN,      // 만료되었거나 잘못된 토큰 (UNREGISTERED, INVALID_ARGUMENT) -> 토큰 삭제 대상
+        TRANSIENT_FAILURE,  // 일시적 오류로 재시도를 모두 소진
+        FAILURE,            // 재시도 대상이 아닌 오류
+        REJECTED            // 동시 전송 한도 초과로 전송하지 않음
+    }
+
+    public boolean isSuccess() {
+        return result == Result.SUCCESS;
+    }
+
+    public boolean isInvalidToken() {
+        return result == Result.INVALID_TOKEN;
+    }
+}
@@ -0,0 +1,21 @@
+package kr.ssok.ssom.backend.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 통합 SSE 스트림 채널 구독 정보 (채널 변경 요청 및 응답)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamSubscriptionDto {
+    private List<String> channels;  // 구독 채널 (예: ["alerts", "logs", "jobs"])
+    private String app;             // logs 채널 서비스 필터 (예: "ssok-bank", 없으면 전체)
+    private String level;           // logs 채널 레벨 필터 (예: "ERROR", 없으면 전체)
+}
@@ -13,6 +13,7 @@ public enum BaseResponseStatus {
     LOGOUT_SUCCESS(true, 2004, "로그아웃에 성공하였습니다."),
     TOKEN_REFRESH_SUCCESS(true, 2005, "토큰 갱신에 성공하였습니다."),
     PASSWORD_CHANGE_SUCCESS(true, 2006, "비밀번호 변경에 성공하였습니다."),
+    ACCEPTED(true, 2007, "요청이 접수되었습니다. 처리 결과는 작업 조회로 확인할 수 있습니다."),
 
     BAD_REQUEST(false, 4000, "잘못된 요청입니다."),
     INVALID_PARAMETER(false, 4001, "유효하지 않은 파라미터입니다."),
@@ -65,6 +66,7 @@ public enum BaseResponseStatus {
     ALERT_CREATE_FAILED(false, 7006, "알림 생성 중 오류가 발생했습니다."),
     UNSUPPORTED_ALERT_KIND(false, 7007, "알림 유형이 유효하지 않습니다."),
     REDIS_ACCESS_FAILED(false, 7008, "Redis 접근에 실패하였습니다."),
+    SSE_STREAM_NOT_CONNECTED(false, 7009, "연결된 통합 SSE 스트림이 없습니다. 먼저 스트림을 구독해주세요.", HttpStatus.CONFLICT),
 
     // Logging 관련 오류
     SERVICES_READ_FAILED(false, 8001, "OpenSearch에서 서비스 목록 조회에 실패했습니다."),
@@ -73,6 +75,13 @@ public enum BaseResponseStatus {
     LLM_SUMMARY_FAILED(false, 8004, "LLM 서비스를 이용한 로그 분석 생성에 실패했습니다."),
     LLM_SUMMARY_SAVE_FAILED(false, 8005, "LLM 로그 분석을 저장하는 데 실패했습니다."),
     LOG_NOT_FOUND(false, 8006, "로그 ID로 로그를 조회하는 데 실패했습니다."),
+    INVALID_LOG_CURSOR(false, 8007, "유효하지 않은 로그 목록 커서입니다."),
+    LOG_EXPORT_BUSY(false, 8008, "진행 중인 로그 내보내기가 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+
+    // 비동기 작업 관련 오류
+    NOT_FOUND_JOB(false, 9001, "작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    JOB_QUEUE_FULL(false, 9002, "처리 대기 중인 작업이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    JOB_NOT_CANCELLABLE(false, 9003, "이미 실행 중인 작업은 취소할 수 없습니다.", HttpStatus.CONFLICT),
 
     // 서버 오류
     INTERNAL_SERVER_ERROR(false, 5000, "서버 내부 오류가 발생했습니다.");
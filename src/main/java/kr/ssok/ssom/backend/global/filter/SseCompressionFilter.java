@@ -0,0 +1,304 @@
+package kr.ssok.ssom.backend.global.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * SSE 응답 압축 필터 (gzip / deflate)
+ *      - Accept-Encoding 으로 협상 (gzip 우선, q=0 은 제외), 지원하지 않으면 원문 그대로 전송
+ *      - SseEmitter 는 이벤트마다 flush 하므로 SYNC_FLUSH 로 압축하여 이벤트가 지연 없이 바로 전송됨
+ *      - 압축 사전은 연결 동안 유지되어 반복되는 필드명/서비스명이 이후 이벤트에서 짧게 표현됨
+ *      - 비동기 요청(SSE)은 완료 후 비동기 디스패치에서 압축 스트림 종료
+ */
+@Slf4j
+public class SseCompressionFilter extends OncePerRequestFilter {
+
+    private static final String RESPONSE_ATTRIBUTE = SseCompressionFilter.class.getName() + ".response";
+
+    private final int level;
+
+    public SseCompressionFilter(int level) {
+        this.level = level;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        // SSE 완료 후 비동기 디스패치 - 처음 요청에서 만든 압축 응답을 종료
+        if (isAsyncDispatch(request)) {
+            CompressingResponse compressing = (CompressingResponse) request.getAttribute(RESPONSE_ATTRIBUTE);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (compressing != null && !request.isAsyncStarted()) {
+                    compressing.finish();
+                }
+            }
+            return;
+        }
+
+        String encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding == null || response.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        CompressingResponse compressing = new CompressingResponse(response, encoding, level);
+        try {
+            filterChain.doFilter(request, compressing);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.setAttribute(RESPONSE_ATTRIBUTE, compressing);
+            } else {
+                compressing.finish();
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * Accept-Encoding 에서 사용할 압축 방식 선택
+     *
+     * @return "gzip", "deflate" 또는 압축하지 않으면 null
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+
+        boolean gzip = false;
+        boolean deflate = false;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (isRejected(parts)) {
+                continue;
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = true;
+            } else if (coding.equals("deflate")) {
+                deflate = true;
+            }
+        }
+        return gzip ? "gzip" : deflate ? "deflate" : null;
+    }
+
+    private static boolean isRejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 압축 출력 스트림으로 교체한 응답
+     */
+    static class CompressingResponse extends HttpServletResponseWrapper {
+        private final String encoding;
+        private final int level;
+        private CompressingOutputStream outputStream;
+        private PrintWriter writer;
+
+        CompressingResponse(HttpServletResponse response, String encoding, int level) {
+            super(response);
+            this.encoding = encoding;
+            this.level = level;
+        }
+
+        @Override
+        public synchronized ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            return stream();
+        }
+
+        @Override
+        public synchronized PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+                writer = new PrintWriter(new OutputStreamWriter(stream(), charset));
+            }
+            return writer;
+        }
+
+        @Override
+        public synchronized void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            } else if (outputStream != null) {
+                outputStream.flush();
+            }
+            super.flushBuffer();
+        }
+
+        // 압축 후 길이가 달라지므로 Content-Length 는 설정하지 않음
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        /**
+         * 압축 스트림 종료 (gzip trailer 기록)
+         */
+        synchronized void finish() {
+            try {
+                if (writer != null) {
+                    writer.flush();
+                }
+                if (outputStream != null) {
+                    outputStream.finish();
+                }
+            } catch (IOException e) {
+                log.debug("[SSE 압축] 압축 스트림 종료 실패 (연결 종료) : error = {}", e.getMessage());
+            }
+        }
+
+        private CompressingOutputStream stream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CompressingOutputStream(getResponse().getOutputStream(), encoding, level);
+            }
+            return outputStream;
+        }
+    }
+
+    /**
+     * flush 마다 SYNC_FLUSH 하는 압축 ServletOutputStream
+     *      - 종료 시 Deflater 의 네이티브 메모리를 바로 해제 (GC 의 Cleaner 를 기다리지 않음)
+     */
+    static class CompressingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream target;
+        private final DeflaterOutputStream compressor;
+        private final Deflater deflater;
+        private boolean finished;
+
+        CompressingOutputStream(ServletOutputStream target, String encoding, int level) throws IOException {
+            this.target = target;
+            if ("gzip".equals(encoding)) {
+                LeveledGzipOutputStream gzip = new LeveledGzipOutputStream(target, level);
+                this.compressor = gzip;
+                this.deflater = gzip.deflater();
+            } else {
+                // HTTP deflate 는 zlib 형식 (RFC 1950)
+                this.deflater = new Deflater(level);
+                this.compressor = new DeflaterOutputStream(target, deflater, 8192, true);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            compressor.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            compressor.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!finished) {
+                compressor.flush();
+            }
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            target.close();
+        }
+
+        void finish() throws IOException {
+            if (!finished) {
+                finished = true;
+                try {
+                    compressor.finish();
+                    target.flush();
+                } finally {
+                    // 연결이 끊겨 finish 가 실패해도 해제
+                    deflater.end();
+                }
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+    }
+
+    /**
+     * 압축 레벨을 지정하고 내부 Deflater 를 노출하는 GZIPOutputStream (SYNC_FLUSH)
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(OutputStream target, int level) throws IOException {
+            super(target, 8192, true);
+            def.setLevel(level);
+        }
+
+        Deflater deflater() {
+            return def;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package kr.ssok.ssom.backend.global.job;
+
+import kr.ssok.ssom.backend.global.dto.AsyncJobDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 작업 종료(완료, 실패, 취소) 이벤트 - SSE 결과 전송용
+ */
+@Getter
+@RequiredArgsConstructor
+public class AsyncJobCompletedEvent {
+    private final String ownerId;       // 작업을 요청한 사원번호
+    private final AsyncJobDto job;
+}
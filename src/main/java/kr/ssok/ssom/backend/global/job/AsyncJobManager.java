@@ -0,0 +1,295 @@
+package kr.ssok.ssom.backend.global.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.ssok.ssom.backend.global.dto.AsyncJobDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 작업 관리 (LLM 분석, 이슈 초안 등 오래 걸리는 호출용)
+ *      - 요청 스레드는 작업을 등록하고 작업 ID만 즉시 반환
+ *      - 고정 크기 워커 풀 + 제한된 대기열에서 실행, 대기열이 차면 JOB_QUEUE_FULL
+ *      - 결과는 조회(GET /api/jobs/{jobId}) 또는 종료 이벤트(AsyncJobCompletedEvent)로 전달
+ *      - 종료된 작업은 보관 기간이 지나면 정리
+ */
+@Slf4j
+@Component
+public class AsyncJobManager {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor workers;
+    private final long retentionMillis;
+
+    private final Map<String, AsyncJob> jobs = new ConcurrentHashMap<>();
+
+    private final Counter rejectedCounter;
+    private final Map<AsyncJobStatus, Counter> finishedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public AsyncJobManager(ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry,
+                           @Value("${jobs.workers:4}") int workerCount,
+                           @Value("${jobs.queue-capacity:100}") int queueCapacity,
+                           @Value("${jobs.retention-minutes:30}") long retentionMinutes) {
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.retentionMillis = TimeUnit.MINUTES.toMillis(Math.max(1, retentionMinutes));
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        int poolSize = Math.max(1, workerCount);
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread thread = new Thread(r, "async-job-" + threadSeq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejectedCounter = Counter.builder("jobs.rejected")
+                .description("대기열이 가득 차 거절된 비동기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("jobs.queued", workers, executor -> executor.getQueue().size())
+                .description("실행 대기 중인 비동기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("jobs.active", workers, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비동기 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 등록
+     *
+     * @param ownerId 요청자 사원번호 (조회/취소 권한, SSE 전송 대상)
+     * @param type 작업 종류 (예: "LOG_ANALYSIS")
+     * @param task 워커 스레드에서 실행할 작업
+     * @return 등록된 작업 (PENDING)
+     */
+    public AsyncJobDto submit(String ownerId, String type, Supplier<?> task) {
+        return submit(new AsyncJob(UUID.randomUUID().toString(), type, ownerId, true, null), task);
+    }
+
+    /**
+     * 실행을 시작하면 취소할 수 없는 작업 등록 (외부에 생성 요청을 보내는 등 중간에 끊으면 결과를 알 수 없는 작업)
+     *      - 대기 중에만 취소 가능하며, 취소되면 onCancelled 로 미리 만든 데이터를 정리
+     *      - 실행 중 취소 요청은 JOB_NOT_CANCELLABLE, 결과는 작업 종료 상태로 확인
+     *
+     * @param onCancelled 실행 전에 취소되었을 때 호출 (취소 요청 스레드)
+     */
+    public AsyncJobDto submitNonInterruptible(String ownerId, String type, Supplier<?> task, Runnable onCancelled) {
+        return submit(new AsyncJob(UUID.randomUUID().toString(), type, ownerId, false, onCancelled), task);
+    }
+
+    private AsyncJobDto submit(AsyncJob job, Supplier<?> task) {
+        jobs.put(job.id, job);
+
+        try {
+            job.future = workers.submit(() -> run(job, task));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            rejectedCounter.increment();
+            log.warn("[비동기 작업] 대기열 초과로 거절 : type = {}, ownerId = {}, queued = {}",
+                    job.type, job.ownerId, workers.getQueue().size());
+            throw new BaseException(BaseResponseStatus.JOB_QUEUE_FULL);
+        }
+
+        log.info("[비동기 작업] 등록 : jobId = {}, type = {}, ownerId = {}", job.id, job.type, job.ownerId);
+        return job.toDto();
+    }
+
+    /**
+     * 작업 조회 (요청자 본인만 조회 가능)
+     */
+    public AsyncJobDto getJob(String jobId, String ownerId) {
+        return findOwnedJob(jobId, ownerId).toDto();
+    }
+
+    /**
+     * 작업 취소 - 대기 중이면 실행하지 않고, 실행 중이면 인터럽트 후 결과를 버림
+     *      이미 종료된 작업은 현재 상태를 그대로 반환
+     *
+     * @throws BaseException 실행 중인 취소 불가 작업이면 JOB_NOT_CANCELLABLE
+     */
+    public AsyncJobDto cancel(String jobId, String ownerId) {
+        AsyncJob job = findOwnedJob(jobId, ownerId);
+
+        boolean wasPending;
+        boolean cancelled;
+        synchronized (job) {
+            if (job.status == AsyncJobStatus.RUNNING && !job.interruptible) {
+                throw new BaseException(BaseResponseStatus.JOB_NOT_CANCELLABLE);
+            }
+            wasPending = job.status == AsyncJobStatus.PENDING;
+            cancelled = job.finish(AsyncJobStatus.CANCELLED, null, null, null);
+        }
+
+        if (cancelled) {
+            Future<?> future = job.future;
+            if (future != null) {
+                future.cancel(job.interruptible);
+            }
+            log.info("[비동기 작업] 취소 : jobId = {}, type = {}", job.id, job.type);
+            if (wasPending && job.onCancelled != null) {
+                runCancelHook(job);
+            }
+            publishFinished(job);
+        }
+        return job.toDto();
+    }
+
+    /**
+     * 보관 기간이 지난 종료 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${jobs.cleanup-interval-ms:60000}")
+    public void cleanupFinishedJobs() {
+        long threshold = System.currentTimeMillis() - retentionMillis;
+        int before = jobs.size();
+        jobs.values().removeIf(job -> job.status.isFinished() && job.completedAt < threshold);
+
+        int removed = before - jobs.size();
+        if (removed > 0) {
+            log.debug("[비동기 작업] 종료 작업 {}건 정리, 남은 작업 {}건", removed, jobs.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void run(AsyncJob job, Supplier<?> task) {
+        if (!job.start()) {
+            return;     // 실행 전에 취소됨
+        }
+
+        try {
+            Object result = task.get();
+            if (job.finish(AsyncJobStatus.SUCCEEDED, result, null, null)) {
+                publishFinished(job);
+            }
+        } catch (BaseException e) {
+            if (job.finish(AsyncJobStatus.FAILED, null, e.getStatus().getCode(), e.getStatus().getMessage())) {
+                log.warn("[비동기 작업] 실패 : jobId = {}, type = {}, error = {}", job.id, job.type, e.getMessage());
+                publishFinished(job);
+            }
+        } catch (Exception e) {
+            BaseResponseStatus status = BaseResponseStatus.INTERNAL_SERVER_ERROR;
+            if (job.finish(AsyncJobStatus.FAILED, null, status.getCode(), status.getMessage())) {
+                log.error("[비동기 작업] 실패 : jobId = {}, type = {}, error = {}", job.id, job.type, e.getMessage(), e);
+                publishFinished(job);
+            }
+        }
+    }
+
+    private void publishFinished(AsyncJob job) {
+        finishedCounters.computeIfAbsent(job.status, status -> Counter.builder("jobs.finished")
+                .description("종료된 비동기 작업 수")
+                .tag("status", status.name())
+                .register(meterRegistry)).increment();
+
+        try {
+            eventPublisher.publishEvent(new AsyncJobCompletedEvent(job.ownerId, job.toDto()));
+        } catch (Exception e) {
+            log.error("[비동기 작업] 종료 이벤트 전송 실패 : jobId = {}, error = {}", job.id, e.getMessage());
+        }
+    }
+
+    private void runCancelHook(AsyncJob job) {
+        try {
+            job.onCancelled.run();
+        } catch (Exception e) {
+            log.error("[비동기 작업] 취소 후 정리 실패 : jobId = {}, type = {}, error = {}", job.id, job.type, e.getMessage());
+        }
+    }
+
+    private AsyncJob findOwnedJob(String jobId, String ownerId) {
+        AsyncJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BaseException(BaseResponseStatus.NOT_FOUND_JOB);
+        }
+        if (!job.ownerId.equals(ownerId)) {
+            throw new BaseException(BaseResponseStatus.FORBIDDEN);
+        }
+        return job;
+    }
+
+    /**
+     * 작업 상태 (상태 전이는 객체 lock 안에서만)
+     */
+    private static class AsyncJob {
+        private final String id;
+        private final String type;
+        private final String ownerId;
+        private final boolean interruptible;
+        private final Runnable onCancelled;
+        private final long createdAt = System.currentTimeMillis();
+
+        private volatile AsyncJobStatus status = AsyncJobStatus.PENDING;
+        private volatile Future<?> future;
+        private Object result;
+        private Integer errorCode;
+        private String errorMessage;
+        private volatile long completedAt;
+
+        private AsyncJob(String id, String type, String ownerId, boolean interruptible, Runnable onCancelled) {
+            this.id = id;
+            this.type = type;
+            this.ownerId = ownerId;
+            this.interruptible = interruptible;
+            this.onCancelled = onCancelled;
+        }
+
+        private synchronized boolean start() {
+            if (status != AsyncJobStatus.PENDING) {
+                return false;
+            }
+            status = AsyncJobStatus.RUNNING;
+            return true;
+        }
+
+        private synchronized boolean finish(AsyncJobStatus finalStatus, Object result, Integer errorCode, String errorMessage) {
+            if (status.isFinished()) {
+                return false;
+            }
+            this.status = finalStatus;
+            this.result = result;
+            this.errorCode = errorCode;
+            this.errorMessage = errorMessage;
+            this.completedAt = System.currentTimeMillis();
+            return true;
+        }
+
+        private synchronized AsyncJobDto toDto() {
+            return AsyncJobDto.builder()
+                    .jobId(id)
+                    .type(type)
+                    .status(status)
+                    .result(result)
+                    .errorCode(errorCode)
+                    .errorMessage(errorMessage)
+                    .createdAt(Instant.ofEpochMilli(createdAt).toString())
+                    .completedAt(completedAt > 0 ? Instant.ofEpochMilli(completedAt).toString() : null)
+                    .build();
+        }
+    }
+}
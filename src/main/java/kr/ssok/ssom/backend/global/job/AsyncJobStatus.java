@@ -0,0 +1,16 @@
+package kr.ssok.ssom.backend.global.job;
+
+/**
+ * 비동기 작업 상태
+ */
+public enum AsyncJobStatus {
+    PENDING,        // 대기열에서 실행 대기 중
+    RUNNING,        // 실행 중
+    SUCCEEDED,      // 완료 (result 에 결과)
+    FAILED,         // 실패 (errorCode, errorMessage 에 원인)
+    CANCELLED;      // 사용자 취소
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
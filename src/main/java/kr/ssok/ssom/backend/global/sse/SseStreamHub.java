@@ -0,0 +1,219 @@
+package kr.ssok.ssom.backend.global.sse;
+
+import kr.ssok.ssom.backend.global.dto.StreamSubscriptionDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.job.AsyncJobCompletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 통합 SSE 스트림 (사용자당 연결 1개로 알림/로그/작업 결과 채널 전송)
+ *      - 채널 구독/해제와 로그 필터 변경은 연결을 유지한 채 updateChannels 로 반영
+ *      - 이벤트 이름은 기존 개별 SSE 와 같음 (SSE_ALERT, LOGGING, LOGGING_AGGREGATE, LLM_JOB)
+ *      - 연결 관리(재연결 시 기존 연결 정리, 타임아웃/오류 시 제거, heartbeat)를 한 곳에서 처리
+ */
+@Slf4j
+@Component
+public class SseStreamHub {
+
+    private final long timeoutMillis;
+
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    public SseStreamHub(@Value("${stream.sse.timeout-ms:3600000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 통합 스트림 연결 (기존 연결이 있으면 종료 후 교체)
+     *
+     * @param employeeId 사원번호
+     * @param request 최초 구독 채널과 로그 필터 (채널이 없으면 전체 채널)
+     */
+    public SseEmitter connect(String employeeId, StreamSubscriptionDto request) {
+        if (!StringUtils.hasText(employeeId)) {
+            throw new BaseException(BaseResponseStatus.SSE_BAD_REQUEST);
+        }
+
+        Subscription subscription = Subscription.from(request);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(emitter, subscription);
+
+        Connection existing = connections.put(employeeId, connection);
+        if (existing != null) {
+            log.info("[통합 SSE] 기존 연결 교체 : employeeId = {}", employeeId);
+            try {
+                existing.emitter.complete();
+            } catch (Exception e) {
+                log.debug("[통합 SSE] 기존 연결 정리 중 예외 무시 : employeeId = {}, error = {}", employeeId, e.getMessage());
+            }
+        }
+
+        // 교체된 이전 연결의 콜백이 새 연결을 지우지 않도록 같은 연결일 때만 제거
+        emitter.onCompletion(() -> connections.remove(employeeId, connection));
+        emitter.onTimeout(() -> connections.remove(employeeId, connection));
+        emitter.onError(throwable -> connections.remove(employeeId, connection));
+
+        if (!sendEvent(employeeId, connection, "STREAM_INIT", subscription.toDto())) {
+            throw new BaseException(BaseResponseStatus.SSE_INIT_ERROR);
+        }
+
+        log.info("[통합 SSE] 연결 완료 : employeeId = {}, channels = {}", employeeId, subscription.channels());
+        return emitter;
+    }
+
+    /**
+     * 연결을 유지한 채 구독 채널과 로그 필터 변경
+     *
+     * @return 변경된 구독 정보 (STREAM_CHANNELS 이벤트로도 전송)
+     */
+    public StreamSubscriptionDto updateChannels(String employeeId, StreamSubscriptionDto request) {
+        Connection connection = connections.get(employeeId);
+        if (connection == null) {
+            throw new BaseException(BaseResponseStatus.SSE_STREAM_NOT_CONNECTED);
+        }
+
+        Subscription subscription = Subscription.from(request);
+        connection.subscription = subscription;
+        sendEvent(employeeId, connection, "STREAM_CHANNELS", subscription.toDto());
+
+        log.info("[통합 SSE] 채널 변경 : employeeId = {}, channels = {}, app = {}, level = {}",
+                employeeId, subscription.channels(), subscription.app(), subscription.level());
+        return subscription.toDto();
+    }
+
+    /**
+     * 채널을 구독 중인 사용자에게 전송
+     *
+     * @return 전송 여부 (미연결, 미구독, 전송 실패 시 false)
+     */
+    public boolean send(String employeeId, StreamChannel channel, String eventName, Object data) {
+        Connection connection = connections.get(employeeId);
+        if (connection == null || !connection.subscription.channels().contains(channel)) {
+            return false;
+        }
+        return sendEvent(employeeId, connection, eventName, data);
+    }
+
+    /**
+     * 실시간 로그를 받을 사용자 목록 (logs 채널 구독 + 서비스/레벨 필터 일치)
+     */
+    public List<String> logSubscribers(String app, String level) {
+        return subscribers(StreamChannel.LOGS, subscription -> subscription.matchesLog(app, level));
+    }
+
+    public boolean isSubscribed(String employeeId, StreamChannel channel) {
+        Connection connection = connections.get(employeeId);
+        return connection != null && connection.subscription.channels().contains(channel);
+    }
+
+    public int getActiveConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * 비동기 작업 종료 결과를 jobs 채널로 전송
+     */
+    @EventListener
+    public void onJobCompleted(AsyncJobCompletedEvent event) {
+        send(event.getOwnerId(), StreamChannel.JOBS, "LLM_JOB", event.getJob());
+    }
+
+    /**
+     * heartbeat 전송 - 프록시 유휴 연결 종료 방지 및 끊어진 연결 정리
+     */
+    @Scheduled(fixedRateString = "${stream.sse.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        for (Map.Entry<String, Connection> entry : connections.entrySet()) {
+            sendEvent(entry.getKey(), entry.getValue(), "heartbeat", "ping");
+        }
+        log.debug("[통합 SSE] heartbeat 전송 : 활성 연결 = {}개", connections.size());
+    }
+
+    private List<String> subscribers(StreamChannel channel, Predicate<Subscription> filter) {
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<String, Connection> entry : connections.entrySet()) {
+            Subscription subscription = entry.getValue().subscription;
+            if (subscription.channels().contains(channel) && filter.test(subscription)) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    private boolean sendEvent(String employeeId, Connection connection, String eventName, Object data) {
+        try {
+            synchronized (connection.emitter) {
+                connection.emitter.send(SseEmitter.event()
+                        .name(eventName)
+                        .id(employeeId + "_" + System.currentTimeMillis())
+                        .data(data)
+                        .reconnectTime(3000L));
+            }
+            return true;
+        } catch (Exception e) {
+            log.info("[통합 SSE] 전송 실패로 연결 제거 : employeeId = {}, event = {}, error = {}", employeeId, eventName, e.getMessage());
+            connections.remove(employeeId, connection);
+            return false;
+        }
+    }
+
+    private static class Connection {
+        private final SseEmitter emitter;
+        private volatile Subscription subscription;
+
+        private Connection(SseEmitter emitter, Subscription subscription) {
+            this.emitter = emitter;
+            this.subscription = subscription;
+        }
+    }
+
+    /**
+     * 구독 채널과 로그 필터 (변경 시 통째로 교체)
+     */
+    private record Subscription(Set<StreamChannel> channels, String app, String level) {
+
+        private static Subscription from(StreamSubscriptionDto request) {
+            Collection<String> requested = request != null ? request.getChannels() : null;
+            Set<StreamChannel> channels = EnumSet.noneOf(StreamChannel.class);
+            if (requested == null || requested.isEmpty()) {
+                channels.addAll(EnumSet.allOf(StreamChannel.class));
+            } else {
+                requested.forEach(value -> channels.add(StreamChannel.from(value)));
+            }
+
+            String app = request != null && StringUtils.hasText(request.getApp()) ? request.getApp() : null;
+            String level = request != null && StringUtils.hasText(request.getLevel()) ? request.getLevel() : null;
+            return new Subscription(Set.copyOf(channels), app, level);
+        }
+
+        private boolean matchesLog(String logApp, String logLevel) {
+            boolean appMatches = app == null || app.equalsIgnoreCase(logApp);
+            boolean levelMatches = level == null || level.equalsIgnoreCase(logLevel);
+            return appMatches && levelMatches;
+        }
+
+        private StreamSubscriptionDto toDto() {
+            return StreamSubscriptionDto.builder()
+                    .channels(channels.stream().sorted().map(StreamChannel::getValue).toList())
+                    .app(app)
+                    .level(level)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package kr.ssok.ssom.backend.global.sse;
+
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * 통합 SSE 스트림 채널
+ */
+@Getter
+@AllArgsConstructor
+public enum StreamChannel {
+
+    ALERTS("alerts"),   // 알림 (SSE_ALERT)
+    LOGS("logs"),       // 실시간 로그 (LOGGING, LOGGING_AGGREGATE) - app/level 필터 적용
+    JOBS("jobs");       // 비동기 작업 결과 (LLM_JOB)
+
+    private final String value;
+
+    public static StreamChannel from(String value) {
+        String normalized = value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        for (StreamChannel channel : values()) {
+            if (channel.value.equals(normalized)) {
+                return channel;
+            }
+        }
+        throw new BaseException(BaseResponseStatus.INVALID_PARAMETER);
+    }
+}
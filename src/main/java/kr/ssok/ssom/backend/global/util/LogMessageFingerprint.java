@@ -0,0 +1,66 @@
+package kr.ssok.ssom.backend.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 로그 메시지 지문(fingerprint) 유틸
+ *      값만 다른 같은 종류의 로그를 하나로 묶기 위해 가변 값을 마스킹한 템플릿과 그 해시를 계산
+ *      예) "Transfer failed: account 110-234-5678, txId=3f2a9c1e-..." -> "Transfer failed: account <NUM>-<NUM>-<NUM>, txId=<UUID>"
+ */
+public final class LogMessageFingerprint {
+
+    private static final Pattern UUID = Pattern.compile(
+            "\\b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\\b");
+    private static final Pattern IP = Pattern.compile("\\b\\d{1,3}(?:\\.\\d{1,3}){3}(?::\\d+)?\\b");
+    // 0x 접두어 또는 숫자와 문자가 섞인 8자 이상 16진수 (trace/span ID, 해시 등)
+    private static final Pattern HEX_ID = Pattern.compile(
+            "\\b(?:0x[0-9a-fA-F]+|(?=[0-9a-fA-F]*\\d)(?=[0-9a-fA-F]*[a-fA-F])[0-9a-fA-F]{8,})\\b");
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:\\.\\d+)?");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private LogMessageFingerprint() {
+    }
+
+    /**
+     * 가변 값(UUID, IP, 16진수 ID, 숫자)을 마스킹한 메시지 템플릿
+     *
+     * @param message 로그 메시지
+     * @return 마스킹된 템플릿 (message 가 null 이면 빈 문자열)
+     */
+    public static String template(String message) {
+        if (message == null) {
+            return "";
+        }
+        String masked = UUID.matcher(message).replaceAll("<UUID>");
+        masked = IP.matcher(masked).replaceAll("<IP>");
+        masked = HEX_ID.matcher(masked).replaceAll("<HEX>");
+        masked = NUMBER.matcher(masked).replaceAll("<NUM>");
+        return WHITESPACE.matcher(masked).replaceAll(" ").trim();
+    }
+
+    /**
+     * 메시지 지문 - 템플릿의 SHA-1 해시 앞 16자리
+     *
+     * @param message 로그 메시지
+     * @return 지문 (예: "9f86d081884c7d65")
+     */
+    public static String of(String message) {
+        return hash(template(message));
+    }
+
+    /**
+     * 이미 계산된 템플릿의 지문
+     */
+    public static String hash(String template) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(template.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
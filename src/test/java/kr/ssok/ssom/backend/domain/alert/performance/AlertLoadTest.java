@@ -32,9 +32,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
 /**
@@ -83,8 +81,9 @@ public class AlertLoadTest {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get(anyString())).thenReturn("mock-fcm-token");
         
-        // Firebase Mock 설정 (아무것도 하지 않음)
-        doNothing().when(firebaseClient).sendNotification(any());
+        // FCM 토큰 해시(HGETALL) / multicast 전송 Mock 설정
+        FcmMocks.stubActiveDeviceToken(redisTemplate);
+        FcmMocks.stubMulticastSuccess(firebaseClient, 0);
         
         createLargeUserBase();
     }
@@ -40,7 +40,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
 /**
@@ -93,8 +92,9 @@ public class AlertPerformanceTest {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get(anyString())).thenReturn("mock-fcm-token");
         
-        // Firebase Mock 설정 (아무것도 하지 않음)
-        doNothing().when(firebaseClient).sendNotification(any());
+        // FCM 토큰 해시(HGETALL) / multicast 전송 Mock 설정
+        FcmMocks.stubActiveDeviceToken(redisTemplate);
+        FcmMocks.stubMulticastSuccess(firebaseClient, FCM_DELAY_MS);
         
         // 테스트용 사용자 100명 생성
         createTestUsers();
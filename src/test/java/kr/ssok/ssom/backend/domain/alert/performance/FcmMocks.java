@@ -0,0 +1,74 @@
+package kr.ssok.ssom.backend.domain.alert.performance;
+
+import kr.ssok.ssom.backend.global.client.FirebaseClient;
+import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
+import kr.ssok.ssom.backend.global.dto.FcmSendResultDto;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 성능 테스트용 FCM 경로 Mock 설정
+ *      FcmServiceImpl 이 읽는 userfcm:{employeeId} 해시(HGETALL)와 FirebaseClient multicast 전송을 대체
+ */
+final class FcmMocks {
+
+    private FcmMocks() {
+    }
+
+    /**
+     * 모든 사용자가 만료되지 않은 디바이스 토큰 1개를 가진 것으로 설정
+     */
+    @SuppressWarnings("unchecked")
+    static void stubActiveDeviceToken(RedisTemplate<String, String> redisTemplate) {
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        long expiresAt = Instant.now().getEpochSecond() + 86_400;
+        when(hashOperations.entries(anyString())).thenReturn(Map.of("default", expiresAt + ":mock-fcm-token"));
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+    }
+
+    /**
+     * multicast 전송을 지정한 지연 후 전체 성공으로 완료
+     */
+    static void stubMulticastSuccess(FirebaseClient firebaseClient, long delayMillis) {
+        when(firebaseClient.sendMulticastAsync(any())).thenAnswer(invocation -> {
+            FcmMessageRequestDto request = invocation.getArgument(0);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(delayMillis);
+                return success(request.getTokens());
+            });
+        });
+    }
+
+    private static List<FcmSendResultDto> success(List<String> tokens) {
+        return tokens.stream()
+                .map(token -> FcmSendResultDto.builder()
+                        .token(token)
+                        .result(FcmSendResultDto.Result.SUCCESS)
+                        .messageId("projects/ssom/messages/mock")
+                        .attempts(1)
+                        .build())
+                .toList();
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
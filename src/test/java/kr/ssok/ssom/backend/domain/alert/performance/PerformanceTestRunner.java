@@ -12,9 +12,7 @@ import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
 /**
@@ -43,8 +41,9 @@ public class PerformanceTestRunner {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get(anyString())).thenReturn("mock-fcm-token");
         
-        // Firebase Mock 설정 (아무것도 하지 않음)
-        doNothing().when(firebaseClient).sendNotification(any());
+        // FCM 토큰 해시(HGETALL) / multicast 전송 Mock 설정
+        FcmMocks.stubActiveDeviceToken(redisTemplate);
+        FcmMocks.stubMulticastSuccess(firebaseClient, 0);
     }
 
     @Test
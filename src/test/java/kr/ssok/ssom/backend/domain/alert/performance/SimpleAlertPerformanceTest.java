@@ -27,9 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
 /**
@@ -75,7 +73,8 @@ public class SimpleAlertPerformanceTest {
     private void setupMocks() {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get(anyString())).thenReturn("mock-fcm-token");
-        doNothing().when(firebaseClient).sendNotification(any());
+        FcmMocks.stubActiveDeviceToken(redisTemplate);
+        FcmMocks.stubMulticastSuccess(firebaseClient, 0);
     }
 
     private void createTestUsers() {
@@ -0,0 +1,228 @@
+package kr.ssok.ssom.backend.domain.alert.service.fcm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FcmDigestService 테스트")
+class FcmDigestServiceTest {
+
+    private static final long WINDOW_SECONDS = 10;
+    private static final long WINDOW_MILLIS = WINDOW_SECONDS * 1000L;
+
+    @Mock
+    private FcmService fcmService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FcmDigestService digestService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        digestService = new FcmDigestService(fcmService, meterRegistry, true, WINDOW_SECONDS);
+    }
+
+    @Nested
+    @DisplayName("윈도우 열기/전송 주기")
+    class WindowTest {
+
+        @Test
+        @DisplayName("윈도우의 첫 알림은 즉시 전송하고 이어지는 알림은 보류한다")
+        void send_FirstImmediate_RestBuffered() {
+            // given
+            FcmMessageRequestDto first = alert("[ERROR] ssok-bank");
+
+            // when
+            digestService.send("CHN0001", first);
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+            digestService.send("CHN0001", alert("[CRITICAL] ssok-account"));
+
+            // then
+            then(fcmService).should(times(1)).sendNotification(any(), any());
+            then(fcmService).should().sendNotification("CHN0001", first);
+            assertThat(meterRegistry.counter("fcm.digest.received").count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("윈도우가 끝나기 전에는 보류 알림을 전송하지 않는다")
+        void flush_BeforeWindowEnds_NothingSent() {
+            // given
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+
+            // when
+            digestService.flushExpired(System.currentTimeMillis() + WINDOW_MILLIS / 2);
+
+            // then
+            then(fcmService).should(times(1)).sendNotification(any(), any());
+        }
+
+        @Test
+        @DisplayName("윈도우 종료 시 보류 알림을 요약 알림 1건으로 전송한다")
+        void flush_AfterWindowEnds_SummarySent() {
+            // given
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+            digestService.send("CHN0001", alert("[CRITICAL] ssok-bank"));
+            digestService.send("CHN0001", alert("[ERROR] ssok-account"));
+            digestService.send("CHN0001", alert("[CRITICAL] ssok-gateway"));
+
+            // when
+            digestService.flushExpired(System.currentTimeMillis() + WINDOW_MILLIS);
+
+            // then
+            FcmMessageRequestDto summary = lastSent("CHN0001", 2);
+            assertThat(summary.getTitle()).isEqualTo("새 알림 3건 (CRITICAL 2건)");
+            assertThat(summary.getBody()).isEqualTo("최근 알림: [CRITICAL] ssok-gateway");
+            assertThat(summary.getData()).containsEntry("kind", "DIGEST").containsEntry("count", "3");
+            assertThat(meterRegistry.counter("fcm.digest.sent", "type", "summary").count()).isEqualTo(1);
+            assertThat(meterRegistry.counter("fcm.digest.avoided").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("보류 알림이 1건이면 원래 알림을 그대로 전송한다")
+        void flush_SingleBuffered_OriginalSent() {
+            // given
+            FcmMessageRequestDto buffered = alert("[WARN] ssok-bank");
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+            digestService.send("CHN0001", buffered);
+
+            // when
+            digestService.flushExpired(System.currentTimeMillis() + WINDOW_MILLIS);
+
+            // then
+            assertThat(lastSent("CHN0001", 2)).isSameAs(buffered);
+            assertThat(meterRegistry.counter("fcm.digest.sent", "type", "immediate").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("요약 전송 후에는 새 윈도우가 열려 다음 알림을 다시 보류한다")
+        void flush_ReopensWindow() {
+            // given
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+            digestService.flushExpired(System.currentTimeMillis() + WINDOW_MILLIS);
+
+            // when
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+
+            // then
+            then(fcmService).should(times(2)).sendNotification(any(), any());
+        }
+
+        @Test
+        @DisplayName("보류 알림 없이 윈도우가 끝나면 상태를 정리하고 다음 알림은 즉시 전송한다")
+        void flush_EmptyWindow_Cleared() {
+            // given
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+            digestService.flushExpired(System.currentTimeMillis() + WINDOW_MILLIS);
+
+            // when
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+
+            // then
+            then(fcmService).should(times(2)).sendNotification(eq("CHN0001"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자별 분리")
+    class IsolationTest {
+
+        @Test
+        @DisplayName("다른 사용자의 윈도우는 서로 영향을 주지 않는다")
+        void send_PerUserWindow() {
+            // given
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+            digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+            digestService.send("CHN0001", alert("[CRITICAL] ssok-bank"));
+
+            // when
+            digestService.send("CHN0002", alert("[ERROR] ssok-bank"));
+            digestService.flushExpired(System.currentTimeMillis() + WINDOW_MILLIS);
+
+            // then
+            then(fcmService).should(times(2)).sendNotification(eq("CHN0001"), any());
+            then(fcmService).should(times(1)).sendNotification(eq("CHN0002"), any());
+            assertThat(lastSent("CHN0001", 2).getTitle()).isEqualTo("새 알림 2건 (CRITICAL 1건)");
+        }
+    }
+
+    @Nested
+    @DisplayName("레벨 집계")
+    class LevelTest {
+
+        @Test
+        @DisplayName("요약 제목에는 가장 심각한 레벨의 건수만 표시한다")
+        void summary_HighestSeverityShown() {
+            // given
+            digestService.send("CHN0001", alert("[CRITICAL] ssok-bank"));
+            digestService.send("CHN0001", alert("[WARNING] ssok-bank"));
+            digestService.send("CHN0001", alert("  [error] ssok-bank"));
+            digestService.send("CHN0001", alert("[ERROR] ssok-account"));
+
+            // when
+            digestService.flushExpired(System.currentTimeMillis() + WINDOW_MILLIS);
+
+            // then - 즉시 전송된 첫 CRITICAL 은 요약에 포함되지 않음, 소문자 레벨도 집계
+            assertThat(lastSent("CHN0001", 2).getTitle()).isEqualTo("새 알림 3건 (ERROR 2건)");
+        }
+
+        @Test
+        @DisplayName("제목에 레벨 접두어가 없으면 건수만 표시한다")
+        void summary_NoLevel_CountOnly() {
+            // given
+            digestService.send("CHN0001", alert("ssok-bank"));
+            digestService.send("CHN0001", alert("ssok-bank"));
+            digestService.send("CHN0001", alert("[INFO] ssok-bank"));
+
+            // when
+            digestService.flushExpired(System.currentTimeMillis() + WINDOW_MILLIS);
+
+            // then
+            assertThat(lastSent("CHN0001", 2).getTitle()).isEqualTo("새 알림 2건");
+        }
+    }
+
+    @Test
+    @DisplayName("요약이 꺼져 있으면 모든 알림을 즉시 전송한다")
+    void send_Disabled_AllImmediate() {
+        // given
+        digestService = new FcmDigestService(fcmService, meterRegistry, false, WINDOW_SECONDS);
+
+        // when
+        digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+        digestService.send("CHN0001", alert("[ERROR] ssok-bank"));
+
+        // then
+        then(fcmService).should(times(2)).sendNotification(eq("CHN0001"), any());
+    }
+
+    private FcmMessageRequestDto lastSent(String employeeId, int expectedCalls) {
+        ArgumentCaptor<FcmMessageRequestDto> captor = ArgumentCaptor.forClass(FcmMessageRequestDto.class);
+        then(fcmService).should(times(expectedCalls)).sendNotification(eq(employeeId), captor.capture());
+        List<FcmMessageRequestDto> sent = captor.getAllValues();
+        return sent.get(sent.size() - 1);
+    }
+
+    private static FcmMessageRequestDto alert(String title) {
+        return FcmMessageRequestDto.builder()
+                .title(title)
+                .body("Authentication error")
+                .build();
+    }
+}
@@ -0,0 +1,289 @@
+package kr.ssok.ssom.backend.domain.alert.service.fcm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.global.client.FirebaseClient;
+import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
+import kr.ssok.ssom.backend.global.dto.FcmSendResultDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.spy;
+
+/**
+ * FcmServiceImpl 테스트 - Lua 스크립트 동작 확인을 위해 embedded Redis 사용
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FcmServiceImpl 테스트")
+class FcmServiceImplTest {
+
+    private static final String EMPLOYEE_ID = "CHN0001";
+    private static final String KEY = "userfcm:" + EMPLOYEE_ID;
+    private static final long TTL_SECONDS = 3600;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @Mock
+    private FirebaseClient firebaseClient;
+
+    private FcmServiceImpl fcmService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = RedisServer.builder().port(port).setting("bind 127.0.0.1").build();
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(KEY);
+        fcmService = newService(redisTemplate);
+    }
+
+    @Nested
+    @DisplayName("토큰 등록")
+    class RegisterTest {
+
+        @Test
+        @DisplayName("디바이스별로 만료 시각과 함께 저장하고 키 TTL을 설정한다")
+        void register_StoresExpiryAndToken() {
+            // given
+            long before = Instant.now().getEpochSecond();
+
+            // when
+            fcmService.registerFcmToken(EMPLOYEE_ID, "iphone", "token-1");
+
+            // then
+            String value = hash().get(KEY, "iphone");
+            assertThat(value).endsWith(":token-1");
+            assertThat(Long.parseLong(value.substring(0, value.indexOf(':')))).isBetween(before + TTL_SECONDS, before + TTL_SECONDS + 5);
+            assertThat(redisTemplate.getExpire(KEY)).isPositive();
+        }
+
+        @Test
+        @DisplayName("같은 토큰을 가진 다른 디바이스 항목은 제거한다")
+        void register_SameTokenOtherDevice_Removed() {
+            // given
+            fcmService.registerFcmToken(EMPLOYEE_ID, "old-device", "token-1");
+
+            // when
+            fcmService.registerFcmToken(EMPLOYEE_ID, "new-device", "token-1");
+
+            // then
+            assertThat(hash().keys(KEY)).containsExactly("new-device");
+        }
+
+        @Test
+        @DisplayName("구버전 단일 문자열 키는 해시로 교체한다")
+        void register_LegacyStringKey_Replaced() {
+            // given
+            redisTemplate.opsForValue().set(KEY, "legacy-token");
+
+            // when
+            fcmService.registerFcmToken(EMPLOYEE_ID, null, "token-1");
+
+            // then
+            assertThat(hash().get(KEY, "default")).endsWith(":token-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("토큰 만료 처리")
+    class ExpiryTest {
+
+        @Test
+        @DisplayName("만료 시각이 지났거나 형식이 잘못된 항목은 제외하고 삭제하며, 토큰의 ':'는 그대로 유지한다")
+        void send_ExpiredAndMalformed_RemovedAndSkipped() {
+            // given
+            long now = Instant.now().getEpochSecond();
+            hash().put(KEY, "active", (now + 600) + ":fcm:token:with:colons");
+            hash().put(KEY, "expired", (now - 1) + ":expired-token");
+            hash().put(KEY, "malformed", "not-a-number:broken-token");
+            hash().put(KEY, "no-separator", "garbage");
+            givenMulticastSucceeds();
+
+            // when
+            fcmService.sendNotification(EMPLOYEE_ID, request()).join();
+
+            // then
+            assertThat(sentTokens()).containsExactly("fcm:token:with:colons");
+            assertThat(hash().keys(KEY)).containsExactly("active");
+        }
+
+        @Test
+        @DisplayName("만료 항목을 읽은 뒤 같은 디바이스가 재등록되면 새 토큰은 삭제하지 않는다")
+        void send_ReRegisteredAfterRead_NotRemoved() {
+            // given : HGETALL 시점에는 만료된 값, 이후 같은 디바이스가 새 토큰으로 재등록
+            long now = Instant.now().getEpochSecond();
+            String staleValue = (now - 1) + ":old-token";
+            String freshValue = (now + 600) + ":new-token";
+            hash().put(KEY, "iphone", freshValue);
+
+            StringRedisTemplate racingTemplate = spy(redisTemplate);
+            HashOperations<String, Object, Object> staleHash = spy(redisTemplate.opsForHash());
+            willReturn(Map.of("iphone", staleValue)).given(staleHash).entries(KEY);
+            willReturn(staleHash).given(racingTemplate).opsForHash();
+            fcmService = newService(racingTemplate);
+
+            // when
+            fcmService.sendNotification(EMPLOYEE_ID, request()).join();
+
+            // then
+            assertThat(hash().get(KEY, "iphone")).isEqualTo(freshValue);
+            then(firebaseClient).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("무효 토큰 삭제")
+    class InvalidTokenTest {
+
+        @Test
+        @DisplayName("무효 토큰 응답을 받은 디바이스 항목만 삭제한다")
+        void send_InvalidToken_RemovesOnlyMatchingDevice() {
+            // given
+            long now = Instant.now().getEpochSecond();
+            hash().put(KEY, "iphone", (now + 600) + ":valid-token");
+            hash().put(KEY, "galaxy", (now + 600) + ":invalid-token");
+            given(firebaseClient.sendMulticastAsync(any())).willReturn(CompletableFuture.completedFuture(List.of(
+                    result("valid-token", FcmSendResultDto.Result.SUCCESS),
+                    result("invalid-token", FcmSendResultDto.Result.INVALID_TOKEN))));
+
+            // when
+            fcmService.sendNotification(EMPLOYEE_ID, request()).join();
+
+            // then
+            assertThat(hash().keys(KEY)).containsExactly("iphone");
+        }
+
+        @Test
+        @DisplayName("무효 토큰은 FCM 콜백 스레드가 아닌 별도 스레드에서 한 번에 삭제한다")
+        void send_InvalidTokens_RemovedOffCallbackThread() throws Exception {
+            // given
+            long now = Instant.now().getEpochSecond();
+            hash().put(KEY, "iphone", (now + 600) + ":valid-token");
+            hash().put(KEY, "galaxy", (now + 600) + ":invalid-token-1");
+            hash().put(KEY, "tablet", (now + 600) + ":invalid-token-2");
+
+            List<String> scriptThreads = new CopyOnWriteArrayList<>();
+            StringRedisTemplate recordingTemplate = spy(redisTemplate);
+            willAnswer(invocation -> {
+                scriptThreads.add(Thread.currentThread().getName());
+                return invocation.callRealMethod();
+            }).given(recordingTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+            fcmService = newService(recordingTemplate);
+
+            CompletableFuture<List<FcmSendResultDto>> response = new CompletableFuture<>();
+            given(firebaseClient.sendMulticastAsync(any())).willReturn(response);
+
+            // when - FCM 응답이 콜백 스레드에서 완료
+            CompletableFuture<Void> sent = fcmService.sendNotification(EMPLOYEE_ID, request());
+            Thread callback = new Thread(() -> response.complete(List.of(
+                    result("valid-token", FcmSendResultDto.Result.SUCCESS),
+                    result("invalid-token-1", FcmSendResultDto.Result.INVALID_TOKEN),
+                    result("invalid-token-2", FcmSendResultDto.Result.INVALID_TOKEN))), "fcm-callback");
+            callback.start();
+            callback.join();
+            sent.get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(hash().keys(KEY)).containsExactly("iphone");
+            assertThat(scriptThreads).containsExactly("fcm-token-cleanup");
+        }
+
+        @Test
+        @DisplayName("토큰이 없으면 전송하지 않는다")
+        void send_NoTokens_Skipped() {
+            // when
+            fcmService.sendNotification(EMPLOYEE_ID, request()).join();
+
+            // then
+            then(firebaseClient).shouldHaveNoInteractions();
+        }
+    }
+
+    private FcmServiceImpl newService(StringRedisTemplate template) {
+        FcmServiceImpl service = new FcmServiceImpl(template, firebaseClient, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "ttlSeconds", TTL_SECONDS);
+        return service;
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+
+    private void givenMulticastSucceeds() {
+        given(firebaseClient.sendMulticastAsync(any())).willAnswer(invocation -> {
+            FcmMessageRequestDto message = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(message.getTokens().stream()
+                    .map(token -> result(token, FcmSendResultDto.Result.SUCCESS))
+                    .toList());
+        });
+    }
+
+    private List<String> sentTokens() {
+        ArgumentCaptor<FcmMessageRequestDto> captor = ArgumentCaptor.forClass(FcmMessageRequestDto.class);
+        then(firebaseClient).should().sendMulticastAsync(captor.capture());
+        return captor.getValue().getTokens();
+    }
+
+    private static FcmMessageRequestDto request() {
+        return FcmMessageRequestDto.builder()
+                .title("[ERROR] ssok-bank")
+                .body("Authentication error")
+                .build();
+    }
+
+    private static FcmSendResultDto result(String token, FcmSendResultDto.Result result) {
+        return FcmSendResultDto.builder()
+                .token(token)
+                .result(result)
+                .errorCode(result == FcmSendResultDto.Result.INVALID_TOKEN ? "UNREGISTERED" : null)
+                .attempts(1)
+                .build();
+    }
+}
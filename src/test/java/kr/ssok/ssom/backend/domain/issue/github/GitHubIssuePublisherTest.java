@@ -0,0 +1,370 @@
+package kr.ssok.ssom.backend.domain.issue.github;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.domain.issue.dto.IssueResponseDto;
+import kr.ssok.ssom.backend.domain.issue.entity.Issue;
+import kr.ssok.ssom.backend.domain.issue.entity.constant.GithubSyncStatus;
+import kr.ssok.ssom.backend.domain.issue.entity.constant.IssueStatus;
+import kr.ssok.ssom.backend.domain.issue.repository.IssueRepository;
+import kr.ssok.ssom.backend.global.client.GitHubApiClient;
+import kr.ssok.ssom.backend.global.config.GitHubConfig;
+import kr.ssok.ssom.backend.global.dto.GitHubIssueRequestDto;
+import kr.ssok.ssom.backend.global.dto.GitHubIssueResponseDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GitHubIssuePublisher 테스트")
+class GitHubIssuePublisherTest {
+
+    private static final Long ISSUE_ID = 1L;
+    private static final String MARKER = "<!-- ssom-issue-id:1 -->";
+
+    @Mock
+    private GitHubApiClient gitHubApiClient;
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    private GitHubIssuePublisher publisher;
+
+    private final IssueResponseDto pending = IssueResponseDto.builder()
+            .issueId(ISSUE_ID)
+            .title("hotfix: Authorization 헤더 누락 시 인증 오류 발생")
+            .status(IssueStatus.OPEN)
+            .createdByEmployeeId("APP0001")
+            .assigneeGithubIds(List.of("github_user1"))
+            .logIds(List.of("log_001"))
+            .isGithubSynced(false)
+            .githubSyncStatus(GithubSyncStatus.PENDING)
+            .createdAt(LocalDateTime.now())
+            .build();
+
+    private final GitHubIssueRequestDto request = GitHubIssueRequestDto.builder()
+            .title("hotfix: Authorization 헤더 누락 시 인증 오류 발생")
+            .body("## 📝 Issue 설명")
+            .assignees(List.of("github_user1"))
+            .labels(List.of("ssom", "bug"))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        GitHubConfig gitHubConfig = new GitHubConfig();
+        gitHubConfig.getApi().setOwner("Team-SSOK");
+        gitHubConfig.getApi().setRepository("ssom-backend");
+        gitHubConfig.getApi().setToken("token");
+
+        // 최대 3회 시도, 백오프 없음, 30분 지난 대기 Issue 정리
+        publisher = new GitHubIssuePublisher(gitHubApiClient, gitHubConfig, issueRepository, new SimpleMeterRegistry(), 3, 0, 0, 30);
+    }
+
+    @Nested
+    @DisplayName("GitHub 연동 성공")
+    class SuccessTest {
+
+        @Test
+        @DisplayName("본문에 Issue ID 표식을 넣어 생성하고 GitHub Issue 번호를 반영한다")
+        void publish_Success_UpdatesIssueNumber() {
+            // given
+            given(issueRepository.existsById(ISSUE_ID)).willReturn(true);
+            given(gitHubApiClient.createIssue(anyString(), anyString(), anyString(), any())).willReturn(created(123L));
+            given(issueRepository.updateGithubIssueNumber(eq(ISSUE_ID), eq(123L), any())).willReturn(1);
+
+            // when
+            IssueResponseDto result = publisher.publish(pending, request);
+
+            // then
+            ArgumentCaptor<GitHubIssueRequestDto> sent = ArgumentCaptor.forClass(GitHubIssueRequestDto.class);
+            then(gitHubApiClient).should().createIssue(anyString(), anyString(), anyString(), sent.capture());
+            assertThat(sent.getValue().getBody()).startsWith("## 📝 Issue 설명").endsWith(MARKER);
+            assertThat(sent.getValue().getLabels()).containsExactly("ssom", "bug");
+            assertThat(result.getGithubIssueNumber()).isEqualTo(123L);
+            assertThat(result.getIsGithubSynced()).isTrue();
+            assertThat(result.getGithubSyncStatus()).isEqualTo(GithubSyncStatus.SYNCED);
+            assertThat(result.getAssigneeGithubIds()).containsExactly("github_user1");
+            then(issueRepository).should(never()).deleteById(any());
+        }
+
+        @Test
+        @DisplayName("429 와 연결 거부는 GitHub에 전달되지 않았으므로 확인 없이 재시도한다")
+        void publish_NotSent_RetriesWithoutLookup() {
+            // given
+            given(issueRepository.existsById(ISSUE_ID)).willReturn(true);
+            given(gitHubApiClient.createIssue(anyString(), anyString(), anyString(), any()))
+                    .willThrow(feignException(429))
+                    .willThrow(ioException(new ConnectException("Connection refused")))
+                    .willReturn(created(124L));
+            given(issueRepository.updateGithubIssueNumber(eq(ISSUE_ID), eq(124L), any())).willReturn(1);
+
+            // when
+            IssueResponseDto result = publisher.publish(pending, request);
+
+            // then
+            assertThat(result.getGithubIssueNumber()).isEqualTo(124L);
+            then(gitHubApiClient).should(times(3)).createIssue(anyString(), anyString(), anyString(), any());
+            then(gitHubApiClient).should(never()).listIssues(anyString(), anyString(), anyString(), anyString(), anyString(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("결과를 알 수 없는 실패")
+    class UnknownOutcomeTest {
+
+        @Test
+        @DisplayName("5xx 후 표식이 있는 Issue가 이미 있으면 다시 생성하지 않고 그 번호를 반영한다")
+        void publish_ServerErrorButCreated_AdoptsExisting() {
+            // given
+            given(issueRepository.existsById(ISSUE_ID)).willReturn(true);
+            given(gitHubApiClient.createIssue(anyString(), anyString(), anyString(), any())).willThrow(feignException(502));
+            given(gitHubApiClient.listIssues(anyString(), anyString(), anyString(), eq("all"), anyString(), anyInt()))
+                    .willReturn(List.of(listed(200L, "<!-- ssom-issue-id:10 -->"), listed(125L, "본문\n\n" + MARKER)));
+            given(issueRepository.updateGithubIssueNumber(eq(ISSUE_ID), eq(125L), any())).willReturn(1);
+
+            // when
+            IssueResponseDto result = publisher.publish(pending, request);
+
+            // then
+            assertThat(result.getGithubIssueNumber()).isEqualTo(125L);
+            then(gitHubApiClient).should(times(1)).createIssue(anyString(), anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("응답 타임아웃 후 생성된 Issue가 없으면 재시도한다")
+        void publish_ReadTimeoutNotCreated_Retries() {
+            // given
+            given(issueRepository.existsById(ISSUE_ID)).willReturn(true);
+            given(gitHubApiClient.createIssue(anyString(), anyString(), anyString(), any()))
+                    .willThrow(ioException(new SocketTimeoutException("Read timed out")))
+                    .willReturn(created(126L));
+            given(gitHubApiClient.listIssues(anyString(), anyString(), anyString(), anyString(), anyString(), anyInt()))
+                    .willReturn(List.of());
+            given(issueRepository.updateGithubIssueNumber(eq(ISSUE_ID), eq(126L), any())).willReturn(1);
+
+            // when
+            IssueResponseDto result = publisher.publish(pending, request);
+
+            // then
+            assertThat(result.getGithubIssueNumber()).isEqualTo(126L);
+            then(gitHubApiClient).should(times(2)).createIssue(anyString(), anyString(), anyString(), any());
+            then(gitHubApiClient).should(times(1)).listIssues(anyString(), anyString(), anyString(), anyString(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("생성 여부를 확인하지 못하면 재시도하지 않고 대기 Issue를 남긴다")
+        void publish_LookupFailed_KeepsPendingIssue() {
+            // given
+            given(issueRepository.existsById(ISSUE_ID)).willReturn(true);
+            given(gitHubApiClient.createIssue(anyString(), anyString(), anyString(), any())).willThrow(feignException(503));
+            given(gitHubApiClient.listIssues(anyString(), anyString(), anyString(), anyString(), anyString(), anyInt()))
+                    .willThrow(feignException(503));
+
+            // when & then
+            assertThatThrownBy(() -> publisher.publish(pending, request))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("status").isEqualTo(BaseResponseStatus.GITHUB_API_ERROR);
+            then(gitHubApiClient).should(times(1)).createIssue(anyString(), anyString(), anyString(), any());
+            then(issueRepository).should(never()).deleteById(any());
+        }
+
+        @Test
+        @DisplayName("재시도를 모두 소진하고 생성된 Issue도 없으면 대기 중인 Issue를 삭제한다")
+        void publish_RetriesExhausted_Discard() {
+            // given
+            given(issueRepository.existsById(ISSUE_ID)).willReturn(true);
+            given(gitHubApiClient.createIssue(anyString(), anyString(), anyString(), any())).willThrow(feignException(503));
+            given(gitHubApiClient.listIssues(anyString(), anyString(), anyString(), anyString(), anyString(), anyInt()))
+                    .willReturn(List.of());
+
+            // when & then
+            assertThatThrownBy(() -> publisher.publish(pending, request))
+                    .isInstanceOf(BaseException.class);
+            then(gitHubApiClient).should(times(3)).createIssue(anyString(), anyString(), anyString(), any());
+            then(gitHubApiClient).should(times(3)).listIssues(anyString(), anyString(), anyString(), anyString(), anyString(), anyInt());
+            then(issueRepository).should().deleteById(ISSUE_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("GitHub 연동 실패")
+    class FailureTest {
+
+        @Test
+        @DisplayName("4xx 응답은 재시도하지 않고 대기 중인 Issue를 삭제한다")
+        void publish_ClientError_NoRetryAndDiscard() {
+            // given
+            given(issueRepository.existsById(ISSUE_ID)).willReturn(true);
+            given(gitHubApiClient.createIssue(anyString(), anyString(), anyString(), any()))
+                    .willThrow(feignException(422));
+
+            // when & then
+            assertThatThrownBy(() -> publisher.publish(pending, request))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("status")
+                    .isEqualTo(BaseResponseStatus.GITHUB_API_ERROR);
+            then(gitHubApiClient).should(times(1)).createIssue(anyString(), anyString(), anyString(), any());
+            then(issueRepository).should().deleteById(ISSUE_ID);
+            then(issueRepository).should(never()).updateGithubIssueNumber(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("연결 거부가 계속되면 재시도 후 대기 중인 Issue를 삭제한다")
+        void publish_ConnectRefusedExhausted_Discard() {
+            // given
+            given(issueRepository.existsById(ISSUE_ID)).willReturn(true);
+            given(gitHubApiClient.createIssue(anyString(), anyString(), anyString(), any()))
+                    .willThrow(ioException(new ConnectException("Connection refused")));
+
+            // when & then
+            assertThatThrownBy(() -> publisher.publish(pending, request))
+                    .isInstanceOf(BaseException.class);
+            then(gitHubApiClient).should(times(3)).createIssue(anyString(), anyString(), anyString(), any());
+            then(issueRepository).should().deleteById(ISSUE_ID);
+        }
+
+        @Test
+        @DisplayName("실행 전에 정리된 Issue는 GitHub에 생성하지 않는다")
+        void publish_PendingIssueGone_SkipsGitHub() {
+            // given
+            given(issueRepository.existsById(ISSUE_ID)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> publisher.publish(pending, request))
+                    .isInstanceOf(BaseException.class);
+            then(gitHubApiClient).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 분류")
+    class ClassifyTest {
+
+        @Test
+        @DisplayName("429 와 연결 실패만 전달되지 않은 것으로, 5xx 와 응답 타임아웃은 결과를 알 수 없는 것으로 분류한다")
+        void classify() {
+            assertThat(GitHubIssuePublisher.classify(feignException(429))).isEqualTo(GitHubIssuePublisher.Failure.NOT_SENT);
+            assertThat(GitHubIssuePublisher.classify(ioException(new ConnectException("Connection refused"))))
+                    .isEqualTo(GitHubIssuePublisher.Failure.NOT_SENT);
+            assertThat(GitHubIssuePublisher.classify(ioException(new SocketTimeoutException("Connect timed out"))))
+                    .isEqualTo(GitHubIssuePublisher.Failure.NOT_SENT);
+
+            assertThat(GitHubIssuePublisher.classify(feignException(500))).isEqualTo(GitHubIssuePublisher.Failure.UNKNOWN_OUTCOME);
+            assertThat(GitHubIssuePublisher.classify(ioException(new SocketTimeoutException("Read timed out"))))
+                    .isEqualTo(GitHubIssuePublisher.Failure.UNKNOWN_OUTCOME);
+
+            assertThat(GitHubIssuePublisher.classify(feignException(404))).isEqualTo(GitHubIssuePublisher.Failure.FATAL);
+            assertThat(GitHubIssuePublisher.classify(new IllegalStateException())).isEqualTo(GitHubIssuePublisher.Failure.FATAL);
+        }
+    }
+
+    @Nested
+    @DisplayName("대기 Issue 정리")
+    class SweepTest {
+
+        @Test
+        @DisplayName("GitHub에 생성된 대기 Issue는 번호를 반영하고, 없는 Issue는 삭제한다")
+        void sweep_AdoptsOrDiscards() {
+            // given
+            given(issueRepository.findPendingGithubIssuesCreatedBefore(any()))
+                    .willReturn(List.of(staleIssue(1L), staleIssue(2L)));
+            given(gitHubApiClient.listIssues(anyString(), anyString(), anyString(), anyString(), anyString(), anyInt()))
+                    .willReturn(List.of(listed(127L, "본문\n\n" + MARKER)));
+
+            // when
+            publisher.sweepPendingIssues();
+
+            // then
+            then(issueRepository).should().updateGithubIssueNumber(eq(1L), eq(127L), any());
+            then(issueRepository).should().deleteById(2L);
+            then(issueRepository).should(never()).deleteById(1L);
+        }
+
+        @Test
+        @DisplayName("GitHub 조회에 실패하면 대기 Issue를 남겨 다음 주기에 다시 확인한다")
+        void sweep_LookupFailed_KeepsIssue() {
+            // given
+            given(issueRepository.findPendingGithubIssuesCreatedBefore(any())).willReturn(List.of(staleIssue(1L)));
+            given(gitHubApiClient.listIssues(anyString(), anyString(), anyString(), anyString(), anyString(), anyInt()))
+                    .willThrow(ioException(new ConnectException("Connection refused")));
+
+            // when
+            publisher.sweepPendingIssues();
+
+            // then
+            then(issueRepository).should(never()).deleteById(any());
+            then(issueRepository).should(never()).updateGithubIssueNumber(any(), any(), any());
+        }
+    }
+
+    private static Issue staleIssue(Long issueId) {
+        Issue issue = Issue.builder()
+                .issueId(issueId)
+                .title("hotfix")
+                .createdByEmployeeId("APP0001")
+                .githubSyncStatus(GithubSyncStatus.PENDING)
+                .build();
+        ReflectionTestUtils.setField(issue, "createdAt", LocalDateTime.now().minusHours(1));
+        return issue;
+    }
+
+    private static GitHubIssueResponseDto created(Long number) {
+        return GitHubIssueResponseDto.builder()
+                .number(number)
+                .htmlUrl("https://github.com/Team-SSOK/ssom-backend/issues/" + number)
+                .build();
+    }
+
+    private static GitHubIssueResponseDto listed(Long number, String body) {
+        return GitHubIssueResponseDto.builder()
+                .number(number)
+                .body(body)
+                .htmlUrl("https://github.com/Team-SSOK/ssom-backend/issues/" + number)
+                .build();
+    }
+
+    private static Request feignRequest() {
+        return Request.create(Request.HttpMethod.POST, "https://api.github.com/repos/Team-SSOK/ssom-backend/issues",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static FeignException feignException(int status) {
+        Response response = Response.builder()
+                .status(status)
+                .reason("error")
+                .request(feignRequest())
+                .headers(Map.of())
+                .build();
+        return FeignException.errorStatus("GitHubApiClient#createIssue", response);
+    }
+
+    /**
+     * 응답 없이 I/O 오류로 끝난 호출 (Feign 클라이언트가 RetryableException 으로 감쌈)
+     */
+    private static RetryableException ioException(Exception cause) {
+        return new RetryableException(-1, cause.getMessage() + " executing POST", Request.HttpMethod.POST,
+                cause, (Long) null, feignRequest());
+    }
+}
@@ -0,0 +1,227 @@
+package kr.ssok.ssom.backend.domain.logging.analysis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.global.client.LlmServiceClient;
+import kr.ssok.ssom.backend.global.dto.AsyncJobDto;
+import kr.ssok.ssom.backend.global.dto.LogRequestDto;
+import kr.ssok.ssom.backend.global.dto.LogSummaryMessageDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.job.AsyncJobManager;
+import kr.ssok.ssom.backend.global.job.AsyncJobStatus;
+import kr.ssok.ssom.backend.global.standin.LatencyProfile;
+import kr.ssok.ssom.backend.global.standin.LlmStandIn;
+import kr.ssok.ssom.backend.global.standin.StandInFeignClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LlmSummaryBatcher 테스트
+ * 로컬 LLM 스탠드인으로 실제 HTTP 호출 횟수와 결과 분배를 검증
+ */
+@DisplayName("LlmSummaryBatcher 테스트")
+class LlmSummaryBatcherTest {
+
+    private LlmStandIn llm;
+    private LlmServiceClient client;
+    private SimpleMeterRegistry meterRegistry;
+    private LlmSummaryBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        llm = new LlmStandIn(4);
+        client = StandInFeignClients.create(LlmServiceClient.class, llm);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+        llm.close();
+    }
+
+    @Nested
+    @DisplayName("배치 전송")
+    class BatchingTest {
+
+        @Test
+        @DisplayName("최대 개수가 차면 윈도우를 기다리지 않고 한 번에 전송한다")
+        void submit_FullBatch_SingleCall() throws Exception {
+            // given
+            batcher = new LlmSummaryBatcher(client, meterRegistry, true, 10_000, 8, 2);
+
+            // when
+            List<CompletableFuture<LogSummaryMessageDto>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(batcher.submit(logRequest("Transfer failed #" + i)));
+            }
+
+            // then
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getSummary()).isEqualTo("요약: Transfer failed #" + i);
+            }
+            assertThat(llm.requestCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("윈도우가 끝나면 모인 요청만 전송한다")
+        void submit_WindowElapsed_FlushesPartialBatch() throws Exception {
+            // given
+            batcher = new LlmSummaryBatcher(client, meterRegistry, true, 50, 8, 2);
+
+            // when
+            CompletableFuture<LogSummaryMessageDto> first = batcher.submit(logRequest("Connection refused"));
+            CompletableFuture<LogSummaryMessageDto> second = batcher.submit(logRequest("Read timed out"));
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS).getSummary()).isEqualTo("요약: Connection refused");
+            assertThat(second.get(5, TimeUnit.SECONDS).getSummary()).isEqualTo("요약: Read timed out");
+            assertThat(llm.requestCount()).isEqualTo(1);
+            assertThat(meterRegistry.get("llm.batch.size").summary().max()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("요청 수가 늘어도 LLM 호출 수는 배치 크기만큼 줄어든다")
+        void summarize_ManyCallers_SubLinearCalls() throws Exception {
+            // given
+            llm.latency(LatencyProfile.fixed(100));
+            batcher = new LlmSummaryBatcher(client, meterRegistry, true, 20, 8, 4);
+            int callers = 32;
+
+            ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+            try {
+                // when
+                List<Future<LogSummaryMessageDto>> futures = new ArrayList<>();
+                for (int i = 0; i < callers; i++) {
+                    String message = "NullPointerException at line " + i;
+                    futures.add(callerPool.submit(() -> batcher.summarize(logRequest(message))));
+                }
+
+                // then
+                for (int i = 0; i < callers; i++) {
+                    assertThat(futures.get(i).get(10, TimeUnit.SECONDS).getSummary())
+                            .isEqualTo("요약: NullPointerException at line " + i);
+                }
+                assertThat(llm.requestCount()).isLessThan(callers / 2);
+                assertThat(meterRegistry.get("llm.batch.requests").counter().count()).isEqualTo(callers);
+            } finally {
+                callerPool.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 처리")
+    class FailureTest {
+
+        @Test
+        @DisplayName("LLM 오류 응답 시 배치 안의 모든 요청이 실패한다")
+        void submit_LlmError_FailsWholeBatch() {
+            // given
+            llm.errorRate(1.0);
+            batcher = new LlmSummaryBatcher(client, meterRegistry, true, 10_000, 2, 1);
+
+            // when
+            CompletableFuture<LogSummaryMessageDto> first = batcher.submit(logRequest("Connection refused"));
+            CompletableFuture<LogSummaryMessageDto> second = batcher.submit(logRequest("Read timed out"));
+
+            // then
+            for (CompletableFuture<LogSummaryMessageDto> future : List.of(first, second)) {
+                assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(BaseException.class);
+            }
+            assertThat(llm.requestCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("배칭을 끄면 요청마다 바로 전송한다")
+        void submit_Disabled_SendsImmediately() throws Exception {
+            // given
+            batcher = new LlmSummaryBatcher(client, meterRegistry, false, 10_000, 8, 1);
+
+            // when
+            LogSummaryMessageDto result = batcher.summarize(logRequest("Connection refused"));
+
+            // then
+            assertThat(result.getSummary()).isEqualTo("요약: Connection refused");
+            assertThat(llm.requestCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("취소")
+    class CancelTest {
+
+        @Test
+        @DisplayName("비동기 작업을 취소하면 결과를 기다리던 워커가 바로 풀리고, 전송 전 요청은 배치에서 빠진다")
+        void summarize_JobCancelled_ReleasesWorker() throws Exception {
+            // given : 윈도우 10초 - 취소되지 않으면 워커가 10초 동안 점유됨
+            batcher = new LlmSummaryBatcher(client, meterRegistry, true, 10_000, 2, 1);
+            AsyncJobManager jobManager = new AsyncJobManager(event -> { }, new SimpleMeterRegistry(), 1, 10, 30);
+            try {
+                AsyncJobDto waiting = jobManager.submit("CHN0001", "LOG_ANALYSIS",
+                        () -> batcher.summarize(logRequest("Connection refused")));
+                awaitCount("llm.batch.requests", 1);
+
+                // when
+                jobManager.cancel(waiting.getJobId(), "CHN0001");
+                AsyncJobDto next = jobManager.submit("CHN0001", "LOG_ANALYSIS", () -> "다음 작업");
+
+                // then : 하나뿐인 워커가 다음 작업을 실행
+                assertThat(awaitFinished(jobManager, next.getJobId()).getStatus()).isEqualTo(AsyncJobStatus.SUCCEEDED);
+
+                // 취소된 요청은 다음 배치에 담기지 않음
+                LogSummaryMessageDto result = batcher.submit(logRequest("Read timed out")).get(5, TimeUnit.SECONDS);
+                assertThat(result.getSummary()).isEqualTo("요약: Read timed out");
+                assertThat(llm.requestCount()).isEqualTo(1);
+                assertThat(meterRegistry.get("llm.batch.size").summary().max()).isEqualTo(1);
+            } finally {
+                jobManager.shutdown();
+            }
+        }
+
+        private void awaitCount(String counter, double expected) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (meterRegistry.get(counter).counter().count() < expected && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);   // summarize 가 결과 대기에 들어갈 때까지
+        }
+
+        private AsyncJobDto awaitFinished(AsyncJobManager jobManager, String jobId) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            AsyncJobDto job = jobManager.getJob(jobId, "CHN0001");
+            while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+                job = jobManager.getJob(jobId, "CHN0001");
+            }
+            return job;
+        }
+    }
+
+    private static LogRequestDto logRequest(String message) {
+        return LogRequestDto.builder()
+                .level("ERROR")
+                .logger("kr.ssok.bank.TransferService")
+                .thread("http-nio-8080-exec-1")
+                .message(message)
+                .app("ssok-bank")
+                .build();
+    }
+}
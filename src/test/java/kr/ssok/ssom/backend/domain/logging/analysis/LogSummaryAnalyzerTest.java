@@ -0,0 +1,287 @@
+package kr.ssok.ssom.backend.domain.logging.analysis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import kr.ssok.ssom.backend.domain.logging.entity.LogSummary;
+import kr.ssok.ssom.backend.domain.logging.repository.LogSummaryRepository;
+import kr.ssok.ssom.backend.global.dto.LogLocationDto;
+import kr.ssok.ssom.backend.global.dto.LogSummaryMessageDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.util.LogMessageFingerprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogSummaryAnalyzer 테스트")
+class LogSummaryAnalyzerTest {
+
+    @Mock
+    private LlmSummaryBatcher llmSummaryBatcher;
+
+    @Mock
+    private LogSummaryRepository logSummaryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LogSummaryAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        analyzer = new LogSummaryAnalyzer(llmSummaryBatcher, logSummaryRepository, meterRegistry, 100);
+    }
+
+    @Nested
+    @DisplayName("저장된 분석 재사용")
+    class StoredSummaryTest {
+
+        @Test
+        @DisplayName("같은 지문의 분석이 DB에 있으면 LLM을 호출하지 않는다")
+        void analyze_StoredInDb_SkipsLlm() {
+            // given
+            LogSummary stored = LogSummary.builder()
+                    .logId("old-log")
+                    .summary("잔액 부족")
+                    .fileLocation("TransferService.java")
+                    .functionLocation("transfer")
+                    .build();
+            when(logSummaryRepository.findFirstByMessageFingerprint(anyString())).thenReturn(Optional.of(stored));
+
+            // when
+            LogSummaryMessageDto result = analyzer.analyze(logDto("new-log", "Transfer failed: account 2202"));
+
+            // then
+            assertThat(result.getSummary()).isEqualTo("잔액 부족");
+            assertThat(result.getLocation().getFile()).isEqualTo("TransferService.java");
+            verifyNoInteractions(llmSummaryBatcher);
+            assertThat(meterRegistry.get("llm.analysis.avoided").tag("source", "db").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("한 번 분석한 지문은 메모리 캐시에서 응답한다")
+        void analyze_Twice_SecondServedFromMemory() {
+            // given
+            when(logSummaryRepository.findFirstByMessageFingerprint(anyString())).thenReturn(Optional.empty());
+            when(llmSummaryBatcher.summarize(any())).thenReturn(summary("잔액 부족"));
+
+            // when
+            analyzer.analyze(logDto("log-1", "Transfer failed: account 1101"));
+            LogSummaryMessageDto second = analyzer.analyze(logDto("log-2", "Transfer failed: account 2202"));
+
+            // then
+            assertThat(second.getSummary()).isEqualTo("잔액 부족");
+            verify(llmSummaryBatcher, times(1)).summarize(any());
+            // 첫 요청의 조회 + 선점 후 재확인 2회, 두 번째 요청은 메모리에서 응답
+            verify(logSummaryRepository, times(2)).findFirstByMessageFingerprint(anyString());
+            assertThat(meterRegistry.get("llm.analysis.avoided").tag("source", "memory").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("저장 시 메시지 지문을 함께 저장한다")
+        void analyze_Saves_WithFingerprint() {
+            // given
+            String message = "Transfer failed: account 1101";
+            when(logSummaryRepository.findFirstByMessageFingerprint(anyString())).thenReturn(Optional.empty());
+            when(llmSummaryBatcher.summarize(any())).thenReturn(summary("잔액 부족"));
+
+            // when
+            analyzer.analyze(logDto("log-1", message));
+
+            // then
+            verify(logSummaryRepository).save(argThat(summary ->
+                    LogMessageFingerprint.of(message).equals(summary.getMessageFingerprint())));
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 요청 합치기")
+    class SingleFlightTest {
+
+        @Test
+        @DisplayName("같은 지문의 동시 요청은 LLM 호출 1건을 공유한다")
+        void analyze_Concurrent_SingleLlmCall() throws Exception {
+            // given
+            int requests = 8;
+            CountDownLatch llmStarted = new CountDownLatch(1);
+            CountDownLatch releaseLlm = new CountDownLatch(1);
+            when(logSummaryRepository.findFirstByMessageFingerprint(anyString())).thenReturn(Optional.empty());
+            when(llmSummaryBatcher.summarize(any())).thenAnswer(invocation -> {
+                llmStarted.countDown();
+                releaseLlm.await(5, TimeUnit.SECONDS);
+                return summary("잔액 부족");
+            });
+
+            ExecutorService executor = Executors.newFixedThreadPool(requests);
+            try {
+                // when
+                List<Future<LogSummaryMessageDto>> futures = new ArrayList<>();
+                futures.add(executor.submit(() -> analyzer.analyze(logDto("log-0", "Transfer failed: account 1000"))));
+                assertThat(llmStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                for (int i = 1; i < requests; i++) {
+                    String logId = "log-" + i;
+                    String message = "Transfer failed: account " + (1000 + i);
+                    futures.add(executor.submit(() -> analyzer.analyze(logDto(logId, message))));
+                }
+
+                // 합류한 요청이 모두 대기 상태가 될 때까지 기다린 뒤 LLM 응답
+                long deadline = System.currentTimeMillis() + 5000;
+                while (meterRegistry.get("llm.analysis.coalesced").counter().count() < requests - 1
+                        && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                releaseLlm.countDown();
+
+                // then
+                for (Future<LogSummaryMessageDto> future : futures) {
+                    assertThat(future.get(5, TimeUnit.SECONDS).getSummary()).isEqualTo("잔액 부족");
+                }
+                verify(llmSummaryBatcher, times(1)).summarize(any());
+                assertThat(meterRegistry.get("llm.analysis.coalesced").counter().count()).isEqualTo(requests - 1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("조회 후 선점 전에 앞선 분석이 끝났으면 선점 후 메모리 캐시에서 응답한다")
+        void analyze_PreviousFinishedBeforeClaim_ServedFromMemory() {
+            // given : 두 번째 요청의 첫 DB 조회 도중 첫 번째 요청이 분석을 끝내고 inFlight 에서 빠짐
+            AtomicBoolean interleaved = new AtomicBoolean();
+            when(llmSummaryBatcher.summarize(any())).thenReturn(summary("잔액 부족"));
+            when(logSummaryRepository.findFirstByMessageFingerprint(anyString())).thenAnswer(invocation -> {
+                if (interleaved.compareAndSet(false, true)) {
+                    analyzer.analyze(logDto("log-1", "Transfer failed: account 1101"));
+                }
+                return Optional.empty();
+            });
+
+            // when
+            LogSummaryMessageDto result = analyzer.analyze(logDto("log-2", "Transfer failed: account 2202"));
+
+            // then
+            assertThat(result.getSummary()).isEqualTo("잔액 부족");
+            verify(llmSummaryBatcher, times(1)).summarize(any());
+            verify(logSummaryRepository, times(1)).save(any());
+            assertThat(meterRegistry.get("llm.analysis.avoided").tag("source", "memory").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("선점 후 재확인에서 다른 인스턴스가 저장한 분석을 찾으면 LLM을 호출하지 않는다")
+        void analyze_SavedElsewhereBeforeClaim_ServedFromDb() {
+            // given
+            LogSummary stored = LogSummary.builder()
+                    .logId("other-instance-log")
+                    .summary("잔액 부족")
+                    .fileLocation("TransferService.java")
+                    .functionLocation("transfer")
+                    .build();
+            when(logSummaryRepository.findFirstByMessageFingerprint(anyString()))
+                    .thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(stored));
+
+            // when
+            LogSummaryMessageDto result = analyzer.analyze(logDto("log-1", "Transfer failed: account 1101"));
+
+            // then
+            assertThat(result.getSummary()).isEqualTo("잔액 부족");
+            verifyNoInteractions(llmSummaryBatcher);
+            verify(logSummaryRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("먼저 들어온 요청이 취소되면 기다리던 요청이 실패하지 않고 다시 호출한다")
+        void analyze_LeaderCancelled_WaiterRetries() throws Exception {
+            // given : 첫 호출은 인터럽트될 때까지 대기 (LlmSummaryBatcher.summarize 와 같은 방식으로 실패)
+            CountDownLatch llmStarted = new CountDownLatch(1);
+            AtomicInteger llmCalls = new AtomicInteger();
+            when(logSummaryRepository.findFirstByMessageFingerprint(anyString())).thenReturn(Optional.empty());
+            when(llmSummaryBatcher.summarize(any())).thenAnswer(invocation -> {
+                if (llmCalls.getAndIncrement() == 0) {
+                    llmStarted.countDown();
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
+                    }
+                }
+                return summary("잔액 부족");
+            });
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<LogSummaryMessageDto> leader = executor.submit(() -> analyzer.analyze(logDto("log-1", "Transfer failed: account 1101")));
+                assertThat(llmStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                Future<LogSummaryMessageDto> waiter = executor.submit(() -> analyzer.analyze(logDto("log-2", "Transfer failed: account 2202")));
+
+                long deadline = System.currentTimeMillis() + 5000;
+                while (meterRegistry.get("llm.analysis.coalesced").counter().count() < 1 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+
+                // when
+                leader.cancel(true);
+
+                // then
+                assertThat(waiter.get(5, TimeUnit.SECONDS).getSummary()).isEqualTo("잔액 부족");
+                verify(llmSummaryBatcher, times(2)).summarize(any());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("LLM 호출이 실패하면 결과를 캐시하지 않고 다음 요청에서 다시 호출한다")
+        void analyze_LlmFailure_NotCached() {
+            // given
+            when(logSummaryRepository.findFirstByMessageFingerprint(anyString())).thenReturn(Optional.empty());
+            when(llmSummaryBatcher.summarize(any()))
+                    .thenThrow(new RuntimeException("timeout"))
+                    .thenReturn(summary("잔액 부족"));
+
+            // when & then
+            assertThatThrownBy(() -> analyzer.analyze(logDto("log-1", "Transfer failed: account 1101")))
+                    .isInstanceOf(BaseException.class);
+            assertThat(analyzer.analyze(logDto("log-2", "Transfer failed: account 2202")).getSummary())
+                    .isEqualTo("잔액 부족");
+            verify(llmSummaryBatcher, times(2)).summarize(any());
+        }
+    }
+
+    private static LogDto logDto(String logId, String message) {
+        return LogDto.builder()
+                .logId(logId)
+                .level("ERROR")
+                .app("ssok-bank")
+                .message(message)
+                .build();
+    }
+
+    private static LogSummaryMessageDto summary(String summary) {
+        return LogSummaryMessageDto.builder()
+                .summary(summary)
+                .location(LogLocationDto.builder().file("TransferService.java").function("transfer").build())
+                .solution("잔액 확인")
+                .build();
+    }
+}
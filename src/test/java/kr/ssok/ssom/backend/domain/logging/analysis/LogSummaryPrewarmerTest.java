@@ -0,0 +1,296 @@
+package kr.ssok.ssom.backend.domain.logging.analysis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import kr.ssok.ssom.backend.global.dto.LogSummaryMessageDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogSummaryPrewarmer 테스트")
+class LogSummaryPrewarmerTest {
+
+    @Mock
+    private LogSummaryAnalyzer logSummaryAnalyzer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LogSummaryPrewarmer prewarmer;
+
+    @AfterEach
+    void tearDown() {
+        if (prewarmer != null) {
+            prewarmer.shutdown();
+        }
+    }
+
+    // 분당 60건 (허용량은 테스트에서 직접 지정), start() 를 호출하지 않으므로 drain() 은 테스트 스레드에서만 실행
+    private LogSummaryPrewarmer prewarmer(int dailyBudget, int queueCapacity) {
+        prewarmer = new LogSummaryPrewarmer(logSummaryAnalyzer, meterRegistry,
+                true, new String[]{"ERROR"}, 60, dailyBudget, queueCapacity);
+        return prewarmer;
+    }
+
+    private void grantPermits(double permits) {
+        ReflectionTestUtils.setField(prewarmer, "permits", permits);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Nested
+    @DisplayName("대기열 등록")
+    class OfferTest {
+
+        @Test
+        @DisplayName("같은 지문의 로그는 한 번만 등록되어 한 번만 분석된다")
+        void offer_SameFingerprint_QueuedOnce() {
+            // given
+            prewarmer(10, 10);
+            when(logSummaryAnalyzer.find(anyString())).thenReturn(Optional.empty());
+
+            // when - 숫자만 다른 메시지는 같은 지문
+            prewarmer.offer(logDto("Transfer failed: account 2202"));
+            prewarmer.offer(logDto("Transfer failed: account 3303"));
+            grantPermits(5);
+            prewarmer.drain();
+
+            // then
+            verify(logSummaryAnalyzer, times(1)).analyze(any(LogDto.class));
+            assertThat(count("llm.prewarm.queued")).isEqualTo(1);
+            assertThat(count("llm.prewarm.generated")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("대상 레벨이 아닌 로그는 등록하지 않는다")
+        void offer_OtherLevel_Ignored() {
+            // given
+            prewarmer(10, 10);
+            LogDto info = logDto("Transfer completed");
+            info.setLevel("INFO");
+
+            // when
+            prewarmer.offer(info);
+            grantPermits(5);
+            prewarmer.drain();
+
+            // then
+            verifyNoInteractions(logSummaryAnalyzer);
+            assertThat(count("llm.prewarm.queued")).isZero();
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차 버린 지문은 다시 들어오면 등록된다")
+        void offer_QueueFull_RequeuedOnNextOccurrence() {
+            // given
+            prewarmer(10, 1);
+            when(logSummaryAnalyzer.find(anyString())).thenReturn(Optional.empty());
+            prewarmer.offer(logDto("Transfer failed"));
+
+            // when - 대기열 초과로 버려짐
+            prewarmer.offer(logDto("Account locked"));
+
+            // then
+            assertThat(count("llm.prewarm.dropped")).isEqualTo(1);
+
+            // when - 대기열이 비워진 뒤 같은 지문이 다시 발생
+            grantPermits(5);
+            prewarmer.drain();
+            prewarmer.offer(logDto("Account locked"));
+            grantPermits(5);
+            prewarmer.drain();
+
+            // then
+            ArgumentCaptor<LogDto> captor = ArgumentCaptor.forClass(LogDto.class);
+            verify(logSummaryAnalyzer, times(2)).analyze(captor.capture());
+            assertThat(captor.getAllValues()).extracting(LogDto::getMessage)
+                    .containsExactly("Transfer failed", "Account locked");
+            assertThat(count("llm.prewarm.queued")).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 처리")
+    class DrainTest {
+
+        @Test
+        @DisplayName("이미 분석이 있는 지문은 LLM 을 호출하지 않고 예산도 쓰지 않는다")
+        void drain_SummaryExists_Skipped() {
+            // given
+            prewarmer(1, 10);
+            when(logSummaryAnalyzer.find("Transfer failed"))
+                    .thenReturn(Optional.of(LogSummaryMessageDto.builder().summary("잔액 부족").build()));
+            when(logSummaryAnalyzer.find("Account locked")).thenReturn(Optional.empty());
+            prewarmer.offer(logDto("Transfer failed"));
+            prewarmer.offer(logDto("Account locked"));
+
+            // when
+            grantPermits(5);
+            prewarmer.drain();
+
+            // then - 예산 1건은 분석이 없는 지문에 사용
+            ArgumentCaptor<LogDto> captor = ArgumentCaptor.forClass(LogDto.class);
+            verify(logSummaryAnalyzer, times(1)).analyze(captor.capture());
+            assertThat(captor.getValue().getMessage()).isEqualTo("Account locked");
+            assertThat(count("llm.prewarm.skipped")).isEqualTo(1);
+            assertThat(count("llm.prewarm.generated")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("ID 가 없는 로그는 지문 기반 ID 로 분석한다")
+        void drain_NoLogId_UsesFingerprintId() {
+            // given
+            prewarmer(10, 10);
+            when(logSummaryAnalyzer.find(anyString())).thenReturn(Optional.empty());
+            LogDto noId = logDto("Transfer failed");
+            noId.setLogId(null);
+            prewarmer.offer(noId);
+
+            // when
+            grantPermits(1);
+            prewarmer.drain();
+
+            // then
+            ArgumentCaptor<LogDto> captor = ArgumentCaptor.forClass(LogDto.class);
+            verify(logSummaryAnalyzer).analyze(captor.capture());
+            assertThat(captor.getValue().getLogId()).startsWith("prewarm-");
+            assertThat(noId.getLogId()).isNull();
+        }
+
+        @Test
+        @DisplayName("허용량이 없으면 대기열에 남겨두고 다음 회차에 처리한다")
+        void drain_NoPermits_KeepsQueued() {
+            // given
+            prewarmer(10, 10);
+            prewarmer.offer(logDto("Transfer failed"));
+
+            // when
+            grantPermits(0);
+            prewarmer.drain();
+
+            // then
+            verifyNoInteractions(logSummaryAnalyzer);
+            assertThat(meterRegistry.get("llm.prewarm.pending").gauge().value()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("허용량만큼의 요청을 동시에 보낸다")
+        void drain_SubmitsConcurrently() {
+            // given - 세 요청이 모두 동시에 진행 중이어야 통과하는 분석
+            prewarmer(10, 10);
+            when(logSummaryAnalyzer.find(anyString())).thenReturn(Optional.empty());
+            CountDownLatch inFlight = new CountDownLatch(3);
+            when(logSummaryAnalyzer.analyze(any(LogDto.class))).thenAnswer(invocation -> {
+                inFlight.countDown();
+                if (!inFlight.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("동시에 요청되지 않음");
+                }
+                return null;
+            });
+            prewarmer.offer(logDto("Transfer failed"));
+            prewarmer.offer(logDto("Account locked"));
+            prewarmer.offer(logDto("Connection refused"));
+
+            // when
+            grantPermits(3);
+            prewarmer.drain();
+
+            // then - drain 은 회차의 요청이 모두 끝난 뒤 반환
+            assertThat(count("llm.prewarm.generated")).isEqualTo(3);
+            assertThat(count("llm.prewarm.failed")).isZero();
+        }
+
+        @Test
+        @DisplayName("분석에 실패한 지문은 다시 들어오면 재시도한다")
+        void drain_Failed_RetriedOnNextOccurrence() {
+            // given
+            prewarmer(10, 10);
+            when(logSummaryAnalyzer.find(anyString())).thenReturn(Optional.empty());
+            when(logSummaryAnalyzer.analyze(any(LogDto.class)))
+                    .thenThrow(new IllegalStateException("LLM 오류"))
+                    .thenReturn(null);
+            prewarmer.offer(logDto("Transfer failed"));
+            grantPermits(1);
+            prewarmer.drain();
+
+            // when
+            prewarmer.offer(logDto("Transfer failed"));
+            grantPermits(1);
+            prewarmer.drain();
+
+            // then
+            verify(logSummaryAnalyzer, times(2)).analyze(any(LogDto.class));
+            assertThat(count("llm.prewarm.failed")).isEqualTo(1);
+            assertThat(count("llm.prewarm.generated")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("일일 예산")
+    class BudgetTest {
+
+        @Test
+        @DisplayName("예산을 다 쓰면 버리고, 날짜가 바뀌면 예산이 초기화되어 다시 분석한다")
+        void drain_BudgetExhausted_ResetsNextDay() {
+            // given
+            prewarmer(1, 10);
+            when(logSummaryAnalyzer.find(anyString())).thenReturn(Optional.empty());
+            prewarmer.offer(logDto("Transfer failed"));
+            prewarmer.offer(logDto("Account locked"));
+
+            // when
+            grantPermits(5);
+            prewarmer.drain();
+
+            // then - 두 번째 지문은 예산 소진으로 버려짐
+            verify(logSummaryAnalyzer, times(1)).analyze(any(LogDto.class));
+            assertThat(count("llm.prewarm.dropped")).isEqualTo(1);
+
+            // when - 같은 날 다시 들어오면 여전히 예산 없음
+            prewarmer.offer(logDto("Account locked"));
+            grantPermits(5);
+            prewarmer.drain();
+
+            // then
+            verify(logSummaryAnalyzer, times(1)).analyze(any(LogDto.class));
+            assertThat(count("llm.prewarm.dropped")).isEqualTo(2);
+
+            // when - 다음 날
+            ReflectionTestUtils.setField(prewarmer, "budgetDate", LocalDate.now().minusDays(1));
+            prewarmer.offer(logDto("Account locked"));
+            grantPermits(5);
+            prewarmer.drain();
+
+            // then
+            ArgumentCaptor<LogDto> captor = ArgumentCaptor.forClass(LogDto.class);
+            verify(logSummaryAnalyzer, times(2)).analyze(captor.capture());
+            assertThat(captor.getAllValues().get(1).getMessage()).isEqualTo("Account locked");
+            assertThat(count("llm.prewarm.generated")).isEqualTo(2);
+        }
+    }
+
+    private static LogDto logDto(String message) {
+        return LogDto.builder()
+                .logId("log-" + message.hashCode())
+                .level("ERROR")
+                .app("ssok-bank")
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package kr.ssok.ssom.backend.domain.logging.anomaly;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.domain.alert.dto.AlertRequestDto;
+import kr.ssok.ssom.backend.domain.alert.entity.constant.AlertKind;
+import kr.ssok.ssom.backend.domain.alert.service.AlertService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ErrorRateSpikeDetector 테스트")
+class ErrorRateSpikeDetectorTest {
+
+    private static final long BASE = 1_000_000_000_000L;
+    private static final long BUCKET_MILLIS = 10_000L;
+    private static final String APP = "ssok-bank";
+
+    @Mock
+    private AlertService alertService;
+
+    private ErrorRateSpikeDetector detector;
+
+    // 다음에 채울 구간 번호
+    private int bucket;
+
+    @BeforeEach
+    void setUp() {
+        // 구간 10초, 윈도우 6구간, 워밍업 3회, 최소 ERROR 20건, 최소 에러율 5%, cooldown 600초
+        detector = new ErrorRateSpikeDetector(alertService, new SimpleMeterRegistry(), true,
+                10, 6, 0.1, 3.0, 20, 0.05, 3, 600);
+        bucket = 0;
+    }
+
+    @Nested
+    @DisplayName("급증 감지")
+    class DetectTest {
+
+        @Test
+        @DisplayName("평소 에러율보다 크게 높아지면 알림을 1건 생성한다")
+        void evaluate_Spike_CreatesAlert() {
+            // given : 에러율 1% 로 기준선 학습
+            fillBuckets(10, 100, 1);
+
+            // when : 에러율 50% 구간 연속 발생
+            fillBuckets(3, 100, 50);
+
+            // then
+            ArgumentCaptor<AlertRequestDto> captor = ArgumentCaptor.forClass(AlertRequestDto.class);
+            verify(alertService, times(1)).createAlert(captor.capture(), eq(AlertKind.OPENSEARCH));
+            assertThat(captor.getValue().getApp()).isEqualTo(APP);
+            assertThat(captor.getValue().getLevel()).isEqualTo("ERROR");
+            assertThat(captor.getValue().getMessage()).contains("에러율 급증");
+        }
+
+        @Test
+        @DisplayName("에러율이 평소 수준이면 알림을 생성하지 않는다")
+        void evaluate_SteadyRate_NoAlert() {
+            // given & when
+            fillBuckets(20, 100, 2);
+
+            // then
+            verify(alertService, never()).createAlert(any(), any());
+        }
+
+        @Test
+        @DisplayName("기준선 학습 전에는 알림을 생성하지 않는다")
+        void evaluate_BeforeWarmup_NoAlert() {
+            // given & when
+            fillBuckets(1, 100, 1);
+            fillBuckets(1, 100, 60);
+
+            // then
+            verify(alertService, never()).createAlert(any(), any());
+        }
+
+        @Test
+        @DisplayName("ERROR 건수가 최소 건수보다 적으면 에러율이 높아도 알림을 생성하지 않는다")
+        void evaluate_LowVolume_NoAlert() {
+            // given
+            fillBuckets(10, 10, 0);
+
+            // when : 에러율은 높지만 윈도우 ERROR 합계 < 20
+            fillBuckets(1, 10, 8);
+
+            // then
+            verify(alertService, never()).createAlert(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("재알림 제한")
+    class CooldownTest {
+
+        @Test
+        @DisplayName("cooldown 이내에 다시 급증하면 알림을 생성하지 않는다")
+        void evaluate_WithinCooldown_NoSecondAlert() {
+            // given
+            fillBuckets(10, 100, 1);
+            fillBuckets(2, 100, 50);
+            fillBuckets(10, 100, 1);
+
+            // when : 첫 알림 후 약 200초 뒤 재발
+            fillBuckets(2, 100, 50);
+
+            // then
+            verify(alertService, times(1)).createAlert(any(), any());
+        }
+
+        @Test
+        @DisplayName("cooldown 이 지난 뒤 다시 급증하면 알림을 생성한다")
+        void evaluate_AfterCooldown_AlertsAgain() {
+            // given
+            fillBuckets(10, 100, 1);
+            fillBuckets(2, 100, 50);
+            fillBuckets(70, 100, 1);
+
+            // when
+            fillBuckets(2, 100, 50);
+
+            // then
+            verify(alertService, times(2)).createAlert(any(), any());
+        }
+    }
+
+    /**
+     * 구간 count 개를 차례로 채우고, 각 구간이 닫힌 직후 평가
+     */
+    private void fillBuckets(int count, int total, int errors) {
+        for (int n = 0; n < count; n++) {
+            long start = BASE + bucket * BUCKET_MILLIS;
+            for (int i = 0; i < total; i++) {
+                detector.record(APP, i < errors ? "ERROR" : "INFO", start + i);
+            }
+            bucket++;
+            detector.evaluate(BASE + bucket * BUCKET_MILLIS + 1);
+        }
+    }
+}
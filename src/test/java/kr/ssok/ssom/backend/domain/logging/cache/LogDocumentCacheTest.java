@@ -0,0 +1,107 @@
+package kr.ssok.ssom.backend.domain.logging.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LogDocumentCache 테스트")
+class LogDocumentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LogDocumentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new LogDocumentCache(meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("저장 후 원본을 변경해도 캐시된 문서는 바뀌지 않는다")
+    void put_StoresCopy() {
+        // given
+        LogDto original = logDto("log-1", "Transfer failed");
+        cache.put(original);
+
+        // when
+        original.setMessage("changed");
+
+        // then
+        assertThat(cache.get("log-1").getMessage()).isEqualTo("Transfer failed");
+    }
+
+    @Test
+    @DisplayName("조회 결과를 변경해도 캐시된 문서는 바뀌지 않는다")
+    void get_ReturnsCopy() {
+        // given
+        cache.put(logDto("log-1", "Transfer failed"));
+
+        // when
+        LogDto first = cache.get("log-1");
+        first.setMessage("changed");
+
+        // then
+        LogDto second = cache.get("log-1");
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getMessage()).isEqualTo("Transfer failed");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 문서부터 제거한다")
+    void put_OverCapacity_EvictsLeastRecentlyUsed() {
+        // given
+        cache.put(logDto("log-1", "a"));
+        cache.put(logDto("log-2", "b"));
+        cache.get("log-1");
+
+        // when
+        cache.put(logDto("log-3", "c"));
+
+        // then
+        assertThat(cache.get("log-1")).isNotNull();
+        assertThat(cache.get("log-2")).isNull();
+        assertThat(cache.get("log-3")).isNotNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로그 ID가 없는 문서는 저장하지 않는다")
+    void put_WithoutLogId_Ignored() {
+        // when
+        cache.put(logDto(null, "a"));
+        cache.put(logDto("", "b"));
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 결과에 따라 hit/miss 지표를 기록한다")
+    void get_RecordsHitAndMiss() {
+        // given
+        cache.put(logDto("log-1", "a"));
+
+        // when
+        cache.get("log-1");
+        cache.get("log-2");
+        cache.get("log-3");
+
+        // then
+        assertThat(meterRegistry.counter("logging.document-cache.requests", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("logging.document-cache.requests", "result", "miss").count()).isEqualTo(2.0);
+    }
+
+    private static LogDto logDto(String logId, String message) {
+        return LogDto.builder()
+                .logId(logId)
+                .app("ssok-bank")
+                .level("ERROR")
+                .message(message)
+                .timestamp("2025-05-30T07:24:06.396Z")
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package kr.ssok.ssom.backend.domain.logging.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RecentLogBuffer 테스트")
+class RecentLogBufferTest {
+
+    private static final List<String> ERROR_WARN = List.of("ERROR", "WARN");
+    private static final long DAY_AGO = System.currentTimeMillis() - 86_400_000L;
+
+    private final Instant base = Instant.now().plusSeconds(1);
+
+    @Test
+    @DisplayName("보관된 로그가 페이지보다 많으면 최신순으로 페이지 크기 + 1건을 반환한다")
+    void newest_EnoughLogs_ReturnsNewestFirst() {
+        // given
+        RecentLogBuffer buffer = new RecentLogBuffer(new SimpleMeterRegistry(), true, 100);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(logDto("log-" + i, "ssok-bank", "ERROR", i));
+        }
+
+        // when
+        Optional<List<LogDto>> result = buffer.newest("ssok-bank", ERROR_WARN, DAY_AGO, 2);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(LogDto::getLogId).containsExactly("log-4", "log-3", "log-2");
+    }
+
+    @Test
+    @DisplayName("기동 이전 로그가 있을 수 있는 범위까지 필요하면 OpenSearch 조회로 넘긴다")
+    void newest_NotEnoughSinceStartup_Empty() {
+        // given
+        RecentLogBuffer buffer = new RecentLogBuffer(new SimpleMeterRegistry(), true, 100);
+        buffer.add(logDto("log-0", "ssok-bank", "ERROR", 0));
+
+        // when
+        Optional<List<LogDto>> result = buffer.newest("ssok-bank", ERROR_WARN, DAY_AGO, 10);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼에서 밀려난 로그보다 이전까지 필요하면 OpenSearch 조회로 넘긴다")
+    void newest_BeyondEvicted_Empty() {
+        // given : 용량 3, 5건 추가 -> log-0, log-1 밀려남
+        RecentLogBuffer buffer = new RecentLogBuffer(new SimpleMeterRegistry(), true, 3);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(logDto("log-" + i, "ssok-bank", "ERROR", i));
+        }
+
+        // when
+        Optional<List<LogDto>> fits = buffer.newest("ssok-bank", ERROR_WARN, DAY_AGO, 2);
+        Optional<List<LogDto>> beyond = buffer.newest("ssok-bank", ERROR_WARN, DAY_AGO, 3);
+
+        // then
+        assertThat(fits).isPresent();
+        assertThat(fits.get()).extracting(LogDto::getLogId).containsExactly("log-4", "log-3", "log-2");
+        assertThat(beyond).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서비스 필터가 없으면 모든 서비스의 로그를 합쳐 최신순으로 반환한다")
+    void newest_AllApps_Merged() {
+        // given
+        RecentLogBuffer buffer = new RecentLogBuffer(new SimpleMeterRegistry(), true, 100);
+        buffer.add(logDto("log-0", "ssok-bank", "ERROR", 0));
+        buffer.add(logDto("log-1", "ssok-user", "WARN", 1));
+        buffer.add(logDto("log-2", "ssok-bank", "WARN", 2));
+
+        // when
+        Optional<List<LogDto>> result = buffer.newest(null, ERROR_WARN, DAY_AGO, 1);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(LogDto::getLogId).containsExactly("log-2", "log-1");
+    }
+
+    @Test
+    @DisplayName("ERROR/WARN 이외의 레벨 조회와 로그 ID 가 없는 로그는 버퍼를 사용하지 않는다")
+    void newest_UnbufferedLevelOrWithoutId() {
+        // given
+        RecentLogBuffer buffer = new RecentLogBuffer(new SimpleMeterRegistry(), true, 100);
+        buffer.add(logDto(null, "ssok-bank", "ERROR", 0));
+        buffer.add(logDto("log-1", "ssok-bank", "INFO", 1));
+
+        // when & then
+        assertThat(buffer.newest("ssok-bank", List.of("INFO"), DAY_AGO, 1)).isEmpty();
+        assertThat(buffer.newest("ssok-bank", ERROR_WARN, DAY_AGO, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반환한 로그를 변경해도 버퍼에 보관된 로그는 바뀌지 않는다")
+    void newest_ReturnsCopies() {
+        // given
+        RecentLogBuffer buffer = new RecentLogBuffer(new SimpleMeterRegistry(), true, 100);
+        buffer.add(logDto("log-0", "ssok-bank", "ERROR", 0));
+        buffer.add(logDto("log-1", "ssok-bank", "ERROR", 1));
+
+        // when
+        buffer.newest("ssok-bank", ERROR_WARN, DAY_AGO, 1).orElseThrow().get(0).setMessage("changed");
+
+        // then
+        assertThat(buffer.newest("ssok-bank", ERROR_WARN, DAY_AGO, 1).orElseThrow().get(0).getMessage())
+                .isEqualTo("Transfer failed #1");
+    }
+
+    private LogDto logDto(String logId, String app, String level, int secondsAfterBase) {
+        return LogDto.builder()
+                .logId(logId)
+                .app(app)
+                .level(level)
+                .timestamp(base.plusSeconds(secondsAfterBase).toString())
+                .message("Transfer failed #" + secondsAfterBase)
+                .build();
+    }
+}
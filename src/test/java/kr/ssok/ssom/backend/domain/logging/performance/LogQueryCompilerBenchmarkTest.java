@@ -0,0 +1,156 @@
+package kr.ssok.ssom.backend.domain.logging.performance;
+
+import kr.ssok.ssom.backend.domain.logging.dto.LogDataDto;
+import kr.ssok.ssom.backend.domain.logging.search.LogQueryCompiler;
+import kr.ssok.ssom.backend.global.standin.OpenSearchStandIn;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그 조회 쿼리 컴파일러 벤치마크 (OpenSearch 스탠드인)
+ * 14일치 일별 인덱스에 대해 기존 방식(별칭 전체, 시간 범위 없음, level match)과
+ * LogQueryCompiler 방식(최근 24시간, 일별 인덱스 지정 또는 별칭 + pre-filter, filter 컨텍스트)의
+ * 검색 샤드 수, 스캔 문서 수, 지연을 비교
+ */
+public class LogQueryCompilerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LogQueryCompilerBenchmarkTest.class);
+
+    private static final String ALIAS = "ssok-app";
+    private static final int DAYS = 14;
+    private static final int DOCS_PER_DAY = 10_000;
+    private static final int QUERIES = 30;
+    private static final List<String> APPS = List.of("ssok-bank", "ssok-account", "ssok-user", "ssok-notification", "ssok-gateway");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd").withZone(ZoneOffset.UTC);
+
+    private OpenSearchStandIn openSearch;
+    private OpenSearchTransport transport;
+    private OpenSearchClient client;
+
+    @BeforeEach
+    void setUp() {
+        openSearch = new OpenSearchStandIn(4, ALIAS, 5);
+
+        // 최근 14일, 하루 10,000건 (INFO 80%, WARN 10%, ERROR 10%)
+        long now = System.currentTimeMillis();
+        long step = 86_400_000L / DOCS_PER_DAY;
+        for (int i = 0; i < DAYS * DOCS_PER_DAY; i++) {
+            long timestamp = now - (long) i * step;
+            String level = i % 10 == 0 ? "ERROR" : i % 10 == 1 ? "WARN" : "INFO";
+            openSearch.index("ssok-app-" + DAY_FORMAT.format(Instant.ofEpochMilli(timestamp)), "log-" + i, timestamp,
+                    APPS.get((i / 10) % APPS.size()), level, "Transfer failed: account " + i);
+        }
+
+        transport = ApacheHttpClient5TransportBuilder.builder(new HttpHost("http", "127.0.0.1", openSearch.port()))
+                .setMapper(new JacksonJsonpMapper())
+                .build();
+        client = new OpenSearchClient(transport);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        transport.close();
+        openSearch.close();
+    }
+
+    @Test
+    @DisplayName("최근 24시간 ERROR 조회 - 기존 쿼리 vs 컴파일된 쿼리")
+    void compareLegacyAndCompiledQueries() throws Exception {
+        // given
+        LogQueryCompiler daily = new LogQueryCompiler(ALIAS, "daily", "ssok-app-", "yyyy.MM.dd", 24, 168);
+        LogQueryCompiler alias = new LogQueryCompiler(ALIAS, "alias", "ssok-app-", "yyyy.MM.dd", 24, 168);
+
+        // when
+        Result legacy = run("legacy", this::legacyRequest);
+        Result dailyResult = run("daily", app -> compiledRequest(daily, app));
+        Result aliasResult = run("alias+pre-filter", app -> compiledRequest(alias, app));
+
+        // then
+        log.info("로그 조회 벤치마크 결과\n  {}\n  {}\n  {}", legacy, dailyResult, aliasResult);
+
+        // 최근 로그는 같은 결과
+        assertThat(dailyResult.lastIds).isEqualTo(legacy.lastIds);
+        assertThat(aliasResult.lastIds).isEqualTo(legacy.lastIds);
+
+        // 검색 샤드와 스캔 문서 수가 조회 기간(1~2일)에 비례
+        assertThat(dailyResult.shards).isLessThanOrEqualTo(QUERIES * 2L);
+        assertThat(aliasResult.shards).isLessThanOrEqualTo(QUERIES * 2L);
+        assertThat(legacy.shards).isGreaterThanOrEqualTo(QUERIES * (long) DAYS);
+        assertThat(dailyResult.docs * 5).isLessThan(legacy.docs);
+        assertThat(aliasResult.docs * 5).isLessThan(legacy.docs);
+    }
+
+    // =================================== 헬퍼 ===================================
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        SearchRequest create(String app);
+    }
+
+    /**
+     * 기존 LoggingServiceImpl 방식 - 별칭 전체, 시간 범위 없음, level match
+     */
+    private SearchRequest legacyRequest(String app) {
+        return new SearchRequest.Builder()
+                .index(ALIAS)
+                .query(q -> q.bool(b -> b
+                        .filter(f -> f.term(t -> t.field("app.keyword").value(FieldValue.of(app))))
+                        .filter(f -> f.match(m -> m.field("level").query(FieldValue.of("ERROR"))))))
+                .sort(s -> s.field(f -> f.field("@timestamp").order(SortOrder.Desc)))
+                .size(100)
+                .build();
+    }
+
+    private SearchRequest compiledRequest(LogQueryCompiler compiler, String app) {
+        return compiler.compile(app, List.of("ERROR"), 24)
+                .applyTo(new SearchRequest.Builder(), true)
+                .sort(s -> s.field(f -> f.field("@timestamp").order(SortOrder.Desc)))
+                .size(100)
+                .build();
+    }
+
+    private Result run(String name, RequestFactory factory) throws Exception {
+        long shardsBefore = openSearch.shardsSearched();
+        long docsBefore = openSearch.docsScanned();
+        List<String> lastIds = List.of();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            List<Hit<LogDataDto>> hits = client.search(factory.create(APPS.get(i % APPS.size())), LogDataDto.class).hits().hits();
+            lastIds = hits.stream().map(Hit::id).toList();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        return new Result(name, elapsedMillis, openSearch.shardsSearched() - shardsBefore,
+                openSearch.docsScanned() - docsBefore, lastIds);
+    }
+
+    private record Result(String name, long elapsedMillis, long shards, long docs, List<String> lastIds) {
+        @Override
+        public String toString() {
+            return String.format("%-16s : elapsed = %dms, avg = %.1fms, shards = %d, docsScanned = %d",
+                    name, elapsedMillis, (double) elapsedMillis / QUERIES, shards, docs);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LogCursor 테스트")
+class LogCursorTest {
+
+    @Test
+    @DisplayName("PIT 와 정렬 값을 URL 안전한 문자열로 인코딩하고 그대로 복원한다")
+    void encodeDecode_WithPit_RoundTrip() {
+        // given : PIT ID 는 base64 로 '+', '/', '=' 를 포함할 수 있음
+        LogCursor cursor = new LogCursor("o463QQEL+c3Nvay1hcHA=/Fm9wZW4=", List.of("1760832000000", "log-42"));
+
+        // when
+        String token = cursor.encode();
+        LogCursor decoded = LogCursor.decode(token);
+
+        // then
+        assertThat(token).doesNotContain("+", "/", "=");
+        assertThat(decoded.hasPit()).isTrue();
+        assertThat(decoded.getPitId()).isEqualTo(cursor.getPitId());
+        assertThat(decoded.getSortValues()).containsExactly("1760832000000", "log-42");
+    }
+
+    @Test
+    @DisplayName("PIT 없는 커서는 PIT 없이 복원한다")
+    void encodeDecode_WithoutPit_RoundTrip() {
+        // given
+        LogCursor cursor = LogCursor.ofSearchAfter("1760832000000", "log-42");
+
+        // when
+        LogCursor decoded = LogCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.hasPit()).isFalse();
+        assertThat(decoded.getPitId()).isNull();
+        assertThat(decoded.getSortValues()).containsExactly("1760832000000", "log-42");
+    }
+
+    @Test
+    @DisplayName("base64 가 아닌 토큰은 INVALID_LOG_CURSOR 예외가 발생한다")
+    void decode_NotBase64_Invalid() {
+        assertThatThrownBy(() -> LogCursor.decode("not a cursor!"))
+                .isInstanceOf(BaseException.class)
+                .extracting("status").isEqualTo(BaseResponseStatus.INVALID_LOG_CURSOR);
+    }
+
+    @Test
+    @DisplayName("정렬 값 개수가 맞지 않는 토큰은 INVALID_LOG_CURSOR 예외가 발생한다")
+    void decode_WrongPartCount_Invalid() {
+        // given
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("pit-1\n1760832000000".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> LogCursor.decode(token))
+                .isInstanceOf(BaseException.class)
+                .extracting("status").isEqualTo(BaseResponseStatus.INVALID_LOG_CURSOR);
+    }
+}
@@ -0,0 +1,250 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ssok.ssom.backend.global.standin.OpenSearchStandIn;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogExportStreamer 테스트 - OpenSearch 스탠드인으로 PIT 페이지 순회, gzip 출력, 중단 표시, PIT 정리 확인
+ */
+@DisplayName("LogExportStreamer 테스트")
+class LogExportStreamerTest {
+
+    private static final String ALIAS = "ssok-app";
+    private static final int TOTAL = 25;
+    private static final int PAGE_SIZE = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OpenSearchStandIn openSearch;
+    private OpenSearchTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        openSearch = new OpenSearchStandIn(4, ALIAS, 0);
+
+        // 최근 25건, 1초 간격 (log-00 이 가장 최근)
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < TOTAL; i++) {
+            openSearch.index("ssok-app-000001", logId(i), now - i * 1000L, "ssok-bank", "ERROR", "Transfer failed #" + i);
+        }
+
+        transport = ApacheHttpClient5TransportBuilder.builder(new HttpHost("http", "127.0.0.1", openSearch.port()))
+                .setMapper(new JacksonJsonpMapper())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        transport.close();
+        openSearch.close();
+    }
+
+    private LogExportStreamer streamer(long maxLines) {
+        return new LogExportStreamer(new OpenSearchClient(transport), objectMapper,
+                new LogQueryCompiler(ALIAS, "alias", "ssok-app-", "yyyy.MM.dd", 24, 168),
+                PAGE_SIZE, maxLines, "2m", 2);
+    }
+
+    private long export(LogExportStreamer streamer, boolean gzip, OutputStream out) throws IOException {
+        LogQueryCompiler.LogQuery query = streamer.query("ssok-bank", "ERROR", 24);
+        String pitId = streamer.openPit(query);
+        return streamer.export(pitId, query, gzip, out);
+    }
+
+    @Nested
+    @DisplayName("정상 내보내기")
+    class CompleteTest {
+
+        @Test
+        @DisplayName("PIT 로 모든 페이지를 오래된 로그부터 내보내고 PIT 를 정리한다")
+        void export_PagesThroughPit() throws Exception {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long lines = export(streamer(1000), false, out);
+
+            // then
+            List<JsonNode> rows = read(new ByteArrayInputStream(out.toByteArray())).rows();
+            assertThat(lines).isEqualTo(TOTAL);
+            assertThat(rows).extracting(row -> row.path("logId").asText())
+                    .containsExactlyElementsOf(IntStream.range(0, TOTAL).map(i -> TOTAL - 1 - i).mapToObj(LogExportStreamerTest::logId).toList());
+            assertThat(rows.get(0).path("message").asText()).isEqualTo("Transfer failed #24");
+            assertThat(openSearch.openPitCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("gzip 출력은 완전한 gzip 스트림이며 압축 해제 결과가 일반 출력과 같다")
+        void export_Gzip_MatchesPlain() throws Exception {
+            // given
+            ByteArrayOutputStream plain = new ByteArrayOutputStream();
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+            export(streamer(1000), false, plain);
+
+            // when
+            export(streamer(1000), true, gzipped);
+
+            // then
+            Ndjson decoded = read(new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray())));
+            assertThat(decoded.complete()).isTrue();
+            assertThat(decoded.rows()).isEqualTo(read(new ByteArrayInputStream(plain.toByteArray())).rows());
+            assertThat(openSearch.openPitCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("로그 수가 최대 줄 수와 같으면 초과 표시 줄을 쓰지 않는다")
+        void export_ExactlyMaxLines_NoMarker() throws Exception {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long lines = export(streamer(TOTAL), false, out);
+
+            // then
+            List<JsonNode> rows = read(new ByteArrayInputStream(out.toByteArray())).rows();
+            assertThat(lines).isEqualTo(TOTAL);
+            assertThat(rows).hasSize(TOTAL);
+            assertThat(rows).noneMatch(row -> row.has("truncated"));
+        }
+    }
+
+    @Nested
+    @DisplayName("불완전한 내보내기")
+    class IncompleteTest {
+
+        @Test
+        @DisplayName("최대 줄 수를 넘으면 마지막 줄에 truncated 를 표시하고 gzip 을 정상 종료한다")
+        void export_MaxLinesExceeded_AppendsTruncatedMarker() throws Exception {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long lines = export(streamer(12), true, out);
+
+            // then
+            Ndjson decoded = read(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())));
+            assertThat(lines).isEqualTo(12);
+            assertThat(decoded.complete()).isTrue();
+            assertThat(decoded.rows()).hasSize(13);
+            JsonNode marker = decoded.rows().get(12);
+            assertThat(marker.path("truncated").asBoolean()).isTrue();
+            assertThat(marker.path("lines").asLong()).isEqualTo(12);
+            assertThat(openSearch.openPitCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("페이지 조회에 실패하면 error 줄을 남기고 gzip 트레일러 없이 중단한다")
+        void export_PageFailure_AppendsErrorAndSkipsTrailer() throws Exception {
+            // given - 첫 페이지 전송 직후 PIT 만료
+            ByteArrayOutputStream sink = new ByteArrayOutputStream();
+            OutputStream out = new FilterOutputStream(sink) {
+                private boolean expired;
+
+                @Override
+                public void flush() throws IOException {
+                    super.flush();
+                    if (!expired && sink.size() > 0) {
+                        expired = true;
+                        openSearch.expirePits();
+                    }
+                }
+            };
+
+            // when
+            Throwable thrown = catchThrowable(() -> export(streamer(1000), true, out));
+
+            // then
+            assertThat(thrown).isInstanceOf(IOException.class);
+            Ndjson decoded = read(new GZIPInputStream(new ByteArrayInputStream(sink.toByteArray())));
+            assertThat(decoded.complete()).isFalse();
+            assertThat(decoded.rows()).hasSize(PAGE_SIZE + 1);
+            JsonNode marker = decoded.rows().get(PAGE_SIZE);
+            assertThat(marker.path("error").asText()).isEqualTo("LOGS_READ_FAILED");
+            assertThat(marker.path("lines").asLong()).isEqualTo(PAGE_SIZE);
+        }
+
+        @Test
+        @DisplayName("클라이언트 연결이 끊기면 다음 페이지를 조회하지 않고 PIT 를 정리한다")
+        void export_ClientDisconnect_ClosesPit() {
+            // given - 첫 flush 에서 연결 종료
+            OutputStream out = new OutputStream() {
+                @Override
+                public void write(int b) {
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+            long requestsBefore = openSearch.requestCount();
+
+            // when
+            Throwable thrown = catchThrowable(() -> export(streamer(1000), false, out));
+
+            // then - PIT 생성, 첫 페이지 조회, PIT 삭제
+            assertThat(thrown).isInstanceOf(IOException.class).hasMessage("Broken pipe");
+            assertThat(openSearch.requestCount() - requestsBefore).isEqualTo(3);
+            assertThat(openSearch.openPitCount()).isZero();
+        }
+    }
+
+    /**
+     * NDJSON 을 끝까지 읽음 - 스트림이 중간에 끊기면(gzip 트레일러 없음) complete = false
+     */
+    private Ndjson read(InputStream in) throws IOException {
+        // 끊긴 gzip 은 readLine 버퍼링 중에 예외가 나므로 읽을 수 있는 바이트를 먼저 모두 모음
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        boolean complete = true;
+        byte[] buffer = new byte[256];
+        try (in) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+        } catch (EOFException e) {
+            complete = false;
+        }
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : bytes.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        return new Ndjson(rows, complete);
+    }
+
+    private record Ndjson(List<JsonNode> rows, boolean complete) {
+    }
+
+    private static String logId(int i) {
+        return String.format("log-%02d", i);
+    }
+}
@@ -0,0 +1,129 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.domain.logging.dto.LogGroupDto;
+import kr.ssok.ssom.backend.domain.logging.dto.LogGroupsResponseDto;
+import kr.ssok.ssom.backend.global.client.OpenSearchCallTimer;
+import kr.ssok.ssom.backend.global.standin.OpenSearchStandIn;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogGroupSearcher 테스트 - OpenSearch 스탠드인의 terms 집계로 버킷 수 한도 확인
+ */
+@DisplayName("LogGroupSearcher 테스트")
+class LogGroupSearcherTest {
+
+    private static final String ALIAS = "ssok-app";
+    private static final int BUCKET_SIZE = 5;
+
+    private OpenSearchStandIn openSearch;
+    private OpenSearchTransport transport;
+    private long now;
+    private int seq;
+
+    @BeforeEach
+    void setUp() {
+        openSearch = new OpenSearchStandIn(4, ALIAS, 0);
+        transport = ApacheHttpClient5TransportBuilder.builder(new HttpHost("http", "127.0.0.1", openSearch.port()))
+                .setMapper(new JacksonJsonpMapper())
+                .build();
+        now = System.currentTimeMillis();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        transport.close();
+        openSearch.close();
+    }
+
+    @Test
+    @DisplayName("메시지 종류가 버킷 수보다 적으면 잘리지 않는다")
+    void search_WithinBucketSize_NotTruncated() {
+        // given
+        index("Connection refused: payment-gateway", 3);
+        index("Insufficient balance", 2);
+
+        // when
+        LogGroupsResponseDto response = searcher("message.keyword").search("ssok-bank", "ERROR", 24, 50).join();
+
+        // then
+        assertThat(response.getGroups()).extracting(LogGroupDto::getTemplate, LogGroupDto::getCount)
+                .containsExactly(tuple("Connection refused: payment-gateway", 3L), tuple("Insufficient balance", 2L));
+        assertThat(response.getTotalCount()).isEqualTo(5);
+        assertThat(response.isTruncated()).isFalse();
+        assertThat(response.getOtherCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("메시지 종류가 버킷 수를 넘으면 빠진 로그 수를 otherCount 로 알린다")
+    void search_MoreMessagesThanBuckets_Truncated() {
+        // given : 서로 다른 템플릿 8종, 건수 8 ~ 1
+        String[] messages = {"Connection refused", "Insufficient balance", "Account locked", "Token expired",
+                "Duplicate request", "Limit exceeded", "Invalid signature", "Unknown bank code"};
+        for (int i = 0; i < messages.length; i++) {
+            index(messages[i], messages.length - i);
+        }
+
+        // when
+        LogGroupsResponseDto response = searcher("message.keyword").search("ssok-bank", "ERROR", 24, 50).join();
+
+        // then : 상위 5종(8+7+6+5+4)만 그룹, 나머지 3종(3+2+1)은 otherCount
+        assertThat(response.getGroups()).hasSize(BUCKET_SIZE);
+        assertThat(response.getTotalCount()).isEqualTo(30);
+        assertThat(response.isTruncated()).isTrue();
+        assertThat(response.getOtherCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("값만 다른 메시지는 원문 집계 시 버킷을 소모하지만 지문 필드로 집계하면 한 버킷으로 묶인다")
+    void search_FingerprintField_GroupsBeforeBucketLimit() {
+        // given : 같은 템플릿, 계좌번호만 다른 메시지 8종
+        for (int i = 0; i < 8; i++) {
+            index("Transfer failed: account 110-234-" + (1000 + i), 1);
+        }
+
+        // when
+        LogGroupsResponseDto byMessage = searcher("message.keyword").search("ssok-bank", "ERROR", 24, 50).join();
+        LogGroupsResponseDto byFingerprint = searcher("message_fingerprint").search("ssok-bank", "ERROR", 24, 50).join();
+
+        // then
+        assertThat(byMessage.getGroups()).singleElement().satisfies(group -> {
+            assertThat(group.getTemplate()).isEqualTo("Transfer failed: account <NUM>-<NUM>-<NUM>");
+            assertThat(group.getCount()).isEqualTo(BUCKET_SIZE);
+        });
+        assertThat(byMessage.getOtherCount()).isEqualTo(3);
+
+        assertThat(byFingerprint.getGroups()).singleElement().satisfies(group -> {
+            assertThat(group.getTemplate()).isEqualTo("Transfer failed: account <NUM>-<NUM>-<NUM>");
+            assertThat(group.getCount()).isEqualTo(8);
+            assertThat(group.getSampleMessage()).startsWith("Transfer failed: account 110-234-");
+        });
+        assertThat(byFingerprint.isTruncated()).isFalse();
+    }
+
+    private LogGroupSearcher searcher(String groupingField) {
+        return new LogGroupSearcher(
+                new OpenSearchAsyncClient(transport),
+                new OpenSearchCallTimer(new SimpleMeterRegistry()),
+                new LogQueryCompiler(ALIAS, "alias", "ssok-app-", "yyyy.MM.dd", 24, 168),
+                groupingField,
+                BUCKET_SIZE);
+    }
+
+    private void index(String message, int count) {
+        for (int i = 0; i < count; i++) {
+            seq++;
+            openSearch.index("ssok-app-000001", "log-" + seq, now - seq * 1000L, "ssok-bank", "ERROR", message);
+        }
+    }
+}
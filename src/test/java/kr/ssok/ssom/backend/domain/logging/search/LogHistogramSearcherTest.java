@@ -0,0 +1,98 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import kr.ssok.ssom.backend.domain.logging.dto.LogHistogramBucketDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LogHistogramSearcher 테스트")
+class LogHistogramSearcherTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Nested
+    @DisplayName("닫힌 구간 캐시")
+    class SeriesTest {
+
+        @Test
+        @DisplayName("캐시가 비어 있으면 조회 기간 전체를 조회한다")
+        void plan_Empty_FetchesWholeWindow() {
+            // given
+            LogHistogramSearcher.Series series = new LogHistogramSearcher.Series();
+
+            // when
+            LogHistogramSearcher.Plan plan = series.plan(0);
+
+            // then
+            assertThat(plan.fetchFrom()).isZero();
+            assertThat(plan.cached()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("닫힌 구간은 보관하고 다음 조회는 마지막 닫힌 구간 이후부터 한다")
+        void plan_AfterMerge_FetchesOnlyOpenRange() {
+            // given : 0~4분 구간 조회, 3분 이전 구간만 닫힘
+            LogHistogramSearcher.Series series = new LogHistogramSearcher.Series();
+            series.merge(0, 3 * MINUTE, buckets(0, MINUTE, 2 * MINUTE, 3 * MINUTE, 4 * MINUTE), 0);
+
+            // when
+            LogHistogramSearcher.Plan plan = series.plan(MINUTE);
+
+            // then
+            assertThat(plan.fetchFrom()).isEqualTo(3 * MINUTE);
+            assertThat(plan.cached()).extracting(LogHistogramBucketDto::getTimestamp)
+                    .containsExactly(iso(MINUTE), iso(2 * MINUTE));
+        }
+
+        @Test
+        @DisplayName("조회 기간 시작이 캐시 범위 밖이면 전체를 다시 조회하고 캐시를 새로 채운다")
+        void merge_NotContiguous_Resets() {
+            // given
+            LogHistogramSearcher.Series series = new LogHistogramSearcher.Series();
+            series.merge(10 * MINUTE, 12 * MINUTE, buckets(10 * MINUTE, 11 * MINUTE), 0);
+
+            // when
+            LogHistogramSearcher.Plan plan = series.plan(5 * MINUTE);
+            series.merge(plan.fetchFrom(), 12 * MINUTE, buckets(5 * MINUTE, 11 * MINUTE), 0);
+
+            // then
+            assertThat(plan.fetchFrom()).isEqualTo(5 * MINUTE);
+            assertThat(series.plan(5 * MINUTE).cached()).extracting(LogHistogramBucketDto::getTimestamp)
+                    .containsExactly(iso(5 * MINUTE), iso(11 * MINUTE));
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지난 구간은 제거한다")
+        void merge_DropsExpiredBuckets() {
+            // given
+            LogHistogramSearcher.Series series = new LogHistogramSearcher.Series();
+
+            // when
+            series.merge(0, 3 * MINUTE, buckets(0, MINUTE, 2 * MINUTE), 2 * MINUTE);
+
+            // then
+            assertThat(series.plan(0).fetchFrom()).isZero();
+            assertThat(series.plan(2 * MINUTE).cached()).extracting(LogHistogramBucketDto::getTimestamp)
+                    .containsExactly(iso(2 * MINUTE));
+        }
+    }
+
+    private static Map<Long, LogHistogramBucketDto> buckets(long... starts) {
+        Map<Long, LogHistogramBucketDto> result = new TreeMap<>();
+        for (long start : starts) {
+            result.put(start, new LogHistogramBucketDto(iso(start), 1, List.of()));
+        }
+        return result;
+    }
+
+    private static String iso(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).toString();
+    }
+}
@@ -0,0 +1,150 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.domain.logging.cache.RecentLogBuffer;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import kr.ssok.ssom.backend.global.client.OpenSearchCallTimer;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import kr.ssok.ssom.backend.global.standin.OpenSearchStandIn;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogPageSearcher 테스트 - OpenSearch 스탠드인으로 PIT + search_after 페이지 조회 확인
+ */
+@DisplayName("LogPageSearcher 테스트")
+class LogPageSearcherTest {
+
+    private static final String ALIAS = "ssok-app";
+    private static final int TOTAL = 25;
+    private static final int PAGE_SIZE = 10;
+
+    private OpenSearchStandIn openSearch;
+    private OpenSearchTransport transport;
+    private LogPageSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        openSearch = new OpenSearchStandIn(4, ALIAS, 0);
+
+        // 최근 25건, 1초 간격 (log-00 이 가장 최근)
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < TOTAL; i++) {
+            openSearch.index("ssok-app-000001", logId(i), now - i * 1000L, "ssok-bank", "ERROR", "Transfer failed #" + i);
+        }
+
+        transport = ApacheHttpClient5TransportBuilder.builder(new HttpHost("http", "127.0.0.1", openSearch.port()))
+                .setMapper(new JacksonJsonpMapper())
+                .build();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        searcher = new LogPageSearcher(
+                new OpenSearchAsyncClient(transport),
+                new OpenSearchCallTimer(meterRegistry),
+                new LogQueryCompiler(ALIAS, "alias", "ssok-app-", "yyyy.MM.dd", 24, 168),
+                new RecentLogBuffer(meterRegistry, false, 1000),
+                PAGE_SIZE, 500, "2m");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        transport.close();
+        openSearch.close();
+    }
+
+    @Test
+    @DisplayName("PIT 로 마지막 페이지까지 이어서 조회하고 마지막 페이지에서 PIT 를 정리한다")
+    void search_PagesThroughPit() throws Exception {
+        // when
+        List<LogPage> pages = readAllPages();
+
+        // then
+        assertThat(pages).hasSize(3);
+        assertThat(LogCursor.decode(pages.get(0).getNextCursor()).hasPit()).isTrue();
+        assertThat(logIds(pages)).containsExactlyElementsOf(IntStream.range(0, TOTAL).mapToObj(LogPageSearcherTest::logId).toList());
+        assertThat(pages.get(2).isHasNext()).isFalse();
+        awaitPitsClosed();
+    }
+
+    @Test
+    @DisplayName("커서의 PIT 가 만료되면 같은 정렬 값으로 PIT 없이 이어서 조회한다")
+    void search_PitExpired_FallsBackToIndices() {
+        // given
+        LogPage first = searcher.search("ssok-bank", "ERROR", null, PAGE_SIZE, false).join();
+        openSearch.expirePits();
+
+        // when
+        LogPage second = searcher.search("ssok-bank", "ERROR", LogCursor.decode(first.getNextCursor()), PAGE_SIZE, false).join();
+        LogPage third = searcher.search("ssok-bank", "ERROR", LogCursor.decode(second.getNextCursor()), PAGE_SIZE, false).join();
+
+        // then
+        assertThat(second.getLogs()).extracting(LogDto::getLogId)
+                .containsExactlyElementsOf(IntStream.range(PAGE_SIZE, PAGE_SIZE * 2).mapToObj(LogPageSearcherTest::logId).toList());
+        assertThat(LogCursor.decode(second.getNextCursor()).hasPit()).isFalse();
+        assertThat(third.getLogs()).extracting(LogDto::getLogId)
+                .containsExactlyElementsOf(IntStream.range(PAGE_SIZE * 2, TOTAL).mapToObj(LogPageSearcherTest::logId).toList());
+        assertThat(third.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("PIT 만료가 아닌 조회 실패는 재조회하지 않고 LOGS_READ_FAILED 로 응답한다")
+    void search_OtherFailure_NotRetried() {
+        // given
+        LogPage first = searcher.search("ssok-bank", "ERROR", null, PAGE_SIZE, false).join();
+        LogCursor cursor = LogCursor.decode(first.getNextCursor());
+        openSearch.errorRate(1.0);
+        long requestsBefore = openSearch.requestCount();
+
+        // when
+        Throwable thrown = catchThrowable(() -> searcher.search("ssok-bank", "ERROR", cursor, PAGE_SIZE, false).join());
+
+        // then
+        assertThat(thrown).hasCauseInstanceOf(BaseException.class);
+        assertThat(((BaseException) thrown.getCause()).getStatus()).isEqualTo(BaseResponseStatus.LOGS_READ_FAILED);
+        assertThat(openSearch.requestCount() - requestsBefore).isEqualTo(1);
+    }
+
+    private List<LogPage> readAllPages() {
+        List<LogPage> pages = new ArrayList<>();
+        LogCursor cursor = null;
+        do {
+            LogPage page = searcher.search("ssok-bank", "ERROR", cursor, PAGE_SIZE, false).join();
+            pages.add(page);
+            cursor = page.getNextCursor() != null ? LogCursor.decode(page.getNextCursor()) : null;
+        } while (cursor != null && pages.size() < 10);
+        return pages;
+    }
+
+    private static List<String> logIds(List<LogPage> pages) {
+        return pages.stream().flatMap(page -> page.getLogs().stream()).map(LogDto::getLogId).toList();
+    }
+
+    /**
+     * PIT 정리는 응답을 기다리지 않으므로 잠시 대기
+     */
+    private void awaitPitsClosed() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (openSearch.openPitCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(openSearch.openPitCount()).isZero();
+    }
+
+    private static String logId(int i) {
+        return String.format("log-%02d", i);
+    }
+}
@@ -0,0 +1,98 @@
+package kr.ssok.ssom.backend.domain.logging.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LogQueryCompiler 테스트")
+class LogQueryCompilerTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Nested
+    @DisplayName("대상 인덱스")
+    class IndicesTest {
+
+        @Test
+        @DisplayName("daily 모드는 조회 기간에 걸친 일별 인덱스만 지정한다")
+        void daily_TargetsDaysInWindow() {
+            // given
+            LogQueryCompiler compiler = new LogQueryCompiler("ssok-app", "daily", "ssok-app-", "yyyy.MM.dd", 24, 168);
+            long now = Instant.parse("2025-05-30T07:00:00Z").toEpochMilli();
+
+            // when
+            LogQueryCompiler.LogQuery query = compiler.compile(null, List.of(), now - 30 * HOUR, now);
+
+            // then
+            assertThat(query.indices()).containsExactly("ssok-app-2025.05.29", "ssok-app-2025.05.30");
+        }
+
+        @Test
+        @DisplayName("alias 모드는 설정한 인덱스(별칭) 하나만 지정한다")
+        void alias_TargetsSingleIndex() {
+            // given
+            LogQueryCompiler compiler = new LogQueryCompiler("ssok-app", "alias", "ssok-app-", "yyyy.MM.dd", 24, 168);
+
+            // when
+            LogQueryCompiler.LogQuery query = compiler.compile("ssok-bank", List.of("ERROR"), 72);
+
+            // then
+            assertThat(query.indices()).containsExactly("ssok-app");
+        }
+    }
+
+    @Nested
+    @DisplayName("시간 범위와 필터")
+    class FilterTest {
+
+        private final LogQueryCompiler compiler = new LogQueryCompiler("ssok-app", "alias", "ssok-app-", "yyyy.MM.dd", 24, 168);
+
+        @Test
+        @DisplayName("조회 기간이 없으면 기본 기간을, 최대 기간을 넘으면 최대 기간을 적용한다")
+        void compile_WindowDefaultAndLimit() {
+            // when
+            long before = System.currentTimeMillis();
+            LogQueryCompiler.LogQuery defaultWindow = compiler.compile(null, List.of(), null);
+            LogQueryCompiler.LogQuery limitedWindow = compiler.compile(null, List.of(), 10_000);
+
+            // then
+            assertThat(defaultWindow.fromMillis()).isBetween(before - 24 * HOUR - 60_000L, before - 24 * HOUR);
+            assertThat(limitedWindow.fromMillis()).isBetween(before - 168 * HOUR - 60_000L, before - 168 * HOUR);
+            assertThat(defaultWindow.fromMillis() % 60_000L).isZero();
+        }
+
+        @Test
+        @DisplayName("시간 범위, app, level 을 모두 filter 컨텍스트로 적용하고 level 은 대문자 keyword 로 비교한다")
+        void compile_AllConstraintsInFilterContext() {
+            // when
+            Query query = compiler.compile("ssok-bank", List.of("error", "warn"), 24).query();
+
+            // then
+            assertThat(query.bool().must()).isEmpty();
+            assertThat(query.bool().should()).isEmpty();
+            assertThat(query.bool().filter()).hasSize(3);
+            assertThat(query.bool().filter().get(0).range().field()).isEqualTo("@timestamp");
+            assertThat(query.bool().filter().get(1).term().value().stringValue()).isEqualTo("ssok-bank");
+            assertThat(query.bool().filter().get(2).terms().terms().value())
+                    .extracting(FieldValue::stringValue)
+                    .containsExactly("ERROR", "WARN");
+        }
+
+        @Test
+        @DisplayName("level 목록이 비어 있으면 level 조건을 적용하지 않는다")
+        void compile_NoLevels_NoLevelFilter() {
+            // when
+            Query query = compiler.compile(null, LogQueryCompiler.levels(null, List.of()), 24).query();
+
+            // then
+            assertThat(query.bool().filter()).hasSize(1);
+        }
+    }
+}
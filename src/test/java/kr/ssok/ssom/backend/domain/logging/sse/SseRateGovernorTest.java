@@ -0,0 +1,112 @@
+package kr.ssok.ssom.backend.domain.logging.sse;
+
+import kr.ssok.ssom.backend.domain.logging.dto.LogAggregateDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SseRateGovernor 테스트")
+class SseRateGovernorTest {
+
+    // 집계 주기 1초, 초당 한도 10건, 샘플링 초당 2건, 복귀 기준 5건
+    private final SseRateGovernor governor = new SseRateGovernor(1000, 10, 2, 0.5);
+
+    @Nested
+    @DisplayName("원문 전송 모드")
+    class NormalModeTest {
+
+        @Test
+        @DisplayName("초당 한도 이내의 로그는 모두 원문으로 전송한다")
+        void admit_UnderLimit_AllSent() {
+            // given
+            SseRateGovernor.Gate gate = governor.newGate();
+
+            // when
+            int sent = admit(gate, 10, "ssok-bank", "ERROR");
+
+            // then
+            assertThat(sent).isEqualTo(10);
+            assertThat(gate.isSampling()).isFalse();
+            assertThat(gate.drain()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("샘플링 모드")
+    class SamplingModeTest {
+
+        @Test
+        @DisplayName("초당 한도를 넘으면 이후 로그는 생략 건수로 집계한다")
+        void admit_OverLimit_Suppressed() {
+            // given
+            SseRateGovernor.Gate gate = governor.newGate();
+
+            // when
+            int sent = admit(gate, 100, "ssok-bank", "ERROR");
+            List<LogAggregateDto> aggregates = gate.drain();
+
+            // then
+            assertThat(sent).isEqualTo(10);
+            assertThat(gate.isSampling()).isTrue();
+            assertThat(aggregates).hasSize(1);
+            assertThat(aggregates.get(0).getApp()).isEqualTo("ssok-bank");
+            assertThat(aggregates.get(0).getCount()).isEqualTo(90);
+            assertThat(aggregates.get(0).getSummary()).contains("+90건");
+        }
+
+        @Test
+        @DisplayName("샘플링 모드에서는 주기마다 샘플 건수만 원문으로 전송하고 서비스/레벨별로 집계한다")
+        void admit_Sampling_SendsSamplesPerInterval() {
+            // given
+            SseRateGovernor.Gate gate = governor.newGate();
+            admit(gate, 100, "ssok-bank", "ERROR");
+            gate.drain();
+
+            // when
+            int sent = admit(gate, 50, "ssok-bank", "ERROR") + admit(gate, 50, "ssok-user", "WARN");
+            List<LogAggregateDto> aggregates = gate.drain();
+
+            // then
+            assertThat(sent).isEqualTo(2);
+            assertThat(aggregates).extracting(LogAggregateDto::getApp, LogAggregateDto::getCount)
+                    .containsExactly(tuple("ssok-bank", 48L), tuple("ssok-user", 50L));
+        }
+
+        @Test
+        @DisplayName("주기 내 로그 수가 복귀 기준 이하로 내려가면 원문 전송 모드로 돌아간다")
+        void drain_RateDropped_ResumesNormal() {
+            // given
+            SseRateGovernor.Gate gate = governor.newGate();
+            admit(gate, 100, "ssok-bank", "ERROR");
+            gate.drain();
+
+            // when : 한도 미만이지만 복귀 기준(5건) 초과 -> 샘플링 유지
+            admit(gate, 8, "ssok-bank", "ERROR");
+            gate.drain();
+            boolean samplingAt8 = gate.isSampling();
+
+            // 복귀 기준 이하
+            admit(gate, 4, "ssok-bank", "ERROR");
+            gate.drain();
+
+            // then
+            assertThat(samplingAt8).isTrue();
+            assertThat(gate.isSampling()).isFalse();
+            assertThat(admit(gate, 10, "ssok-bank", "ERROR")).isEqualTo(10);
+        }
+    }
+
+    private static int admit(SseRateGovernor.Gate gate, int count, String app, String level) {
+        int sent = 0;
+        for (int i = 0; i < count; i++) {
+            if (gate.admit(app, level, "Transfer failed #" + i)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+}
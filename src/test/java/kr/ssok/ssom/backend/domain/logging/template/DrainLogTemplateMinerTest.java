@@ -0,0 +1,135 @@
+package kr.ssok.ssom.backend.domain.logging.template;
+
+import kr.ssok.ssom.backend.domain.logging.dto.LogTemplateDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DrainLogTemplateMiner 단위 테스트")
+class DrainLogTemplateMinerTest {
+
+    private DrainLogTemplateMiner miner;
+
+    @BeforeEach
+    void setUp() {
+        miner = new DrainLogTemplateMiner(4, 0.5, 100, 1000);
+    }
+
+    @Nested
+    @DisplayName("템플릿 학습")
+    class Learn {
+
+        @Test
+        @DisplayName("숫자만 다른 로그는 같은 템플릿으로 학습된다")
+        void testVariableNumbersShareTemplate() {
+            // When
+            String first = miner.learn("ssok-bank", "ERROR", "Transfer failed: account 1101 balance 500");
+            String second = miner.learn("ssok-bank", "ERROR", "Transfer failed: account 2202 balance 70");
+
+            // Then
+            assertThat(first).isNotNull().isEqualTo(second);
+            List<LogTemplateDto> templates = miner.getTemplates("ssok-bank", 10);
+            assertThat(templates).hasSize(1);
+            assertThat(templates.get(0).getTemplate()).isEqualTo("Transfer failed: account <*> balance <*>");
+            assertThat(templates.get(0).getCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("다른 위치의 토큰은 <*> 로 일반화된다")
+        void testDifferingTokenGeneralized() {
+            // When
+            miner.learn("ssok-user", "WARN", "Session expired for user alice");
+            miner.learn("ssok-user", "WARN", "Session expired for user bob");
+
+            // Then
+            List<LogTemplateDto> templates = miner.getTemplates("ssok-user", 10);
+            assertThat(templates).hasSize(1);
+            assertThat(templates.get(0).getTemplate()).isEqualTo("Session expired for user <*>");
+        }
+
+        @Test
+        @DisplayName("토큰 수가 다르거나 문구가 다르면 다른 템플릿으로 학습된다")
+        void testDifferentMessagesSeparated() {
+            // When
+            String first = miner.learn("ssok-bank", "ERROR", "Connection refused by core banking");
+            String second = miner.learn("ssok-bank", "ERROR", "Connection refused");
+            String third = miner.learn("ssok-bank", "ERROR", "Authorization header is missing or invalid");
+
+            // Then
+            assertThat(first).isNotEqualTo(second);
+            assertThat(first).isNotEqualTo(third);
+            assertThat(miner.getTemplates("ssok-bank", 10)).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("서비스별로 템플릿이 분리된다")
+        void testTemplatesSeparatedByApp() {
+            // When
+            miner.learn("ssok-bank", "ERROR", "Timeout while calling external API");
+            miner.learn("ssok-account", "ERROR", "Timeout while calling external API");
+
+            // Then
+            assertThat(miner.getTemplates("ssok-bank", 10)).hasSize(1);
+            assertThat(miner.getTemplates("ssok-account", 10)).hasSize(1);
+            assertThat(miner.getTemplates(null, 10)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("템플릿 수 한도를 넘으면 학습하지 않는다")
+        void testTemplateLimit() {
+            // Given
+            DrainLogTemplateMiner limited = new DrainLogTemplateMiner(4, 0.5, 100, 1);
+            limited.learn("ssok-bank", "ERROR", "Connection refused");
+
+            // When
+            String result = limited.learn("ssok-bank", "ERROR", "Authorization header is missing or invalid");
+
+            // Then
+            assertThat(result).isNull();
+            assertThat(limited.getTemplates("ssok-bank", 10)).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("템플릿 변경분 조회")
+    class DrainUpdates {
+
+        @Test
+        @DisplayName("직전 조회 이후 발생 건수만 반환하고 초기화한다")
+        void testDrainUpdatesResetsDelta() {
+            // Given
+            miner.learn("ssok-bank", "ERROR", "Transfer failed: account 1101");
+            miner.learn("ssok-bank", "ERROR", "Transfer failed: account 2202");
+
+            // When
+            List<LogTemplateDto> firstDrain = miner.drainUpdates();
+            List<LogTemplateDto> secondDrain = miner.drainUpdates();
+
+            // Then
+            assertThat(firstDrain).hasSize(1);
+            assertThat(firstDrain.get(0).getDelta()).isEqualTo(2);
+            assertThat(secondDrain).isEmpty();
+        }
+
+        @Test
+        @DisplayName("최근 1분 발생 건수를 함께 반환한다")
+        void testRatePerMinute() {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                miner.learn("ssok-bank", "ERROR", "Transfer failed: account " + i);
+            }
+
+            // When
+            List<LogTemplateDto> templates = miner.getTemplates("ssok-bank", 10);
+
+            // Then
+            assertThat(templates.get(0).getRatePerMinute()).isEqualTo(5.0);
+            assertThat(templates.get(0).getLevel()).isEqualTo("ERROR");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package kr.ssok.ssom.backend.domain.user.cache;
+
+import kr.ssok.ssom.backend.domain.user.dto.UserSearchResponseDto;
+import kr.ssok.ssom.backend.domain.user.entity.Department;
+import kr.ssok.ssom.backend.domain.user.entity.User;
+import kr.ssok.ssom.backend.domain.user.event.UserChangedEvent;
+import kr.ssok.ssom.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserNameIndex 테스트")
+class UserNameIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserNameIndex userNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        userNameIndex = new UserNameIndex(userRepository);
+        given(userRepository.findAll()).willReturn(List.of(
+                user("CHN0001", "김철수", "chulsoo"),
+                user("CHN0002", "김철수민", "chulsoo-min"),
+                user("CORE0001", "박영희", "younghee"),
+                user("CORE0002", "이민수", null),
+                user("APP0001", "Alice", "alice-gh"),
+                user("APP0002", "Malice", "malice-gh")
+        ));
+    }
+
+    @Nested
+    @DisplayName("담당자 GitHub ID 해석")
+    class ResolveTest {
+
+        @Test
+        @DisplayName("정확히 일치하는 사용자를 우선하고 담당자 목록을 DB 조회 1회로 해석한다")
+        void resolveGithubIds_ExactMatchFirst() {
+            // when
+            Map<String, String> resolved = userNameIndex.resolveGithubIds(List.of("김철수", "ALICE", "영희"));
+
+            // then
+            assertThat(resolved).containsExactly(
+                    entry("김철수", "chulsoo"),
+                    entry("ALICE", "alice-gh"),
+                    entry("영희", "younghee"));
+            then(userRepository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("GitHub ID가 없거나 일치하는 사용자가 없으면 결과에서 제외한다")
+        void resolveGithubIds_NotFound_Excluded() {
+            // when
+            Map<String, String> resolved = userNameIndex.resolveGithubIds(List.of("이민수", "최없음", " "));
+
+            // then
+            assertThat(resolved).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자명 자동완성")
+    class SearchTest {
+
+        @Test
+        @DisplayName("정확히 일치, 접두어 일치, 부분 일치 순으로 정렬한다")
+        void search_RankedByMatchType() {
+            // when
+            List<UserSearchResponseDto> result = userNameIndex.search("alice", 10);
+
+            // then
+            assertThat(result).extracting(UserSearchResponseDto::getEmployeeId)
+                    .containsExactly("APP0001", "APP0002");
+        }
+
+        @Test
+        @DisplayName("한 글자 검색과 결과 수 제한을 지원한다")
+        void search_SingleCharacter_Limited() {
+            // when
+            List<UserSearchResponseDto> result = userNameIndex.search("김", 1);
+
+            // then
+            assertThat(result).extracting(UserSearchResponseDto::getUsername).containsExactly("김철수");
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자 변경 반영")
+    class UserChangedTest {
+
+        @Test
+        @DisplayName("변경된 사용자만 다시 조회하여 인덱스에 반영한다")
+        void onUserChanged_UpsertsUser() {
+            // given
+            userNameIndex.search("민수", 10);
+            given(userRepository.findById("CORE0002")).willReturn(Optional.of(user("CORE0002", "이민수", "minsoo")));
+
+            // when
+            userNameIndex.onUserChanged(new UserChangedEvent("CORE0002"));
+
+            // then
+            assertThat(userNameIndex.resolveGithubIds(List.of("이민수"))).containsEntry("이민수", "minsoo");
+            assertThat(userNameIndex.size()).isEqualTo(6);
+            then(userRepository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("GitHub ID가 없어진 사용자는 인덱스에서 제거한다")
+        void onUserChanged_GithubIdRemoved_Removed() {
+            // given
+            userNameIndex.search("박", 10);
+            given(userRepository.findById("CORE0001")).willReturn(Optional.of(user("CORE0001", "박영희", "")));
+
+            // when
+            userNameIndex.onUserChanged(new UserChangedEvent("CORE0001"));
+
+            // then
+            assertThat(userNameIndex.search("박", 10)).isEmpty();
+        }
+    }
+
+    private static User user(String employeeId, String username, String githubId) {
+        return User.builder()
+                .id(employeeId)
+                .username(username)
+                .password("encodedPassword")
+                .phoneNumber("010-0000-0000")
+                .department(Department.CHANNEL)
+                .githubId(githubId)
+                .build();
+    }
+}
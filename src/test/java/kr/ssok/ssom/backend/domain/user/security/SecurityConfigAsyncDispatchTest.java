@@ -0,0 +1,195 @@
+package kr.ssok.ssom.backend.domain.user.security;
+
+import kr.ssok.ssom.backend.domain.logging.controller.LoggingController;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import kr.ssok.ssom.backend.domain.logging.dto.LogHistogramResponseDto;
+import kr.ssok.ssom.backend.domain.logging.dto.LogsResponseDto;
+import kr.ssok.ssom.backend.domain.logging.service.LoggingService;
+import kr.ssok.ssom.backend.domain.user.entity.Department;
+import kr.ssok.ssom.backend.domain.user.entity.User;
+import kr.ssok.ssom.backend.domain.user.security.config.SecurityConfig;
+import kr.ssok.ssom.backend.domain.user.security.handler.JwtAuthenticationEntryPoint;
+import kr.ssok.ssom.backend.domain.user.security.jwt.JwtTokenProvider;
+import kr.ssok.ssom.backend.domain.user.service.UserService;
+import kr.ssok.ssom.backend.global.dto.LogSummaryMessageDto;
+import kr.ssok.ssom.backend.global.exception.ExceptionHandler;
+import kr.ssok.ssom.backend.global.job.AsyncJobManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * SecurityConfig 비동기 디스패치 테스트
+ *      - CompletableFuture 를 반환하는 API 는 응답을 비동기 디스패치에서 작성하므로
+ *        JWT 로 인증된 요청이 비동기 디스패치에서도 통과하는지 실제 필터 체인으로 확인
+ */
+@SpringJUnitWebConfig(SecurityConfigAsyncDispatchTest.TestConfig.class)
+@TestPropertySource(properties = {
+        "jwt.secret=ssom-async-dispatch-test-secret-key-0123456789",
+        "jwt.access-token-validity-in-seconds=3600",
+        "jwt.refresh-token-validity-in-seconds=3600",
+        "jwt.sse-token-validity-in-seconds=3600"
+})
+@DisplayName("SecurityConfig 비동기 디스패치 테스트")
+class SecurityConfigAsyncDispatchTest {
+
+    private static final String EMPLOYEE_ID = "APP0001";
+
+    @Configuration
+    @EnableWebMvc
+    @Import({SecurityConfig.class, JwtTokenProvider.class, JwtAuthenticationEntryPoint.class,
+            LoggingController.class, ExceptionHandler.class})
+    static class TestConfig {
+    }
+
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private LoggingService loggingService;
+
+    @MockitoBean
+    private AsyncJobManager asyncJobManager;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private MockMvc mockMvc;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        accessToken = jwtTokenProvider.createAccessToken(EMPLOYEE_ID);
+        given(userService.findUserByEmployeeId(EMPLOYEE_ID)).willReturn(User.builder()
+                .id(EMPLOYEE_ID)
+                .username("홍길동")
+                .department(Department.CORE_BANK)
+                .build());
+    }
+
+    // JWT 로 요청하여 비동기 처리가 시작되었는지 확인한 뒤 비동기 디스패치 수행
+    private ResultActions dispatch(String uri) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(uri).header("Authorization", "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
+
+    @Nested
+    @DisplayName("CompletableFuture 응답 API")
+    class AsyncEndpointTest {
+
+        @Test
+        @DisplayName("로그 목록 조회는 비동기 디스패치에서도 인증되어 200 을 반환한다")
+        void getLogs_AsyncDispatch_Authenticated() throws Exception {
+            // given
+            given(loggingService.getLogs(any(), any(), any(), any(), anyBoolean()))
+                    .willReturn(CompletableFuture.completedFuture(LogsResponseDto.builder().logs(List.of()).build()));
+
+            // when
+            ResultActions result = dispatch("/api/logging");
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isSuccess").value(true));
+        }
+
+        @Test
+        @DisplayName("로그 상세 조회는 비동기 디스패치에서도 인증되어 200 을 반환한다")
+        void getLogInfo_AsyncDispatch_Authenticated() throws Exception {
+            // given
+            given(loggingService.getLogById("log-1"))
+                    .willReturn(CompletableFuture.completedFuture(LogDto.builder().logId("log-1").level("ERROR").build()));
+
+            // when
+            ResultActions result = dispatch("/api/logging/log-1");
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.logId").value("log-1"));
+        }
+
+        @Test
+        @DisplayName("저장된 분석 조회는 비동기 디스패치에서도 인증되어 200 을 반환한다")
+        void getLogAnalysisInfo_AsyncDispatch_Authenticated() throws Exception {
+            // given
+            given(loggingService.getLogAnalysisInfo("log-1"))
+                    .willReturn(CompletableFuture.completedFuture(LogSummaryMessageDto.builder().summary("잔액 부족").build()));
+
+            // when
+            ResultActions result = dispatch("/api/logging/analysis/log-1");
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.summary").value("잔액 부족"));
+        }
+
+        @Test
+        @DisplayName("로그 히스토그램 조회는 비동기 디스패치에서도 인증되어 200 을 반환한다")
+        void getLogHistogram_AsyncDispatch_Authenticated() throws Exception {
+            // given
+            given(loggingService.getLogHistogram(any(), any(), eq("5m"), eq(24)))
+                    .willReturn(CompletableFuture.completedFuture(LogHistogramResponseDto.builder()
+                            .interval("5m")
+                            .buckets(List.of())
+                            .totalCount(0)
+                            .build()));
+
+            // when
+            ResultActions result = dispatch("/api/logging/histogram");
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.interval").value("5m"));
+        }
+    }
+
+    @Nested
+    @DisplayName("인증 실패")
+    class UnauthenticatedTest {
+
+        @Test
+        @DisplayName("토큰이 없으면 비동기 처리를 시작하지 않고 401 을 반환한다")
+        void getLogs_NoToken_Unauthorized() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/logging"))
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package kr.ssok.ssom.backend.domain.user.service;
 
+import kr.ssok.ssom.backend.domain.user.cache.UserNameIndex;
 import kr.ssok.ssom.backend.domain.user.dto.*;
 import kr.ssok.ssom.backend.domain.user.entity.Department;
 import kr.ssok.ssom.backend.domain.user.entity.User;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -53,6 +55,12 @@ class UserServiceTest {
     @Mock
     private BiometricFailureService biometricFailureService;
 
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -0,0 +1,221 @@
+package kr.ssok.ssom.backend.global.client;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
+import kr.ssok.ssom.backend.global.dto.FcmSendResultDto;
+import kr.ssok.ssom.backend.global.standin.FcmStandIn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FirebaseClient 테스트")
+class FirebaseClientTest {
+
+    @Nested
+    @DisplayName("실패 원인 분류")
+    class ClassifyTest {
+
+        @Test
+        @DisplayName("UNREGISTERED, INVALID_ARGUMENT 는 무효 토큰으로 분류한다")
+        void classify_Unregistered_InvalidToken() {
+            assertThat(FirebaseClient.classify(messagingException(MessagingErrorCode.UNREGISTERED, ErrorCode.NOT_FOUND)))
+                    .isEqualTo(FcmSendResultDto.Result.INVALID_TOKEN);
+            assertThat(FirebaseClient.classify(messagingException(MessagingErrorCode.INVALID_ARGUMENT, ErrorCode.INVALID_ARGUMENT)))
+                    .isEqualTo(FcmSendResultDto.Result.INVALID_TOKEN);
+        }
+
+        @Test
+        @DisplayName("UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED 는 일시적 오류로 분류한다")
+        void classify_Unavailable_Transient() {
+            assertThat(FirebaseClient.classify(messagingException(MessagingErrorCode.UNAVAILABLE, ErrorCode.UNAVAILABLE)))
+                    .isEqualTo(FcmSendResultDto.Result.TRANSIENT_FAILURE);
+            assertThat(FirebaseClient.classify(messagingException(MessagingErrorCode.INTERNAL, ErrorCode.INTERNAL)))
+                    .isEqualTo(FcmSendResultDto.Result.TRANSIENT_FAILURE);
+            assertThat(FirebaseClient.classify(messagingException(MessagingErrorCode.QUOTA_EXCEEDED, ErrorCode.RESOURCE_EXHAUSTED)))
+                    .isEqualTo(FcmSendResultDto.Result.TRANSIENT_FAILURE);
+        }
+
+        @Test
+        @DisplayName("FCM 오류 코드가 없으면 플랫폼 오류 코드로 분류한다")
+        void classify_PlatformErrorCode() {
+            assertThat(FirebaseClient.classify(messagingException(null, ErrorCode.DEADLINE_EXCEEDED)))
+                    .isEqualTo(FcmSendResultDto.Result.TRANSIENT_FAILURE);
+            assertThat(FirebaseClient.classify(messagingException(null, ErrorCode.PERMISSION_DENIED)))
+                    .isEqualTo(FcmSendResultDto.Result.FAILURE);
+            assertThat(FirebaseClient.classify(messagingException(MessagingErrorCode.SENDER_ID_MISMATCH, ErrorCode.PERMISSION_DENIED)))
+                    .isEqualTo(FcmSendResultDto.Result.FAILURE);
+        }
+
+        @Test
+        @DisplayName("I/O 오류는 일시적 오류, 그 외 예외는 실패로 분류한다")
+        void classify_NonFirebaseException() {
+            assertThat(FirebaseClient.classify(new IOException("connection reset")))
+                    .isEqualTo(FcmSendResultDto.Result.TRANSIENT_FAILURE);
+            assertThat(FirebaseClient.classify(new IllegalStateException("bug")))
+                    .isEqualTo(FcmSendResultDto.Result.FAILURE);
+        }
+    }
+
+    @Nested
+    @DisplayName("FCM 스탠드인 전송")
+    class SendTest {
+
+        private static final int MAX_ATTEMPTS = 3;
+
+        private FcmStandIn fcmStandIn;
+        private FirebaseApp firebaseApp;
+        private SimpleMeterRegistry meterRegistry;
+        private FirebaseClient firebaseClient;
+
+        @BeforeEach
+        void setUp() {
+            fcmStandIn = new FcmStandIn(4);
+            firebaseApp = fcmStandIn.installAsDefaultApp();
+            meterRegistry = new SimpleMeterRegistry();
+            // 동시 전송 4, 최대 3회 시도, 백오프 1~5ms
+            firebaseClient = new FirebaseClient(meterRegistry, 4, MAX_ATTEMPTS, 1, 5, 1000);
+        }
+
+        @AfterEach
+        void tearDown() {
+            firebaseClient.shutdown();
+            firebaseApp.delete();
+            fcmStandIn.close();
+        }
+
+        @Test
+        @DisplayName("일시적 오류가 계속되면 최대 시도 횟수까지만 재시도한다")
+        void send_TransientFailure_RetryCapped() throws Exception {
+            // given - 429 QUOTA_EXCEEDED 는 SDK 가 자체 재시도하지 않으므로 시도마다 요청 1건
+            String token = FcmStandIn.QUOTA_EXCEEDED_TOKEN_PREFIX + "token-1";
+
+            // when
+            List<FcmSendResultDto> results = firebaseClient.sendMulticastAsync(request(token)).get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(results).singleElement().satisfies(result -> {
+                assertThat(result.getResult()).isEqualTo(FcmSendResultDto.Result.TRANSIENT_FAILURE);
+                assertThat(result.getErrorCode()).isEqualTo("QUOTA_EXCEEDED");
+                assertThat(result.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+            });
+            assertThat(fcmStandIn.requestCount()).isEqualTo(MAX_ATTEMPTS);
+            assertThat(meterRegistry.counter("fcm.send.retry").count()).isEqualTo(MAX_ATTEMPTS - 1);
+        }
+
+        @Test
+        @DisplayName("재시도는 일시적 오류 토큰만 대상으로 한다")
+        void send_RetryOnlyTransientTokens() throws Exception {
+            // when
+            List<FcmSendResultDto> results = firebaseClient.sendMulticastAsync(
+                    request("token-1", FcmStandIn.QUOTA_EXCEEDED_TOKEN_PREFIX + "token-2")).get(10, TimeUnit.SECONDS);
+
+            // then - 성공 토큰 1회 + 일시적 오류 토큰 MAX_ATTEMPTS 회
+            assertThat(results).extracting(FcmSendResultDto::getResult, FcmSendResultDto::getAttempts)
+                    .containsExactly(
+                            tuple(FcmSendResultDto.Result.SUCCESS, 1),
+                            tuple(FcmSendResultDto.Result.TRANSIENT_FAILURE, MAX_ATTEMPTS));
+            assertThat(fcmStandIn.requestCount()).isEqualTo(1 + MAX_ATTEMPTS);
+        }
+
+        @Test
+        @DisplayName("무효 토큰은 재시도하지 않고 성공 토큰과 구분하여 반환한다")
+        void send_InvalidToken_NotRetried() throws Exception {
+            // when
+            List<FcmSendResultDto> results = firebaseClient.sendMulticastAsync(
+                    request("token-1", FcmStandIn.INVALID_TOKEN_PREFIX + "token-2")).get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(results).extracting(FcmSendResultDto::getToken, FcmSendResultDto::getResult)
+                    .containsExactly(
+                            tuple("token-1", FcmSendResultDto.Result.SUCCESS),
+                            tuple(FcmStandIn.INVALID_TOKEN_PREFIX + "token-2", FcmSendResultDto.Result.INVALID_TOKEN));
+            assertThat(fcmStandIn.requestCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("동시 전송 한도가 차 있으면 호출 스레드를 막지 않고, permit 이 반환되면 전송한다")
+        void send_NoPermit_WaitsWithoutBlocking() throws Exception {
+            // given - 동시 전송 한도(4)를 모두 사용 중
+            Semaphore permits = (Semaphore) ReflectionTestUtils.getField(firebaseClient, "permits");
+            permits.acquire(4);
+
+            // when
+            long start = System.nanoTime();
+            CompletableFuture<List<FcmSendResultDto>> future = firebaseClient.sendMulticastAsync(request("token-1"));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then - 호출은 바로 반환되고 permit 이 반환된 뒤 전송
+            assertThat(elapsedMillis).isLessThan(500);
+            assertThat(future).isNotDone();
+
+            permits.release(4);
+            assertThat(future.get(10, TimeUnit.SECONDS)).singleElement()
+                    .extracting(FcmSendResultDto::getResult).isEqualTo(FcmSendResultDto.Result.SUCCESS);
+            assertThat(fcmStandIn.requestCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("대기 시간이 지나도 permit 이 없으면 전송하지 않고 REJECTED 로 완료한다")
+        void send_NoPermitUntilTimeout_Rejected() throws Exception {
+            // given
+            Semaphore permits = (Semaphore) ReflectionTestUtils.getField(firebaseClient, "permits");
+            permits.acquire(4);
+
+            // when
+            CompletableFuture<List<FcmSendResultDto>> future = firebaseClient.sendMulticastAsync(request("token-1"));
+
+            // then
+            assertThat(future).isNotDone();
+            assertThat(future.get(10, TimeUnit.SECONDS)).singleElement()
+                    .extracting(FcmSendResultDto::getResult).isEqualTo(FcmSendResultDto.Result.REJECTED);
+            assertThat(fcmStandIn.requestCount()).isZero();
+            permits.release(4);
+        }
+
+        @Test
+        @DisplayName("토큰이 없으면 전송하지 않고 빈 결과로 완료한다")
+        void send_NoTokens_EmptyResult() throws Exception {
+            // when
+            List<FcmSendResultDto> results = firebaseClient.sendMulticastAsync(FcmMessageRequestDto.builder()
+                    .title("[ERROR] ssok-bank")
+                    .body("Authentication error")
+                    .build()).get(1, TimeUnit.SECONDS);
+
+            // then
+            assertThat(results).isEmpty();
+            assertThat(fcmStandIn.requestCount()).isZero();
+        }
+    }
+
+    private static FirebaseMessagingException messagingException(MessagingErrorCode messagingErrorCode, ErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(messagingErrorCode);
+        when(exception.getErrorCode()).thenReturn(errorCode);
+        return exception;
+    }
+
+    private static FcmMessageRequestDto request(String... tokens) {
+        return FcmMessageRequestDto.builder()
+                .title("[ERROR] ssok-bank")
+                .body("Authentication error")
+                .tokens(List.of(tokens))
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package kr.ssok.ssom.backend.global.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SseCompressionFilter 테스트")
+class SseCompressionFilterTest {
+
+    private static final List<String> EVENTS = List.of(
+            "event:LOGGING\ndata:{\"app\":\"ssok-bank\",\"level\":\"ERROR\",\"message\":\"Transfer failed #1\"}\n\n",
+            "event:LOGGING\ndata:{\"app\":\"ssok-bank\",\"level\":\"ERROR\",\"message\":\"Transfer failed #2\"}\n\n",
+            "event:LOGGING\ndata:{\"app\":\"ssok-user\",\"level\":\"WARN\",\"message\":\"Slow login\"}\n\n");
+
+    private final SseCompressionFilter filter = new SseCompressionFilter(6);
+
+    @Nested
+    @DisplayName("Accept-Encoding 협상")
+    class NegotiateTest {
+
+        @Test
+        @DisplayName("gzip 을 deflate 보다 우선하고, q=0 이거나 지원하지 않는 방식이면 압축하지 않는다")
+        void negotiate() {
+            assertThat(SseCompressionFilter.negotiate("gzip, deflate, br")).isEqualTo("gzip");
+            assertThat(SseCompressionFilter.negotiate("deflate, gzip;q=0")).isEqualTo("deflate");
+            assertThat(SseCompressionFilter.negotiate("br")).isNull();
+            assertThat(SseCompressionFilter.negotiate("gzip;q=0")).isNull();
+            assertThat(SseCompressionFilter.negotiate(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("응답 압축")
+    class CompressTest {
+
+        @Test
+        @DisplayName("gzip 협상 시 이벤트마다 flush 된 바이트만으로 그때까지의 이벤트를 복원할 수 있다")
+        void gzip_FlushPerEvent() throws Exception {
+            // given
+            MockHttpServletRequest request = request("gzip, deflate");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            List<String> decodedAfterEachEvent = new ArrayList<>();
+
+            // when
+            filter.doFilter(request, response, writeEvents(response, decodedAfterEachEvent, true));
+
+            // then
+            assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+            assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+            assertThat(decodedAfterEachEvent).containsExactly(
+                    EVENTS.get(0), EVENTS.get(0) + EVENTS.get(1), String.join("", EVENTS));
+
+            // 요청 종료 시 gzip trailer 까지 기록
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(String.join("", EVENTS));
+            }
+        }
+
+        @Test
+        @DisplayName("deflate 협상 시 zlib 형식으로 압축한다")
+        void deflate() throws Exception {
+            // given
+            MockHttpServletRequest request = request("deflate");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(request, response, writeEvents(response, new ArrayList<>(), false));
+
+            // then
+            assertThat(response.getHeader("Content-Encoding")).isEqualTo("deflate");
+            try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(String.join("", EVENTS));
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"gzip", "deflate"})
+        @DisplayName("압축 스트림을 종료하면 Deflater 의 네이티브 메모리를 해제한다")
+        void finish_EndsDeflater(String encoding) throws Exception {
+            // given
+            SseCompressionFilter.CompressingOutputStream stream = new SseCompressionFilter.CompressingOutputStream(
+                    new MockHttpServletResponse().getOutputStream(), encoding, 6);
+            stream.write(EVENTS.get(0).getBytes(StandardCharsets.UTF_8));
+            Deflater deflater = (Deflater) ReflectionTestUtils.getField(stream, "deflater");
+
+            // when
+            stream.finish();
+            stream.finish();
+
+            // then - 해제된 Deflater 는 사용할 수 없음
+            assertThatThrownBy(deflater::getBytesRead).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("Accept-Encoding 이 없으면 원문 그대로 전송한다")
+        void identity() throws Exception {
+            // given
+            MockHttpServletRequest request = request(null);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(request, response, writeEvents(response, new ArrayList<>(), false));
+
+            // then
+            assertThat(response.getHeader("Content-Encoding")).isNull();
+            assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(String.join("", EVENTS));
+        }
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/logging/subscribe");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        return request;
+    }
+
+    /**
+     * SseEmitter 처럼 이벤트마다 쓰고 flush, flush 직후 지금까지 전송된 바이트를 복원해 기록
+     */
+    private static FilterChain writeEvents(MockHttpServletResponse raw, List<String> decoded, boolean gzip) {
+        return (req, res) -> {
+            ServletOutputStream out = res.getOutputStream();
+            for (String event : EVENTS) {
+                out.write(event.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                if (gzip) {
+                    decoded.add(inflateGzipPrefix(raw.getContentAsByteArray()));
+                }
+            }
+        };
+    }
+
+    private static String inflateGzipPrefix(byte[] bytes) {
+        // GZIPOutputStream 헤더 10바이트 이후는 raw deflate
+        Inflater inflater = new Inflater(true);
+        inflater.setInput(Arrays.copyOfRange(bytes, 10, bytes.length));
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        try {
+            int n;
+            while ((n = inflater.inflate(buffer)) > 0) {
+                result.write(buffer, 0, n);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            inflater.end();
+        }
+        return result.toString(StandardCharsets.UTF_8);
+    }
+}
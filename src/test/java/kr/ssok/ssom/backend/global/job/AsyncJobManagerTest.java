@@ -0,0 +1,217 @@
+package kr.ssok.ssom.backend.global.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.global.dto.AsyncJobDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AsyncJobManager 테스트")
+class AsyncJobManagerTest {
+
+    private static final String OWNER = "CHN0001";
+
+    private final List<AsyncJobCompletedEvent> events = new CopyOnWriteArrayList<>();
+    private AsyncJobManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.shutdown();
+        }
+    }
+
+    private AsyncJobManager newManager(int workers, int queueCapacity) {
+        manager = new AsyncJobManager(event -> events.add((AsyncJobCompletedEvent) event),
+                new SimpleMeterRegistry(), workers, queueCapacity, 30);
+        return manager;
+    }
+
+    @Nested
+    @DisplayName("작업 실행")
+    class RunTest {
+
+        @Test
+        @DisplayName("등록 즉시 PENDING 으로 반환되고 완료되면 결과와 종료 이벤트가 남는다")
+        void submit_Completes_WithResultAndEvent() throws Exception {
+            // given
+            newManager(1, 10);
+            CountDownLatch release = new CountDownLatch(1);
+
+            // when
+            AsyncJobDto submitted = manager.submit(OWNER, "LOG_ANALYSIS", () -> {
+                await(release);
+                return "요약 결과";
+            });
+            release.countDown();
+
+            // then
+            assertThat(submitted.getStatus()).isEqualTo(AsyncJobStatus.PENDING);
+            AsyncJobDto finished = waitUntilFinished(submitted.getJobId());
+            assertThat(finished.getStatus()).isEqualTo(AsyncJobStatus.SUCCEEDED);
+            assertThat(finished.getResult()).isEqualTo("요약 결과");
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getOwnerId()).isEqualTo(OWNER);
+                assertThat(event.getJob().getJobId()).isEqualTo(submitted.getJobId());
+            });
+        }
+
+        @Test
+        @DisplayName("BaseException 으로 실패하면 응답 코드가 작업에 기록된다")
+        void submit_BaseException_RecordsErrorCode() throws Exception {
+            // given
+            newManager(1, 10);
+
+            // when
+            AsyncJobDto submitted = manager.submit(OWNER, "LOG_ANALYSIS", () -> {
+                throw new BaseException(BaseResponseStatus.LLM_SUMMARY_FAILED);
+            });
+
+            // then
+            AsyncJobDto finished = waitUntilFinished(submitted.getJobId());
+            assertThat(finished.getStatus()).isEqualTo(AsyncJobStatus.FAILED);
+            assertThat(finished.getErrorCode()).isEqualTo(BaseResponseStatus.LLM_SUMMARY_FAILED.getCode());
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 JOB_QUEUE_FULL 로 거절한다")
+        void submit_QueueFull_Rejected() {
+            // given
+            newManager(1, 1);
+            CountDownLatch release = new CountDownLatch(1);
+            manager.submit(OWNER, "LOG_ANALYSIS", () -> await(release));     // 워커에서 실행
+            manager.submit(OWNER, "LOG_ANALYSIS", () -> await(release));     // 대기열
+
+            try {
+                // when & then
+                assertThatThrownBy(() -> manager.submit(OWNER, "LOG_ANALYSIS", () -> "overflow"))
+                        .isInstanceOf(BaseException.class)
+                        .extracting("status").isEqualTo(BaseResponseStatus.JOB_QUEUE_FULL);
+            } finally {
+                release.countDown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 및 취소")
+    class CancelTest {
+
+        @Test
+        @DisplayName("대기 중인 작업을 취소하면 실행되지 않는다")
+        void cancel_Pending_NeverRuns() throws Exception {
+            // given
+            newManager(1, 10);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch secondRan = new CountDownLatch(1);
+            manager.submit(OWNER, "LOG_ANALYSIS", () -> await(release));
+            AsyncJobDto pending = manager.submit(OWNER, "ISSUE_DRAFT", () -> {
+                secondRan.countDown();
+                return "초안";
+            });
+
+            // when
+            AsyncJobDto cancelled = manager.cancel(pending.getJobId(), OWNER);
+            release.countDown();
+
+            // then
+            assertThat(cancelled.getStatus()).isEqualTo(AsyncJobStatus.CANCELLED);
+            assertThat(secondRan.await(300, TimeUnit.MILLISECONDS)).isFalse();
+            assertThat(manager.getJob(pending.getJobId(), OWNER).getStatus()).isEqualTo(AsyncJobStatus.CANCELLED);
+        }
+
+        @Test
+        @DisplayName("취소 불가 작업은 대기 중에 취소하면 정리 작업을 실행한다")
+        void cancel_NonInterruptiblePending_RunsHook() throws Exception {
+            // given
+            newManager(1, 10);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger cleanedUp = new AtomicInteger();
+            manager.submit(OWNER, "LOG_ANALYSIS", () -> await(release));
+            AsyncJobDto pending = manager.submitNonInterruptible(OWNER, "GITHUB_ISSUE",
+                    () -> "Issue", cleanedUp::incrementAndGet);
+
+            // when
+            AsyncJobDto cancelled = manager.cancel(pending.getJobId(), OWNER);
+            manager.cancel(pending.getJobId(), OWNER);
+            release.countDown();
+
+            // then
+            assertThat(cancelled.getStatus()).isEqualTo(AsyncJobStatus.CANCELLED);
+            assertThat(cleanedUp.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("취소 불가 작업은 실행 중이면 JOB_NOT_CANCELLABLE 로 거절하고 실제 결과로 종료된다")
+        void cancel_NonInterruptibleRunning_Rejected() throws Exception {
+            // given
+            newManager(1, 10);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger cleanedUp = new AtomicInteger();
+            AsyncJobDto running = manager.submitNonInterruptible(OWNER, "GITHUB_ISSUE", () -> {
+                started.countDown();
+                await(release);
+                return "Issue #1";
+            }, cleanedUp::incrementAndGet);
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when & then
+            assertThatThrownBy(() -> manager.cancel(running.getJobId(), OWNER))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("status").isEqualTo(BaseResponseStatus.JOB_NOT_CANCELLABLE);
+            release.countDown();
+
+            AsyncJobDto finished = waitUntilFinished(running.getJobId());
+            assertThat(finished.getStatus()).isEqualTo(AsyncJobStatus.SUCCEEDED);
+            assertThat(finished.getResult()).isEqualTo("Issue #1");
+            assertThat(cleanedUp.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 작업은 조회할 수 없다")
+        void getJob_OtherOwner_Forbidden() {
+            // given
+            newManager(1, 10);
+            AsyncJobDto submitted = manager.submit(OWNER, "LOG_ANALYSIS", () -> "요약 결과");
+
+            // when & then
+            assertThatThrownBy(() -> manager.getJob(submitted.getJobId(), "CHN0002"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("status").isEqualTo(BaseResponseStatus.FORBIDDEN);
+            assertThatThrownBy(() -> manager.getJob("unknown", OWNER))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("status").isEqualTo(BaseResponseStatus.NOT_FOUND_JOB);
+        }
+    }
+
+    private AsyncJobDto waitUntilFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        AsyncJobDto job = manager.getJob(jobId, OWNER);
+        while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = manager.getJob(jobId, OWNER);
+        }
+        return job;
+    }
+
+    private static Object await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,230 @@
+package kr.ssok.ssom.backend.global.performance;
+
+import com.google.firebase.FirebaseApp;
+import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.ssom.backend.global.client.FirebaseClient;
+import kr.ssok.ssom.backend.global.client.GitHubApiClient;
+import kr.ssok.ssom.backend.global.client.LlmServiceClient;
+import kr.ssok.ssom.backend.global.dto.FcmMessageRequestDto;
+import kr.ssok.ssom.backend.global.dto.FcmSendResultDto;
+import kr.ssok.ssom.backend.global.dto.GitHubIssueRequestDto;
+import kr.ssok.ssom.backend.global.dto.GitHubIssueResponseDto;
+import kr.ssok.ssom.backend.global.dto.LlmApiRequestDto;
+import kr.ssok.ssom.backend.global.dto.LlmApiResponseDto;
+import kr.ssok.ssom.backend.global.dto.LogRequestDto;
+import kr.ssok.ssom.backend.global.dto.LogSummaryResponseDto;
+import kr.ssok.ssom.backend.global.standin.FcmStandIn;
+import kr.ssok.ssom.backend.global.standin.GitHubStandIn;
+import kr.ssok.ssom.backend.global.standin.LatencyProfile;
+import kr.ssok.ssom.backend.global.standin.LlmStandIn;
+import kr.ssok.ssom.backend.global.standin.StandInFeignClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 외부 API 스탠드인 기반 부하 테스트
+ * Mockito 대신 로컬 HTTP 스탠드인(FCM, LLM, GitHub)에 지연/오류를 주입하여
+ * 실제 I/O, 타임아웃, 재시도 경로의 종단 간 동작을 측정
+ */
+public class DownstreamStandInLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DownstreamStandInLoadTest.class);
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        // 등록 역순으로 정리 (클라이언트 -> FirebaseApp -> 스탠드인 서버)
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            resources.get(i).close();
+        }
+        resources.clear();
+    }
+
+    @Test
+    @DisplayName("FCM 스탠드인 - 일시적 오류 재시도와 무효 토큰 분류")
+    void fcmMulticastUnderLatencyAndErrors() {
+        // given
+        FcmStandIn fcm = register(new FcmStandIn(32));
+        fcm.latency(LatencyProfile.logNormal(20, 200));
+        fcm.errorRate(0.1);
+        FirebaseApp firebaseApp = fcm.installAsDefaultApp();
+        resources.add(firebaseApp::delete);
+
+        FirebaseClient firebaseClient = new FirebaseClient(new SimpleMeterRegistry(), 32, 3, 20, 200, 5_000);
+        resources.add(firebaseClient::shutdown);
+
+        int userCount = 100;
+        List<CompletableFuture<List<FcmSendResultDto>>> futures = new ArrayList<>();
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < userCount; i++) {
+            futures.add(firebaseClient.sendMulticastAsync(FcmMessageRequestDto.builder()
+                    .title("[ERROR] ssok-bank")
+                    .body("stand-in load test")
+                    .tokens(List.of("phone-" + i, "tablet-" + i, FcmStandIn.INVALID_TOKEN_PREFIX + i))
+                    .data(Map.of("alertId", String.valueOf(i)))
+                    .build()));
+        }
+        List<FcmSendResultDto> results = futures.stream()
+                .flatMap(future -> future.join().stream())
+                .toList();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        long success = results.stream().filter(FcmSendResultDto::isSuccess).count();
+        long invalid = results.stream().filter(FcmSendResultDto::isInvalidToken).count();
+        log.info("FCM 스탠드인 결과 : elapsed = {}ms, requests = {}, injectedErrors = {}, success = {}, invalid = {}, maxInFlight = {}",
+                elapsedMillis, fcm.requestCount(), fcm.injectedErrorCount(), success, invalid, fcm.maxInFlight());
+
+        assertThat(results).hasSize(userCount * 3);
+        assertThat(success).isGreaterThanOrEqualTo((long) (userCount * 2 * 0.97));
+        assertThat(invalid).isGreaterThanOrEqualTo((long) (userCount * 0.97));
+        assertThat(fcm.requestCount()).isGreaterThan(userCount * 3L);   // 재시도 발생
+    }
+
+    @Test
+    @DisplayName("LLM 스탠드인 - 긴 꼬리 지연에서 요약 호출 지연 분포 측정")
+    void llmSummaryUnderLongTailLatency() throws Exception {
+        // given
+        LlmStandIn llm = register(new LlmStandIn(16));
+        llm.latency(LatencyProfile.logNormal(100, 800));
+        llm.errorRate(0.05);
+
+        LlmServiceClient client = StandInFeignClients.create(LlmServiceClient.class, llm);
+        int callCount = 60;
+
+        // when
+        LoadResult result = runConcurrently(callCount, 16, i -> {
+            LlmApiResponseDto<LogSummaryResponseDto> response = client.summarizeLog(LlmApiRequestDto.builder()
+                    .log(List.of(LogRequestDto.builder()
+                            .level("ERROR")
+                            .logger("kr.ssok.bank.TransferService")
+                            .thread("http-nio-8080-exec-" + i)
+                            .message("Transfer failed: insufficient balance #" + i)
+                            .app("ssok-bank")
+                            .build()))
+                    .build());
+            assertThat(response.getResult()).hasSize(1);
+            return null;
+        });
+
+        // then
+        log.info("LLM 스탠드인 결과 : {}, injectedErrors = {}", result, llm.injectedErrorCount());
+        assertThat(result.success + result.failure).isEqualTo(callCount);
+        assertThat((long) result.failure).isEqualTo(llm.injectedErrorCount());
+    }
+
+    @Test
+    @DisplayName("GitHub 스탠드인 - 이슈 생성 지연과 게이트웨이 오류")
+    void gitHubIssueCreationUnderErrors() throws Exception {
+        // given
+        GitHubStandIn gitHub = register(new GitHubStandIn(8));
+        gitHub.latency(LatencyProfile.uniform(30, 150));
+        gitHub.errorRate(0.1);
+
+        GitHubApiClient client = StandInFeignClients.create(GitHubApiClient.class, gitHub);
+        int callCount = 40;
+
+        // when
+        LoadResult result = runConcurrently(callCount, 8, i -> {
+            GitHubIssueResponseDto response = client.createIssue("Team-SSOK", "ssok-bank", "Bearer stand-in",
+                    GitHubIssueRequestDto.builder()
+                            .title("hotfix: stand-in issue " + i)
+                            .body("stand-in body")
+                            .assignees(List.of("github_user" + i))
+                            .labels(List.of())
+                            .build());
+            assertThat(response.getNumber()).isPositive();
+            return null;
+        });
+
+        // then
+        log.info("GitHub 스탠드인 결과 : {}, created = {}", result, gitHub.createdIssueCount());
+        assertThat((long) result.success).isEqualTo(gitHub.createdIssueCount());
+        assertThat((long) result.failure).isEqualTo(gitHub.injectedErrorCount());
+    }
+
+    // =================================== 헬퍼 ===================================
+
+    private <T extends AutoCloseable> T register(T resource) {
+        resources.add(resource);
+        return resource;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Void call(int index) throws Exception;
+    }
+
+    private LoadResult runConcurrently(int callCount, int threads, Call call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger failure = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < callCount; i++) {
+                int index = i;
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    long start = System.nanoTime();
+                    try {
+                        call.call(index);
+                        success.incrementAndGet();
+                    } catch (FeignException e) {
+                        failure.incrementAndGet();
+                    } finally {
+                        latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new LoadResult(success.get(), failure.get(),
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99));
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private record LoadResult(int success, int failure, long p50, long p95, long p99) {
+        @Override
+        public String toString() {
+            return String.format("success = %d, failure = %d, p50 = %dms, p95 = %dms, p99 = %dms",
+                    success, failure, p50, p95, p99);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package kr.ssok.ssom.backend.global.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import kr.ssok.ssom.backend.domain.logging.dto.LogDto;
+import kr.ssok.ssom.backend.global.filter.SseCompressionFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SSE 응답 압축 벤치마크
+ * 실시간 로그 SSE 이벤트(LOGGING) 5,000건을 이벤트마다 flush 하며 기록할 때
+ * 원문 / gzip(level 1, 6) / deflate(level 6) 의 전송 바이트와 이벤트당 CPU 시간을 비교
+ */
+public class SseCompressionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SseCompressionBenchmarkTest.class);
+
+    private static final int EVENTS = 5_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final List<String> APPS = List.of("ssok-bank", "ssok-account", "ssok-user", "ssok-notification", "ssok-gateway");
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final List<byte[]> frames = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // SseEmitter 가 기록하는 형식의 LOGGING 이벤트
+        ObjectMapper objectMapper = new ObjectMapper();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < EVENTS; i++) {
+            LogDto logDto = LogDto.builder()
+                    .logId("5x7xHpcBfhJZ" + Integer.toHexString(0x100000 + i * 7919))
+                    .timestamp(Instant.ofEpochMilli(now + i * 13L).toString())
+                    .level(i % 5 == 0 ? "WARN" : "ERROR")
+                    .logger("kr.ssok.bank.service.TransferServiceImpl")
+                    .thread("http-nio-8080-exec-" + (i % 20))
+                    .message("Transfer failed: account 110-" + (100000 + i % 3000) + " insufficient balance (requested "
+                            + (i * 37 % 100000) + " KRW)")
+                    .app(APPS.get(i % APPS.size()))
+                    .build();
+
+            String frame = "id:CHN0001_" + (now + i) + "\nevent:LOGGING\nretry:3000\ndata:"
+                    + objectMapper.writeValueAsString(logDto) + "\n\n";
+            frames.add(frame.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("실시간 로그 SSE - 원문 vs gzip vs deflate 전송 바이트와 CPU 비용")
+    void compareEncodings() throws Exception {
+        // given
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run("gzip", 6);
+            run("deflate", 6);
+        }
+
+        // when
+        Result identity = run(null, 6);
+        Result gzipFast = run("gzip", 1);
+        Result gzip = run("gzip", 6);
+        Result deflate = run("deflate", 6);
+
+        // then
+        log.info("SSE 압축 벤치마크 결과 ({}건, 이벤트마다 flush)\n  {}\n  {}\n  {}\n  {}",
+                EVENTS, identity, gzipFast, gzip, deflate);
+
+        // 이벤트마다 flush 시점에 바로 전송됨 (압축기 내부 버퍼에 머무르지 않음)
+        assertThat(gzip.eventsWithoutOutput).isZero();
+        assertThat(deflate.eventsWithoutOutput).isZero();
+
+        // 반복되는 필드명/서비스명/로거가 연결 단위 사전으로 압축되어 전송량 절반 이하
+        assertThat(gzip.bytes * 2).isLessThan(identity.bytes);
+        assertThat(deflate.bytes * 2).isLessThan(identity.bytes);
+        assertThat(gzipFast.bytes * 2).isLessThan(identity.bytes);
+    }
+
+    private Result run(String encoding, int level) throws Exception {
+        SseCompressionFilter filter = new SseCompressionFilter(level);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/logging/subscribe");
+        if (encoding != null) {
+            request.addHeader("Accept-Encoding", encoding);
+        }
+        CountingResponse response = new CountingResponse();
+        int[] eventsWithoutOutput = new int[1];
+
+        FilterChain chain = (req, res) -> {
+            ServletOutputStream out = res.getOutputStream();
+            long written = 0;
+            for (byte[] frame : frames) {
+                out.write(frame);
+                out.flush();
+                if (response.bytes == written) {
+                    eventsWithoutOutput[0]++;
+                }
+                written = response.bytes;
+            }
+        };
+
+        long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        filter.doFilter(request, response, chain);
+        long cpuNanos = threadMXBean.getCurrentThreadCpuTime() - cpuStart;
+        long wallNanos = System.nanoTime() - wallStart;
+
+        return new Result(encoding != null ? encoding + "(level " + level + ")" : "identity",
+                response.bytes, cpuNanos, wallNanos, eventsWithoutOutput[0]);
+    }
+
+    /**
+     * 소켓에 쓰는 바이트 수만 세는 응답 (내용은 보관하지 않음)
+     */
+    private static class CountingResponse extends HttpServletResponseWrapper {
+        private long bytes;
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                bytes++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytes += len;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        private CountingResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+
+    private record Result(String name, long bytes, long cpuNanos, long wallNanos, int eventsWithoutOutput) {
+        @Override
+        public String toString() {
+            return String.format("%-16s bytes=%,d (%.1f B/event), cpu=%.2fus/event, wall=%.2fus/event",
+                    name, bytes, (double) bytes / EVENTS, cpuNanos / 1000.0 / EVENTS, wallNanos / 1000.0 / EVENTS);
+        }
+    }
+}
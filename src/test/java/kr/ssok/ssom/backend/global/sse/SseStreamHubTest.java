@@ -0,0 +1,118 @@
+package kr.ssok.ssom.backend.global.sse;
+
+import kr.ssok.ssom.backend.global.dto.StreamSubscriptionDto;
+import kr.ssok.ssom.backend.global.exception.BaseException;
+import kr.ssok.ssom.backend.global.exception.BaseResponseStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SseStreamHub 테스트")
+class SseStreamHubTest {
+
+    private static final String EMPLOYEE_ID = "CHN0001";
+
+    private final SseStreamHub hub = new SseStreamHub(60_000L);
+
+    @Nested
+    @DisplayName("연결")
+    class ConnectTest {
+
+        @Test
+        @DisplayName("채널을 지정하지 않으면 전체 채널을 구독한다")
+        void connect_DefaultChannels_All() {
+            // given & when
+            hub.connect(EMPLOYEE_ID, null);
+
+            // then
+            assertThat(hub.isSubscribed(EMPLOYEE_ID, StreamChannel.ALERTS)).isTrue();
+            assertThat(hub.isSubscribed(EMPLOYEE_ID, StreamChannel.LOGS)).isTrue();
+            assertThat(hub.isSubscribed(EMPLOYEE_ID, StreamChannel.JOBS)).isTrue();
+            assertThat(hub.getActiveConnectionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("같은 사용자가 다시 연결하면 기존 연결을 교체한다")
+        void connect_Reconnect_ReplacesConnection() {
+            // given
+            SseEmitter first = hub.connect(EMPLOYEE_ID, subscription(List.of("alerts"), null, null));
+
+            // when
+            SseEmitter second = hub.connect(EMPLOYEE_ID, subscription(List.of("logs"), null, null));
+
+            // then
+            assertThat(second).isNotSameAs(first);
+            assertThat(hub.getActiveConnectionCount()).isEqualTo(1);
+            assertThat(hub.isSubscribed(EMPLOYEE_ID, StreamChannel.ALERTS)).isFalse();
+            assertThat(hub.isSubscribed(EMPLOYEE_ID, StreamChannel.LOGS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 채널이면 INVALID_PARAMETER 예외가 발생한다")
+        void connect_UnknownChannel_Throws() {
+            assertThatThrownBy(() -> hub.connect(EMPLOYEE_ID, subscription(List.of("metrics"), null, null)))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("status").isEqualTo(BaseResponseStatus.INVALID_PARAMETER);
+        }
+    }
+
+    @Nested
+    @DisplayName("채널 변경")
+    class UpdateChannelsTest {
+
+        @Test
+        @DisplayName("연결을 유지한 채 채널과 로그 필터를 변경한다")
+        void updateChannels_ChangesSubscription() {
+            // given
+            hub.connect(EMPLOYEE_ID, subscription(List.of("alerts"), null, null));
+
+            // when
+            StreamSubscriptionDto result = hub.updateChannels(EMPLOYEE_ID,
+                    subscription(List.of("alerts", "logs"), "ssok-bank", "ERROR"));
+
+            // then
+            assertThat(result.getChannels()).containsExactly("alerts", "logs");
+            assertThat(hub.logSubscribers("ssok-bank", "error")).containsExactly(EMPLOYEE_ID);
+            assertThat(hub.logSubscribers("ssok-user", "ERROR")).isEmpty();
+            assertThat(hub.logSubscribers("ssok-bank", "WARN")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("연결되지 않은 사용자는 SSE_STREAM_NOT_CONNECTED 예외가 발생한다")
+        void updateChannels_NotConnected_Throws() {
+            assertThatThrownBy(() -> hub.updateChannels(EMPLOYEE_ID, subscription(List.of("logs"), null, null)))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("status").isEqualTo(BaseResponseStatus.SSE_STREAM_NOT_CONNECTED);
+        }
+    }
+
+    @Nested
+    @DisplayName("전송")
+    class SendTest {
+
+        @Test
+        @DisplayName("구독한 채널의 이벤트만 전송한다")
+        void send_OnlySubscribedChannel() {
+            // given
+            hub.connect(EMPLOYEE_ID, subscription(List.of("jobs"), null, null));
+
+            // when & then
+            assertThat(hub.send(EMPLOYEE_ID, StreamChannel.JOBS, "LLM_JOB", "done")).isTrue();
+            assertThat(hub.send(EMPLOYEE_ID, StreamChannel.ALERTS, "SSE_ALERT", "alert")).isFalse();
+            assertThat(hub.send("CHN0002", StreamChannel.JOBS, "LLM_JOB", "done")).isFalse();
+        }
+    }
+
+    private static StreamSubscriptionDto subscription(List<String> channels, String app, String level) {
+        return StreamSubscriptionDto.builder()
+                .channels(channels)
+                .app(app)
+                .level(level)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package kr.ssok.ssom.backend.global.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM HTTP v1 send API 스탠드인
+ *      - POST /v1/projects/{projectId}/messages:send
+ *      - "invalid-" 로 시작하는 토큰은 404 UNREGISTERED 응답 (무효 토큰 정리 경로 검증용)
+ *      - "quota-" 로 시작하는 토큰은 429 QUOTA_EXCEEDED 응답 (SDK 자체 재시도 없이 FirebaseClient 재시도 경로 검증용)
+ *      - 주입 오류는 503 UNAVAILABLE 응답 (재시도 경로 검증용)
+ *
+ * installAsDefaultApp() 호출 시 기본 FirebaseApp 이 이 서버로 요청하도록 교체되어
+ * FirebaseClient 를 수정 없이 그대로 사용할 수 있다.
+ * 반환된 FirebaseApp 은 테스트 종료 시 호출한 쪽에서 delete() 하여 다른 테스트에 남지 않도록 한다.
+ */
+public class FcmStandIn extends StandInServer {
+
+    public static final String PROJECT_ID = "ssom-standin";
+    public static final String INVALID_TOKEN_PREFIX = "invalid-";
+    public static final String QUOTA_EXCEEDED_TOKEN_PREFIX = "quota-";
+
+    private static final String FCM_HOST = "https://fcm.googleapis.com";
+
+    private final AtomicLong messageSeq = new AtomicLong();
+
+    public FcmStandIn(int workerThreads) {
+        super("fcm", workerThreads);
+    }
+
+    /**
+     * 기본 FirebaseApp 을 스탠드인으로 향하도록 재초기화
+     *
+     * @return 새로 초기화한 기본 FirebaseApp (테스트 종료 시 delete() 필요)
+     */
+    public FirebaseApp installAsDefaultApp() {
+        FirebaseApp.getApps().stream()
+                .filter(app -> FirebaseApp.DEFAULT_APP_NAME.equals(app.getName()))
+                .forEach(FirebaseApp::delete);
+
+        // fcm.googleapis.com 요청을 스탠드인 주소로 바꿔 연결
+        NetHttpTransport transport = new NetHttpTransport.Builder()
+                .setConnectionFactory(url -> (HttpURLConnection) new URL(
+                        url.toString().replace(FCM_HOST, baseUrl())).openConnection())
+                .build();
+
+        FirebaseOptions options = FirebaseOptions.builder()
+                .setProjectId(PROJECT_ID)
+                .setCredentials(GoogleCredentials.create(
+                        new AccessToken("stand-in-token", new Date(System.currentTimeMillis() + 3_600_000L))))
+                .setHttpTransport(transport)
+                .build();
+
+        return FirebaseApp.initializeApp(options);
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange, String method, String path, JsonNode body) throws IOException {
+        if (!"POST".equals(method) || !path.endsWith("/messages:send")) {
+            writeJson(exchange, 404, error(404, "NOT_FOUND", "Unknown path: " + path, null));
+            return;
+        }
+
+        String token = body.path("message").path("token").asText("");
+        if (token.isEmpty() || token.startsWith(INVALID_TOKEN_PREFIX)) {
+            writeJson(exchange, 404, error(404, "NOT_FOUND", "Requested entity was not found.", "UNREGISTERED"));
+            return;
+        }
+        if (token.startsWith(QUOTA_EXCEEDED_TOKEN_PREFIX)) {
+            writeJson(exchange, 429, error(429, "RESOURCE_EXHAUSTED", "Quota exceeded.", "QUOTA_EXCEEDED"));
+            return;
+        }
+
+        writeJson(exchange, 200, Map.of("name",
+                "projects/" + PROJECT_ID + "/messages/" + messageSeq.incrementAndGet()));
+    }
+
+    @Override
+    protected void writeInjectedError(HttpExchange exchange) throws IOException {
+        writeJson(exchange, 503, error(503, "UNAVAILABLE", "The service is currently unavailable.", "UNAVAILABLE"));
+    }
+
+    /**
+     * FCM v1 오류 응답 형식 (google.rpc.Status + FcmError details)
+     */
+    private static Map<String, Object> error(int code, String status, String message, String fcmErrorCode) {
+        List<Map<String, String>> details = fcmErrorCode == null ? List.of() : List.of(Map.of(
+                "@type", "type.googleapis.com/google.firebase.fcm.v1.FcmError",
+                "errorCode", fcmErrorCode));
+        return Map.of("error", Map.of(
+                "code", code,
+                "message", message,
+                "status", status,
+                "details", details));
+    }
+}
@@ -0,0 +1,72 @@
+package kr.ssok.ssom.backend.global.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GitHub Issues API 스탠드인
+ *      - POST /repos/{owner}/{repo}/issues : 이슈 번호를 순차 발급하여 생성 응답 반환
+ *      - 주입 오류는 502 응답 (GitHub 게이트웨이 오류 재현)
+ */
+public class GitHubStandIn extends StandInServer {
+
+    private static final Pattern CREATE_ISSUE_PATH = Pattern.compile("^/repos/([^/]+)/([^/]+)/issues$");
+
+    private final AtomicLong issueNumberSeq = new AtomicLong();
+
+    public GitHubStandIn(int workerThreads) {
+        super("github", workerThreads);
+    }
+
+    public long createdIssueCount() {
+        return issueNumberSeq.get();
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange, String method, String path, JsonNode body) throws IOException {
+        Matcher matcher = CREATE_ISSUE_PATH.matcher(path);
+        if (!"POST".equals(method) || !matcher.matches()) {
+            writeJson(exchange, 404, Map.of("message", "Not Found"));
+            return;
+        }
+
+        long number = issueNumberSeq.incrementAndGet();
+        String repoPath = matcher.group(1) + "/" + matcher.group(2);
+        String now = Instant.now().toString();
+
+        List<Object> assignees = new ArrayList<>();
+        for (JsonNode login : body.path("assignees")) {
+            assignees.add(Map.of("id", 1, "login", login.asText(), "html_url", "https://github.com/" + login.asText()));
+        }
+
+        Map<String, Object> issue = new LinkedHashMap<>();
+        issue.put("id", 100_000 + number);
+        issue.put("number", number);
+        issue.put("title", body.path("title").asText(""));
+        issue.put("body", body.path("body").asText(""));
+        issue.put("state", "open");
+        issue.put("html_url", "https://github.com/" + repoPath + "/issues/" + number);
+        issue.put("url", baseUrl() + "/repos/" + repoPath + "/issues/" + number);
+        issue.put("assignees", assignees);
+        issue.put("labels", List.of());
+        issue.put("created_at", now);
+        issue.put("updated_at", now);
+
+        writeJson(exchange, 201, issue);
+    }
+
+    @Override
+    protected void writeInjectedError(HttpExchange exchange) throws IOException {
+        writeJson(exchange, 502, Map.of("message", "Server Error"));
+    }
+}
@@ -0,0 +1,46 @@
+package kr.ssok.ssom.backend.global.standin;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스탠드인 서버 응답 지연 분포
+ *      - none : 지연 없음
+ *      - fixed : 고정 지연
+ *      - uniform : 구간 내 균등 분포
+ *      - logNormal : 중앙값/p99 기준 로그정규 분포 (실제 외부 API의 긴 꼬리 지연 재현)
+ */
+@FunctionalInterface
+public interface LatencyProfile {
+
+    // 표준정규분포의 99분위 z 값
+    double Z_99 = 2.326;
+
+    /**
+     * 다음 요청에 적용할 지연 시간 (ms)
+     */
+    long sampleMillis();
+
+    static LatencyProfile none() {
+        return () -> 0L;
+    }
+
+    static LatencyProfile fixed(long millis) {
+        return () -> millis;
+    }
+
+    static LatencyProfile uniform(long minMillis, long maxMillis) {
+        return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+    }
+
+    /**
+     * 로그정규 분포 지연
+     *
+     * @param medianMillis 중앙값 (예: LLM 요약 1500ms)
+     * @param p99Millis 99분위 값 (예: LLM 요약 8000ms)
+     */
+    static LatencyProfile logNormal(long medianMillis, long p99Millis) {
+        double mu = Math.log(medianMillis);
+        double sigma = Math.max(0.0, (Math.log(p99Millis) - mu) / Z_99);
+        return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+}
@@ -0,0 +1,83 @@
+package kr.ssok.ssom.backend.global.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LlmServiceClient 스탠드인
+ *      - POST /api/logs/summary : 요청 로그 수만큼 요약 결과 반환 (요청 순서 유지)
+ *      - POST /api/logs/issues  : 이슈 초안 1건 반환
+ *      - 주입 오류는 500 응답
+ */
+public class LlmStandIn extends StandInServer {
+
+    public LlmStandIn(int workerThreads) {
+        super("llm", workerThreads);
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange, String method, String path, JsonNode body) throws IOException {
+        JsonNode logs = body.path("log");
+
+        switch (path) {
+            case "/api/logs/summary" -> writeJson(exchange, 200, success(summaries(logs)));
+            case "/api/logs/issues" -> writeJson(exchange, 200, success(List.of(issueDraft(logs))));
+            default -> writeJson(exchange, 404, failure("LLM404", "Unknown path: " + path));
+        }
+    }
+
+    @Override
+    protected void writeInjectedError(HttpExchange exchange) throws IOException {
+        writeJson(exchange, 500, failure("LLM500", "LLM 서버 내부 오류 (stand-in)"));
+    }
+
+    private static List<Object> summaries(JsonNode logs) {
+        List<Object> result = new ArrayList<>();
+        for (JsonNode log : logs) {
+            String message = log.path("message").asText("");
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("summary", "요약: " + abbreviate(message));
+            summary.put("location", Map.of("file", log.path("logger").asText("Unknown.java"), "function", "handle()"));
+            summary.put("solution", "stand-in 해결 방안");
+            summary.put("solution_detail", "stand-in 해결 방안 상세");
+
+            result.add(Map.of("message", summary));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> issueDraft(JsonNode logs) {
+        String message = logs.isArray() && !logs.isEmpty() ? logs.get(0).path("message").asText("") : "";
+
+        Map<String, Object> draft = new LinkedHashMap<>();
+        draft.put("title", "hotfix: " + abbreviate(message));
+        draft.put("description", "stand-in 이슈 설명");
+        draft.put("location", Map.of("file", "Unknown.java", "function", "handle()"));
+        draft.put("cause", "stand-in 원인 분석");
+        draft.put("reproduction_steps", List.of("1. stand-in 재현 단계"));
+        draft.put("log", message);
+        draft.put("solution", "stand-in 해결 방안");
+        draft.put("references", "Unknown.java");
+
+        return Map.of("log", logs, "message", draft);
+    }
+
+    private static Map<String, Object> success(List<Object> result) {
+        return Map.of("isSuccess", true, "code", "COMMON200", "message", "요청에 성공하였습니다.", "result", result);
+    }
+
+    private static Map<String, Object> failure(String code, String message) {
+        return Map.of("isSuccess", false, "code", code, "message", message);
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() > 60 ? message.substring(0, 60) + "..." : message;
+    }
+}
@@ -0,0 +1,386 @@
+package kr.ssok.ssom.backend.global.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import kr.ssok.ssom.backend.global.util.LogMessageFingerprint;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenSearch 검색 API 스탠드인
+ *      - POST /{index[,index...]}/_search : 메모리에 적재한 로그 문서를 bool filter 로 걸러 @timestamp 내림차순 반환
+ *      - 인덱스 1개를 샤드 1개로 보고, 검색한 샤드마다 shardLatencyMillis 지연과 문서 전체 스캔 비용을 부과
+ *      - 별칭(alias) 조회는 모든 인덱스 대상, pre_filter_shard_size 지정 시 시간 범위 밖 인덱스는 can_match 단계처럼 건너뜀
+ *      - 지원 filter : range(@timestamp gte, epoch millis 또는 now-Nh), term(app.keyword), terms(level.keyword), match(level)
+ *      - point-in-time : POST /{index}/_search/point_in_time 생성, DELETE /_search/point_in_time 삭제,
+ *        POST /_search 의 pit.id 로 생성 시점 인덱스 조회 (expirePits() 로 keep-alive 만료를 흉내)
+ *      - 정렬은 (@timestamp, _id) 고정, 첫 정렬 필드의 order(asc/desc) 와 search_after 지원
+ *      - 집계 : terms(message.keyword 또는 수집 단계 지문을 흉내 낸 message_fingerprint, doc_count 내림차순,
+ *        sum_other_doc_count) + 하위 min/max(@timestamp), top_hits(최근 1건)
+ *      - 검색한 샤드 수와 스캔한 문서 수를 집계하여 벤치마크 비교에 사용
+ */
+public class OpenSearchStandIn extends StandInServer {
+
+    private static final Pattern SEARCH_PATH = Pattern.compile("^/([^/]+)/_search$");
+    private static final Pattern CREATE_PIT_PATH = Pattern.compile("^/([^/]+)/_search/point_in_time$");
+    private static final String PIT_PATH = "/_search/point_in_time";
+    private static final Pattern NOW_MINUS_HOURS = Pattern.compile("^now-(\\d+)h$");
+
+    private final String alias;
+    private final long shardLatencyMillis;
+    private final Map<String, List<Doc>> indices = new ConcurrentHashMap<>();
+    private final Map<String, Long> maxTimestamps = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> pits = new ConcurrentHashMap<>();
+    private final AtomicLong pitSeq = new AtomicLong();
+
+    private final AtomicLong shardsSearched = new AtomicLong();
+    private final AtomicLong shardsSkipped = new AtomicLong();
+    private final AtomicLong docsScanned = new AtomicLong();
+
+    public OpenSearchStandIn(int workerThreads, String alias, long shardLatencyMillis) {
+        super("opensearch", workerThreads);
+        this.alias = alias;
+        this.shardLatencyMillis = shardLatencyMillis;
+    }
+
+    /**
+     * 인덱스에 로그 문서 적재 (검색 요청 전에 단일 스레드에서 호출)
+     */
+    public void index(String index, String id, long timestampMillis, String app, String level, String message) {
+        indices.computeIfAbsent(index, k -> new ArrayList<>()).add(new Doc(index, id, timestampMillis, app, level, message));
+        maxTimestamps.merge(index, timestampMillis, Math::max);
+    }
+
+    public long shardsSearched() {
+        return shardsSearched.get();
+    }
+
+    public long shardsSkipped() {
+        return shardsSkipped.get();
+    }
+
+    public long docsScanned() {
+        return docsScanned.get();
+    }
+
+    /**
+     * 열려 있는 PIT 수 (PIT 정리 여부 검증용)
+     */
+    public int openPitCount() {
+        return pits.size();
+    }
+
+    /**
+     * 열려 있는 PIT 를 모두 만료시킴 (keep-alive 경과 상황)
+     */
+    public void expirePits() {
+        pits.clear();
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange, String method, String path, JsonNode body) throws IOException {
+        String queryString = exchange.getRequestURI().getQuery();
+        boolean ignoreUnavailable = queryString != null && queryString.contains("ignore_unavailable=true");
+
+        Matcher createPit = CREATE_PIT_PATH.matcher(path);
+        if ("POST".equals(method) && createPit.matches()) {
+            createPit(exchange, createPit.group(1), ignoreUnavailable);
+            return;
+        }
+        if ("DELETE".equals(method) && PIT_PATH.equals(path)) {
+            deletePits(exchange, body);
+            return;
+        }
+
+        // 1. 대상 인덱스 결정 (PIT 조회면 PIT 생성 시점의 인덱스)
+        Set<String> targets;
+        String pitId = null;
+        if ("/_search".equals(path)) {
+            pitId = body.path("pit").path("id").asText(null);
+            targets = pitId != null ? pits.get(pitId) : null;
+            if (targets == null) {
+                writePitMissing(exchange, pitId);
+                return;
+            }
+        } else {
+            Matcher matcher = SEARCH_PATH.matcher(path);
+            if (!matcher.matches()) {
+                writeJson(exchange, 404, error(404, "invalid_path", "Unknown path: " + path));
+                return;
+            }
+            targets = resolve(matcher.group(1), ignoreUnavailable);
+            if (targets == null) {
+                writeJson(exchange, 404, error(404, "index_not_found_exception", "no such index [" + matcher.group(1) + "]"));
+                return;
+            }
+        }
+        boolean preFilter = queryString != null && queryString.contains("pre_filter_shard_size=");
+
+        JsonNode filters = body.path("query").path("bool").path("filter");
+        long from = rangeFrom(filters);
+        Predicate<Doc> predicate = predicate(filters, from);
+
+        // 2. 샤드(인덱스)별 검색 - pre-filter 시 시간 범위 밖 샤드는 건너뜀
+        List<Doc> matched = new ArrayList<>();
+        int searched = 0;
+        for (String target : targets) {
+            List<Doc> docs = indices.get(target);
+            if (preFilter && maxTimestamps.get(target) < from) {
+                shardsSkipped.incrementAndGet();
+                continue;
+            }
+            searched++;
+            shardsSearched.incrementAndGet();
+            docsScanned.addAndGet(docs.size());
+            for (Doc doc : docs) {
+                if (predicate.test(doc)) {
+                    matched.add(doc);
+                }
+            }
+        }
+        sleep(searched * shardLatencyMillis);
+
+        // 3. (@timestamp, _id) 정렬 후 search_after 이후 문서만
+        int size = body.path("size").asInt(10);
+        boolean ascending = "asc".equals(body.path("sort").path(0).path("@timestamp").path("order").asText("desc"));
+        Comparator<Doc> order = Comparator.comparingLong(Doc::timestampMillis).thenComparing(Doc::id);
+        if (!ascending) {
+            order = order.reversed();
+        }
+        matched.sort(order);
+
+        JsonNode searchAfter = body.path("search_after");
+        if (searchAfter.isArray() && searchAfter.size() == 2) {
+            Doc after = new Doc(null, searchAfter.get(1).asText(), searchAfter.get(0).asLong(), null, null, null);
+            Comparator<Doc> finalOrder = order;
+            matched.removeIf(doc -> finalOrder.compare(doc, after) <= 0);
+        }
+
+        List<Object> hits = new ArrayList<>();
+        for (Doc doc : matched.subList(0, Math.min(size, matched.size()))) {
+            Map<String, Object> hit = hit(doc);
+            hit.put("sort", List.of(doc.timestampMillis(), doc.id()));
+            hits.add(hit);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("took", 1);
+        response.put("timed_out", false);
+        response.put("_shards", Map.of("total", targets.size(), "successful", targets.size(),
+                "skipped", targets.size() - searched, "failed", 0));
+        response.put("hits", Map.of("total", Map.of("value", matched.size(), "relation", "eq"), "hits", hits));
+        if (pitId != null) {
+            response.put("pit_id", pitId);
+        }
+        Map<String, Object> aggregations = aggregate(body.path("aggregations"), matched);
+        if (!aggregations.isEmpty()) {
+            response.put("aggregations", aggregations);
+        }
+        writeJson(exchange, 200, response);
+    }
+
+    /**
+     * terms 집계 (typed_keys 형식 응답)
+     */
+    private static Map<String, Object> aggregate(JsonNode aggregations, List<Doc> matched) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        aggregations.fields().forEachRemaining(entry -> {
+            JsonNode terms = entry.getValue().path("terms");
+            if (terms.isMissingNode()) {
+                return;
+            }
+            String field = terms.path("field").asText();
+            int size = terms.path("size").asInt(10);
+
+            Map<String, List<Doc>> byKey = new LinkedHashMap<>();
+            for (Doc doc : matched) {
+                String key = "message_fingerprint".equals(field) ? LogMessageFingerprint.of(doc.message()) : doc.message();
+                byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(doc);
+            }
+
+            List<Map.Entry<String, List<Doc>>> sorted = new ArrayList<>(byKey.entrySet());
+            sorted.sort(Comparator.comparingInt((Map.Entry<String, List<Doc>> e) -> e.getValue().size()).reversed()
+                    .thenComparing(Map.Entry::getKey));
+
+            List<Object> buckets = new ArrayList<>();
+            long otherDocCount = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                List<Doc> docs = sorted.get(i).getValue();
+                if (i >= size) {
+                    otherDocCount += docs.size();
+                    continue;
+                }
+                buckets.add(bucket(sorted.get(i).getKey(), docs));
+            }
+
+            result.put("sterms#" + entry.getKey(), Map.of(
+                    "doc_count_error_upper_bound", 0,
+                    "sum_other_doc_count", otherDocCount,
+                    "buckets", buckets));
+        });
+        return result;
+    }
+
+    private static Map<String, Object> bucket(String key, List<Doc> docs) {
+        Doc first = docs.stream().min(Comparator.comparingLong(Doc::timestampMillis)).orElseThrow();
+        Doc latest = docs.stream().max(Comparator.comparingLong(Doc::timestampMillis).thenComparing(Doc::id)).orElseThrow();
+
+        Map<String, Object> bucket = new LinkedHashMap<>();
+        bucket.put("key", key);
+        bucket.put("doc_count", docs.size());
+        bucket.put("min#first_seen", Map.of("value", (double) first.timestampMillis()));
+        bucket.put("max#last_seen", Map.of("value", (double) latest.timestampMillis()));
+        bucket.put("top_hits#latest", Map.of("hits", Map.of(
+                "total", Map.of("value", docs.size(), "relation", "eq"),
+                "hits", List.of(hit(latest)))));
+        return bucket;
+    }
+
+    private static Map<String, Object> hit(Doc doc) {
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("@timestamp", Instant.ofEpochMilli(doc.timestampMillis()).toString());
+        source.put("level", doc.level());
+        source.put("message", doc.message());
+        source.put("app", doc.app());
+
+        Map<String, Object> hit = new LinkedHashMap<>();
+        hit.put("_index", doc.index());
+        hit.put("_id", doc.id());
+        hit.put("_score", null);
+        hit.put("_source", source);
+        return hit;
+    }
+
+    private void createPit(HttpExchange exchange, String indexExpression, boolean ignoreUnavailable) throws IOException {
+        Set<String> targets = resolve(indexExpression, ignoreUnavailable);
+        if (targets == null) {
+            writeJson(exchange, 404, error(404, "index_not_found_exception", "no such index [" + indexExpression + "]"));
+            return;
+        }
+
+        String pitId = "pit-" + pitSeq.incrementAndGet();
+        pits.put(pitId, targets);
+        writeJson(exchange, 200, Map.of(
+                "pit_id", pitId,
+                "_shards", Map.of("total", targets.size(), "successful", targets.size(), "skipped", 0, "failed", 0),
+                "creation_time", System.currentTimeMillis()));
+    }
+
+    private void deletePits(HttpExchange exchange, JsonNode body) throws IOException {
+        List<Object> results = new ArrayList<>();
+        for (JsonNode id : body.path("pit_id")) {
+            boolean removed = pits.remove(id.asText()) != null;
+            results.add(Map.of("pit_id", id.asText(), "successful", removed));
+        }
+        writeJson(exchange, 200, Map.of("pits", results));
+    }
+
+    /**
+     * 만료되었거나 없는 PIT 조회 - OpenSearch 와 같은 404 search_context_missing_exception 응답
+     */
+    private void writePitMissing(HttpExchange exchange, String pitId) throws IOException {
+        String reason = "No search context found for id [" + pitId + "]";
+        writeJson(exchange, 404, Map.of(
+                "error", Map.of(
+                        "root_cause", List.of(Map.of("type", "search_context_missing_exception", "reason", reason)),
+                        "type", "search_phase_execution_exception",
+                        "reason", "all shards failed"),
+                "status", 404));
+    }
+
+    /**
+     * 인덱스 표현식 -> 대상 인덱스 (없는 인덱스가 있고 ignore_unavailable 이 아니면 null)
+     */
+    private Set<String> resolve(String indexExpression, boolean ignoreUnavailable) {
+        Set<String> targets = new HashSet<>();
+        for (String name : indexExpression.split(",")) {
+            if (name.equals(alias)) {
+                targets.addAll(indices.keySet());
+            } else if (indices.containsKey(name)) {
+                targets.add(name);
+            } else if (!ignoreUnavailable) {
+                return null;
+            }
+        }
+        return targets;
+    }
+
+    @Override
+    protected void writeInjectedError(HttpExchange exchange) throws IOException {
+        writeJson(exchange, 503, error(503, "unavailable_shards_exception", "stand-in injected error"));
+    }
+
+    private static long rangeFrom(JsonNode filters) {
+        for (JsonNode filter : filters) {
+            JsonNode gte = filter.path("range").path("@timestamp").path("gte");
+            if (gte.isMissingNode()) {
+                continue;
+            }
+            if (gte.isNumber()) {
+                return gte.asLong();
+            }
+            Matcher matcher = NOW_MINUS_HOURS.matcher(gte.asText());
+            if (matcher.matches()) {
+                return System.currentTimeMillis() - Long.parseLong(matcher.group(1)) * 3_600_000L;
+            }
+            return Long.parseLong(gte.asText());
+        }
+        return Long.MIN_VALUE;
+    }
+
+    private static Predicate<Doc> predicate(JsonNode filters, long from) {
+        Predicate<Doc> predicate = doc -> doc.timestampMillis() >= from;
+        for (JsonNode filter : filters) {
+            JsonNode app = filter.path("term").path("app.keyword");
+            if (!app.isMissingNode()) {
+                String value = app.has("value") ? app.path("value").asText() : app.asText();
+                predicate = predicate.and(doc -> doc.app().equals(value));
+            }
+
+            JsonNode levels = filter.path("terms").path("level.keyword");
+            if (levels.isArray()) {
+                Set<String> values = new HashSet<>();
+                levels.forEach(level -> values.add(level.asText()));
+                predicate = predicate.and(doc -> values.contains(doc.level()));
+            }
+
+            JsonNode match = filter.path("match").path("level");
+            if (!match.isMissingNode()) {
+                String value = match.has("query") ? match.path("query").asText() : match.asText();
+                predicate = predicate.and(doc -> doc.level().equalsIgnoreCase(value));
+            }
+        }
+        return predicate;
+    }
+
+    private static Map<String, Object> error(int status, String type, String reason) {
+        return Map.of("error", Map.of("type", type, "reason", reason), "status", status);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Doc(String index, String id, long timestampMillis, String app, String level, String message) {
+    }
+}
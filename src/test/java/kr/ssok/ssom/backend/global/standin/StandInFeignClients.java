@@ -0,0 +1,68 @@
+package kr.ssok.ssom.backend.global.standin;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Feign;
+import feign.Request;
+import feign.Retryer;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스탠드인 서버를 향하는 Feign 클라이언트 생성 도우미
+ *      - 운영 코드의 FeignClient 인터페이스(LlmServiceClient, GitHubApiClient)를 Spring MVC 애노테이션 그대로 사용
+ *      - 스프링 컨텍스트 없이 부하 테스트에서 실제 HTTP 호출 경로를 검증할 때 사용
+ */
+public final class StandInFeignClients {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private StandInFeignClients() {
+    }
+
+    /**
+     * FeignConfig 와 같은 타임아웃(connect 10초, read 60초)으로 클라이언트 생성
+     */
+    public static <T> T create(Class<T> type, StandInServer server) {
+        return create(type, server, 10_000, 60_000);
+    }
+
+    public static <T> T create(Class<T> type, StandInServer server, long connectTimeoutMillis, long readTimeoutMillis) {
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder(jsonEncoder())
+                .decoder(jsonDecoder())
+                .retryer(Retryer.NEVER_RETRY)
+                .options(new Request.Options(connectTimeoutMillis, TimeUnit.MILLISECONDS,
+                        readTimeoutMillis, TimeUnit.MILLISECONDS, true))
+                .target(type, server.baseUrl());
+    }
+
+    private static Encoder jsonEncoder() {
+        return (object, bodyType, template) -> {
+            try {
+                template.header("Content-Type", "application/json");
+                template.body(objectMapper.writeValueAsBytes(object), StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                throw new feign.codec.EncodeException(e.getMessage(), e);
+            }
+        };
+    }
+
+    private static Decoder jsonDecoder() {
+        return (response, type) -> {
+            if (response.body() == null) {
+                return null;
+            }
+            try (InputStream is = response.body().asInputStream()) {
+                return objectMapper.readValue(is, objectMapper.constructType(type));
+            }
+        };
+    }
+}
@@ -0,0 +1,167 @@
+package kr.ssok.ssom.backend.global.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 API 스탠드인 HTTP 서버 공통 구현
+ *      - JDK HttpServer 기반으로 127.0.0.1 임의 포트에서 동작 (네트워크 접근 불필요)
+ *      - 요청마다 LatencyProfile 에 따른 지연과 errorRate 확률의 오류 응답을 주입
+ *      - 요청/오류 건수를 집계하여 부하 테스트 검증에 사용
+ */
+public abstract class StandInServer implements AutoCloseable {
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+    protected static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private volatile LatencyProfile latency = LatencyProfile.none();
+    private volatile double errorRate = 0.0;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong injectedErrorCount = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    protected StandInServer(String name, int workerThreads) {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("스탠드인 서버 생성 실패: " + name, e);
+        }
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread thread = new Thread(r, name + "-standin-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::dispatch);
+        this.server.start();
+    }
+
+    /**
+     * 지연 분포 설정
+     */
+    public StandInServer latency(LatencyProfile latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * 오류 응답 비율 설정 (0.0 ~ 1.0)
+     */
+    public StandInServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public long injectedErrorCount() {
+        return injectedErrorCount.get();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * 정상 요청 처리 - 구현체에서 경로별 응답 작성
+     */
+    protected abstract void handle(HttpExchange exchange, String method, String path, JsonNode body) throws IOException;
+
+    /**
+     * 주입된 오류 응답 작성 - 구현체에서 외부 API 오류 형식에 맞게 작성
+     */
+    protected abstract void writeInjectedError(HttpExchange exchange) throws IOException;
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        try {
+            JsonNode body = readBody(exchange);
+            sleep(latency.sampleMillis());
+
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrorCount.incrementAndGet();
+                writeInjectedError(exchange);
+                return;
+            }
+
+            handle(exchange, exchange.getRequestMethod(), exchange.getRequestURI().getPath(), body);
+        } catch (Exception e) {
+            log.error("스탠드인 요청 처리 실패 : path = {}, error = {}", exchange.getRequestURI(), e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    protected void writeJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream is = exchange.getRequestBody()) {
+            byte[] bytes = is.readAllBytes();
+            return bytes.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
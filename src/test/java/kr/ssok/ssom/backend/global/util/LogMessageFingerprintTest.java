@@ -0,0 +1,63 @@
+package kr.ssok.ssom.backend.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LogMessageFingerprint 단위 테스트")
+class LogMessageFingerprintTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "Transfer failed: account 110-234-5678 | Transfer failed: account <NUM>-<NUM>-<NUM>",
+            "txId=3f2a9c1e-1b2c-4d5e-8f90-123456789abc not found | txId=<UUID> not found",
+            "Connection to 10.0.1.23:5432 timed out after 3000ms | Connection to <IP> timed out after <NUM>ms",
+            "traceId=4bf92f3577b34da6 rejected | traceId=<HEX> rejected",
+            "amount   1.5   exceeded | amount <NUM> exceeded"
+    })
+    @DisplayName("가변 값은 마스킹된 템플릿으로 변환된다")
+    void testTemplateMasksVariableValues(String message, String expectedTemplate) {
+        // When & Then
+        assertThat(LogMessageFingerprint.template(message)).isEqualTo(expectedTemplate);
+    }
+
+    @Test
+    @DisplayName("값만 다른 메시지는 같은 지문을 가진다")
+    void testSameFingerprintForSameTemplate() {
+        // Given
+        String first = "User 1001 login failed from 192.168.0.10";
+        String second = "User 2002 login failed from 10.0.0.7";
+
+        // When & Then
+        assertThat(LogMessageFingerprint.of(first)).isEqualTo(LogMessageFingerprint.of(second));
+    }
+
+    @Test
+    @DisplayName("문구가 다른 메시지는 다른 지문을 가진다")
+    void testDifferentFingerprintForDifferentTemplate() {
+        // When & Then
+        assertThat(LogMessageFingerprint.of("User 1001 login failed"))
+                .isNotEqualTo(LogMessageFingerprint.of("User 1001 logout failed"));
+    }
+
+    @Test
+    @DisplayName("지문은 16자리 16진수 문자열이다")
+    void testFingerprintFormat() {
+        // When
+        String fingerprint = LogMessageFingerprint.of("Authentication error: Authorization header is missing");
+
+        // Then
+        assertThat(fingerprint).hasSize(16).matches("[0-9a-f]{16}");
+    }
+
+    @Test
+    @DisplayName("null 메시지는 빈 템플릿으로 처리된다")
+    void testNullMessage() {
+        // When & Then
+        assertThat(LogMessageFingerprint.template(null)).isEmpty();
+        assertThat(LogMessageFingerprint.of(null)).hasSize(16);
+    }
+}